@@ -0,0 +1,85 @@
+package twg2.cli.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterBuilderImpl;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterParserResult;
+
+/** Benchmarks validating large {@link twg2.cli.ParameterType#PATH} and {@link twg2.cli.ParameterType#INTEGER} arrays
+ * sequentially and with {@link ParameterBuilder#setParallelValidation(java.util.concurrent.Executor, int)}
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArrayValidationBenchmark {
+	@Param({ "1000", "100000" })
+	public int elementCount;
+
+	/** whether elements are validated in parallel on the common pool */
+	@Param({ "false", "true" })
+	public boolean parallel;
+
+	private ParameterData<String, Path[]> pathParam;
+	private String[] pathArgs;
+	private ParameterData<String, Integer[]> intParam;
+	private String[] intArgs;
+
+
+	@Setup
+	public void setup() {
+		BenchmarkData.Sink sink = new BenchmarkData.Sink();
+		// an array parameter's validator is called with each element
+		Predicate<Path> notExists = (p) -> Files.notExists(p);
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Predicate<Path[]> elementValidator = (Predicate)notExists;
+		ParameterBuilderImpl<String, Path[]> paths = ParameterBuilder.newPathArray();
+		paths.setNameAndAliases("-paths").setValidator(elementValidator).setSetter(sink::accept);
+		ParameterBuilderImpl<String, Integer[]> ints = ParameterBuilder.newIntegerArray();
+		ints.setNameAndAliases("-ints").setIntRange(0, Integer.MAX_VALUE).setIntArraySetter(sink::accept);
+		if(parallel) {
+			paths.setParallelValidation(ForkJoinPool.commonPool(), 1024);
+			ints.setParallelValidation(ForkJoinPool.commonPool(), 1024);
+		}
+		pathParam = paths.build();
+		intParam = ints.build();
+
+		pathArgs = new String[elementCount + 1];
+		intArgs = new String[elementCount + 1];
+		pathArgs[0] = "-paths";
+		intArgs[0] = "-ints";
+		for(int i = 1; i <= elementCount; i++) {
+			pathArgs[i] = "jcli-benchmark-missing/file-" + i;
+			intArgs[i] = Integer.toString(i);
+		}
+	}
+
+
+	@Benchmark
+	public ParameterParserResult validatePaths() {
+		return pathParam.parse(pathArgs);
+	}
+
+
+	@Benchmark
+	public ParameterParserResult validateIntRange() {
+		return intParam.parse(intArgs);
+	}
+
+}
@@ -0,0 +1,83 @@
+package twg2.cli.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import twg2.cli.BatchParser;
+import twg2.cli.BatchResult;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParameterTokenizer;
+import twg2.cli.ParseOutcome;
+
+/** Benchmarks {@link BatchParser#parse(List)} against tokenizing and calling {@link ParameterSet#parse(CharSequence[], int, Appendable, ParseOutcome)} once per line
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchParserBenchmark {
+	/** the number of lines in the batch */
+	@Param({ "10000", "1000000" })
+	public int lineCount;
+
+	/** the number of name/value pairs on each line */
+	@Param({ "4", "16" })
+	public int argCount;
+
+	private BenchmarkData.NullAppendable out;
+	private ParameterSet<String> paramSet;
+	private BatchParser batchParser;
+	private List<String> lines;
+	private ParameterTokenizer tokenizer;
+	private ParseOutcome<String> outcome;
+
+
+	@Setup
+	public void setup() {
+		out = new BenchmarkData.NullAppendable();
+		paramSet = BenchmarkData.newParameterSet(8, false, new BenchmarkData.Sink());
+		batchParser = new BatchParser(paramSet);
+		lines = new ArrayList<>(lineCount);
+		for(int i = 0; i < lineCount; i++) {
+			String[] args = BenchmarkData.newArgs(argCount, 8);
+			args[1] = BenchmarkData.paramValue(0, i);
+			lines.add(String.join(" ", args));
+		}
+		tokenizer = new ParameterTokenizer();
+		outcome = paramSet.newOutcome();
+	}
+
+
+	@Benchmark
+	public BatchResult batchParse() {
+		return batchParser.parse(lines);
+	}
+
+
+	/** The single threaded alternative, one tokenize and parse call per line
+	 */
+	@Benchmark
+	public int parsePerLine() {
+		int seen = 0;
+		List<String> tokens = new ArrayList<>();
+		for(String line : lines) {
+			tokenizer.tokenize(line);
+			tokens.clear();
+			String[] args = tokenizer.toList(tokens).toArray(new String[tokens.size()]);
+			seen += paramSet.parse(args, 0, out, outcome).getSeenCount();
+		}
+		return seen;
+	}
+
+}
@@ -0,0 +1,191 @@
+package twg2.cli.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterBuilderImpl;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParameterType;
+
+/** Shared parameter and input generators for the JCli benchmarks.
+ * Parameters are named {@code -p0, -p1, ..., -pN} and alternate between {@link ParameterType#INTEGER}
+ * and {@link ParameterType#TEXT} so that every generated argument list is valid.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class BenchmarkData {
+
+	private BenchmarkData() { throw new AssertionError("cannot instantiate static class BenchmarkData"); }
+
+
+	/** A setter target which stores the last value it received so that the JIT cannot eliminate setter calls
+	 */
+	public static final class Sink implements Consumer<Object> {
+		public volatile Object last;
+		public volatile long lastPrimitive;
+
+		@Override
+		public void accept(Object value) {
+			this.last = value;
+		}
+
+		public void setInt(int value) {
+			this.lastPrimitive = value;
+		}
+
+		public void setDouble(double value) {
+			this.lastPrimitive = Double.doubleToRawLongBits(value);
+		}
+
+		public void setFlag(boolean value) {
+			this.lastPrimitive = value ? 1 : 0;
+		}
+	}
+
+
+	/** An {@link Appendable} which counts, but discards, all characters written to it
+	 */
+	public static final class NullAppendable implements Appendable {
+		public long count;
+
+		@Override
+		public Appendable append(CharSequence csq) throws IOException {
+			count += (csq != null ? csq.length() : 4);
+			return this;
+		}
+
+		@Override
+		public Appendable append(CharSequence csq, int start, int end) throws IOException {
+			count += end - start;
+			return this;
+		}
+
+		@Override
+		public Appendable append(char c) throws IOException {
+			count++;
+			return this;
+		}
+	}
+
+
+	public static String paramName(int idx) {
+		return "-p" + idx;
+	}
+
+
+	/** Create {@code paramCount} alternating integer and text parameters
+	 * @param paramCount the number of parameters to create
+	 * @param required whether the parameters are required
+	 * @param sink the setter all of the parameters write to
+	 */
+	public static List<ParameterData<String, ?>> newParameters(int paramCount, boolean required, Sink sink) {
+		List<ParameterData<String, ?>> params = new ArrayList<>(paramCount);
+		for(int i = 0; i < paramCount; i++) {
+			if(i % 2 == 0) {
+				params.add(ParameterBuilder.newInteger()
+						.setNameAndAliases(paramName(i), "-int" + i)
+						.setSetter(sink::accept)
+						.setValidator((n) -> n >= 0)
+						.setHelpMessage("integer parameter " + i)
+						.setRequestParameterMessage("enter integer " + i + ": ")
+						.setRequired(required)
+						.build());
+			}
+			else {
+				params.add(ParameterBuilder.newText()
+						.setNameAndAliases(paramName(i), "-text" + i)
+						.setSetter(sink::accept)
+						.setHelpMessage("text parameter " + i)
+						.setRequestParameterMessage("enter text " + i + ": ")
+						.setRequired(required)
+						.build());
+			}
+		}
+		return params;
+	}
+
+
+	public static ParameterSet<String> newParameterSet(int paramCount, boolean required, Sink sink) {
+		return ParameterSet.newParameterSet(newParameters(paramCount, required, sink), true, "-help");
+	}
+
+
+	/** Create an argument array containing {@code argCount} name/value pairs cycling through {@code paramCount} parameters
+	 */
+	public static String[] newArgs(int argCount, int paramCount) {
+		String[] args = new String[argCount * 2];
+		for(int i = 0; i < argCount; i++) {
+			int paramIdx = i % paramCount;
+			args[i * 2] = paramName(paramIdx);
+			args[i * 2 + 1] = paramValue(paramIdx, i);
+		}
+		return args;
+	}
+
+
+	/** The value for the {@code paramIdx} parameter created by {@link #newParameters(int, boolean, Sink)}
+	 */
+	public static String paramValue(int paramIdx, int seed) {
+		return paramIdx % 2 == 0 ? Integer.toString(seed * 31) : "value_" + seed;
+	}
+
+
+	/** Create a single or array parameter of the given type
+	 * @param primitive true to use the primitive setters of {@link ParameterType#INTEGER}, {@link ParameterType#FLOAT},
+	 * and {@link ParameterType#FLAG} parameters, ignored for other parameter types
+	 */
+	public static ParameterData<String, Object> newTypedParameter(ParameterType type, boolean isArray, boolean primitive, Sink sink) {
+		ParameterBuilderImpl<String, Object> builder;
+		if(type == ParameterType.ENUM) {
+			@SuppressWarnings({ "unchecked", "rawtypes" })
+			ParameterBuilderImpl<String, Object> enumBuilder = (ParameterBuilderImpl)ParameterBuilderImpl.newEnumParameterBuilder(TimeUnit.class);
+			builder = enumBuilder;
+		}
+		else {
+			builder = new ParameterBuilderImpl<>(type, isArray);
+		}
+		// enum and text builders do not always infer array types from their data type
+		builder.setIsArrayType(isArray);
+		builder.setNameAndAliases("-value", "-v")
+			.setSetter(sink)
+			.setHelpMessage(type + " parameter");
+		if(primitive) {
+			switch(type) {
+			case INTEGER: builder.setIntSetter(sink::setInt).setIntArraySetter(sink::accept); break;
+			case FLOAT: builder.setFloatSetter(sink::setDouble).setFloatArraySetter(sink::accept); break;
+			case FLAG: builder.setFlagSetter(sink::setFlag).setFlagArraySetter(sink::accept); break;
+			default: break;
+			}
+		}
+		return builder.build();
+	}
+
+
+	/** Create the input array, including the leading parameter name, for a parameter created by {@link #newTypedParameter(ParameterType, boolean, boolean, Sink)}
+	 */
+	public static String[] newTypedInputs(ParameterType type, int valueCount) {
+		TimeUnit[] units = TimeUnit.values();
+		String[] inputs = new String[valueCount + 1];
+		inputs[0] = "-value";
+		for(int i = 0; i < valueCount; i++) {
+			String value;
+			switch(type) {
+			case ENUM: value = units[i % units.length].name(); break;
+			case FLAG: value = (i % 2 == 0 ? "true" : "false"); break;
+			case FLOAT: value = (i * 1.25f) + ""; break;
+			case INTEGER: value = Integer.toString(i * 7919); break;
+			case PATH: value = "dir_" + (i % 16) + "/sub/file_" + i + ".txt"; break;
+			case TEXT: value = "text value " + i; break;
+			default: throw new IllegalArgumentException("unknown parameter type " + type);
+			}
+			inputs[i + 1] = value;
+		}
+		return inputs;
+	}
+
+}
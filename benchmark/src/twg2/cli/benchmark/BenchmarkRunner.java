@@ -0,0 +1,41 @@
+package twg2.cli.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Runs all of the JCli benchmarks in throughput and sample time (latency percentiles) modes with the
+ * GC profiler enabled (allocation rate and normalized bytes per operation).
+ * Any standard JMH command line options (e.g. a benchmark name regex, {@code -p argCount=8}, {@code -f 1}) are
+ * passed through and override the defaults.
+ * Results are written to {@code bench_output.txt} in JSON format.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() { throw new AssertionError("cannot instantiate static class BenchmarkRunner"); }
+
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cmdOpts = new CommandLineOptions(args);
+
+		Options opts = new OptionsBuilder()
+				.parent(cmdOpts)
+				.include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmark")
+				.mode(Mode.Throughput)
+				.mode(Mode.SampleTime)
+				.addProfiler(GCProfiler.class)
+				.forks(1)
+				.result("bench_output.txt")
+				.resultFormat(ResultFormatType.JSON)
+				.build();
+
+		new Runner(opts).run();
+	}
+
+}
@@ -0,0 +1,93 @@
+package twg2.cli.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import twg2.cli.ConfigSnapshot;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseOutcome;
+
+/** Benchmarks reading values from a published {@link ConfigSnapshot} against reading them from a setter target
+ * guarded by a lock, and the cost of publishing a new snapshot
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigSnapshotBenchmark {
+	/** the number of parameters in the parameter set */
+	@Param({ "8", "256" })
+	public int paramCount;
+
+	private ParameterSet<String> paramSet;
+	private ParseOutcome<String> outcome;
+	private ConfigSnapshot.Publisher<String> publisher;
+	private LockedConfig lockedConfig;
+	/** the ordinal of an integer parameter and a text parameter */
+	private int intOrdinal;
+	private int textOrdinal;
+
+
+	@Setup
+	public void setup() {
+		BenchmarkData.Sink sink = new BenchmarkData.Sink();
+		List<ParameterData<String, ?>> params = BenchmarkData.newParameters(paramCount, false, sink);
+		paramSet = new ParameterSet<>(params);
+		outcome = paramSet.parse(BenchmarkData.newArgs(paramCount, paramCount), 0, null, null);
+		publisher = new ConfigSnapshot.Publisher<>(ConfigSnapshot.of(outcome));
+		intOrdinal = paramSet.getOrdinal(params.get(paramCount - 2));
+		textOrdinal = paramSet.getOrdinal(params.get(paramCount - 1));
+		lockedConfig = new LockedConfig();
+		lockedConfig.set(publisher.get().getInt(intOrdinal, 0), (String)publisher.get().get(textOrdinal, null));
+	}
+
+
+	@Benchmark
+	public int readSnapshot() {
+		ConfigSnapshot<String> snapshot = publisher.get();
+		return snapshot.getInt(intOrdinal, 0) + snapshot.get(textOrdinal, "").hashCode();
+	}
+
+
+	@Benchmark
+	public int readLocked() {
+		synchronized(lockedConfig) {
+			return lockedConfig.intValue + lockedConfig.textValue.hashCode();
+		}
+	}
+
+
+	@Benchmark
+	public ConfigSnapshot<String> publish() {
+		return publisher.publish(outcome);
+	}
+
+
+
+
+	/** A mutable configuration object, the alternative to snapshots, which must be locked so readers see consistent values
+	 */
+	static final class LockedConfig {
+		int intValue;
+		String textValue;
+
+
+		synchronized void set(int intValue, String textValue) {
+			this.intValue = intValue;
+			this.textValue = textValue;
+		}
+
+	}
+
+}
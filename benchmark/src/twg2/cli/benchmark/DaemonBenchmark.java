@@ -0,0 +1,155 @@
+package twg2.cli.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import twg2.cli.CliDaemon;
+import twg2.cli.CliDaemonClient;
+import twg2.cli.ParameterSet;
+
+/** Compares the wall clock latency of running a small JCli tool in a new JVM (cold) against running the same tool
+ * in a {@link CliDaemon}, both from a new client JVM and from an already running client (the cost a native client would pay)
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DaemonBenchmark {
+	/** the number of parameters in the tool's parameter set */
+	@Param({ "8", "64" })
+	public int paramCount;
+
+	private String[] toolArgs;
+	private ExecutorService executor;
+	private CliDaemon daemon;
+	private Path dir;
+	private Path infoFile;
+	private File discardFile;
+	private ByteArrayOutputStream discard;
+
+
+	@Setup
+	public void setup() throws IOException {
+		toolArgs = BenchmarkData.newArgs(Math.min(paramCount, 16), paramCount);
+		dir = Files.createTempDirectory("jcli-daemon-benchmark");
+		infoFile = dir.resolve("daemon.info");
+		discardFile = dir.resolve("discard.txt").toFile();
+		discard = new ByteArrayOutputStream();
+		executor = Executors.newCachedThreadPool();
+		ParameterSet<String> paramSet = Tool.newParameterSet(paramCount);
+		daemon = new CliDaemon((req) -> Tool.run(paramSet, req.getArgs(), req.getOutput()), executor);
+		daemon.start(infoFile);
+	}
+
+
+	@TearDown
+	public void teardown() throws IOException {
+		daemon.close();
+		executor.shutdown();
+		Files.deleteIfExists(discardFile.toPath());
+		Files.deleteIfExists(dir);
+	}
+
+
+	/** A new JVM which builds the parameter set and parses the arguments
+	 */
+	@Benchmark
+	public int cold() throws Exception {
+		List<String> cmd = javaCommand(Tool.class.getName());
+		cmd.add(String.valueOf(paramCount));
+		Collections.addAll(cmd, toolArgs);
+		return runProcess(cmd);
+	}
+
+
+	/** A new {@link CliDaemonClient} JVM which sends the arguments to the daemon
+	 */
+	@Benchmark
+	public int daemonJavaClient() throws Exception {
+		List<String> cmd = javaCommand(CliDaemonClient.class.getName());
+		cmd.add(infoFile.toString());
+		Collections.addAll(cmd, toolArgs);
+		return runProcess(cmd);
+	}
+
+
+	/** A client which is already running, the latency of a daemon round trip
+	 */
+	@Benchmark
+	public int daemonRoundTrip() throws IOException {
+		discard.reset();
+		return CliDaemonClient.run(infoFile, toolArgs, dir, Collections.emptyMap(), new ByteArrayInputStream(new byte[0]), discard, System.err);
+	}
+
+
+	private int runProcess(List<String> cmd) throws Exception {
+		Process proc = new ProcessBuilder(cmd).redirectErrorStream(true).redirectOutput(discardFile).start();
+		return proc.waitFor();
+	}
+
+
+	private static List<String> javaCommand(String mainClass) {
+		List<String> cmd = new ArrayList<>();
+		cmd.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+		cmd.add("-cp");
+		cmd.add(System.getProperty("java.class.path"));
+		cmd.add(mainClass);
+		return cmd;
+	}
+
+
+
+
+	/** The benchmarked tool, run by a new JVM for {@link DaemonBenchmark#cold()} and by the daemon for the other benchmarks
+	 */
+	public static final class Tool {
+
+		private Tool() { throw new AssertionError("cannot instantiate static class Tool"); }
+
+
+		/** Usage: {@code Tool <paramCount> [args...]}
+		 */
+		public static void main(String[] args) {
+			String[] toolArgs = new String[args.length - 1];
+			System.arraycopy(args, 1, toolArgs, 0, toolArgs.length);
+			System.exit(run(newParameterSet(Integer.parseInt(args[0])), toolArgs, System.out));
+		}
+
+
+		static ParameterSet<String> newParameterSet(int paramCount) {
+			return BenchmarkData.newParameterSet(paramCount, false, new BenchmarkData.Sink());
+		}
+
+
+		static int run(ParameterSet<String> paramSet, String[] args, PrintStream out) {
+			int seen = paramSet.parse(args, 0, out, null).getSeenCount();
+			out.println("parsed " + seen + " parameters");
+			return 0;
+		}
+
+	}
+
+}
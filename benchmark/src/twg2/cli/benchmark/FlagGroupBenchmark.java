@@ -0,0 +1,86 @@
+package twg2.cli.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import twg2.cli.FlagGroup;
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseOutcome;
+
+/** Benchmarks parsing {@link twg2.cli.ParameterType#FLAG} arguments using one parameter (and boxed setter) per flag
+ * against a single {@link FlagGroup} containing the same flags
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FlagGroupBenchmark {
+	/** the number of flags */
+	@Param({ "64", "512" })
+	public int flagCount;
+
+	/** the number of flags present in the arguments */
+	@Param({ "4", "32" })
+	public int argCount;
+
+	private BenchmarkData.Sink sink;
+	private ParameterSet<String> separateSet;
+	private ParameterSet<String> groupSet;
+	private ParseOutcome<String> separateOutcome;
+	private ParseOutcome<String> groupOutcome;
+	private String[] inputs;
+
+
+	@Setup
+	public void setup() {
+		sink = new BenchmarkData.Sink();
+		List<ParameterData<String, ?>> separate = new ArrayList<>();
+		FlagGroup.Builder<String> group = ParameterBuilder.newFlagGroup();
+		for(int i = 0; i < flagCount; i++) {
+			separate.add(ParameterBuilder.newFlag().setNameAndAliases("-f" + i).setSetter(sink::accept).build());
+			group.addFlag("-f" + i, "flag " + i);
+		}
+		if(flagCount <= 64) {
+			group.setMaskSetter((mask) -> sink.lastPrimitive = mask);
+		}
+		else {
+			group.setSetter(sink::accept);
+		}
+		separateSet = new ParameterSet<>(separate);
+		groupSet = new ParameterSet<>(Collections.singletonList(group.build()));
+		separateOutcome = separateSet.newOutcome();
+		groupOutcome = groupSet.newOutcome();
+
+		inputs = new String[argCount];
+		for(int i = 0; i < argCount; i++) {
+			inputs[i] = "-f" + (i * (flagCount / argCount));
+		}
+	}
+
+
+	@Benchmark
+	public ParseOutcome<String> separateFlags() {
+		return separateSet.parse(inputs, 0, null, separateOutcome);
+	}
+
+
+	@Benchmark
+	public ParseOutcome<String> flagGroup() {
+		return groupSet.parse(inputs, 0, null, groupOutcome);
+	}
+
+}
@@ -0,0 +1,89 @@
+package twg2.cli.benchmark;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import twg2.cli.Param;
+import twg2.cli.ParamBinder;
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseOutcome;
+
+/** Benchmarks {@link ParamBinder#bind(String[], Appendable, Object)} against parsing the same arguments with a hand written
+ * {@link ParameterSet} whose setters assign the same fields, the difference is the cost of binding beyond the parse itself
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParamBinderBenchmark {
+
+	public static class Options {
+		@Param(name = "-loops")
+		public int loops;
+		@Param(name = "-name")
+		public String name;
+		@Param(name = "-path")
+		public Path path;
+		@Param(name = "-unit")
+		public TimeUnit unit;
+		@Param(name = "-verbose")
+		public boolean verbose;
+		@Param(name = "-size")
+		public long size;
+
+		@Param(name = "-ratio")
+		public void setRatio(float ratio) {
+			this.ratio = ratio;
+		}
+		public float ratio;
+	}
+
+
+	private final String[] args = { "-loops", "12", "-name", "benchmark", "-path", "a/b/c", "-unit", "SECONDS", "-verbose", "-size", "4096", "-ratio", "0.5" };
+	private ParamBinder<Options> binder;
+	private Options target;
+	private ParameterSet<String> handWritten;
+	private ParseOutcome<String> outcome;
+
+
+	@Setup
+	public void setup() {
+		binder = ParamBinder.of(Options.class);
+		target = new Options();
+		handWritten = new ParameterSet<>(Arrays.asList(
+			ParameterBuilder.newInteger().setNameAndAliases("-loops").setIntSetter((v) -> target.loops = v).build(),
+			ParameterBuilder.newText().setNameAndAliases("-name").setSetter((v) -> target.name = v).build(),
+			ParameterBuilder.newPath().setNameAndAliases("-path").setSetter((v) -> target.path = v).build(),
+			ParameterBuilder.newEnum(TimeUnit.class).setNameAndAliases("-unit").setSetter((v) -> target.unit = v).build(),
+			ParameterBuilder.newFlag().setNameAndAliases("-verbose").setFlagSetter((v) -> target.verbose = v).build(),
+			ParameterBuilder.newLong().setNameAndAliases("-size").setSetter((v) -> target.size = v).build(),
+			ParameterBuilder.newFloat().setNameAndAliases("-ratio").setFloatSetter((v) -> target.setRatio((float)v)).build()
+		));
+		outcome = handWritten.newOutcome();
+	}
+
+
+	@Benchmark
+	public Options bind() {
+		return binder.bind(args, null, target);
+	}
+
+
+	@Benchmark
+	public Options parseHandWritten() {
+		handWritten.parse(args, 0, null, outcome);
+		return target;
+	}
+
+}
@@ -0,0 +1,78 @@
+package twg2.cli.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterDataImpl;
+import twg2.cli.ParameterParserResult;
+import twg2.cli.ParameterType;
+
+/** Benchmarks each {@link ParameterDataImpl} read path ({@link ParameterType#ENUM}, {@link ParameterType#FLAG},
+ * {@link ParameterType#FLOAT}, {@link ParameterType#INTEGER}, {@link ParameterType#PATH}, {@link ParameterType#TEXT})
+ * for single values and for arrays of varying length
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParameterDataReadBenchmark {
+	@Param({ "ENUM", "FLAG", "FLOAT", "INTEGER", "PATH", "TEXT" })
+	public ParameterType type;
+
+	/** true to use primitive setters for INTEGER, FLOAT, and FLAG parameters */
+	@Param({ "false", "true" })
+	public boolean primitive;
+
+	/** the number of values passed to the array parameter */
+	@Param({ "1", "16", "1024" })
+	public int arrayLength;
+
+	private BenchmarkData.Sink sink;
+	private ParameterData<String, Object> singleParam;
+	private ParameterData<String, Object> arrayParam;
+	private String[] singleInputs;
+	private String[] arrayInputs;
+	private String[] flagOnlyInputs;
+
+
+	@Setup
+	public void setup() {
+		sink = new BenchmarkData.Sink();
+		singleParam = BenchmarkData.newTypedParameter(type, false, primitive, sink);
+		arrayParam = BenchmarkData.newTypedParameter(type, true, primitive, sink);
+		singleInputs = BenchmarkData.newTypedInputs(type, 1);
+		arrayInputs = BenchmarkData.newTypedInputs(type, arrayLength);
+		flagOnlyInputs = new String[] { "-value" };
+	}
+
+
+	@Benchmark
+	public ParameterParserResult readSingle() {
+		return singleParam.parse(singleInputs, 0, singleInputs.length);
+	}
+
+
+	@Benchmark
+	public ParameterParserResult readArray() {
+		return arrayParam.parse(arrayInputs, 0, arrayInputs.length);
+	}
+
+
+	/** A parameter name without a value, only valid for {@link ParameterType#FLAG} which injects an implicit 'true'
+	 */
+	@Benchmark
+	public ParameterParserResult readNameOnly() {
+		return type == ParameterType.FLAG ? singleParam.parse(flagOnlyInputs, 0, 1) : null;
+	}
+
+}
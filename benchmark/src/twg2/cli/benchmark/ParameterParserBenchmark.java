@@ -0,0 +1,112 @@
+package twg2.cli.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import twg2.cli.ParameterParser;
+
+/** Benchmarks {@link ParameterParser#callParameters(Supplier, Object)} with a mix of alias
+ * parameters, regex parameters, and unknown tokens
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParameterParserBenchmark {
+	/** the number of alias parameters, each with two aliases */
+	@Param({ "4", "64" })
+	public int aliasCount;
+
+	/** the number of regex parameters */
+	@Param({ "0", "8", "128" })
+	public int regexCount;
+
+	/** true to use {@link ParameterParser#setCompiledRegexDispatch(boolean) compiled regex dispatch} */
+	@Param({ "false", "true" })
+	public boolean compiledRegexDispatch;
+
+	/** the number of commands in the token stream */
+	@Param({ "16", "256" })
+	public int commandCount;
+
+	private ParameterParser<BenchmarkData.Sink> parser;
+	private BenchmarkData.Sink sink;
+	private ArraySupplier tokens;
+
+
+	/** A resettable supplier of tokens, returns null once all tokens have been consumed
+	 */
+	static final class ArraySupplier implements Supplier<String> {
+		private final String[] tokens;
+		private int idx;
+
+		ArraySupplier(String[] tokens) {
+			this.tokens = tokens;
+		}
+
+		void reset() {
+			this.idx = 0;
+		}
+
+		@Override
+		public String get() {
+			return idx < tokens.length ? tokens[idx++] : null;
+		}
+	}
+
+
+	@Setup
+	public void setup() {
+		sink = new BenchmarkData.Sink();
+		parser = new ParameterParser<>();
+		parser.setCompiledRegexDispatch(compiledRegexDispatch);
+		for(int i = 0; i < aliasCount; i++) {
+			List<String> aliases = Arrays.asList("-alias" + i, "--alias-" + i);
+			parser.addParameter(aliases, (remaining, data) -> data.accept(remaining.get()));
+		}
+		for(int i = 0; i < regexCount; i++) {
+			parser.addRegexParameter("^--regex" + i + "=(\\w+)$", (remaining, match, data) -> data.accept(match.group(1)));
+		}
+
+		String[] toks = new String[commandCount * 2];
+		for(int i = 0; i < commandCount; i++) {
+			int kind = i % 3;
+			if(kind == 0) {
+				// alias hit followed by its argument
+				toks[i * 2] = (i % 2 == 0 ? "-alias" : "--alias-") + (i % aliasCount);
+				toks[i * 2 + 1] = "arg" + i;
+			}
+			else if(kind == 1 && regexCount > 0) {
+				// regex hit, matches the last registered pattern (worst case for sequential matching)
+				toks[i * 2] = "--regex" + (regexCount - 1) + "=v" + i;
+				toks[i * 2 + 1] = "--unknown" + i;
+			}
+			else {
+				// unknown tokens which miss every alias and every pattern
+				toks[i * 2] = "--unknown" + i;
+				toks[i * 2 + 1] = "unmatched_" + i;
+			}
+		}
+		tokens = new ArraySupplier(toks);
+	}
+
+
+	@Benchmark
+	public int callParameters() {
+		tokens.reset();
+		return parser.callParameters(tokens, sink);
+	}
+
+}
@@ -0,0 +1,93 @@
+package twg2.cli.benchmark;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseOutcome;
+
+/** Benchmarks {@link ParameterSet#parse(CharSequence[], int, Appendable)} and {@link ParameterSet#parse(CharSequence[], int, Appendable, ParseOutcome)}
+ * over varying argument and parameter counts, and creating parameter sets and printing their help messages
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParameterSetBenchmark {
+	/** the number of name/value pairs in the argument array */
+	@Param({ "1", "8", "64", "512" })
+	public int argCount;
+
+	/** the number of parameters in the parameter set */
+	@Param({ "4", "32", "256" })
+	public int paramCount;
+
+	private BenchmarkData.Sink sink;
+	private BenchmarkData.NullAppendable out;
+	private ParameterSet<String> paramSet;
+	private String[] args;
+	private ParseOutcome<String> outcome;
+
+
+	@Setup
+	public void setup() {
+		sink = new BenchmarkData.Sink();
+		out = new BenchmarkData.NullAppendable();
+		paramSet = BenchmarkData.newParameterSet(paramCount, false, sink);
+		args = BenchmarkData.newArgs(argCount, paramCount);
+		outcome = paramSet.newOutcome();
+	}
+
+
+	@Benchmark
+	public Map<ParameterData<String, Object>, Boolean> parse() {
+		return paramSet.parse(args, 0, out);
+	}
+
+
+	/** Parse into a recycled outcome, the cost should depend only on {@link #argCount}
+	 */
+	@Benchmark
+	public ParseOutcome<String> parseReuseOutcome() {
+		return paramSet.parse(args, 0, out, outcome);
+	}
+
+
+	/** Create a parameter set with a help parameter, the help message is not generated until it is printed
+	 */
+	@Benchmark
+	public ParameterSet<String> newParameterSet() {
+		return BenchmarkData.newParameterSet(paramCount, false, sink);
+	}
+
+
+	/** Print the cached help message
+	 */
+	@Benchmark
+	public long writeHelp() throws IOException {
+		paramSet.writeHelp(out);
+		return out.count;
+	}
+
+
+	/** Generate and print the wrapped help lines of the parameters matching a name prefix
+	 */
+	@Benchmark
+	public long writeHelpPrefix() throws IOException {
+		paramSet.writeHelp(out, BenchmarkData.paramName(1), 80);
+		return out.count;
+	}
+
+}
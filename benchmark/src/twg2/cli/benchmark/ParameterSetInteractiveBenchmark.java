@@ -0,0 +1,72 @@
+package twg2.cli.benchmark;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import twg2.cli.ParameterSet;
+
+/** Benchmarks {@link ParameterSet#parseInteractive(CharSequence[], int, BufferedReader, Appendable, String)}
+ * with a piped reader supplying every required parameter missing from the argument array
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParameterSetInteractiveBenchmark {
+	/** the number of required parameters in the parameter set */
+	@Param({ "4", "32", "256" })
+	public int paramCount;
+
+	/** the percentage of required parameters supplied by the argument array, the rest are read from the piped input */
+	@Param({ "0", "50", "100" })
+	public int providedPercent;
+
+	/** the number of 'help' requests read before each interactive parameter value */
+	@Param({ "0", "1" })
+	public int helpRequests;
+
+	private BenchmarkData.Sink sink;
+	private BenchmarkData.NullAppendable out;
+	private ParameterSet<String> paramSet;
+	private String[] args;
+	private String pipedInput;
+
+
+	@Setup
+	public void setup() {
+		sink = new BenchmarkData.Sink();
+		out = new BenchmarkData.NullAppendable();
+		paramSet = BenchmarkData.newParameterSet(paramCount, true, sink);
+
+		int provided = paramCount * providedPercent / 100;
+		args = BenchmarkData.newArgs(provided, paramCount);
+
+		StringBuilder sb = new StringBuilder();
+		for(int i = provided; i < paramCount; i++) {
+			for(int j = 0; j < helpRequests; j++) {
+				sb.append("help\n");
+			}
+			sb.append(BenchmarkData.paramValue(i, i)).append('\n');
+		}
+		pipedInput = sb.toString();
+	}
+
+
+	@Benchmark
+	public Object parseInteractive() {
+		paramSet.parseInteractive(args, 0, new BufferedReader(new StringReader(pipedInput)), out, "help");
+		return sink.last;
+	}
+
+}
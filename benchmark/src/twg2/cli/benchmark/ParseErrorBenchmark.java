@@ -0,0 +1,65 @@
+package twg2.cli.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseOutcome;
+
+/** Benchmarks rejecting invalid inputs with {@link ParameterSet#parse(CharSequence[], int, Appendable, ParseOutcome)},
+ * errors only read with {@link ParseOutcome#getErrorType(int)} and {@link ParseOutcome#getErrorInputIndex(int)} should not format a message
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParseErrorBenchmark {
+	/** the kind of invalid input, a malformed integer, an integer rejected by its validator, or a text value rejected by its validator */
+	@Param({ "malformed", "invalid", "text" })
+	public String error;
+
+	private ParameterSet<String> paramSet;
+	private String[] args;
+	private ParseOutcome<String> outcome;
+
+
+	@Setup
+	public void setup() {
+		BenchmarkData.Sink sink = new BenchmarkData.Sink();
+		paramSet = new ParameterSet<>(Arrays.asList(
+				ParameterBuilder.newInteger().setNameAndAliases("-i").setIntValidator((v) -> v >= 0).setSetter(sink::accept).build(),
+				ParameterBuilder.newText().setNameAndAliases("-t").setValidator((v) -> v.length() < 3).setSetter(sink::accept).build()
+		));
+		args = "malformed".equals(error) ? new String[] { "-i", "abc" }
+				: "invalid".equals(error) ? new String[] { "-i", "-5" }
+				: new String[] { "-t", "long" };
+		outcome = paramSet.newOutcome();
+	}
+
+
+	@Benchmark
+	public int rejectErrorCode() {
+		paramSet.parse(args, 0, null, outcome);
+		int ordinal = outcome.getSeenOrdinal(0);
+		return outcome.getErrorType(ordinal).ordinal() + outcome.getErrorInputIndex(ordinal);
+	}
+
+
+	@Benchmark
+	public String rejectMessage() {
+		paramSet.parse(args, 0, null, outcome);
+		return outcome.getResult(outcome.getSeenOrdinal(0)).getParseError().getMessage();
+	}
+
+}
@@ -0,0 +1,62 @@
+package twg2.cli.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseListeners;
+import twg2.cli.ParseMetrics;
+import twg2.cli.ParseOutcome;
+
+/** Benchmarks {@link ParameterSet#parse(CharSequence[], int, Appendable, ParseOutcome)} with and without a {@link ParseMetrics}
+ * listener installed, the parse time without a listener should match {@link ParameterSetBenchmark#parseReuseOutcome()}
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParseMetricsBenchmark {
+	/** the number of name/value pairs in the argument array */
+	@Param({ "8", "64" })
+	public int argCount;
+
+	/** whether a {@link ParseMetrics} listener is installed */
+	@Param({ "false", "true" })
+	public boolean metrics;
+
+	private ParameterSet<String> paramSet;
+	private String[] args;
+	private ParseOutcome<String> outcome;
+
+
+	@Setup
+	public void setup() {
+		paramSet = BenchmarkData.newParameterSet(argCount, false, new BenchmarkData.Sink());
+		args = BenchmarkData.newArgs(argCount, argCount);
+		outcome = paramSet.newOutcome();
+		ParseListeners.install(metrics ? new ParseMetrics() : null);
+	}
+
+
+	@TearDown
+	public void tearDown() {
+		ParseListeners.install(null);
+	}
+
+
+	@Benchmark
+	public ParseOutcome<String> parse() {
+		return paramSet.parse(args, 0, null, outcome);
+	}
+
+}
@@ -0,0 +1,86 @@
+package twg2.cli.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import twg2.cli.ParameterParser;
+import twg2.cli.ParameterTokenizer;
+
+/** Benchmarks {@link ParameterParser#parseParameters(String)} tokenizing command lines of varying
+ * length and quoting density
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParseParametersBenchmark {
+	/** the number of tokens in the command line */
+	@Param({ "4", "64", "512" })
+	public int tokenCount;
+
+	/** plain: unquoted tokens only, quoted: every third token is quoted, escaped: quoted tokens contain escaped quotes */
+	@Param({ "plain", "quoted", "escaped" })
+	public String style;
+
+	private String line;
+	private List<String> dst;
+	private ParameterTokenizer tokenizer;
+
+
+	@Setup
+	public void setup() {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < tokenCount; i++) {
+			if(i > 0) {
+				sb.append(' ');
+			}
+			boolean quote = !"plain".equals(style) && i % 3 == 0;
+			if(quote) {
+				sb.append('"').append("quoted arg ").append(i);
+				if("escaped".equals(style)) {
+					sb.append(" with \\\"escape\\\"");
+				}
+				sb.append('"');
+			}
+			else {
+				sb.append(i % 2 == 0 ? "-param" : "value_").append(i);
+			}
+		}
+		line = sb.toString();
+		dst = new ArrayList<>(tokenCount);
+		tokenizer = new ParameterTokenizer();
+	}
+
+
+	@Benchmark
+	public List<String> parseParameters() {
+		return ParameterParser.parseParameters(line);
+	}
+
+
+	@Benchmark
+	public List<String> parseParametersReuseList() {
+		dst.clear();
+		return ParameterParser.parseParameters(line, '"', true, '\\', dst);
+	}
+
+
+	/** Tokenize into the reusable span buffer without materializing any strings
+	 */
+	@Benchmark
+	public int tokenizeSpans() {
+		return tokenizer.tokenize(line);
+	}
+
+}
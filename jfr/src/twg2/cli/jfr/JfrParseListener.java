@@ -0,0 +1,168 @@
+package twg2.cli.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterParserExceptionType;
+import twg2.cli.ParameterType;
+import twg2.cli.ParseListener;
+import twg2.cli.ParseListeners;
+import twg2.cli.ParsePhase;
+
+/** A {@link ParseListener} which emits a Java Flight Recorder event for each {@link ParsePhase}, so that parse latency
+ * can be correlated with GC, I/O, and other JVM events in the same recording.<br>
+ * Install the listener using {@link ParseListeners#install(ParseListener)}, the events are disabled by default and
+ * enabled by name in a recording's settings, for example {@code jcmd <pid> JFR.start settings=jcli.jfc} with:
+ * <pre>
+ * &lt;event name="twg2.cli.ParseParameter"&gt;&lt;setting name="enabled"&gt;true&lt;/setting&gt;&lt;setting name="threshold"&gt;0 ms&lt;/setting&gt;&lt;/event&gt;
+ * </pre>
+ * While an event type is disabled, its phase costs one event allocation, which is usually removed by the JIT, and an {@link Event#isEnabled()} check.
+ * Requires JDK 11 or later, or JDK 8u262 or later.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class JfrParseListener implements ParseListener {
+
+	@Override
+	public void parsed(ParameterData<?, ?> param, long decodeNanos, long validateNanos, long setNanos) {
+	}
+
+
+	@Override
+	public void parseError(ParameterData<?, ?> param, ParameterParserExceptionType errorType) {
+	}
+
+
+	@Override
+	public void interactiveRetry(ParameterData<?, ?> param, int attempt) {
+	}
+
+
+	@Override
+	public Object phaseStarted(ParsePhase phase) {
+		ParsePhaseEvent event = newEvent(phase);
+		if(!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+
+	@Override
+	public void phaseEnded(Object token, ParsePhase phase, CharSequence name, ParameterType type, int argCount, boolean success) {
+		ParsePhaseEvent event = (ParsePhaseEvent)token;
+		event.end();
+		if(event.shouldCommit()) {
+			event.parameterName = name != null ? name.toString() : null;
+			event.parameterType = type != null ? type.name() : null;
+			event.argumentCount = argCount;
+			event.outcome = success ? "success" : "failure";
+			event.commit();
+		}
+	}
+
+
+	private static ParsePhaseEvent newEvent(ParsePhase phase) {
+		switch(phase) {
+		case TOKENIZE:
+			return new TokenizeEvent();
+		case NAME_LOOKUP:
+			return new NameLookupEvent();
+		case PARSE_PARAMETER:
+			return new ParseParameterEvent();
+		case REGEX_DISPATCH:
+			return new RegexDispatchEvent();
+		case INTERACTIVE_PROMPT:
+			return new InteractivePromptEvent();
+		case SET_VALUE:
+			return new SetValueEvent();
+		default:
+			throw new IllegalArgumentException("unknown parse phase: " + phase);
+		}
+	}
+
+
+
+
+	/** The fields shared by the parse phase events
+	 */
+	@Category({ "JCli", "Parsing" })
+	@Enabled(false)
+	@StackTrace(false)
+	static abstract class ParsePhaseEvent extends Event {
+		@Label("Parameter Name")
+		@Description("The parameter's primary name, or the input which was looked up")
+		String parameterName;
+
+		@Label("Parameter Type")
+		String parameterType;
+
+		@Label("Argument Count")
+		int argumentCount;
+
+		@Label("Outcome")
+		@Description("success, or failure if the phase failed or found no match")
+		String outcome;
+	}
+
+
+
+
+	@Name("twg2.cli.Tokenize")
+	@Label("Tokenize Arguments")
+	@Enabled(false)
+	static final class TokenizeEvent extends ParsePhaseEvent {
+	}
+
+
+
+
+	@Name("twg2.cli.NameLookup")
+	@Label("Parameter Name Lookup")
+	@Enabled(false)
+	static final class NameLookupEvent extends ParsePhaseEvent {
+	}
+
+
+
+
+	@Name("twg2.cli.ParseParameter")
+	@Label("Parse Parameter")
+	@Enabled(false)
+	static final class ParseParameterEvent extends ParsePhaseEvent {
+	}
+
+
+
+
+	@Name("twg2.cli.RegexDispatch")
+	@Label("Regex Parameter Dispatch")
+	@Enabled(false)
+	static final class RegexDispatchEvent extends ParsePhaseEvent {
+	}
+
+
+
+
+	@Name("twg2.cli.InteractivePrompt")
+	@Label("Interactive Prompt Wait")
+	@Enabled(false)
+	static final class InteractivePromptEvent extends ParsePhaseEvent {
+	}
+
+
+
+
+	@Name("twg2.cli.SetValue")
+	@Label("Set Parameter Value")
+	@Enabled(false)
+	static final class SetValueEvent extends ParsePhaseEvent {
+	}
+
+}
@@ -0,0 +1,45 @@
+package twg2.cli;
+
+/** A parameter which can appear multiple times in the inputs of one parse call, such as a {@link FlagGroup} or
+ * an enum set parameter (see {@link ParameterBuilder#newEnumSet(Class)}).
+ * {@link ParameterSet} merges each occurrence into the result of the previous occurrences using {@link #accumulate(ParameterParserResult, int, CharSequence[], int, int)}
+ * and then calls {@link #finish(ParameterParserResult)} once, after all of the inputs have been parsed, to validate the merged value
+ * and call the parameter's setter.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+interface AccumulatingParameter {
+
+	/**
+	 * @return true if this parameter merges multiple occurrences, false if it is parsed like any other parameter
+	 */
+	public boolean isAccumulating();
+
+
+	/** Called once for each of this parameter's names and aliases when it is added to a {@link ParameterSet}, the key is passed
+	 * to {@link #accumulate(ParameterParserResult, int, CharSequence[], int, int)} so the name does not need to be looked up again
+	 * @param name one of this parameter's names or aliases
+	 * @return a key identifying the name, such as the bit index of a {@link FlagGroup} flag, or -1
+	 */
+	public int nameKey(CharSequence name);
+
+
+	/** Parse one occurrence of this parameter and merge it into the value of the previous occurrences, without calling the setter
+	 * @param prev the result returned for the previous occurrences in the same parse call, null for the first occurrence.
+	 * If {@code prev} is an error it is returned unchanged
+	 * @param nameKey the {@link #nameKey(CharSequence) key} of the name at {@code inputs[off]}, or -1 if it is not known
+	 * @param inputs the inputs, starting with the parameter name or alias at {@code off}
+	 * @param off the offset into {@code inputs} of the parameter's name
+	 * @param len the number of inputs, including the parameter's name
+	 * @return the merged result, {@code prev} may be modified and returned
+	 */
+	public ParameterParserResult accumulate(ParameterParserResult prev, int nameKey, CharSequence[] inputs, int off, int len);
+
+
+	/** Validate the merged value and pass it to this parameter's setter
+	 * @param result the last result returned by {@link #accumulate(ParameterParserResult, int, CharSequence[], int, int)}
+	 * @return the final result of the parameter, {@code result} or an error
+	 */
+	public ParameterParserResult finish(ParameterParserResult result);
+
+}
@@ -0,0 +1,21 @@
+package twg2.cli;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/** A source of program arguments which are read one at a time, such as an argument file or standard input.
+ * See {@link ArgumentSources} for implementations and {@link ParameterSet#parse(ArgumentSource, Appendable, ParseOutcome)}.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public interface ArgumentSource extends Closeable {
+
+	/** Read the next argument.
+	 * The returned sequence may be a view over a buffer which is reused by the next call to this method,
+	 * so callers which need an argument after calling {@code next()} again must copy it (e.g. {@code toString()})
+	 * @return the next argument or null if there are no more arguments
+	 * @throws IOException if there is an error reading or decoding the argument
+	 */
+	public CharSequence next() throws IOException;
+
+}
@@ -0,0 +1,205 @@
+package twg2.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/** {@link ArgumentSource} implementations: arrays, argument files, NUL delimited streams, and
+ * {@link #expand(CharSequence[], int, InputStream) expansion} of {@code @file} and {@code -0} arguments.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class ArgumentSources {
+	/** the delimiter between arguments in line delimited argument files */
+	public static final byte LINE_DELIMITER = '\n';
+	/** the delimiter between arguments in NUL delimited inputs (e.g. {@code find -print0} output) */
+	public static final byte NUL_DELIMITER = 0;
+	/** the argument which is replaced by NUL delimited arguments read from standard input */
+	public static final String STDIN_NUL_ARGUMENT = "-0";
+	/** files at least this large are memory mapped instead of read through a buffer */
+	static final long MAP_THRESHOLD = 256 * 1024;
+
+
+	private ArgumentSources() { throw new AssertionError("cannot instantiate static class ArgumentSources"); }
+
+
+	/**
+	 * @return a source which returns {@code args} starting at {@code off}
+	 */
+	public static ArgumentSource of(CharSequence[] args, int off) {
+		return new ArraySource(args, off);
+	}
+
+
+	/** Open a line delimited argument file, one argument per line, empty lines are ignored.
+	 * @see #ofFile(Path, byte)
+	 */
+	public static ArgumentSource ofFile(Path file) throws IOException {
+		return ofFile(file, LINE_DELIMITER);
+	}
+
+
+	/** Open a UTF-8 argument file.  Large files are memory mapped and arguments are decoded from the mapped bytes,
+	 * the file is never read into a single {@link String}.
+	 * @param file the file to read
+	 * @param delimiter the ASCII character between arguments, {@link #LINE_DELIMITER} (empty lines are ignored
+	 * and '\r\n' line endings are supported) or {@link #NUL_DELIMITER}
+	 */
+	public static ArgumentSource ofFile(Path file, byte delimiter) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			if(channel.size() >= MAP_THRESHOLD) {
+				return new DelimitedArgumentSource(channel, DelimitedArgumentSource.DEFAULT_MAP_WINDOW, delimiter);
+			}
+			return new DelimitedArgumentSource(channel, true, delimiter);
+		} catch(IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+
+	/** Open a UTF-8 argument file by memory mapping it {@code mapWindow} bytes at a time, regardless of the file's size
+	 * @see #ofFile(Path, byte)
+	 */
+	public static ArgumentSource ofMappedFile(Path file, byte delimiter, int mapWindow) throws IOException {
+		if(mapWindow < 1) {
+			throw new IllegalArgumentException("map window must be positive, was " + mapWindow);
+		}
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			return new DelimitedArgumentSource(channel, mapWindow, delimiter);
+		} catch(IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+
+	/** Read UTF-8 arguments from a stream, closing the returned source does not close the stream
+	 * @param in the stream to read, for example {@link System#in}
+	 * @param delimiter the ASCII character between arguments, {@link #NUL_DELIMITER} or {@link #LINE_DELIMITER}
+	 */
+	public static ArgumentSource ofStream(InputStream in, byte delimiter) throws IOException {
+		return new DelimitedArgumentSource(Channels.newChannel(in), false, delimiter);
+	}
+
+
+	/** Expand program arguments using {@link System#in} for {@code -0}
+	 * @see #expand(CharSequence[], int, InputStream)
+	 */
+	public static ArgumentSource expand(CharSequence[] args) {
+		return expand(args, 0, System.in);
+	}
+
+
+	/** Create a source which returns {@code args} with argument files and standard input expanded in place.
+	 * Argument files and standard input are opened when they are reached and read incrementally:
+	 * <ul>
+	 * <li>{@code @path} is replaced by the arguments in the line delimited file at {@code path} (see {@link #ofFile(Path)}),
+	 * arguments read from a file are not expanded</li>
+	 * <li>{@code @@text} is replaced by the literal argument {@code @text}</li>
+	 * <li>{@code -0} is replaced by NUL delimited arguments read from {@code stdin} (only if {@code stdin} is not null)</li>
+	 * </ul>
+	 * @param args the program arguments
+	 * @param off the offset into {@code args} of the first argument
+	 * @param stdin the stream to read for {@code -0}, null to treat {@code -0} as a normal argument
+	 */
+	public static ArgumentSource expand(CharSequence[] args, int off, InputStream stdin) {
+		return new ExpandingSource(args, off, stdin);
+	}
+
+
+
+
+	private static final class ArraySource implements ArgumentSource {
+		private final CharSequence[] args;
+		private int idx;
+
+
+		ArraySource(CharSequence[] args, int off) {
+			this.args = args;
+			this.idx = off;
+		}
+
+
+		@Override
+		public CharSequence next() {
+			return idx < args.length ? args[idx++] : null;
+		}
+
+
+		@Override
+		public void close() {
+			idx = args.length;
+		}
+
+	}
+
+
+
+
+	private static final class ExpandingSource implements ArgumentSource {
+		private final CharSequence[] args;
+		private final InputStream stdin;
+		private int idx;
+		/** the argument file or standard input currently being read */
+		private ArgumentSource nested;
+
+
+		ExpandingSource(CharSequence[] args, int off, InputStream stdin) {
+			this.args = args;
+			this.stdin = stdin;
+			this.idx = off;
+		}
+
+
+		@Override
+		public CharSequence next() throws IOException {
+			while(true) {
+				if(nested != null) {
+					CharSequence arg = nested.next();
+					if(arg != null) {
+						return arg;
+					}
+					nested.close();
+					nested = null;
+				}
+				if(idx >= args.length) {
+					return null;
+				}
+				CharSequence arg = args[idx++];
+				int len = arg.length();
+				if(len > 1 && arg.charAt(0) == '@') {
+					if(arg.charAt(1) == '@') {
+						return arg.subSequence(1, len);
+					}
+					nested = ofFile(Paths.get(arg.subSequence(1, len).toString()));
+				}
+				else if(stdin != null && len == 2 && STDIN_NUL_ARGUMENT.contentEquals(arg)) {
+					nested = ofStream(stdin, NUL_DELIMITER);
+				}
+				else {
+					return arg;
+				}
+			}
+		}
+
+
+		@Override
+		public void close() throws IOException {
+			idx = args.length;
+			if(nested != null) {
+				ArgumentSource src = nested;
+				nested = null;
+				src.close();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,34 @@
+package twg2.cli;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/** The destination of a streaming array parameter's elements, see {@link ParameterBuilder#setElementSink(Class, Consumer)}
+ * and {@link ParameterBuilder#setElementBatchSink(Class, int, Consumer)}.
+ * Either {@link #elementConsumer} is called with each element or {@link #batchConsumer} is called with batches of {@link #batchSize} elements.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+final class ArrayElementSink {
+	/** the element type which the consumer accepts, checked against the parameter's type when the parameter is built */
+	final Class<?> elementType;
+	/** called with each element, null if elements are delivered in batches */
+	final Consumer<Object> elementConsumer;
+	/** called with each full batch and with the last, possibly smaller, batch, null if elements are delivered one at a time */
+	final Consumer<List<Object>> batchConsumer;
+	final int batchSize;
+
+
+	ArrayElementSink(Class<?> elementType, Consumer<Object> elementConsumer, Consumer<List<Object>> batchConsumer, int batchSize) {
+		this.elementType = elementType;
+		this.elementConsumer = elementConsumer;
+		this.batchConsumer = batchConsumer;
+		this.batchSize = batchSize;
+	}
+
+
+	Object getConsumer() {
+		return elementConsumer != null ? elementConsumer : batchConsumer;
+	}
+
+}
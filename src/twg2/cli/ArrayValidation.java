@@ -0,0 +1,186 @@
+package twg2.cli;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** An array parameter's {@link ArrayValidator} and parallel validation settings, see {@link ParameterBuilder#setArrayValidator(ArrayValidator)}
+ * and {@link ParameterBuilder#setParallelValidation(Executor, int)}.
+ * The elements of an array are checked by an element check (the parameter's validator bound to the array) and then by the array validator.
+ * In parallel mode the array is split into chunks which are checked on the executor, the result is the lowest invalid index
+ * found in any chunk, which is the same index a sequential check returns.  Chunks stop early once an invalid element
+ * before them has been found.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+final class ArrayValidation {
+	/** called after the element check, null if there is no array validator */
+	final ArrayValidator<Object> arrayValidator;
+	/** the executor chunks are checked on, null to check arrays on the calling thread */
+	final Executor executor;
+	/** the number of elements in each chunk */
+	final int chunkSize;
+
+
+	ArrayValidation(ArrayValidator<Object> arrayValidator, Executor executor, int chunkSize) {
+		this.arrayValidator = arrayValidator;
+		this.executor = executor;
+		this.chunkSize = chunkSize;
+	}
+
+
+	/** Find the first invalid element of an array
+	 * @param values the array
+	 * @param length the array's length
+	 * @param elementCheck the parameter's validator bound to {@code values}, or null if the parameter has no element validator
+	 * @return null if every element is valid, else the first invalid element
+	 */
+	Failure findInvalid(Object values, int length, ElementCheck elementCheck) {
+		int chunks = executor != null ? (int)(((long)length + chunkSize - 1) / chunkSize) : 1;
+		if(chunks < 2) {
+			return check(values, 0, length, elementCheck, null);
+		}
+
+		AtomicInteger lowest = new AtomicInteger(Integer.MAX_VALUE);
+		Failure[] results = new Failure[chunks];
+		Error[] errors = new Error[chunks];
+		CountDownLatch done = new CountDownLatch(chunks - 1);
+		for(int c = 1; c < chunks; c++) {
+			int chunk = c;
+			int off = c * chunkSize;
+			int end = Math.min(off + chunkSize, length);
+			Runnable task = () -> {
+				try {
+					results[chunk] = check(values, off, end, elementCheck, lowest);
+				} catch(Error e) {
+					errors[chunk] = e;
+				} finally {
+					done.countDown();
+				}
+			};
+			try {
+				executor.execute(task);
+			} catch(RejectedExecutionException e) {
+				task.run();
+			}
+		}
+		results[0] = check(values, 0, Math.min(chunkSize, length), elementCheck, lowest);
+		awaitUninterruptibly(done);
+
+		for(int c = 0; c < chunks; c++) {
+			if(errors[c] != null) {
+				throw errors[c];
+			}
+			if(results[c] != null) {
+				return results[c];
+			}
+		}
+		return null;
+	}
+
+
+	/** Check the elements {@code [off, end)}
+	 * @param lowest the lowest invalid index found by any chunk, or null if the array is checked by a single call
+	 * @return the first invalid element in the range, or null if the range is valid or an invalid element before the range was found
+	 */
+	private Failure check(Object values, int off, int end, ElementCheck elementCheck, AtomicInteger lowest) {
+		if(lowest != null && off > lowest.get()) {
+			return null;
+		}
+		int i = off;
+		try {
+			if(elementCheck != null) {
+				for(; i < end; i++) {
+					if(lowest != null && i > lowest.get()) {
+						return null;
+					}
+					if(!elementCheck.isValid(i)) {
+						break;
+					}
+				}
+			}
+			else {
+				i = end;
+			}
+		} catch(Exception e) {
+			return failure(i, e, lowest);
+		}
+
+		// only the elements before the first element rejected by the element check need to be passed to the array validator
+		if(arrayValidator != null && i > off) {
+			try {
+				int idx = arrayValidator.findInvalid(values, off, i - off);
+				if(idx > -1) {
+					if(idx < off || idx >= i) {
+						throw new IndexOutOfBoundsException("array validator returned index " + idx + " outside of the range [" + off + ", " + i + ")");
+					}
+					return failure(idx, null, lowest);
+				}
+			} catch(Exception e) {
+				return failure(off, e, lowest);
+			}
+		}
+		return i < end ? failure(i, null, lowest) : null;
+	}
+
+
+	private static Failure failure(int idx, Exception error, AtomicInteger lowest) {
+		if(lowest != null) {
+			lowest.accumulateAndGet(idx, Math::min);
+		}
+		return new Failure(idx, error);
+	}
+
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		boolean interrupted = false;
+		while(true) {
+			try {
+				latch.await();
+				break;
+			} catch(InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if(interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+
+
+	/** A parameter's element validator bound to one array
+	 */
+	@FunctionalInterface
+	static interface ElementCheck {
+
+		/**
+		 * @param idx the index of the element to check
+		 * @return true if the element is valid
+		 */
+		public boolean isValid(int idx);
+
+	}
+
+
+
+
+	/** An invalid element, either rejected by a validator or whose validator threw an exception
+	 */
+	static final class Failure {
+		/** the index of the invalid element, or the first index passed to the array validator if it threw an exception */
+		final int index;
+		/** the exception thrown by the validator, or null if the element was rejected */
+		final Exception error;
+
+
+		Failure(int index, Exception error) {
+			this.index = index;
+			this.error = error;
+		}
+
+	}
+
+}
@@ -0,0 +1,22 @@
+package twg2.cli;
+
+/** A bulk validator for array parameters which checks a range of a parsed array in one call instead of one call per element.
+ * {@code A} is {@code int[]}, {@code float[]}, or {@code boolean[]} for {@link ParameterType#INTEGER}, {@link ParameterType#FLOAT},
+ * and {@link ParameterType#FLAG} arrays, and the element array (e.g. {@code Path[]}) for other types.
+ * A validator may be called concurrently with different ranges of the same array, see {@link ParameterBuilder#setParallelValidation(java.util.concurrent.Executor, int)}
+ * @param <A> the array type
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface ArrayValidator<A> {
+
+	/**
+	 * @param values the parsed array
+	 * @param off the offset of the first element to check
+	 * @param len the number of elements to check
+	 * @return the index, in {@code values}, of the first invalid element in {@code [off, off + len)}, or -1 if they are all valid
+	 */
+	public int findInvalid(A values, int off, int len);
+
+}
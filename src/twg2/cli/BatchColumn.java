@@ -0,0 +1,489 @@
+package twg2.cli;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** The values of one parameter for every line parsed by a {@link BatchParser}, one row per line.
+ * Rows where the parameter did not appear, or its value was invalid, are null, see {@link #isNull(int)}.
+ * Single {@link ParameterType#INTEGER}, {@link ParameterType#FLOAT}, {@link ParameterType#FLAG}, and
+ * {@code long} and {@code double} {@link ParameterType#CUSTOM} values are stored in primitive arrays,
+ * {@link ParameterType#TEXT} and {@link ParameterType#ENUM} values are dictionary encoded, and other values (including arrays) are stored as objects.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public abstract class BatchColumn {
+	private final ParameterData<String, ?> parameter;
+	private final int size;
+	/** bit {@code i} is set if row {@code i} has a value */
+	private final long[] present;
+
+
+	BatchColumn(ParameterData<String, ?> parameter, int size) {
+		this.parameter = parameter;
+		this.size = size;
+		this.present = new long[(size + 63) >>> 6];
+	}
+
+
+	public ParameterData<String, ?> getParameter() {
+		return parameter;
+	}
+
+
+	/**
+	 * @return the number of rows in this column
+	 */
+	public int size() {
+		return size;
+	}
+
+
+	public boolean isNull(int row) {
+		checkRow(row);
+		return (present[row >>> 6] & (1L << row)) == 0;
+	}
+
+
+	/**
+	 * @return the number of rows which have a value
+	 */
+	public int getValueCount() {
+		int count = 0;
+		for(long word : present) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+
+	/**
+	 * @return the value of a row, boxed if this is a primitive column, or null if the row does not have a value
+	 */
+	public abstract Object get(int row);
+
+
+	/** Set a row's value, the value must be the parameter's value type (e.g. an {@link Integer} for an {@link Ints} column)
+	 */
+	abstract void set(int row, Object value);
+
+
+	/** Copy all of the rows of {@code src}, a column of the same type, into this column starting at {@code dstRow}
+	 */
+	abstract void copyFrom(BatchColumn src, int dstRow);
+
+
+	final void setPresent(int row) {
+		present[row >>> 6] |= 1L << row;
+	}
+
+
+	final void copyPresent(BatchColumn src, int dstRow) {
+		long[] srcPresent = src.present;
+		for(int i = 0; i < srcPresent.length; i++) {
+			long word = srcPresent[i];
+			while(word != 0) {
+				int bit = Long.numberOfTrailingZeros(word);
+				setPresent(dstRow + (i << 6) + bit);
+				word &= word - 1;
+			}
+		}
+	}
+
+
+	final void checkRow(int row) {
+		if(row < 0 || row >= size) {
+			throw new IndexOutOfBoundsException("row " + row + ", column size " + size);
+		}
+	}
+
+
+	/** Create an empty column for a parameter, the column type depends on the parameter's type
+	 */
+	static BatchColumn create(ParameterData<String, ?> param, int size) {
+		if(param.isParameterArrayType()) {
+			return new Values<>(param, size);
+		}
+		switch(param.getParameterType()) {
+		case INTEGER:
+			return new Ints(param, size);
+		case FLOAT:
+			return new Floats(param, size);
+		case FLAG:
+			return new Flags(param, size);
+		case ENUM:
+		case TEXT:
+			return new Dictionary<>(param, size);
+		case CUSTOM:
+			Class<?> dataType = param.getCodec().getDataType();
+			if(dataType == Long.class) {
+				return new Longs(param, size);
+			}
+			else if(dataType == Double.class) {
+				return new Doubles(param, size);
+			}
+			return new Values<>(param, size);
+		default:
+			return new Values<>(param, size);
+		}
+	}
+
+
+
+
+	/** A column of {@link ParameterType#INTEGER} values
+	 */
+	public static final class Ints extends BatchColumn {
+		private final int[] values;
+
+
+		Ints(ParameterData<String, ?> parameter, int size) {
+			super(parameter, size);
+			this.values = new int[size];
+		}
+
+
+		/**
+		 * @return the row's value or 0 if the row does not have a value
+		 */
+		public int getInt(int row) {
+			checkRow(row);
+			return values[row];
+		}
+
+
+		@Override
+		public Integer get(int row) {
+			return isNull(row) ? null : values[row];
+		}
+
+
+		@Override
+		void set(int row, Object value) {
+			values[row] = (Integer)value;
+			setPresent(row);
+		}
+
+
+		@Override
+		void copyFrom(BatchColumn src, int dstRow) {
+			System.arraycopy(((Ints)src).values, 0, values, dstRow, src.size());
+			copyPresent(src, dstRow);
+		}
+
+	}
+
+
+
+
+	/** A column of {@code long} {@link ParameterType#CUSTOM} values, such as {@link ParameterCodecs#LONG}
+	 */
+	public static final class Longs extends BatchColumn {
+		private final long[] values;
+
+
+		Longs(ParameterData<String, ?> parameter, int size) {
+			super(parameter, size);
+			this.values = new long[size];
+		}
+
+
+		/**
+		 * @return the row's value or 0 if the row does not have a value
+		 */
+		public long getLong(int row) {
+			checkRow(row);
+			return values[row];
+		}
+
+
+		@Override
+		public Long get(int row) {
+			return isNull(row) ? null : values[row];
+		}
+
+
+		@Override
+		void set(int row, Object value) {
+			values[row] = (Long)value;
+			setPresent(row);
+		}
+
+
+		@Override
+		void copyFrom(BatchColumn src, int dstRow) {
+			System.arraycopy(((Longs)src).values, 0, values, dstRow, src.size());
+			copyPresent(src, dstRow);
+		}
+
+	}
+
+
+
+
+	/** A column of {@link ParameterType#FLOAT} values
+	 */
+	public static final class Floats extends BatchColumn {
+		private final float[] values;
+
+
+		Floats(ParameterData<String, ?> parameter, int size) {
+			super(parameter, size);
+			this.values = new float[size];
+		}
+
+
+		/**
+		 * @return the row's value or 0 if the row does not have a value
+		 */
+		public float getFloat(int row) {
+			checkRow(row);
+			return values[row];
+		}
+
+
+		@Override
+		public Float get(int row) {
+			return isNull(row) ? null : values[row];
+		}
+
+
+		@Override
+		void set(int row, Object value) {
+			values[row] = (Float)value;
+			setPresent(row);
+		}
+
+
+		@Override
+		void copyFrom(BatchColumn src, int dstRow) {
+			System.arraycopy(((Floats)src).values, 0, values, dstRow, src.size());
+			copyPresent(src, dstRow);
+		}
+
+	}
+
+
+
+
+	/** A column of {@code double} {@link ParameterType#CUSTOM} values, such as {@link ParameterCodecs#DOUBLE}
+	 */
+	public static final class Doubles extends BatchColumn {
+		private final double[] values;
+
+
+		Doubles(ParameterData<String, ?> parameter, int size) {
+			super(parameter, size);
+			this.values = new double[size];
+		}
+
+
+		/**
+		 * @return the row's value or 0 if the row does not have a value
+		 */
+		public double getDouble(int row) {
+			checkRow(row);
+			return values[row];
+		}
+
+
+		@Override
+		public Double get(int row) {
+			return isNull(row) ? null : values[row];
+		}
+
+
+		@Override
+		void set(int row, Object value) {
+			values[row] = (Double)value;
+			setPresent(row);
+		}
+
+
+		@Override
+		void copyFrom(BatchColumn src, int dstRow) {
+			System.arraycopy(((Doubles)src).values, 0, values, dstRow, src.size());
+			copyPresent(src, dstRow);
+		}
+
+	}
+
+
+
+
+	/** A column of {@link ParameterType#FLAG} values, stored as a bitmap
+	 */
+	public static final class Flags extends BatchColumn {
+		private final long[] values;
+
+
+		Flags(ParameterData<String, ?> parameter, int size) {
+			super(parameter, size);
+			this.values = new long[(size + 63) >>> 6];
+		}
+
+
+		/**
+		 * @return the row's value or false if the row does not have a value
+		 */
+		public boolean getFlag(int row) {
+			checkRow(row);
+			return (values[row >>> 6] & (1L << row)) != 0;
+		}
+
+
+		@Override
+		public Boolean get(int row) {
+			return isNull(row) ? null : getFlag(row);
+		}
+
+
+		@Override
+		void set(int row, Object value) {
+			if((Boolean)value) {
+				values[row >>> 6] |= 1L << row;
+			}
+			else {
+				values[row >>> 6] &= ~(1L << row);
+			}
+			setPresent(row);
+		}
+
+
+		@Override
+		void copyFrom(BatchColumn src, int dstRow) {
+			Flags srcFlags = (Flags)src;
+			for(int i = 0, size = src.size(); i < size; i++) {
+				if(srcFlags.getFlag(i)) {
+					values[(dstRow + i) >>> 6] |= 1L << (dstRow + i);
+				}
+			}
+			copyPresent(src, dstRow);
+		}
+
+	}
+
+
+
+
+	/** A dictionary encoded column, each distinct value is stored once and each row stores the
+	 * index of its value in the {@link #getDictionary() dictionary}.
+	 * Used for {@link ParameterType#TEXT} and {@link ParameterType#ENUM} values
+	 */
+	public static final class Dictionary<V> extends BatchColumn {
+		private final int[] codes;
+		private final List<V> dictionary;
+		private final Map<V, Integer> codeMap;
+
+
+		Dictionary(ParameterData<String, ?> parameter, int size) {
+			super(parameter, size);
+			this.codes = new int[size];
+			this.dictionary = new ArrayList<>();
+			this.codeMap = new HashMap<>();
+		}
+
+
+		/**
+		 * @return the index of the row's value in the {@link #getDictionary() dictionary} or -1 if the row does not have a value
+		 */
+		public int getCode(int row) {
+			return isNull(row) ? -1 : codes[row];
+		}
+
+
+		/**
+		 * @return the distinct values in this column, in the order they first appear
+		 */
+		public List<V> getDictionary() {
+			return Collections.unmodifiableList(dictionary);
+		}
+
+
+		@Override
+		public V get(int row) {
+			return isNull(row) ? null : dictionary.get(codes[row]);
+		}
+
+
+		@Override
+		void set(int row, Object value) {
+			@SuppressWarnings("unchecked")
+			V val = (V)value;
+			codes[row] = encode(val);
+			setPresent(row);
+		}
+
+
+		@Override
+		void copyFrom(BatchColumn src, int dstRow) {
+			@SuppressWarnings("unchecked")
+			Dictionary<V> srcDict = (Dictionary<V>)src;
+			int[] remap = new int[srcDict.dictionary.size()];
+			for(int i = 0; i < remap.length; i++) {
+				remap[i] = encode(srcDict.dictionary.get(i));
+			}
+			int[] srcCodes = srcDict.codes;
+			for(int i = 0, size = src.size(); i < size; i++) {
+				if(!src.isNull(i)) {
+					codes[dstRow + i] = remap[srcCodes[i]];
+				}
+			}
+			copyPresent(src, dstRow);
+		}
+
+
+		private int encode(V val) {
+			Integer code = codeMap.get(val);
+			if(code == null) {
+				code = dictionary.size();
+				dictionary.add(val);
+				codeMap.put(val, code);
+			}
+			return code;
+		}
+
+	}
+
+
+
+
+	/** A column of object values, used for {@link ParameterType#PATH} values, other {@link ParameterType#CUSTOM} values,
+	 * and arrays (e.g. an {@code int[]} per row for an {@link ParameterType#INTEGER} array parameter)
+	 */
+	public static final class Values<V> extends BatchColumn {
+		private final Object[] values;
+
+
+		Values(ParameterData<String, ?> parameter, int size) {
+			super(parameter, size);
+			this.values = new Object[size];
+		}
+
+
+		@Override
+		public V get(int row) {
+			@SuppressWarnings("unchecked")
+			V val = isNull(row) ? null : (V)values[row];
+			return val;
+		}
+
+
+		@Override
+		void set(int row, Object value) {
+			values[row] = value;
+			setPresent(row);
+		}
+
+
+		@Override
+		void copyFrom(BatchColumn src, int dstRow) {
+			System.arraycopy(((Values<?>)src).values, 0, values, dstRow, src.size());
+			copyPresent(src, dstRow);
+		}
+
+	}
+
+}
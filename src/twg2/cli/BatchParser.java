@@ -0,0 +1,502 @@
+package twg2.cli;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/** Parses large batches of command lines, such as job files containing one command line per line, using a single {@link ParameterSet}.
+ * The input is split into chunks of whole lines which are tokenized (see {@link ParameterTokenizer}) and parsed in parallel
+ * on a {@link ForkJoinPool}.  Each parameter's values are written to a {@link BatchColumn}, one row per line, instead of
+ * calling the parameter's setter, element sink, or printing help messages.
+ * Values are decoded and validated the same way as {@link ParameterSet#parse(CharSequence[], int, Appendable, ParseOutcome)},
+ * except that errors are recorded per line (see {@link BatchResult#getErrors()}) instead of stopping the parse, and
+ * {@link ArrayValidator array validators} are called on the thread parsing the line instead of using {@link ParameterBuilder#setParallelValidation(java.util.concurrent.Executor, int) parallel validation}.
+ * {@link ParameterBuilder#setAsyncValidator(java.util.function.Function) Asynchronous validators} are not called.
+ * A batch parser is immutable and can be shared between threads.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class BatchParser {
+	/** the default approximate number of bytes, or characters, in each chunk of lines which is parsed as a single task */
+	public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+	/** the number of bytes read at a time while searching for the end of the line at a chunk boundary */
+	private static final int BOUNDARY_READ_SIZE = 8192;
+
+	private final ParameterSet<String> paramSet;
+	private final ParameterDataImpl<String, ?>[] params;
+	/** the component type of each array parameter's values, null for non-array parameters */
+	private final Class<?>[] elementTypes;
+	private final ForkJoinPool pool;
+	private final int chunkSize;
+
+
+	/** Create a batch parser which uses the {@link ForkJoinPool#commonPool() common pool} and {@link #DEFAULT_CHUNK_SIZE}
+	 */
+	public BatchParser(ParameterSet<String> paramSet) {
+		this(paramSet, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+	}
+
+
+	/**
+	 * @param paramSet the parameters to parse, every parameter must be a {@link ParameterDataImpl}
+	 * @param pool the pool to parse chunks on
+	 * @param chunkSize the approximate number of bytes (when parsing a file) or characters (when parsing a list of lines)
+	 * in each chunk of lines parsed as a single task
+	 */
+	public BatchParser(ParameterSet<String> paramSet, ForkJoinPool pool, int chunkSize) {
+		if(paramSet == null || pool == null) {
+			throw new IllegalArgumentException("parameter set and pool cannot be null");
+		}
+		if(chunkSize < 1) {
+			throw new IllegalArgumentException("chunk size must be positive, was " + chunkSize);
+		}
+		int count = paramSet.getParameterCount();
+		@SuppressWarnings("unchecked")
+		ParameterDataImpl<String, ?>[] params = (ParameterDataImpl<String, ?>[])new ParameterDataImpl<?, ?>[count];
+		Class<?>[] elementTypes = new Class<?>[count];
+		for(int i = 0; i < count; i++) {
+			ParameterData<String, ?> param = paramSet.getParameter(i);
+			if(!(param instanceof ParameterDataImpl)) {
+				throw new IllegalArgumentException("parameter '" + param.getPrimaryName() + "' is a " + param.getClass().getName() +
+						", batch parsing requires " + ParameterDataImpl.class.getSimpleName() + " parameters");
+			}
+			params[i] = (ParameterDataImpl<String, ?>)param;
+			if(params[i].isAccumulating()) {
+				throw new IllegalArgumentException("parameter '" + param.getPrimaryName() + "' is an enum set parameter, batch parsing does not support parameters which merge repeated occurrences");
+			}
+			elementTypes[i] = param.isParameterArrayType() ? elementType(param) : null;
+		}
+		this.paramSet = paramSet;
+		this.params = params;
+		this.elementTypes = elementTypes;
+		this.pool = pool;
+		this.chunkSize = chunkSize;
+	}
+
+
+	public ParameterSet<String> getParameterSet() {
+		return paramSet;
+	}
+
+
+	/** Parse a UTF-8 file containing one command line per line ('\n' or '\r\n' line endings).
+	 * The file is split into chunks which are memory mapped and decoded by the tasks which parse them, the file is never read into a single string
+	 * @param jobFile the file to parse
+	 * @return a result with one row per line in the file
+	 * @throws IOException if there is an error reading the file or the file is not valid UTF-8
+	 */
+	public BatchResult parse(Path jobFile) throws IOException {
+		try(FileChannel channel = FileChannel.open(jobFile, StandardOpenOption.READ)) {
+			long size = channel.size();
+			List<Chunk> chunks = new ArrayList<>();
+			long start = 0;
+			while(start < size) {
+				long end = size - start <= chunkSize ? size : lineEnd(channel, start + chunkSize, size);
+				if(end - start > Integer.MAX_VALUE) {
+					throw new IOException("line starting before byte " + end + " of '" + jobFile + "' is too long");
+				}
+				chunks.add(new FileChunk(channel, start, (int)(end - start)));
+				start = end;
+			}
+			return parseChunks(chunks);
+		}
+	}
+
+
+	/** Parse a list of command lines
+	 * @param lines the command lines, the list must not be modified during this call
+	 * @return a result with one row per line
+	 */
+	public BatchResult parse(List<? extends CharSequence> lines) {
+		List<Chunk> chunks = new ArrayList<>();
+		int start = 0;
+		long chars = 0;
+		for(int i = 0, size = lines.size(); i < size; i++) {
+			chars += lines.get(i).length() + 1;
+			if(chars >= chunkSize || i == size - 1) {
+				chunks.add(new ListChunk(lines, start, i + 1));
+				start = i + 1;
+				chars = 0;
+			}
+		}
+		try {
+			return parseChunks(chunks);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	private BatchResult parseChunks(List<Chunk> chunks) throws IOException {
+		int chunkCount = chunks.size();
+		ChunkParser[] results = new ChunkParser[chunkCount];
+		if(chunkCount > 0) {
+			try {
+				pool.invoke(new ChunkTask(chunks, results, 0, chunkCount));
+			} catch(UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+
+		long lineCount = 0;
+		for(ChunkParser res : results) {
+			lineCount += res.rows;
+		}
+		if(lineCount > Integer.MAX_VALUE) {
+			throw new IllegalStateException("batch contains " + lineCount + " lines, the maximum is " + Integer.MAX_VALUE);
+		}
+
+		// concatenate the chunks' columns and errors in input order
+		int rows = (int)lineCount;
+		BatchColumn[] columns = new BatchColumn[params.length];
+		for(int i = 0; i < params.length; i++) {
+			columns[i] = BatchColumn.create(params[i], rows);
+		}
+		List<BatchResult.LineError> errors = new ArrayList<>();
+		int rowOff = 0;
+		for(ChunkParser res : results) {
+			for(int i = 0; i < params.length; i++) {
+				columns[i].copyFrom(res.columns[i], rowOff);
+			}
+			for(BatchResult.LineError err : res.errors) {
+				errors.add(new BatchResult.LineError(rowOff + err.getLine(), err.getOrdinal(), err.getError()));
+			}
+			rowOff += res.rows;
+		}
+		return new BatchResult(paramSet, rows, columns, Collections.unmodifiableList(errors));
+	}
+
+
+	/**
+	 * @return the file offset after the first '\n' at or after {@code pos}, or {@code size} if there is no '\n'
+	 */
+	private static long lineEnd(FileChannel channel, long pos, long size) throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(BOUNDARY_READ_SIZE);
+		while(pos < size) {
+			buf.clear();
+			int read = channel.read(buf, pos);
+			if(read < 0) {
+				break;
+			}
+			for(int i = 0; i < read; i++) {
+				if(buf.get(i) == '\n') {
+					return pos + i + 1;
+				}
+			}
+			pos += read;
+		}
+		return size;
+	}
+
+
+	/**
+	 * @return the component type of an array parameter's values, such as {@code int} for {@link ParameterType#INTEGER} parameters
+	 */
+	private static Class<?> elementType(ParameterData<?, ?> param) {
+		ParameterType type = param.getParameterType();
+		if(param.getCodec() != null) {
+			return param.getCodec().getDataType();
+		}
+		Class<?> primitiveType = type.getPrimitiveDataType();
+		if(primitiveType != null) {
+			return primitiveType;
+		}
+		return type == ParameterType.ENUM ? param.getEnumNames().getType() : type.getObjectDataType();
+	}
+
+
+
+
+	/** A range of lines which is parsed by a single task
+	 */
+	private static interface Chunk {
+
+		public ChunkParser parse(BatchParser parser) throws IOException;
+
+	}
+
+
+
+
+	private static final class FileChunk implements Chunk {
+		private final FileChannel channel;
+		private final long start;
+		private final int len;
+
+
+		FileChunk(FileChannel channel, long start, int len) {
+			this.channel = channel;
+			this.start = start;
+			this.len = len;
+		}
+
+
+		@Override
+		public ChunkParser parse(BatchParser parser) throws IOException {
+			ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, len);
+			CharBuffer chars = StandardCharsets.UTF_8.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPORT)
+					.onUnmappableCharacter(CodingErrorAction.REPORT)
+					.decode(bytes);
+			char[] src = chars.array();
+			int off = chars.arrayOffset() + chars.position();
+			int end = off + chars.remaining();
+
+			int rows = 0;
+			for(int i = off; i < end; i++) {
+				if(src[i] == '\n') {
+					rows++;
+				}
+			}
+			if(end > off && src[end - 1] != '\n') {
+				rows++;
+			}
+
+			ChunkParser chunkParser = parser.new ChunkParser(rows);
+			int lineStart = off;
+			for(int row = 0; row < rows; row++) {
+				int lineEnd = lineStart;
+				while(lineEnd < end && src[lineEnd] != '\n') {
+					lineEnd++;
+				}
+				int next = lineEnd + 1;
+				if(lineEnd > lineStart && src[lineEnd - 1] == '\r') {
+					lineEnd--;
+				}
+				chunkParser.parseLine(src, lineStart, lineEnd - lineStart, row);
+				lineStart = next;
+			}
+			return chunkParser;
+		}
+
+	}
+
+
+
+
+	private static final class ListChunk implements Chunk {
+		private final List<? extends CharSequence> lines;
+		private final int start;
+		private final int end;
+
+
+		ListChunk(List<? extends CharSequence> lines, int start, int end) {
+			this.lines = lines;
+			this.start = start;
+			this.end = end;
+		}
+
+
+		@Override
+		public ChunkParser parse(BatchParser parser) {
+			ChunkParser chunkParser = parser.new ChunkParser(end - start);
+			for(int i = start; i < end; i++) {
+				chunkParser.parseLine(lines.get(i), i - start);
+			}
+			return chunkParser;
+		}
+
+	}
+
+
+
+
+	/** Parses chunks by recursively splitting the range of chunks in half
+	 */
+	private final class ChunkTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final List<Chunk> chunks;
+		private final ChunkParser[] results;
+		private final int lo;
+		private final int hi;
+
+
+		ChunkTask(List<Chunk> chunks, ChunkParser[] results, int lo, int hi) {
+			this.chunks = chunks;
+			this.results = results;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+
+		@Override
+		protected void compute() {
+			if(hi - lo == 1) {
+				try {
+					results[lo] = chunks.get(lo).parse(BatchParser.this);
+				} catch(IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+			else {
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new ChunkTask(chunks, results, lo, mid), new ChunkTask(chunks, results, mid, hi));
+			}
+		}
+
+	}
+
+
+
+
+	/** The tokenizer, columns, and errors for the lines in one chunk, used by a single thread
+	 */
+	private final class ChunkParser {
+		private final int rows;
+		private final BatchColumn[] columns;
+		private final List<BatchResult.LineError> errors;
+		private final ParameterTokenizer tokenizer;
+		/** the last error returned by {@link #fail(ParameterParserResult)} */
+		private ParameterParserResult error;
+
+
+		ChunkParser(int rows) {
+			this.rows = rows;
+			this.columns = new BatchColumn[params.length];
+			for(int i = 0; i < params.length; i++) {
+				this.columns[i] = BatchColumn.create(params[i], rows);
+			}
+			this.errors = new ArrayList<>();
+			this.tokenizer = new ParameterTokenizer();
+		}
+
+
+		void parseLine(char[] src, int off, int len, int row) {
+			tokenizer.tokenize(src, off, len);
+			parseTokens(row);
+		}
+
+
+		void parseLine(CharSequence src, int row) {
+			tokenizer.tokenize(src);
+			parseTokens(row);
+		}
+
+
+		/** Find the parameter names in the tokenized line and parse each parameter's values
+		 */
+		private void parseTokens(int row) {
+			ParameterTokenizer tok = tokenizer;
+			CharSequence src = tok.getSource();
+			int ordinal = -1;
+			int valuesStart = 0;
+			for(int i = 0, size = tok.size(); i < size; i++) {
+				int nextOrdinal = tok.isEscaped(i) ? paramSet.findOrdinal(tok.getToken(i)) : paramSet.findOrdinal(src, tok.getStart(i), tok.getEnd(i));
+				if(nextOrdinal > -1) {
+					if(ordinal > -1) {
+						parseValues(row, ordinal, valuesStart, i);
+					}
+					ordinal = nextOrdinal;
+					valuesStart = i + 1;
+				}
+			}
+			if(ordinal > -1) {
+				parseValues(row, ordinal, valuesStart, tok.size());
+			}
+		}
+
+
+		/** Decode and validate the tokens {@code [from, to)} and store them in the parameter's column or record an error
+		 */
+		private void parseValues(int row, int ordinal, int from, int to) {
+			ParameterDataImpl<String, ?> param = params[ordinal];
+			boolean isArray = param.isParameterArrayType();
+			int count = to - from;
+			Object value = null;
+			// like ParameterDataImpl.parse(), flags without a value are true
+			if(count == 0 && param.getParameterType() == ParameterType.FLAG) {
+				value = validate(param, Boolean.TRUE, isArray ? 0 : -1);
+				if(value != null && isArray) {
+					value = new boolean[] { true };
+				}
+			}
+			else if(!isArray) {
+				value = count == 1 ? decode(param, from, -1) : fail(param.argumentCountError(count));
+			}
+			else {
+				Object ary = Array.newInstance(elementTypes[ordinal], count);
+				for(int i = 0; i < count; i++) {
+					Object elem = decode(param, from + i, i);
+					if(elem == null) {
+						ary = null;
+						break;
+					}
+					Array.set(ary, i, elem);
+				}
+				value = ary != null ? validateArray(param, ary) : null;
+			}
+
+			if(value != null) {
+				columns[ordinal].set(row, value);
+			}
+			else {
+				errors.add(new BatchResult.LineError(row, ordinal, error.getParseError()));
+			}
+		}
+
+
+		/**
+		 * @return the decoded and validated value or null if there was an error
+		 */
+		private Object decode(ParameterDataImpl<String, ?> param, int tokenIdx, int elementIdx) {
+			ParameterTokenizer tok = tokenizer;
+			CharSequence src;
+			int off;
+			int end;
+			if(tok.isEscaped(tokenIdx)) {
+				src = tok.getToken(tokenIdx);
+				off = 0;
+				end = src.length();
+			}
+			else {
+				src = tok.getSource();
+				off = tok.getStart(tokenIdx);
+				end = tok.getEnd(tokenIdx);
+			}
+
+			Object val = null;
+			try {
+				val = param.decodeElement(src, off, end);
+			} catch(Exception e) {
+				return fail(param.decodeError(src, off, end, elementIdx, e));
+			}
+			if(val == null) {
+				return fail(param.decodeError(src, off, end, elementIdx, null));
+			}
+			return validate(param, val, elementIdx);
+		}
+
+
+		private Object validate(ParameterDataImpl<String, ?> param, Object val, int elementIdx) {
+			ParameterParserResult invalid = param.validateElement(val, elementIdx);
+			return invalid != null ? fail(invalid) : val;
+		}
+
+
+		private Object validateArray(ParameterDataImpl<String, ?> param, Object ary) {
+			ParameterParserResult invalid = param.validateArray(ary);
+			return invalid != null ? fail(invalid) : ary;
+		}
+
+
+		private Object fail(ParameterParserResult error) {
+			this.error = error;
+			return null;
+		}
+
+	}
+
+}
@@ -0,0 +1,121 @@
+package twg2.cli;
+
+import java.util.List;
+
+/** The result of parsing a batch of lines with a {@link BatchParser}.
+ * Contains one {@link BatchColumn} per parameter, in the {@link ParameterSet}'s ordinal order, with one row per line
+ * and a list of the errors found, ordered by line.  Lines and rows are numbered from 0 in input order.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class BatchResult {
+	private final ParameterSet<String> paramSet;
+	private final int lineCount;
+	private final BatchColumn[] columns;
+	private final List<LineError> errors;
+
+
+	BatchResult(ParameterSet<String> paramSet, int lineCount, BatchColumn[] columns, List<LineError> errors) {
+		this.paramSet = paramSet;
+		this.lineCount = lineCount;
+		this.columns = columns;
+		this.errors = errors;
+	}
+
+
+	public ParameterSet<String> getParameterSet() {
+		return paramSet;
+	}
+
+
+	public int getLineCount() {
+		return lineCount;
+	}
+
+
+	/**
+	 * @return the column for the parameter with the {@link ParameterSet#getOrdinal(ParameterData) ordinal}
+	 */
+	public BatchColumn getColumn(int ordinal) {
+		return columns[ordinal];
+	}
+
+
+	/**
+	 * @return the column for a parameter in this result's parameter set
+	 */
+	public BatchColumn getColumn(ParameterData<?, ?> param) {
+		int ordinal = paramSet.getOrdinal(param);
+		if(ordinal < 0) {
+			throw new IllegalArgumentException("parameter '" + param.getPrimaryName() + "' is not in this result's parameter set");
+		}
+		return columns[ordinal];
+	}
+
+
+	/**
+	 * @return a read-only list of the errors found in all of the lines, ordered by line
+	 */
+	public List<LineError> getErrors() {
+		return errors;
+	}
+
+
+	public boolean hasErrors() {
+		return !errors.isEmpty();
+	}
+
+
+	@Override
+	public String toString() {
+		return "BatchResult: { lines: " + lineCount + ", columns: " + columns.length + ", errors: " + errors.size() + " }";
+	}
+
+
+
+
+	/** An error parsing one parameter on one line.
+	 * The parameter's row in that line's column is null, unless the parameter appeared more than once on the line and an earlier value was valid
+	 */
+	public static final class LineError {
+		private final int line;
+		private final int ordinal;
+		private final ParameterParserException error;
+
+
+		LineError(int line, int ordinal, ParameterParserException error) {
+			this.line = line;
+			this.ordinal = ordinal;
+			this.error = error;
+		}
+
+
+		/**
+		 * @return the line which contains the error, counted from 0
+		 */
+		public int getLine() {
+			return line;
+		}
+
+
+		/**
+		 * @return the ordinal of the parameter whose value was invalid
+		 */
+		public int getOrdinal() {
+			return ordinal;
+		}
+
+
+		public ParameterParserException getError() {
+			return error;
+		}
+
+
+		@Override
+		public String toString() {
+			return "line " + line + ": " + error.getMessage();
+		}
+
+	}
+
+}
@@ -0,0 +1,14 @@
+package twg2.cli;
+
+import java.util.function.Predicate;
+
+/** A {@link Predicate} specialized for {@code boolean} values
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface BooleanPredicate {
+
+	public boolean test(boolean value);
+
+}
@@ -0,0 +1,450 @@
+package twg2.cli;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/** A long-lived server which runs a command line tool for {@link CliDaemonClient} requests so that each tool
+ * invocation avoids JVM startup, class loading, and {@link ParameterSet} construction.  The tool's {@link Command}
+ * is created once, so it can keep prebuilt parameter sets and other state between requests.<br>
+ * The daemon listens on a loopback port and writes {@code <port> <token>} to an info file which is only readable
+ * by the current user (on file systems which support POSIX permissions).  Clients read the info file and
+ * must send the token, so other local users cannot run commands.  See {@link DaemonProtocol} for the wire format.<br>
+ * Requests may run concurrently on the daemon's executor, so commands must not store per-request state in shared
+ * {@link ParameterData} setters without synchronization.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class CliDaemon implements Closeable {
+	/** the default time a client has to send its token after connecting, see {@link #CliDaemon(Command, Executor, int)} */
+	public static final int DEFAULT_AUTH_TIMEOUT_MILLIS = 5000;
+	private final Command command;
+	private final Executor executor;
+	private final byte[] token;
+	private final int authTimeoutMillis;
+	private ServerSocket server;
+	private Path infoFile;
+	private Thread acceptThread;
+	private volatile boolean closed;
+
+
+	/**
+	 * @param command the tool to run for each client request
+	 * @param executor runs each client request, for example {@link java.util.concurrent.Executors#newCachedThreadPool()}
+	 */
+	public CliDaemon(Command command, Executor executor) {
+		this(command, executor, DEFAULT_AUTH_TIMEOUT_MILLIS);
+	}
+
+
+	/**
+	 * @param command the tool to run for each client request
+	 * @param executor runs each client request, for example {@link java.util.concurrent.Executors#newCachedThreadPool()}
+	 * @param authTimeoutMillis the maximum time to wait for each read of a client's token, a connection which does not send
+	 * its token in time is closed so that idle connections cannot hold the executor's threads
+	 */
+	public CliDaemon(Command command, Executor executor, int authTimeoutMillis) {
+		if(command == null || executor == null) {
+			throw new IllegalArgumentException("command and executor cannot be null");
+		}
+		if(authTimeoutMillis < 1) {
+			throw new IllegalArgumentException("authentication timeout must be positive, was " + authTimeoutMillis);
+		}
+		this.command = command;
+		this.executor = executor;
+		this.authTimeoutMillis = authTimeoutMillis;
+		byte[] tokenBytes = new byte[16];
+		new SecureRandom().nextBytes(tokenBytes);
+		StringBuilder sb = new StringBuilder(32);
+		for(byte b : tokenBytes) {
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		this.token = sb.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+
+	/** Start listening for client requests on a loopback port and write the port and token to {@code infoFile}
+	 * @param infoFile the file clients read to connect to this daemon, replaced if it exists, deleted by {@link #close()}
+	 */
+	public synchronized void start(Path infoFile) throws IOException {
+		if(server != null) {
+			throw new IllegalStateException("daemon already started");
+		}
+		ServerSocket srv = new ServerSocket();
+		srv.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+		try {
+			writeInfoFile(infoFile, srv.getLocalPort() + " " + new String(token, StandardCharsets.UTF_8));
+		} catch(IOException e) {
+			srv.close();
+			throw e;
+		}
+		this.server = srv;
+		this.infoFile = infoFile;
+		this.acceptThread = new Thread(this::acceptLoop, "jcli-daemon-" + srv.getLocalPort());
+		this.acceptThread.setDaemon(true);
+		this.acceptThread.start();
+	}
+
+
+	/**
+	 * @return the loopback port this daemon is listening on, or -1 if it has not been started
+	 */
+	public synchronized int getPort() {
+		return server != null ? server.getLocalPort() : -1;
+	}
+
+
+	/** Stop accepting requests and delete the info file, requests which are running are allowed to complete
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if(closed) {
+			return;
+		}
+		closed = true;
+		if(server != null) {
+			server.close();
+			Files.deleteIfExists(infoFile);
+		}
+	}
+
+
+	private void acceptLoop() {
+		while(!closed) {
+			Socket socket;
+			try {
+				socket = server.accept();
+			} catch(IOException e) {
+				// the server socket was closed or failed, either way no more requests can be accepted
+				return;
+			}
+			try {
+				executor.execute(() -> runSession(socket));
+			} catch(RejectedExecutionException e) {
+				closeQuietly(socket);
+			}
+		}
+	}
+
+
+	private void runSession(Socket socket) {
+		try(Socket sock = socket) {
+			sock.setTcpNoDelay(true);
+			// unauthenticated clients must not be able to hold this thread, the timeout is cleared once the client is authenticated
+			// because commands can wait on the client's standard input indefinitely
+			sock.setSoTimeout(authTimeoutMillis);
+			DataInputStream in = new DataInputStream(new BufferedInputStream(sock.getInputStream()));
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(sock.getOutputStream()));
+
+			byte[] clientToken = DaemonProtocol.readBytes(in, Math.min(in.readInt(), token.length + 1));
+			if(!MessageDigest.isEqual(token, clientToken)) {
+				return;
+			}
+			sock.setSoTimeout(0);
+			Path cwd = Paths.get(DaemonProtocol.readString(in));
+			String[] args = new String[checkCount(in.readInt())];
+			for(int i = 0; i < args.length; i++) {
+				args[i] = DaemonProtocol.readString(in);
+			}
+			int envCount = checkCount(in.readInt());
+			Map<String, String> env = new HashMap<>(envCount * 2);
+			for(int i = 0; i < envCount; i++) {
+				env.put(DaemonProtocol.readString(in), DaemonProtocol.readString(in));
+			}
+
+			Request req = new Request(args, cwd, Collections.unmodifiableMap(env), in, out);
+			int exitCode;
+			try {
+				exitCode = command.run(req);
+			} catch(Exception e) {
+				e.printStackTrace(req.err);
+				exitCode = 1;
+			}
+			req.out.flush();
+			req.err.flush();
+			synchronized(out) {
+				out.writeByte(DaemonProtocol.EXIT);
+				out.writeInt(4);
+				out.writeInt(exitCode);
+				out.flush();
+			}
+		} catch(IOException e) {
+			// the client disconnected or sent an invalid request, there is nowhere to report the error
+		}
+	}
+
+
+	private static int checkCount(int count) throws IOException {
+		if(count < 0 || count > DaemonProtocol.MAX_LENGTH) {
+			throw new IOException("invalid daemon request count " + count);
+		}
+		return count;
+	}
+
+
+	private static void writeInfoFile(Path infoFile, String info) throws IOException {
+		Path tmp = infoFile.resolveSibling(infoFile.getFileName() + ".tmp");
+		Files.deleteIfExists(tmp);
+		try {
+			Files.createFile(tmp, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+		} catch(UnsupportedOperationException e) {
+			Files.createFile(tmp);
+		}
+		Files.write(tmp, info.getBytes(StandardCharsets.UTF_8));
+		Files.move(tmp, infoFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+
+	private static void closeQuietly(Socket socket) {
+		try {
+			socket.close();
+		} catch(IOException e) {
+			// ignored, the socket is being discarded
+		}
+	}
+
+
+
+
+	/** A command line tool run by a {@link CliDaemon}, the equivalent of the tool's {@code main()} method
+	 */
+	@FunctionalInterface
+	public static interface Command {
+
+		/**
+		 * @param request the client's arguments, working directory, environment, and standard streams
+		 * @return the exit code to return to the client
+		 */
+		public int run(Request request) throws Exception;
+
+	}
+
+
+
+
+	/** One client invocation of a daemon's {@link Command}.
+	 * Reading from {@link #getInput()} requests the next line of the client's standard input, so
+	 * {@link ParameterSet#parseInteractive(CharSequence[], int, BufferedReader, Appendable, String)} prompts work
+	 * as they would in a local process
+	 */
+	public static final class Request {
+		private final String[] args;
+		private final Path workingDir;
+		private final Map<String, String> env;
+		private final BufferedReader input;
+		private final PrintStream out;
+		private final PrintStream err;
+
+
+		Request(String[] args, Path workingDir, Map<String, String> env, DataInputStream in, DataOutputStream out) {
+			this.args = args;
+			this.workingDir = workingDir;
+			this.env = env;
+			try {
+				this.out = new PrintStream(new BufferedOutputStream(new FrameOutputStream(out, DaemonProtocol.STDOUT)), false, "UTF-8");
+				this.err = new PrintStream(new BufferedOutputStream(new FrameOutputStream(out, DaemonProtocol.STDERR)), true, "UTF-8");
+			} catch(UnsupportedEncodingException e) {
+				throw new AssertionError(e);
+			}
+			this.input = new BufferedReader(new InputStreamReader(new ForwardedInputStream(in, out, this.out, this.err), StandardCharsets.UTF_8));
+		}
+
+
+		/**
+		 * @return the client's command line arguments, the array may be modified
+		 */
+		public String[] getArgs() {
+			return args;
+		}
+
+
+		/**
+		 * @return the client's working directory, relative paths in arguments should be resolved against it,
+		 * see {@link #resolve(String)}
+		 */
+		public Path getWorkingDirectory() {
+			return workingDir;
+		}
+
+
+		/**
+		 * @return the client's environment variables, read-only
+		 */
+		public Map<String, String> getEnvironment() {
+			return env;
+		}
+
+
+		public BufferedReader getInput() {
+			return input;
+		}
+
+
+		public PrintStream getOutput() {
+			return out;
+		}
+
+
+		public PrintStream getError() {
+			return err;
+		}
+
+
+		/**
+		 * @return {@code path} resolved against the client's working directory
+		 */
+		public Path resolve(String path) {
+			return workingDir.resolve(path);
+		}
+
+	}
+
+
+
+
+	/** Writes each flush or buffer of output as one frame
+	 */
+	private static final class FrameOutputStream extends OutputStream {
+		private final DataOutputStream out;
+		private final byte type;
+
+
+		FrameOutputStream(DataOutputStream out, byte type) {
+			this.out = out;
+			this.type = type;
+		}
+
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte)b }, 0, 1);
+		}
+
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if(len > 0) {
+				synchronized(out) {
+					DaemonProtocol.writeFrame(out, type, b, off, len);
+				}
+			}
+		}
+
+
+		@Override
+		public void flush() throws IOException {
+			synchronized(out) {
+				out.flush();
+			}
+		}
+
+	}
+
+
+
+
+	/** Requests a line of input from the client each time the previous line has been consumed
+	 */
+	private static final class ForwardedInputStream extends InputStream {
+		private final DataInputStream in;
+		private final DataOutputStream out;
+		private final PrintStream stdout;
+		private final PrintStream stderr;
+		private byte[] buf = new byte[0];
+		private int pos;
+		private boolean ended;
+
+
+		ForwardedInputStream(DataInputStream in, DataOutputStream out, PrintStream stdout, PrintStream stderr) {
+			this.in = in;
+			this.out = out;
+			this.stdout = stdout;
+			this.stderr = stderr;
+		}
+
+
+		@Override
+		public int read() throws IOException {
+			return fill() ? (buf[pos++] & 0xFF) : -1;
+		}
+
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if(len == 0) {
+				return 0;
+			}
+			if(!fill()) {
+				return -1;
+			}
+			int n = Math.min(len, buf.length - pos);
+			System.arraycopy(buf, pos, b, off, n);
+			pos += n;
+			return n;
+		}
+
+
+		@Override
+		public int available() {
+			return buf.length - pos;
+		}
+
+
+		private boolean fill() throws IOException {
+			while(pos >= buf.length) {
+				if(ended) {
+					return false;
+				}
+				// prompts must reach the client before it blocks reading its standard input
+				stdout.flush();
+				stderr.flush();
+				synchronized(out) {
+					out.writeByte(DaemonProtocol.READ);
+					out.writeInt(0);
+					out.flush();
+				}
+				byte type = DaemonProtocol.readFrameType(in);
+				byte[] data = DaemonProtocol.readBytes(in, in.readInt());
+				if(type == DaemonProtocol.INPUT_END) {
+					ended = true;
+				}
+				else if(type == DaemonProtocol.INPUT) {
+					buf = data;
+					pos = 0;
+				}
+				else {
+					throw new IOException("unexpected daemon frame type '" + (char)type + "'");
+				}
+			}
+			return true;
+		}
+
+	}
+
+}
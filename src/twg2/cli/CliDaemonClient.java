@@ -0,0 +1,130 @@
+package twg2.cli;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/** Sends a command line invocation to a {@link CliDaemon} and copies the daemon's output to this process' streams.
+ * Standard input is forwarded one line at a time when the daemon's command reads input.
+ * Usage: {@code java twg2.cli.CliDaemonClient <daemon info file> [args...]}, exits with the command's exit code.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class CliDaemonClient {
+
+	private CliDaemonClient() { throw new AssertionError("cannot instantiate static class CliDaemonClient"); }
+
+
+	public static void main(String[] args) throws IOException {
+		if(args.length < 1) {
+			System.err.println("usage: CliDaemonClient <daemon info file> [args...]");
+			System.exit(2);
+		}
+		String[] cmdArgs = new String[args.length - 1];
+		System.arraycopy(args, 1, cmdArgs, 0, cmdArgs.length);
+		int exitCode = run(Paths.get(args[0]), cmdArgs, Paths.get("").toAbsolutePath(), System.getenv(), System.in, System.out, System.err);
+		System.out.flush();
+		System.exit(exitCode);
+	}
+
+
+	/** Run a command on a daemon
+	 * @param infoFile the info file written by {@link CliDaemon#start(Path)}
+	 * @param args the command's arguments
+	 * @param workingDir the working directory to send to the command
+	 * @param env the environment variables to send to the command
+	 * @param in the standard input to forward when the command reads input
+	 * @param out the destination of the command's standard output
+	 * @param err the destination of the command's standard error
+	 * @return the command's exit code
+	 */
+	public static int run(Path infoFile, String[] args, Path workingDir, Map<String, String> env,
+			InputStream in, OutputStream out, OutputStream err) throws IOException {
+		String[] info = new String(Files.readAllBytes(infoFile), StandardCharsets.UTF_8).trim().split(" ");
+		if(info.length != 2) {
+			throw new IOException("invalid daemon info file '" + infoFile + "'");
+		}
+		int port = Integer.parseInt(info[0]);
+		InputStream stdin = in instanceof BufferedInputStream ? in : new BufferedInputStream(in);
+
+		try(Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+			socket.setTcpNoDelay(true);
+			DataOutputStream dst = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			DataInputStream src = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+			DaemonProtocol.writeString(dst, info[1]);
+			DaemonProtocol.writeString(dst, workingDir.toString());
+			dst.writeInt(args.length);
+			for(String arg : args) {
+				DaemonProtocol.writeString(dst, arg);
+			}
+			dst.writeInt(env.size());
+			for(Map.Entry<String, String> entry : env.entrySet()) {
+				DaemonProtocol.writeString(dst, entry.getKey());
+				DaemonProtocol.writeString(dst, entry.getValue());
+			}
+			dst.flush();
+
+			ByteArrayOutputStream line = new ByteArrayOutputStream();
+			while(true) {
+				byte type = DaemonProtocol.readFrameType(src);
+				byte[] data = DaemonProtocol.readBytes(src, src.readInt());
+				switch(type) {
+				case DaemonProtocol.STDOUT:
+					out.write(data);
+					break;
+				case DaemonProtocol.STDERR:
+					err.write(data);
+					break;
+				case DaemonProtocol.READ:
+					out.flush();
+					err.flush();
+					line.reset();
+					if(readLine(stdin, line)) {
+						DaemonProtocol.writeFrame(dst, DaemonProtocol.INPUT, line.toByteArray(), 0, line.size());
+					}
+					else {
+						DaemonProtocol.writeFrame(dst, DaemonProtocol.INPUT_END, data, 0, 0);
+					}
+					dst.flush();
+					break;
+				case DaemonProtocol.EXIT:
+					out.flush();
+					err.flush();
+					return new DataInputStream(new ByteArrayInputStream(data)).readInt();
+				default:
+					throw new IOException("unexpected daemon frame type '" + (char)type + "'");
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * @return false if the input ended before any bytes were read
+	 */
+	private static boolean readLine(InputStream in, ByteArrayOutputStream dst) throws IOException {
+		int b;
+		while((b = in.read()) != -1) {
+			dst.write(b);
+			if(b == '\n') {
+				return true;
+			}
+		}
+		return dst.size() > 0;
+	}
+
+}
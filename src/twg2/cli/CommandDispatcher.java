@@ -0,0 +1,557 @@
+package twg2.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/** Runs independent command lines, such as the commands received by an admin console, concurrently using a {@link ParameterParser}.
+ * Each line is tokenized (see {@link ParameterTokenizer}) on the submitting thread, then
+ * {@link ParameterParser#callParameters(Supplier, Object)} is called with the tokens on an {@link Executor}.<br>
+ * <ul>
+ * <li>ordering: commands with equal {@code orderingKey} values run one at a time in the order they were submitted,
+ * commands with different keys (or a null key) may run concurrently and in any order</li>
+ * <li>concurrency: at most {@code maxConcurrency} commands run at once, regardless of the executor's thread count</li>
+ * <li>back-pressure: at most {@code maxPending} commands may be queued or running, {@link #submit(CharSequence, Object)}
+ * blocks and {@link #trySubmit(CharSequence, Object)} returns false until a command completes</li>
+ * </ul>
+ * The parser's parameters must not be modified while commands are being dispatched.
+ * @param <U> the type of data passed to each command's parameters
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class CommandDispatcher<U> {
+	private final ParameterParser<U> parser;
+	private final Executor executor;
+	private final int maxConcurrency;
+	private final int maxPending;
+	private final Function<? super List<String>, ?> orderingKey;
+	private final BiConsumer<String, Throwable> errorHandler;
+	private final ThreadLocal<ParameterTokenizer> tokenizers;
+
+	/** permits for commands which may be queued or running */
+	private final Semaphore pendingPermits;
+	/** commands which are ready to run, waiting for fewer than {@link #maxConcurrency} commands to be running */
+	private final Queue<Command<U>> ready;
+	private final AtomicInteger active;
+	private final AtomicInteger pending;
+	/** the commands waiting for an earlier command with the same key to complete, a key is present while a command with that key is queued or running */
+	private final ConcurrentHashMap<Object, ArrayDeque<Command<U>>> keyQueues;
+	private final Object idleLock;
+	private final DispatchStats stats;
+
+
+	/** Create a dispatcher without command ordering
+	 * @see #CommandDispatcher(ParameterParser, Executor, int, int, Function, BiConsumer)
+	 */
+	public CommandDispatcher(ParameterParser<U> parser, Executor executor, int maxConcurrency, int maxPending) {
+		this(parser, executor, maxConcurrency, maxPending, null, null);
+	}
+
+
+	/**
+	 * @param parser the parser whose parameters are called for each command
+	 * @param executor the executor to run commands on, since Java 8 does not have virtual threads, handlers which block should
+	 * use an executor with at least {@code maxConcurrency} threads (e.g. {@link java.util.concurrent.Executors#newCachedThreadPool()})
+	 * @param maxConcurrency the maximum number of commands which run at the same time
+	 * @param maxPending the maximum number of commands which are queued or running, must be at least {@code maxConcurrency}
+	 * @param orderingKey returns the ordering key for a command's tokens, commands with equal keys run in submission order,
+	 * for example {@code (tokens) -> tokens.get(0)} to run commands with the same name in order.  Null, or a null key, for no ordering
+	 * @param errorHandler called with the command line and exception when a command throws an exception, may be null
+	 */
+	public CommandDispatcher(ParameterParser<U> parser, Executor executor, int maxConcurrency, int maxPending,
+			Function<? super List<String>, ?> orderingKey, BiConsumer<String, Throwable> errorHandler) {
+		if(parser == null || executor == null) {
+			throw new IllegalArgumentException("parser and executor cannot be null");
+		}
+		if(maxConcurrency < 1 || maxPending < maxConcurrency) {
+			throw new IllegalArgumentException("max concurrency (" + maxConcurrency + ") must be positive and max pending (" + maxPending + ") must be at least max concurrency");
+		}
+		this.parser = parser;
+		this.executor = executor;
+		this.maxConcurrency = maxConcurrency;
+		this.maxPending = maxPending;
+		this.orderingKey = orderingKey;
+		this.errorHandler = errorHandler;
+		this.tokenizers = ThreadLocal.withInitial(ParameterTokenizer::new);
+		this.pendingPermits = new Semaphore(maxPending);
+		this.ready = new ConcurrentLinkedQueue<>();
+		this.active = new AtomicInteger();
+		this.pending = new AtomicInteger();
+		this.keyQueues = new ConcurrentHashMap<>();
+		this.idleLock = new Object();
+		this.stats = new DispatchStats();
+	}
+
+
+	public int getMaxConcurrency() {
+		return maxConcurrency;
+	}
+
+
+	public int getMaxPending() {
+		return maxPending;
+	}
+
+
+	/** Read line delimited commands until the end of the reader and submit each non-blank line,
+	 * blocking while {@link #getMaxPending()} commands are pending.  The reader can be a file, standard input,
+	 * or a socket's input stream.  This method does not wait for the commands to complete, see {@link #awaitIdle(long, TimeUnit)}
+	 * @param input the commands, this method does not close the reader
+	 * @param data the data to pass to each command's parameters
+	 * @return the number of commands submitted
+	 * @throws InterruptedException if this thread is interrupted while waiting to submit a command
+	 */
+	public int dispatch(Reader input, U data) throws IOException, InterruptedException {
+		BufferedReader reader = input instanceof BufferedReader ? (BufferedReader)input : new BufferedReader(input);
+		int count = 0;
+		String line;
+		while((line = reader.readLine()) != null) {
+			if(submit(line, data)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+
+	/** Tokenize a command line and queue it to run, blocking while {@link #getMaxPending()} commands are pending
+	 * @param line the command line
+	 * @param data the data to pass to the command's parameters
+	 * @return true if the command was queued, false if the line is blank
+	 * @throws InterruptedException if this thread is interrupted while waiting
+	 */
+	public boolean submit(CharSequence line, U data) throws InterruptedException {
+		List<String> tokens = tokenize(line);
+		if(tokens.isEmpty()) {
+			return false;
+		}
+		// the ordering key is computed before taking a permit so that an ordering key function exception does not leak the permit
+		Command<U> cmd = new Command<>(line.toString(), tokens, data, orderingKey(tokens));
+		long queuedNanos = System.nanoTime();
+		pendingPermits.acquire();
+		stats.blockedNanos.add(System.nanoTime() - queuedNanos);
+		enqueue(cmd);
+		return true;
+	}
+
+
+	/** Tokenize a command line and queue it to run if fewer than {@link #getMaxPending()} commands are pending
+	 * @param line the command line
+	 * @param data the data to pass to the command's parameters
+	 * @return true if the command was queued, false if the line is blank or too many commands are pending
+	 */
+	public boolean trySubmit(CharSequence line, U data) {
+		List<String> tokens = tokenize(line);
+		if(tokens.isEmpty()) {
+			return false;
+		}
+		Command<U> cmd = new Command<>(line.toString(), tokens, data, orderingKey(tokens));
+		if(!pendingPermits.tryAcquire()) {
+			stats.rejected.increment();
+			return false;
+		}
+		enqueue(cmd);
+		return true;
+	}
+
+
+	/** Wait until all submitted commands have completed
+	 * @return true if all commands completed, false if the timeout elapsed
+	 */
+	public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		synchronized(idleLock) {
+			while(pending.get() > 0) {
+				long remaining = deadline - System.nanoTime();
+				if(remaining <= 0) {
+					return false;
+				}
+				TimeUnit.NANOSECONDS.timedWait(idleLock, remaining);
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * @return the number of commands which are queued or running
+	 */
+	public int getPendingCount() {
+		return pending.get();
+	}
+
+
+	/**
+	 * @return the number of commands which are running
+	 */
+	public int getActiveCount() {
+		return active.get();
+	}
+
+
+	/**
+	 * @return a snapshot of this dispatcher's throughput and latency statistics
+	 */
+	public Stats getStats() {
+		return stats.snapshot(active.get(), pending.get());
+	}
+
+
+	private List<String> tokenize(CharSequence line) {
+		ParameterTokenizer tokenizer = tokenizers.get();
+		tokenizer.tokenize(line);
+		List<String> tokens = tokenizer.toList(new ArrayList<>(tokenizer.size()));
+		tokenizer.reset();
+		return tokens;
+	}
+
+
+	private Object orderingKey(List<String> tokens) {
+		return orderingKey != null ? orderingKey.apply(tokens) : null;
+	}
+
+
+	private void enqueue(Command<U> cmd) {
+		cmd.submitNanos = System.nanoTime();
+		pending.incrementAndGet();
+		stats.submitted.increment();
+		Object key = cmd.key;
+		if(key == null) {
+			execute(cmd);
+			return;
+		}
+		boolean[] first = { false };
+		keyQueues.compute(key, (k, queue) -> {
+			if(queue == null) {
+				first[0] = true;
+				return new ArrayDeque<>();
+			}
+			queue.add(cmd);
+			return queue;
+		});
+		if(first[0]) {
+			execute(cmd);
+		}
+	}
+
+
+	private void execute(Command<U> cmd) {
+		ready.add(cmd);
+		drain();
+	}
+
+
+	/** Start ready commands while fewer than {@link #maxConcurrency} commands are running
+	 */
+	private void drain() {
+		while(!ready.isEmpty()) {
+			int running = active.get();
+			if(running >= maxConcurrency) {
+				return;
+			}
+			if(!active.compareAndSet(running, running + 1)) {
+				continue;
+			}
+			Command<U> cmd = ready.poll();
+			if(cmd == null) {
+				active.decrementAndGet();
+				continue;
+			}
+			try {
+				executor.execute(() -> run(cmd));
+			} catch(RejectedExecutionException e) {
+				active.decrementAndGet();
+				stats.failed.increment();
+				reportError(cmd, e);
+				complete(cmd);
+			}
+		}
+	}
+
+
+	private void run(Command<U> cmd) {
+		long startNanos = System.nanoTime();
+		try {
+			Iterator<String> tokens = cmd.tokens.iterator();
+			int called = parser.callParameters(() -> tokens.hasNext() ? tokens.next() : null, cmd.data);
+			if(called == 0) {
+				stats.unmatched.increment();
+			}
+		} catch(Throwable e) {
+			stats.failed.increment();
+			reportError(cmd, e);
+		} finally {
+			long endNanos = System.nanoTime();
+			stats.record(startNanos - cmd.submitNanos, endNanos - cmd.submitNanos);
+			active.decrementAndGet();
+			complete(cmd);
+			drain();
+		}
+	}
+
+
+	private void reportError(Command<U> cmd, Throwable e) {
+		if(errorHandler != null) {
+			try {
+				errorHandler.accept(cmd.line, e);
+			} catch(RuntimeException handlerErr) {
+				// the error handler must not prevent the dispatcher from completing the command
+			}
+		}
+	}
+
+
+	/** Release a completed command's permit and start the next command with the same key
+	 */
+	private void complete(Command<U> cmd) {
+		if(cmd.key != null) {
+			List<Command<U>> next = new ArrayList<>(1);
+			keyQueues.computeIfPresent(cmd.key, (k, queue) -> {
+				Command<U> nextCmd = queue.poll();
+				if(nextCmd == null) {
+					return null;
+				}
+				next.add(nextCmd);
+				return queue;
+			});
+			if(!next.isEmpty()) {
+				execute(next.get(0));
+			}
+		}
+		stats.completed.increment();
+		pendingPermits.release();
+		if(pending.decrementAndGet() == 0) {
+			synchronized(idleLock) {
+				idleLock.notifyAll();
+			}
+		}
+	}
+
+
+
+
+	private static final class Command<U> {
+		final String line;
+		final List<String> tokens;
+		final U data;
+		/** set by {@link CommandDispatcher#enqueue(Command)}, after any back-pressure wait */
+		long submitNanos;
+		final Object key;
+
+
+		Command(String line, List<String> tokens, U data, Object key) {
+			this.line = line;
+			this.tokens = tokens;
+			this.data = data;
+			this.key = key;
+		}
+
+	}
+
+
+
+
+	/** Counters updated by commands as they complete
+	 */
+	private static final class DispatchStats {
+		/** log2 latency histogram, bucket {@code i} counts latencies in {@code [2^(i-1), 2^i)} nanoseconds */
+		final AtomicLongArray latencyBuckets = new AtomicLongArray(64);
+		final long startNanos = System.nanoTime();
+		final LongAdder submitted = new LongAdder();
+		final LongAdder completed = new LongAdder();
+		final LongAdder failed = new LongAdder();
+		final LongAdder unmatched = new LongAdder();
+		final LongAdder rejected = new LongAdder();
+		final LongAdder blockedNanos = new LongAdder();
+		final LongAdder queueNanos = new LongAdder();
+		final LongAdder latencyNanos = new LongAdder();
+		final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+
+		void record(long queueTime, long latency) {
+			queueNanos.add(queueTime);
+			latencyNanos.add(latency);
+			maxLatencyNanos.accumulate(latency);
+			latencyBuckets.incrementAndGet(64 - Long.numberOfLeadingZeros(Math.max(latency, 0)));
+		}
+
+
+		Stats snapshot(int active, int pending) {
+			long[] buckets = new long[latencyBuckets.length()];
+			for(int i = 0; i < buckets.length; i++) {
+				buckets[i] = latencyBuckets.get(i);
+			}
+			return new Stats(System.nanoTime() - startNanos, submitted.sum(), completed.sum(), failed.sum(), unmatched.sum(), rejected.sum(),
+					active, pending, blockedNanos.sum(), queueNanos.sum(), latencyNanos.sum(), maxLatencyNanos.get(), buckets);
+		}
+
+	}
+
+
+
+
+	/** A snapshot of a dispatcher's statistics.
+	 * Latency is measured from when a command is queued, after any back-pressure wait, until it completes
+	 */
+	public static final class Stats {
+		private final long elapsedNanos;
+		private final long submitted;
+		private final long completed;
+		private final long failed;
+		private final long unmatched;
+		private final long rejected;
+		private final int active;
+		private final int pending;
+		private final long blockedNanos;
+		private final long queueNanos;
+		private final long latencyNanos;
+		private final long maxLatencyNanos;
+		private final long[] latencyBuckets;
+
+
+		Stats(long elapsedNanos, long submitted, long completed, long failed, long unmatched, long rejected, int active, int pending,
+				long blockedNanos, long queueNanos, long latencyNanos, long maxLatencyNanos, long[] latencyBuckets) {
+			this.elapsedNanos = elapsedNanos;
+			this.submitted = submitted;
+			this.completed = completed;
+			this.failed = failed;
+			this.unmatched = unmatched;
+			this.rejected = rejected;
+			this.active = active;
+			this.pending = pending;
+			this.blockedNanos = blockedNanos;
+			this.queueNanos = queueNanos;
+			this.latencyNanos = latencyNanos;
+			this.maxLatencyNanos = maxLatencyNanos;
+			this.latencyBuckets = latencyBuckets;
+		}
+
+
+		public long getSubmitted() {
+			return submitted;
+		}
+
+
+		/**
+		 * @return the number of commands which have completed, including failed and unmatched commands
+		 */
+		public long getCompleted() {
+			return completed;
+		}
+
+
+		/**
+		 * @return the number of commands which threw an exception or could not be executed
+		 */
+		public long getFailed() {
+			return failed;
+		}
+
+
+		/**
+		 * @return the number of commands which did not match any parameter
+		 */
+		public long getUnmatched() {
+			return unmatched;
+		}
+
+
+		/**
+		 * @return the number of {@link CommandDispatcher#trySubmit(CharSequence, Object)} calls which were rejected because too many commands were pending
+		 */
+		public long getRejected() {
+			return rejected;
+		}
+
+
+		public int getActive() {
+			return active;
+		}
+
+
+		public int getPending() {
+			return pending;
+		}
+
+
+		/**
+		 * @return the total time submitting threads spent blocked waiting for pending commands to complete
+		 */
+		public long getBlockedNanos() {
+			return blockedNanos;
+		}
+
+
+		/**
+		 * @return the number of completed commands per second since the dispatcher was created
+		 */
+		public double getThroughput() {
+			return elapsedNanos > 0 ? completed * 1e9 / elapsedNanos : 0;
+		}
+
+
+		public double getMeanQueueNanos() {
+			return completed > 0 ? (double)queueNanos / completed : 0;
+		}
+
+
+		public double getMeanLatencyNanos() {
+			return completed > 0 ? (double)latencyNanos / completed : 0;
+		}
+
+
+		public long getMaxLatencyNanos() {
+			return maxLatencyNanos;
+		}
+
+
+		/**
+		 * @param percentile the percentile, between 0 and 100
+		 * @return an upper bound, within a factor of 2, of the latency of the {@code percentile} percent fastest commands
+		 */
+		public long getLatencyPercentileNanos(double percentile) {
+			long total = 0;
+			for(long count : latencyBuckets) {
+				total += count;
+			}
+			long target = (long)Math.ceil(total * percentile / 100);
+			long seen = 0;
+			for(int i = 0; i < latencyBuckets.length; i++) {
+				seen += latencyBuckets[i];
+				if(seen >= target && seen > 0) {
+					return i == 0 ? 0 : Math.min(i == 63 ? Long.MAX_VALUE : (1L << i) - 1, maxLatencyNanos);
+				}
+			}
+			return 0;
+		}
+
+
+		@Override
+		public String toString() {
+			return "CommandDispatcher.Stats: { submitted: " + submitted + ", completed: " + completed + ", failed: " + failed +
+					", unmatched: " + unmatched + ", rejected: " + rejected + ", active: " + active + ", pending: " + pending +
+					", throughput: " + String.format("%.1f", getThroughput()) + "/s, meanLatency: " + String.format("%.1f", getMeanLatencyNanos() / 1000) + "us" +
+					", p99Latency: " + getLatencyPercentileNanos(99) / 1000 + "us, maxLatency: " + maxLatencyNanos / 1000 + "us }";
+		}
+
+	}
+
+}
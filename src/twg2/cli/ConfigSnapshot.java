@@ -0,0 +1,332 @@
+package twg2.cli;
+
+import java.lang.reflect.Array;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.UnaryOperator;
+
+/** An immutable copy of the values parsed by a {@link ParameterSet}, created from a {@link ParseOutcome} using {@link #of(ParseOutcome)}.
+ * Values are keyed by parameter ordinal (see {@link ParameterSet#getOrdinal(ParameterData)}), single {@link ParameterType#INTEGER},
+ * {@link ParameterType#FLOAT}, and {@link ParameterType#FLAG} values are stored unboxed in a primitive array so each lookup
+ * is a bounds check and an array read.<br>
+ * Only parameters which were found in the inputs and parsed without errors are {@link #isPresent(int) present}, the getters
+ * return a default value for other parameters.  Array and {@link EnumSet} values are copied when the snapshot is created,
+ * the arrays returned by the getters are shared by all readers and must not be modified.<br>
+ * Snapshots are safe to read from any thread once published, use a {@link Publisher} to replace a snapshot atomically
+ * so that readers never lock and never see a partially applied configuration.
+ * @param <T> the parameter's name type
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class ConfigSnapshot<T extends CharSequence> {
+	private static final byte NONE = 0;
+	private static final byte INT = 1;
+	private static final byte FLOAT = 2;
+	private static final byte FLAG = 3;
+	private static final byte OBJECT = 4;
+
+	private final ParameterSet<T> paramSet;
+	/** the kind of value stored for each ordinal, {@link #NONE} if the parameter is not present */
+	private final byte[] kinds;
+	/** int values, {@link Float#floatToRawIntBits(float) float bits}, flags (0 or 1), and the first word of flag group bit sets */
+	private final long[] primitives;
+	/** object and array values, and flag group bit sets */
+	private final Object[] values;
+
+
+	private ConfigSnapshot(ParameterSet<T> paramSet, byte[] kinds, long[] primitives, Object[] values) {
+		this.paramSet = paramSet;
+		this.kinds = kinds;
+		this.primitives = primitives;
+		this.values = values;
+	}
+
+
+	/** Copy the successfully parsed values of an outcome into a new snapshot
+	 * @param outcome the outcome of a {@link ParameterSet} parse call
+	 * @return a new snapshot containing the values of the parameters found in the outcome's inputs which did not have parse errors
+	 */
+	public static <T extends CharSequence> ConfigSnapshot<T> of(ParseOutcome<T> outcome) {
+		ParameterSet<T> paramSet = outcome.getParameterSet();
+		int count = paramSet.getParameterCount();
+		byte[] kinds = new byte[count];
+		long[] primitives = new long[count];
+		Object[] values = new Object[count];
+
+		for(int i = 0, seenCount = outcome.getSeenCount(); i < seenCount; i++) {
+			int ordinal = outcome.getSeenOrdinal(i);
+			ParameterParserResult result = outcome.getResult(ordinal);
+			if(result == null || result.isError()) {
+				continue;
+			}
+			ParameterType type = result.getParseResultType();
+			boolean isArray = result.isParseResultAnArray();
+			if(paramSet.getParameter(ordinal) instanceof FlagGroup) {
+				long[] bits = result.getFlagBits().clone();
+				kinds[ordinal] = OBJECT;
+				primitives[ordinal] = bits.length > 0 ? bits[0] : 0;
+				values[ordinal] = bits;
+			}
+			else if(!isArray && type == ParameterType.INTEGER) {
+				kinds[ordinal] = INT;
+				primitives[ordinal] = result.getInt();
+			}
+			else if(!isArray && type == ParameterType.FLOAT) {
+				kinds[ordinal] = FLOAT;
+				primitives[ordinal] = Float.floatToRawIntBits(result.getFloat());
+			}
+			else if(!isArray && type == ParameterType.FLAG) {
+				kinds[ordinal] = FLAG;
+				primitives[ordinal] = result.getFlag() ? 1 : 0;
+			}
+			else {
+				kinds[ordinal] = OBJECT;
+				values[ordinal] = copyValue(result.getParseResult());
+			}
+		}
+		return new ConfigSnapshot<>(paramSet, kinds, primitives, values);
+	}
+
+
+	/**
+	 * @return a snapshot of a parameter set in which no parameters are present
+	 */
+	public static <T extends CharSequence> ConfigSnapshot<T> empty(ParameterSet<T> paramSet) {
+		int count = paramSet.getParameterCount();
+		return new ConfigSnapshot<>(paramSet, new byte[count], new long[count], new Object[count]);
+	}
+
+
+	public ParameterSet<T> getParameterSet() {
+		return paramSet;
+	}
+
+
+	/**
+	 * @return true if the parameter with the ordinal was found in the inputs and parsed without errors
+	 */
+	public boolean isPresent(int ordinal) {
+		return kinds[ordinal] != NONE;
+	}
+
+
+	/**
+	 * @param ordinal the ordinal of an {@link ParameterType#INTEGER} parameter
+	 * @param defaultValue the value to return if the parameter is not present
+	 * @return the parameter's value or {@code defaultValue}
+	 * @throws IllegalStateException if the parameter is present but is not a single integer
+	 */
+	public int getInt(int ordinal, int defaultValue) {
+		byte kind = kinds[ordinal];
+		if(kind == INT) {
+			return (int)primitives[ordinal];
+		}
+		return kind == NONE ? defaultValue : throwWrongKind(ordinal, INT);
+	}
+
+
+	/**
+	 * @param ordinal the ordinal of a {@link ParameterType#FLOAT} parameter
+	 * @param defaultValue the value to return if the parameter is not present
+	 * @return the parameter's value or {@code defaultValue}
+	 * @throws IllegalStateException if the parameter is present but is not a single float
+	 */
+	public float getFloat(int ordinal, float defaultValue) {
+		byte kind = kinds[ordinal];
+		if(kind == FLOAT) {
+			return Float.intBitsToFloat((int)primitives[ordinal]);
+		}
+		return kind == NONE ? defaultValue : throwWrongKind(ordinal, FLOAT);
+	}
+
+
+	/**
+	 * @param ordinal the ordinal of a {@link ParameterType#FLAG} parameter
+	 * @param defaultValue the value to return if the parameter is not present
+	 * @return the parameter's value or {@code defaultValue}
+	 * @throws IllegalStateException if the parameter is present but is not a single flag
+	 */
+	public boolean getFlag(int ordinal, boolean defaultValue) {
+		byte kind = kinds[ordinal];
+		if(kind == FLAG) {
+			return primitives[ordinal] != 0;
+		}
+		return kind == NONE ? defaultValue : throwWrongKind(ordinal, FLAG) != 0;
+	}
+
+
+	/**
+	 * @param ordinal the ordinal of a {@link FlagGroup} of up to 64 flags
+	 * @return the group's bit set as a mask, bit {@code i} is set if flag {@code i} was found, 0 if the group is not present
+	 */
+	public long getFlagMask(int ordinal) {
+		return primitives[ordinal];
+	}
+
+
+	/**
+	 * @param ordinal the ordinal of a {@link FlagGroup}
+	 * @return the group's bit set (see {@link FlagGroup#isSet(long[], int)}), null if the group is not present
+	 */
+	public long[] getFlagBits(int ordinal) {
+		Object value = values[ordinal];
+		return value instanceof long[] ? (long[])value : null;
+	}
+
+
+	/**
+	 * @param ordinal the ordinal of a parameter
+	 * @param defaultValue the value to return if the parameter is not present
+	 * @return the parameter's value, boxed if it is a single integer, float, or flag, or {@code defaultValue}
+	 */
+	public Object get(int ordinal, Object defaultValue) {
+		switch(kinds[ordinal]) {
+		case NONE: return defaultValue;
+		case INT: return (int)primitives[ordinal];
+		case FLOAT: return Float.intBitsToFloat((int)primitives[ordinal]);
+		case FLAG: return primitives[ordinal] != 0;
+		default: return values[ordinal];
+		}
+	}
+
+
+	/** Look up a parameter's value by its {@link ParameterSet#getOrdinal(ParameterData) ordinal},
+	 * hot paths should look up the ordinal once and use the ordinal getters
+	 * @param param the parameter
+	 * @return the parameter's value, or null if it is not present
+	 * @throws IllegalArgumentException if the parameter is not part of this snapshot's parameter set
+	 */
+	public <V> V get(ParameterData<T, V> param) {
+		int ordinal = paramSet.getOrdinal(param);
+		if(ordinal < 0) {
+			throw new IllegalArgumentException("parameter '" + param.getPrimaryName() + "' is not part of this snapshot's parameter set");
+		}
+		@SuppressWarnings("unchecked")
+		V value = (V)get(ordinal, null);
+		return value;
+	}
+
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("ConfigSnapshot: { ");
+		boolean first = true;
+		for(int ordinal = 0; ordinal < kinds.length; ordinal++) {
+			if(kinds[ordinal] != NONE) {
+				Object value = get(ordinal, null);
+				sb.append(first ? "" : ", ").append(paramSet.getParameter(ordinal).getPrimaryName()).append(": ")
+					.append(value instanceof long[] ? Long.toBinaryString(primitives[ordinal]) : value);
+				first = false;
+			}
+		}
+		return sb.append(" }").toString();
+	}
+
+
+	private int throwWrongKind(int ordinal, byte kind) {
+		String[] kindNames = { "none", "an integer", "a float", "a flag", "an object" };
+		throw new IllegalStateException("parameter '" + paramSet.getParameter(ordinal).getPrimaryName() + "' is " + kindNames[kinds[ordinal]] + ", not " + kindNames[kind]);
+	}
+
+
+	private static Object copyValue(Object value) {
+		if(value instanceof EnumSet) {
+			return ((EnumSet<?>)value).clone();
+		}
+		if(value != null && value.getClass().isArray()) {
+			int len = Array.getLength(value);
+			Object copy = Array.newInstance(value.getClass().getComponentType(), len);
+			System.arraycopy(value, 0, copy, 0, len);
+			return copy;
+		}
+		return value;
+	}
+
+
+
+
+	/** Publishes the current {@link ConfigSnapshot} of a parameter set through a single volatile reference.
+	 * Readers call {@link #get()} without locking, writers replace the whole snapshot at once using {@link #set(ConfigSnapshot)},
+	 * {@link #compareAndSet(ConfigSnapshot, ConfigSnapshot)}, or {@link #update(UnaryOperator)}.
+	 * @param <T> the parameter's name type
+	 */
+	public static final class Publisher<T extends CharSequence> {
+		@SuppressWarnings("rawtypes")
+		private static final AtomicReferenceFieldUpdater<Publisher, ConfigSnapshot> CURRENT = AtomicReferenceFieldUpdater.newUpdater(Publisher.class, ConfigSnapshot.class, "current");
+
+		private volatile ConfigSnapshot<T> current;
+
+
+		/**
+		 * @param initial the initial snapshot, not null, see {@link ConfigSnapshot#empty(ParameterSet)}
+		 */
+		public Publisher(ConfigSnapshot<T> initial) {
+			if(initial == null) {
+				throw new IllegalArgumentException("initial snapshot cannot be null");
+			}
+			this.current = initial;
+		}
+
+
+		/**
+		 * @return the current snapshot
+		 */
+		public ConfigSnapshot<T> get() {
+			return current;
+		}
+
+
+		/** Replace the current snapshot
+		 * @return the previous snapshot
+		 */
+		@SuppressWarnings("unchecked")
+		public ConfigSnapshot<T> set(ConfigSnapshot<T> snapshot) {
+			checkSnapshot(snapshot);
+			return CURRENT.getAndSet(this, snapshot);
+		}
+
+
+		/** Replace the current snapshot with a snapshot of a parse outcome's values
+		 * @return the new snapshot
+		 */
+		public ConfigSnapshot<T> publish(ParseOutcome<T> outcome) {
+			ConfigSnapshot<T> snapshot = ConfigSnapshot.of(outcome);
+			set(snapshot);
+			return snapshot;
+		}
+
+
+		/** Replace the current snapshot only if it is {@code expect}
+		 * @return true if the snapshot was replaced
+		 */
+		public boolean compareAndSet(ConfigSnapshot<T> expect, ConfigSnapshot<T> snapshot) {
+			checkSnapshot(snapshot);
+			return CURRENT.compareAndSet(this, expect, snapshot);
+		}
+
+
+		/** Atomically replace the current snapshot with the result of a function, the function may be called
+		 * multiple times if other threads replace the snapshot concurrently
+		 * @return the new snapshot
+		 */
+		public ConfigSnapshot<T> update(UnaryOperator<ConfigSnapshot<T>> updater) {
+			ConfigSnapshot<T> prev;
+			ConfigSnapshot<T> next;
+			do {
+				prev = current;
+				next = updater.apply(prev);
+				checkSnapshot(next);
+			} while(!CURRENT.compareAndSet(this, prev, next));
+			return next;
+		}
+
+
+		private static void checkSnapshot(ConfigSnapshot<?> snapshot) {
+			if(snapshot == null) {
+				throw new IllegalArgumentException("snapshot cannot be null");
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,355 @@
+package twg2.cli;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/** Binds a {@link ParameterSet} to one or more argument files and re-applies them when they change, so that a long running
+ * program can be reconfigured without restarting.  Each file contains arguments in the same format as a command line,
+ * separated by whitespace (including newlines), if multiple files contain the same parameter the value in the last file is used.<br>
+ * A reload reads and tokenizes every file, then decodes and validates every value using a {@link BatchParser} without calling
+ * any setters.  If any file cannot be read or any value is invalid the whole reload is rejected and no setters are called.
+ * Otherwise the decoded values are compared to the values from the previous reload and only the parameters whose values
+ * changed are parsed again, calling their validators and setters.  Parameters removed from the files keep their last value,
+ * their setters are called again if they are added back.<br>
+ * {@link #start()} watches the files' directories using a {@link WatchService}, bursts of file events (such as an editor
+ * writing a file in several steps) are debounced into one reload, see {@link Reload} for the reported latency and changes.
+ * Reloads are serialized, setters are called on the watch thread, or the thread calling {@link #reload()}.<br>
+ * Every parameter must be supported by {@link BatchParser}.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class ConfigWatcher implements Closeable {
+	public static final long DEFAULT_DEBOUNCE_MILLIS = 100;
+
+	private final ParameterSet<String> paramSet;
+	private final BatchParser batchParser;
+	private final List<Path> files;
+	private final long debounceNanos;
+	private final Consumer<Reload> listener;
+	/** the values applied by the last reload, null if the parameter was not in any file, guarded by {@code this} */
+	private final Object[] values;
+	private final boolean[] present;
+	private WatchService watchService;
+	private Thread watchThread;
+	private volatile boolean closed;
+
+
+	/**
+	 * @param paramSet the parameters whose setters receive the values in the files
+	 * @param files the argument files, a later file's values override an earlier file's values
+	 * @param debounceMillis how long to wait after a file event for more events before reloading, see {@link #DEFAULT_DEBOUNCE_MILLIS}
+	 * @param listener notified after each reload started by a file change, may be null
+	 */
+	public ConfigWatcher(ParameterSet<String> paramSet, List<Path> files, long debounceMillis, Consumer<Reload> listener) {
+		if(paramSet == null || files == null || files.isEmpty()) {
+			throw new IllegalArgumentException("parameter set and files cannot be null or empty");
+		}
+		if(debounceMillis < 0) {
+			throw new IllegalArgumentException("debounce time cannot be negative: " + debounceMillis);
+		}
+		List<Path> absFiles = new ArrayList<>(files.size());
+		for(Path file : files) {
+			absFiles.add(file.toAbsolutePath().normalize());
+		}
+		int count = paramSet.getParameterCount();
+		this.paramSet = paramSet;
+		this.batchParser = new BatchParser(paramSet);
+		this.files = Collections.unmodifiableList(absFiles);
+		this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+		this.listener = listener;
+		this.values = new Object[count];
+		this.present = new boolean[count];
+	}
+
+
+	public ParameterSet<String> getParameterSet() {
+		return paramSet;
+	}
+
+
+	public List<Path> getFiles() {
+		return files;
+	}
+
+
+	/** Read the files and apply the parameters whose values changed since the last reload, the first reload applies every parameter
+	 * found in the files.  The listener is not notified
+	 * @return the result of the reload
+	 */
+	public Reload reload() {
+		return reload(System.nanoTime());
+	}
+
+
+	/** Watch the files' directories and reload the files when they change, on a daemon thread.
+	 * Call {@link #reload()} first to apply the files' current values
+	 * @throws IOException if the files' directories cannot be watched
+	 */
+	public synchronized void start() throws IOException {
+		if(watchService != null) {
+			throw new IllegalStateException("watcher already started");
+		}
+		if(closed) {
+			throw new IllegalStateException("watcher is closed");
+		}
+		Set<Path> dirs = new LinkedHashSet<>();
+		for(Path file : files) {
+			dirs.add(file.getParent());
+		}
+		WatchService service = files.get(0).getFileSystem().newWatchService();
+		try {
+			for(Path dir : dirs) {
+				dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+			}
+		} catch(IOException e) {
+			service.close();
+			throw e;
+		}
+		this.watchService = service;
+		this.watchThread = new Thread(this::watchLoop, "jcli-config-watcher");
+		this.watchThread.setDaemon(true);
+		this.watchThread.start();
+	}
+
+
+	/** Stop watching the files, a reload which is running is allowed to complete
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if(closed) {
+			return;
+		}
+		closed = true;
+		if(watchService != null) {
+			watchService.close();
+		}
+	}
+
+
+	private void watchLoop() {
+		try {
+			while(!closed) {
+				WatchKey key = watchService.take();
+				long firstEventNanos = System.nanoTime();
+				boolean changed = isWatchedFileEvent(key);
+				// wait until no events arrive for the debounce time
+				while((key = watchService.poll(debounceNanos, TimeUnit.NANOSECONDS)) != null) {
+					changed |= isWatchedFileEvent(key);
+				}
+				if(changed && !closed) {
+					Reload reload = reload(firstEventNanos);
+					if(listener != null) {
+						listener.accept(reload);
+					}
+				}
+			}
+		} catch(ClosedWatchServiceException | InterruptedException e) {
+			// closed
+		}
+	}
+
+
+	/**
+	 * @return true if any of the key's events affect one of the watched files
+	 */
+	private boolean isWatchedFileEvent(WatchKey key) {
+		boolean watched = false;
+		Path dir = (Path)key.watchable();
+		for(WatchEvent<?> event : key.pollEvents()) {
+			Object context = event.context();
+			if(event.kind() == StandardWatchEventKinds.OVERFLOW || (context instanceof Path && files.contains(dir.resolve((Path)context)))) {
+				watched = true;
+			}
+		}
+		key.reset();
+		return watched;
+	}
+
+
+	private synchronized Reload reload(long startNanos) {
+		long reloadStart = System.nanoTime();
+		int fileCount = files.size();
+		List<String> contents = new ArrayList<>(fileCount);
+		for(Path file : files) {
+			try {
+				contents.add(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+			} catch(IOException e) {
+				return rejected(startNanos, reloadStart, Collections.singletonList(file + ": " + e));
+			}
+		}
+
+		// decode and validate every file, each file's contents are one line of the batch
+		BatchResult result = batchParser.parse(contents);
+		if(result.hasErrors()) {
+			List<String> errors = new ArrayList<>();
+			for(BatchResult.LineError error : result.getErrors()) {
+				errors.add(files.get(error.getLine()) + ": " + error.getError().getMessage());
+			}
+			return rejected(startNanos, reloadStart, errors);
+		}
+
+		List<ParameterData<String, ?>> changed = new ArrayList<>();
+		List<String> errors = new ArrayList<>();
+		ParameterTokenizer tokenizer = null;
+		String[][] fileArgs = new String[fileCount][];
+		for(int ordinal = 0, count = paramSet.getParameterCount(); ordinal < count; ordinal++) {
+			BatchColumn column = result.getColumn(ordinal);
+			int fileIdx = fileCount - 1;
+			while(fileIdx > -1 && column.isNull(fileIdx)) {
+				fileIdx--;
+			}
+			if(fileIdx < 0) {
+				present[ordinal] = false;
+				values[ordinal] = null;
+				continue;
+			}
+			Object value = column.get(fileIdx);
+			if(present[ordinal] && Objects.deepEquals(values[ordinal], value)) {
+				continue;
+			}
+
+			// apply the changed value by parsing its last occurrence
+			if(fileArgs[fileIdx] == null) {
+				if(tokenizer == null) {
+					tokenizer = new ParameterTokenizer();
+				}
+				tokenizer.tokenize(contents.get(fileIdx));
+				List<String> args = tokenizer.toList(new ArrayList<>(tokenizer.size()));
+				fileArgs[fileIdx] = args.toArray(new String[args.size()]);
+			}
+			ParameterData<String, ?> param = paramSet.getParameter(ordinal);
+			ParameterParserResult res = parseLastOccurrence(ordinal, fileArgs[fileIdx]);
+			if(res.isError()) {
+				errors.add(files.get(fileIdx) + ": " + res.getParseError().getMessage());
+			}
+			else {
+				present[ordinal] = true;
+				values[ordinal] = value;
+				changed.add(param);
+			}
+		}
+		long endNanos = System.nanoTime();
+		return new Reload(false, Collections.unmodifiableList(changed), Collections.unmodifiableList(errors), endNanos - reloadStart, endNanos - startNanos);
+	}
+
+
+	private ParameterParserResult parseLastOccurrence(int ordinal, String[] args) {
+		int spanStart = -1;
+		int spanEnd = -1;
+		for(int i = 0; i < args.length; i++) {
+			int argOrdinal = paramSet.findOrdinal(args[i]);
+			if(argOrdinal > -1) {
+				if(spanStart > -1 && spanEnd < 0) {
+					spanEnd = i;
+				}
+				if(argOrdinal == ordinal) {
+					spanStart = i;
+					spanEnd = -1;
+				}
+			}
+		}
+		if(spanEnd < 0) {
+			spanEnd = args.length;
+		}
+		return paramSet.getParameter(ordinal).parse(args, spanStart, spanEnd - spanStart);
+	}
+
+
+	private static Reload rejected(long startNanos, long reloadStart, List<String> errors) {
+		long endNanos = System.nanoTime();
+		return new Reload(true, Collections.<ParameterData<String, ?>>emptyList(), Collections.unmodifiableList(errors), endNanos - reloadStart, endNanos - startNanos);
+	}
+
+
+
+
+	/** The result of one reload of a {@link ConfigWatcher}'s files
+	 */
+	public static final class Reload {
+		private final boolean rejected;
+		private final List<ParameterData<String, ?>> changed;
+		private final List<String> errors;
+		private final long reloadNanos;
+		private final long latencyNanos;
+
+
+		Reload(boolean rejected, List<ParameterData<String, ?>> changed, List<String> errors, long reloadNanos, long latencyNanos) {
+			this.rejected = rejected;
+			this.changed = changed;
+			this.errors = errors;
+			this.reloadNanos = reloadNanos;
+			this.latencyNanos = latencyNanos;
+		}
+
+
+		/**
+		 * @return true if a file could not be read or contained an invalid value, in which case no setters were called
+		 */
+		public boolean isRejected() {
+			return rejected;
+		}
+
+
+		/**
+		 * @return the parameters whose values changed and were applied, in ordinal order
+		 */
+		public List<ParameterData<String, ?>> getChangedParameters() {
+			return changed;
+		}
+
+
+		public int getChangedCount() {
+			return changed.size();
+		}
+
+
+		/**
+		 * @return the errors which caused the reload to be rejected, or the errors thrown by setters while applying changed values
+		 */
+		public List<String> getErrors() {
+			return errors;
+		}
+
+
+		/**
+		 * @return the time taken to read, validate, and apply the files
+		 */
+		public long getReloadNanos() {
+			return reloadNanos;
+		}
+
+
+		/**
+		 * @return the time from the first file event to the end of the reload, including the debounce time,
+		 * or the same as {@link #getReloadNanos()} for reloads started by {@link ConfigWatcher#reload()}
+		 */
+		public long getLatencyNanos() {
+			return latencyNanos;
+		}
+
+
+		@Override
+		public String toString() {
+			return "Reload: { " + (rejected ? "rejected, " : "") + "changed: " + changed.size() + ", errors: " + errors +
+					", reloadNanos: " + reloadNanos + ", latencyNanos: " + latencyNanos + " }";
+		}
+
+	}
+
+}
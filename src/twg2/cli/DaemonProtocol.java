@@ -0,0 +1,80 @@
+package twg2.cli;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/** The framing shared by {@link CliDaemon} and {@link CliDaemonClient}.<br>
+ * The client first sends a header: the daemon's token, the working directory, the argument count and arguments,
+ * and the environment variable count and name/value pairs, each string is an int byte length followed by UTF-8 bytes.
+ * Both sides then exchange frames, a frame is a type byte, an int payload length, and the payload:
+ * <ul>
+ * <li>{@link #STDOUT}, {@link #STDERR}: daemon to client, output bytes</li>
+ * <li>{@link #READ}: daemon to client, empty, requests the next line of standard input</li>
+ * <li>{@link #INPUT}: client to daemon, one line of standard input, including the line terminator</li>
+ * <li>{@link #INPUT_END}: client to daemon, empty, standard input has ended</li>
+ * <li>{@link #EXIT}: daemon to client, a 4 byte exit code, the last frame of a session</li>
+ * </ul>
+ * The protocol is small enough that a native client (e.g. a shell script using {@code nc}, or a C program)
+ * can replace {@link CliDaemonClient} to avoid JVM startup entirely.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+final class DaemonProtocol {
+	static final byte STDOUT = 'O';
+	static final byte STDERR = 'E';
+	static final byte READ = 'R';
+	static final byte INPUT = 'I';
+	static final byte INPUT_END = 'D';
+	static final byte EXIT = 'X';
+	/** the maximum header string or frame payload length accepted from the other side */
+	static final int MAX_LENGTH = 1 << 24;
+
+	private DaemonProtocol() { throw new AssertionError("cannot instantiate static class DaemonProtocol"); }
+
+
+	static void writeString(DataOutputStream out, String str) throws IOException {
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+
+	static String readString(DataInputStream in) throws IOException {
+		return new String(readBytes(in, in.readInt()), StandardCharsets.UTF_8);
+	}
+
+
+	static void writeFrame(DataOutputStream out, byte type, byte[] buf, int off, int len) throws IOException {
+		out.writeByte(type);
+		out.writeInt(len);
+		out.write(buf, off, len);
+	}
+
+
+	/**
+	 * @return the frame's type, the payload is then read using {@link #readBytes(DataInputStream, int)}
+	 * with the length returned by {@link DataInputStream#readInt()}
+	 * @throws EOFException if the stream ended before a frame
+	 */
+	static byte readFrameType(DataInputStream in) throws IOException {
+		int type = in.read();
+		if(type < 0) {
+			throw new EOFException("connection closed before the end of the session");
+		}
+		return (byte)type;
+	}
+
+
+	static byte[] readBytes(DataInputStream in, int len) throws IOException {
+		if(len < 0 || len > MAX_LENGTH) {
+			throw new IOException("invalid daemon frame length " + len);
+		}
+		byte[] bytes = new byte[len];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+}
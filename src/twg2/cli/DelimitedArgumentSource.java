@@ -0,0 +1,231 @@
+package twg2.cli;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/** Reads delimiter separated arguments from a memory mapped file or a byte channel.
+ * Argument boundaries are found by scanning the bytes in place (delimiters must be ASCII, which is safe for UTF-8),
+ * then each argument's bytes are decoded into a reused {@link CharBuffer}, ASCII arguments are copied without a {@link CharsetDecoder}.
+ * Only an argument which spans two buffer windows is copied before decoding.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+final class DelimitedArgumentSource implements ArgumentSource {
+	/** the default size of each region of a file which is mapped into memory */
+	static final int DEFAULT_MAP_WINDOW = 64 * 1024 * 1024;
+	/** the size of the buffer used to read from channels which are not mapped */
+	static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	private final ReadableByteChannel channel;
+	/** true if {@link #channel} is closed when this source is closed */
+	private final boolean closeChannel;
+	/** non-null if the channel is a file which is read by mapping windows into memory */
+	private final FileChannel mappedFile;
+	private final long mappedFileSize;
+	private final int mapWindow;
+	/** the file offset of the end of the current mapped window */
+	private long mappedPos;
+	/** the current window of bytes, position is the next byte to scan */
+	private ByteBuffer buf;
+	private final byte delimiter;
+	/** true to ignore '\r' before '\n' and skip empty arguments, used for line delimited files */
+	private final boolean lines;
+	private final CharsetDecoder decoder;
+	/** the start of an argument which spans windows */
+	private byte[] partial;
+	private int partialLen;
+	private CharBuffer chars;
+	private boolean eof;
+
+
+	/** Read a file by mapping it into memory, one window at a time
+	 */
+	DelimitedArgumentSource(FileChannel file, int mapWindow, byte delimiter) throws IOException {
+		this(file, true, file, mapWindow, delimiter);
+	}
+
+
+	/** Read a channel using a fixed size buffer
+	 */
+	DelimitedArgumentSource(ReadableByteChannel channel, boolean closeChannel, byte delimiter) throws IOException {
+		this(channel, closeChannel, null, 0, delimiter);
+	}
+
+
+	private DelimitedArgumentSource(ReadableByteChannel channel, boolean closeChannel, FileChannel mappedFile, int mapWindow, byte delimiter) throws IOException {
+		if(delimiter < 0) {
+			throw new IllegalArgumentException("delimiter must be an ASCII character, was " + delimiter);
+		}
+		this.channel = channel;
+		this.closeChannel = closeChannel;
+		this.mappedFile = mappedFile;
+		this.mappedFileSize = mappedFile != null ? mappedFile.size() : 0;
+		this.mapWindow = mapWindow;
+		this.buf = mappedFile != null ? null : ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+		if(this.buf != null) {
+			this.buf.limit(0);
+		}
+		this.delimiter = delimiter;
+		this.lines = delimiter == '\n';
+		this.decoder = StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPORT)
+				.onUnmappableCharacter(CodingErrorAction.REPORT);
+		this.partial = new byte[128];
+		this.chars = CharBuffer.allocate(128);
+	}
+
+
+	@Override
+	public CharSequence next() throws IOException {
+		while(true) {
+			if(buf != null) {
+				int start = buf.position();
+				int limit = buf.limit();
+				int end = indexOf(buf, start, limit, delimiter);
+				if(end > -1) {
+					buf.position(end + 1);
+					CharSequence arg;
+					if(partialLen > 0) {
+						appendPartial(buf, start, end);
+						arg = decode(ByteBuffer.wrap(partial), 0, partialLen);
+						partialLen = 0;
+					}
+					else {
+						arg = decode(buf, start, end);
+					}
+					if(arg != null) {
+						return arg;
+					}
+					continue;
+				}
+				appendPartial(buf, start, limit);
+				buf.position(limit);
+			}
+			if(!fill()) {
+				CharSequence arg = null;
+				if(partialLen > 0) {
+					arg = decode(ByteBuffer.wrap(partial), 0, partialLen);
+					partialLen = 0;
+				}
+				return arg;
+			}
+		}
+	}
+
+
+	@Override
+	public void close() throws IOException {
+		buf = null;
+		if(closeChannel) {
+			channel.close();
+		}
+	}
+
+
+	/** Load the next window of bytes
+	 * @return false if there are no more bytes
+	 */
+	private boolean fill() throws IOException {
+		if(mappedFile != null) {
+			if(mappedPos >= mappedFileSize) {
+				return false;
+			}
+			long size = Math.min(mapWindow, mappedFileSize - mappedPos);
+			buf = mappedFile.map(FileChannel.MapMode.READ_ONLY, mappedPos, size);
+			mappedPos += size;
+			return true;
+		}
+		if(eof || buf == null) {
+			return false;
+		}
+		buf.clear();
+		int read;
+		while((read = channel.read(buf)) == 0) {
+			Thread.yield();
+		}
+		buf.flip();
+		if(read < 0) {
+			eof = true;
+			return false;
+		}
+		return true;
+	}
+
+
+	private void appendPartial(ByteBuffer src, int start, int end) {
+		int len = end - start;
+		if(partialLen + len > partial.length) {
+			byte[] newPartial = new byte[Math.max(partial.length * 2, partialLen + len)];
+			System.arraycopy(partial, 0, newPartial, 0, partialLen);
+			partial = newPartial;
+		}
+		for(int i = start; i < end; i++) {
+			partial[partialLen++] = src.get(i);
+		}
+	}
+
+
+	/**
+	 * @return the decoded characters or null if the argument is empty and should be skipped
+	 */
+	private CharSequence decode(ByteBuffer src, int start, int end) throws IOException {
+		if(lines && end > start && src.get(end - 1) == '\r') {
+			end--;
+		}
+		int len = end - start;
+		if(lines && len == 0) {
+			return null;
+		}
+		if(chars.capacity() < len) {
+			chars = CharBuffer.allocate(Math.max(chars.capacity() * 2, len));
+		}
+
+		char[] dst = chars.array();
+		boolean ascii = true;
+		for(int i = 0; i < len; i++) {
+			byte b = src.get(start + i);
+			if(b < 0) {
+				ascii = false;
+				break;
+			}
+			dst[i] = (char)b;
+		}
+
+		chars.clear();
+		if(ascii) {
+			chars.limit(len);
+			return chars;
+		}
+
+		ByteBuffer bytes = src.duplicate();
+		bytes.limit(end).position(start);
+		decoder.reset();
+		CoderResult res = decoder.decode(bytes, chars, true);
+		if(!res.isError()) {
+			res = decoder.flush(chars);
+		}
+		if(res.isError()) {
+			res.throwException();
+		}
+		chars.flip();
+		return chars;
+	}
+
+
+	private static int indexOf(ByteBuffer buf, int start, int end, byte value) {
+		for(int i = start; i < end; i++) {
+			if(buf.get(i) == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
@@ -0,0 +1,337 @@
+package twg2.cli;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** An immutable index of the names and values of an {@link ParameterType#ENUM} parameter.
+ * Values are stored in an array indexed by their position (the constant's ordinal for enum classes) and names
+ * are looked up by content using a {@link NameIndex}, so any {@link CharSequence} range can be parsed without creating a string.
+ * Indexes of enum classes are built once per class and cached, see {@link #of(Class)}.<br>
+ * An index can also match names {@link #withMatching(boolean, boolean) ignoring case} and by unique prefix,
+ * exact matches are always preferred, then case-insensitive matches, then prefix matches.  Inexact lookups binary search
+ * a sorted copy of the names.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ * @param <E> the type of values
+ */
+public final class EnumNames<E> {
+	/** returned by {@link #indexOf(CharSequence, int, int)} when a name does not match any value */
+	public static final int NOT_FOUND = -1;
+	/** returned by {@link #indexOf(CharSequence, int, int)} when a name is a case-insensitive match or prefix of more than one name */
+	public static final int AMBIGUOUS = -2;
+
+	private static final ClassValue<EnumNames<?>> ENUM_NAMES = new ClassValue<EnumNames<?>>() {
+		@Override
+		protected EnumNames<?> computeValue(Class<?> type) {
+			return newEnumNames(type);
+		}
+	};
+
+	private final Class<E> type;
+	private final String[] names;
+	private final E[] values;
+	private final Map<String, E> map;
+	private final NameIndex index;
+	/** the names sorted by {@link String#compareTo(String)} and each sorted name's index */
+	private final String[] sortedNames;
+	private final int[] sortedIndexes;
+	/** the names with each character {@link #fold(char) case folded}, sorted, and each folded name's index */
+	private final String[] foldedNames;
+	private final int[] foldedIndexes;
+	private final boolean ignoreCase;
+	private final boolean uniquePrefix;
+
+
+	private EnumNames(Class<E> type, Map<String, E> map) {
+		int size = map.size();
+		@SuppressWarnings("unchecked")
+		E[] values = (E[])Array.newInstance(type, size);
+		String[] names = new String[size];
+		int i = 0;
+		for(Map.Entry<String, E> entry : map.entrySet()) {
+			names[i] = entry.getKey();
+			values[i] = entry.getValue();
+			i++;
+		}
+		this.type = type;
+		this.names = names;
+		this.values = values;
+		this.map = map;
+		this.index = new NameIndex(Arrays.asList(names));
+
+		String[] folded = new String[size];
+		for(i = 0; i < size; i++) {
+			folded[i] = fold(names[i]);
+		}
+		this.sortedNames = names.clone();
+		this.sortedIndexes = sortedIndexes(names, this.sortedNames);
+		this.foldedNames = folded.clone();
+		this.foldedIndexes = sortedIndexes(folded, this.foldedNames);
+		this.ignoreCase = false;
+		this.uniquePrefix = false;
+	}
+
+
+	private EnumNames(EnumNames<E> src, boolean ignoreCase, boolean uniquePrefix) {
+		this.type = src.type;
+		this.names = src.names;
+		this.values = src.values;
+		this.map = src.map;
+		this.index = src.index;
+		this.sortedNames = src.sortedNames;
+		this.sortedIndexes = src.sortedIndexes;
+		this.foldedNames = src.foldedNames;
+		this.foldedIndexes = src.foldedIndexes;
+		this.ignoreCase = ignoreCase;
+		this.uniquePrefix = uniquePrefix;
+	}
+
+
+	/**
+	 * @return the class of this index's values, the enum class or the data type passed to {@link #from(Map, Class)}
+	 */
+	public Class<E> getType() {
+		return type;
+	}
+
+
+	/**
+	 * @return the number of names in this index
+	 */
+	public int size() {
+		return names.length;
+	}
+
+
+	/**
+	 * @param idx the index of a name, for enum classes this is the constant's {@link Enum#ordinal()}
+	 */
+	public String getName(int idx) {
+		return names[idx];
+	}
+
+
+	/**
+	 * @param idx the index of a value, for enum classes this is the constant's {@link Enum#ordinal()}
+	 */
+	public E getValue(int idx) {
+		return values[idx];
+	}
+
+
+	/**
+	 * @return an unmodifiable map of names to values, in index order
+	 */
+	public Map<String, E> asMap() {
+		return map;
+	}
+
+
+	/**
+	 * @return true if names are matched ignoring case when there is no exact match
+	 */
+	public boolean isIgnoreCase() {
+		return ignoreCase;
+	}
+
+
+	/**
+	 * @return true if a unique prefix of a name matches that name when there is no exact match
+	 */
+	public boolean isUniquePrefix() {
+		return uniquePrefix;
+	}
+
+
+	/** Create an index which shares this index's names and values and matches names using the given rules
+	 * @param ignoreCase true to match names ignoring case when there is no exact match
+	 * @param uniquePrefix true to match a name by a prefix which no other name starts with when there is no exact match
+	 * @return an index with the given matching rules
+	 */
+	public EnumNames<E> withMatching(boolean ignoreCase, boolean uniquePrefix) {
+		if(this.ignoreCase == ignoreCase && this.uniquePrefix == uniquePrefix) {
+			return this;
+		}
+		return new EnumNames<>(this, ignoreCase, uniquePrefix);
+	}
+
+
+	/** Create an array of this index's value type
+	 */
+	public E[] newArray(int size) {
+		@SuppressWarnings("unchecked")
+		E[] ary = (E[])Array.newInstance(type, size);
+		return ary;
+	}
+
+
+	/**
+	 * @param name the name to lookup
+	 * @return the index of the matching name, {@link #NOT_FOUND}, or {@link #AMBIGUOUS}
+	 */
+	public int indexOf(CharSequence name) {
+		return indexOf(name, 0, name.length());
+	}
+
+
+	/**
+	 * @param src the characters containing the name to lookup
+	 * @param off the offset into {@code src} of the first character of the name
+	 * @param end the offset into {@code src} of the character after the last character of the name
+	 * @return the index of the matching name, {@link #NOT_FOUND}, or {@link #AMBIGUOUS}
+	 */
+	public int indexOf(CharSequence src, int off, int end) {
+		int idx = index.indexOf(src, off, end);
+		if(idx > -1 || (!ignoreCase && !uniquePrefix)) {
+			return idx;
+		}
+		return ignoreCase ? search(foldedNames, foldedIndexes, src, off, end, true)
+				: search(sortedNames, sortedIndexes, src, off, end, false);
+	}
+
+
+	/**
+	 * @return the value of the matching name, or null if no name or more than one name matches
+	 * @see #indexOf(CharSequence, int, int)
+	 */
+	public E get(CharSequence src, int off, int end) {
+		int idx = indexOf(src, off, end);
+		return idx > -1 ? values[idx] : null;
+	}
+
+
+	@Override
+	public String toString() {
+		return Arrays.toString(names);
+	}
+
+
+	/**
+	 * @return the shared index of an enum class's constant names, built the first time this method is called for the class
+	 * @throws IllegalArgumentException if {@code enumClass} is not an enum class
+	 */
+	public static <E extends Enum<E>> EnumNames<E> of(Class<E> enumClass) {
+		if(enumClass == null || !enumClass.isEnum()) {
+			throw new IllegalArgumentException("'" + enumClass + "' is not an enum class");
+		}
+		@SuppressWarnings("unchecked")
+		EnumNames<E> names = (EnumNames<E>)ENUM_NAMES.get(enumClass);
+		return names;
+	}
+
+
+	/** Create an index from a map of names to values, the map's iteration order is the index order
+	 * @param names the names and values to index, copied by this method
+	 * @param type the class of the values, used to create arrays of values
+	 */
+	public static <E> EnumNames<E> from(Map<String, ? extends E> names, Class<E> type) {
+		if(names == null || type == null) {
+			throw new IllegalArgumentException("names and type cannot be null");
+		}
+		return new EnumNames<>(type, Collections.unmodifiableMap(new LinkedHashMap<String, E>(names)));
+	}
+
+
+	private static <E> EnumNames<E> newEnumNames(Class<E> enumClass) {
+		Map<String, E> map = new LinkedHashMap<>();
+		for(E value : enumClass.getEnumConstants()) {
+			map.put(((Enum<?>)value).name(), value);
+		}
+		return new EnumNames<>(enumClass, Collections.unmodifiableMap(map));
+	}
+
+
+	/** Sort {@code sorted} and return the index in {@code names} of each sorted name
+	 */
+	private static int[] sortedIndexes(String[] names, String[] sorted) {
+		int size = names.length;
+		List<Integer> order = new ArrayList<>(size);
+		for(int i = 0; i < size; i++) {
+			order.add(i);
+		}
+		order.sort((a, b) -> names[a].compareTo(names[b]));
+		int[] indexes = new int[size];
+		for(int i = 0; i < size; i++) {
+			indexes[i] = order.get(i);
+			sorted[i] = names[indexes[i]];
+		}
+		return indexes;
+	}
+
+
+	/** Binary search a sorted name array for a name or, if this index matches prefixes, the only name starting with the characters
+	 */
+	private int search(String[] sorted, int[] sortedIdxs, CharSequence src, int off, int end, boolean fold) {
+		int size = sorted.length;
+		int lo = 0;
+		int hi = size;
+		while(lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if(compare(sorted[mid], src, off, end, fold) < 0) {
+				lo = mid + 1;
+			}
+			else {
+				hi = mid;
+			}
+		}
+		// 'lo' is the first name greater than or equal to the characters, names sharing a prefix are adjacent
+		if(lo < size && compare(sorted[lo], src, off, end, fold) == 0) {
+			return (lo + 1 < size && compare(sorted[lo + 1], src, off, end, fold) == 0) ? AMBIGUOUS : sortedIdxs[lo];
+		}
+		if(uniquePrefix && end > off && lo < size && startsWith(sorted[lo], src, off, end, fold)) {
+			return (lo + 1 < size && startsWith(sorted[lo + 1], src, off, end, fold)) ? AMBIGUOUS : sortedIdxs[lo];
+		}
+		return NOT_FOUND;
+	}
+
+
+	private static int compare(String name, CharSequence src, int off, int end, boolean fold) {
+		int len = end - off;
+		int nameLen = name.length();
+		for(int i = 0, n = Math.min(nameLen, len); i < n; i++) {
+			char ch = src.charAt(off + i);
+			int diff = name.charAt(i) - (fold ? fold(ch) : ch);
+			if(diff != 0) {
+				return diff;
+			}
+		}
+		return nameLen - len;
+	}
+
+
+	private static boolean startsWith(String name, CharSequence src, int off, int end, boolean fold) {
+		int len = end - off;
+		if(name.length() < len) {
+			return false;
+		}
+		for(int i = 0; i < len; i++) {
+			char ch = src.charAt(off + i);
+			if(name.charAt(i) != (fold ? fold(ch) : ch)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	private static String fold(String str) {
+		char[] chars = str.toCharArray();
+		for(int i = 0; i < chars.length; i++) {
+			chars[i] = fold(chars[i]);
+		}
+		return new String(chars);
+	}
+
+
+	/** Case fold a character the same way as {@link String#equalsIgnoreCase(String)}
+	 */
+	private static char fold(char ch) {
+		return Character.toLowerCase(Character.toUpperCase(ch));
+	}
+
+}
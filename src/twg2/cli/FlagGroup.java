@@ -0,0 +1,446 @@
+package twg2.cli;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/** A group of {@link ParameterType#FLAG} parameters packed into one parameter whose value is a bit set, one bit per flag.
+ * Each flag has its own name and aliases, which are all names of this parameter, and its own help message.
+ * A flag's bit is set when its name appears in the inputs, optionally followed by {@code 'true'} or {@code 'false'}.<br>
+ * All of a group's flags found in one {@link ParameterSet} parse call are merged into a single bit set and the group's setter is called once
+ * with it, after all of the inputs have been parsed.  Groups of up to 64 flags can use a {@link LongConsumer} mask setter which
+ * does not allocate, larger groups pass a {@code long[]} bit set (bit {@code i} is {@code (bits[i >>> 6] & (1L << i)) != 0}, see {@link #isSet(long[], int)}).<br>
+ * Create groups using {@link ParameterBuilder#newFlagGroup()}.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ * @param <T> the parameter's name type
+ */
+public final class FlagGroup<T extends CharSequence> implements ParameterData<T, long[]>, AccumulatingParameter {
+	private final List<T> flagNames;
+	private final List<List<T>> flagAliases;
+	private final List<String> flagHelpMsgs;
+	/** all of the names after the first flag's name, see {@link #getAliases()} */
+	private final List<T> aliases;
+	/** every name and alias of every flag */
+	private final NameIndex names;
+	/** the flag (bit index) of each name in {@link #names} */
+	private final int[] nameFlags;
+	private final String helpMsg;
+	private final LongConsumer maskSetter;
+	private final Consumer<long[]> setter;
+	private final Predicate<long[]> validator;
+	private final Function<long[], String> validatorMsgGenerator;
+
+
+	private FlagGroup(Builder<T> builder) {
+		int count = builder.flagNames.size();
+		List<List<T>> flagAliases = new ArrayList<>(count);
+		List<T> aliases = new ArrayList<>();
+		List<String> nameStrs = new ArrayList<>();
+		int[] nameFlags = new int[builder.nameCount];
+		for(int i = 0; i < count; i++) {
+			T name = builder.flagNames.get(i);
+			List<T> flagAlias = builder.flagAliases.get(i);
+			flagAliases.add(Collections.unmodifiableList(flagAlias));
+			if(i > 0) {
+				aliases.add(name);
+			}
+			aliases.addAll(flagAlias);
+			nameFlags[nameStrs.size()] = i;
+			nameStrs.add(name.toString());
+			for(T alias : flagAlias) {
+				nameFlags[nameStrs.size()] = i;
+				nameStrs.add(alias.toString());
+			}
+		}
+		this.flagNames = Collections.unmodifiableList(new ArrayList<>(builder.flagNames));
+		this.flagAliases = Collections.unmodifiableList(flagAliases);
+		this.flagHelpMsgs = Collections.unmodifiableList(new ArrayList<>(builder.flagHelpMsgs));
+		this.aliases = Collections.unmodifiableList(aliases);
+		this.names = new NameIndex(nameStrs);
+		this.nameFlags = nameFlags;
+		this.helpMsg = builder.helpMsg;
+		this.maskSetter = builder.maskSetter;
+		this.setter = builder.setter;
+		this.validator = builder.validator;
+		this.validatorMsgGenerator = builder.validatorMsgGenerator;
+	}
+
+
+	/**
+	 * @return the number of flags in this group, the size of the bit set is {@code (getFlagCount() + 63) / 64} longs
+	 */
+	public int getFlagCount() {
+		return flagNames.size();
+	}
+
+
+	/**
+	 * @param flag the flag's bit index, the order in which it was added to the group's builder
+	 * @return the flag's primary name
+	 */
+	public T getFlagName(int flag) {
+		return flagNames.get(flag);
+	}
+
+
+	public List<T> getFlagAliases(int flag) {
+		return flagAliases.get(flag);
+	}
+
+
+	public String getFlagHelpMessage(int flag) {
+		return flagHelpMsgs.get(flag);
+	}
+
+
+	/**
+	 * @param name a flag's name or alias
+	 * @return the flag's bit index or -1 if the name is not a name of any flag in this group
+	 */
+	public int getFlag(CharSequence name) {
+		int nameIdx = names.indexOf(name);
+		return nameIdx > -1 ? nameFlags[nameIdx] : -1;
+	}
+
+
+	@Override
+	public ParameterType getParameterType() {
+		return ParameterType.FLAG;
+	}
+
+
+	@Override
+	public boolean isParameterArrayType() {
+		return false;
+	}
+
+
+	@Override
+	public Map<String, long[]> getEnumMap() {
+		return null;
+	}
+
+
+	/**
+	 * @return the first flag's name
+	 */
+	@Override
+	public T getPrimaryName() {
+		return flagNames.get(0);
+	}
+
+
+	/**
+	 * @return the names of all of the flags in this group, except the first flag's name, and their aliases
+	 */
+	@Override
+	public List<T> getAliases() {
+		return aliases;
+	}
+
+
+	@Override
+	public boolean isParameterName(T inputName) {
+		return getFlag(inputName) > -1;
+	}
+
+
+	/**
+	 * @return the help message describing the group, may be null, each flag also has its own {@link #getFlagHelpMessage(int) help message}
+	 */
+	@Override
+	public String getHelpMessage() {
+		return helpMsg;
+	}
+
+
+	@Override
+	public String getRequestParameterMessage() {
+		return null;
+	}
+
+
+	@Override
+	public boolean isRequired() {
+		return false;
+	}
+
+
+	/**
+	 * @return the bit set setter, null if this group uses a {@link #getMaskSetter() mask setter}
+	 */
+	@Override
+	public Consumer<long[]> getSetter() {
+		return setter;
+	}
+
+
+	/**
+	 * @return the setter which receives the bit set of groups of 64 or fewer flags as a single {@code long}, may be null
+	 */
+	public LongConsumer getMaskSetter() {
+		return maskSetter;
+	}
+
+
+	@Override
+	public Predicate<long[]> getValidator() {
+		return validator;
+	}
+
+
+	@Override
+	public Function<long[], String> getValidatorMessageGenerator() {
+		return validatorMsgGenerator;
+	}
+
+
+	/** Parse a single flag and call this group's setter with only that flag's bit set (or no bits set if the flag's value is 'false')
+	 */
+	@Override
+	public ParameterParserResult parse(T[] inputs) {
+		return parse(inputs, 0, inputs.length);
+	}
+
+
+	@Override
+	public ParameterParserResult parse(T[] inputs, int off, int len) {
+		return finish(accumulate(null, -1, inputs, off, len));
+	}
+
+
+	@Override
+	public boolean isAccumulating() {
+		return true;
+	}
+
+
+	/**
+	 * @return the bit index of the flag with the name
+	 */
+	@Override
+	public int nameKey(CharSequence name) {
+		return getFlag(name);
+	}
+
+
+	@Override
+	public ParameterParserResult accumulate(ParameterParserResult prev, int nameKey, CharSequence[] inputs, int off, int len) {
+		if(prev != null && prev.isError()) {
+			return prev;
+		}
+		CharSequence name = inputs[off];
+		int flag = nameKey > -1 ? nameKey : getFlag(name);
+		if(flag < 0) {
+			throw new IllegalArgumentException("unknown argument name '" + name + "'");
+		}
+		boolean value = true;
+		if(len == 2) {
+			CharSequence str = inputs[off + 1];
+			if(regionEquals(str, "false")) {
+				value = false;
+			}
+			else if(!regionEquals(str, "true")) {
+				return inputError(1, () -> "parameter: " + name + ", unkown argument '" + str + "', expected type " + ParameterType.FLAG);
+			}
+		}
+		else if(len != 1) {
+			return inputError(-1, () -> "parameter: " + name + ", expected zero or one argument of type " + ParameterType.FLAG + ", found " + (len - 1));
+		}
+
+		ParameterParserResult result = prev != null ? prev : new ParameterParserResult(ParameterType.FLAG, new long[(flagNames.size() + 63) >>> 6], false);
+		long[] bits = result.getFlagBits();
+		if(value) {
+			bits[flag >>> 6] |= (1L << flag);
+		}
+		else {
+			bits[flag >>> 6] &= ~(1L << flag);
+		}
+		return result;
+	}
+
+
+	@Override
+	public ParameterParserResult finish(ParameterParserResult result) {
+		if(result.isError()) {
+			return result;
+		}
+		long[] bits = result.getFlagBits();
+		if(validator != null) {
+			try {
+				if(!validator.test(bits)) {
+					String message = null;
+					if(validatorMsgGenerator != null) {
+						try {
+							message = validatorMsgGenerator.apply(bits);
+						} catch(Exception e) {
+							return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.VALIDATOR_MESSAGE_GENERATOR_EXCEPTION, -1,
+									() -> "validator message generator for flag group '" + getPrimaryName() + "' threw an exception", null));
+						}
+					}
+					String msg = message;
+					return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INVALID_PARSED_INPUT, -1,
+							() -> msg != null ? msg : "invalid " + ParameterType.FLAG + " group '" + getPrimaryName() + "' value of " + Arrays.toString(bits),
+							(m) -> new IllegalArgumentException()));
+				}
+			} catch(Exception e) {
+				return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.VALIDATOR_EXCEPTION, -1,
+						() -> "validator for flag group '" + getPrimaryName() + "' threw an exception", (m) -> e));
+			}
+		}
+
+		try {
+			if(maskSetter != null) {
+				maskSetter.accept(bits[0]);
+			}
+			else if(setter != null) {
+				setter.accept(bits);
+			}
+		} catch(Exception e) {
+			return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.SETTER_EXCEPTION, -1,
+					() -> "flag group: " + getPrimaryName() + ", error calling setter with " + Arrays.toString(bits), (m) -> new RuntimeException(m, e)));
+		}
+		return result;
+	}
+
+
+	@Override
+	public String toString() {
+		return "FlagGroup" + flagNames;
+	}
+
+
+	/**
+	 * @return true if the flag's bit is set in the bit set
+	 */
+	public static boolean isSet(long[] bits, int flag) {
+		return (bits[flag >>> 6] & (1L << flag)) != 0;
+	}
+
+
+	/** An input error whose message is formatted when it is first requested
+	 */
+	private static ParameterParserResult inputError(int inputOffset, Supplier<String> messageFormatter) {
+		return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INPUT_PARSING_EXCEPTION, inputOffset, messageFormatter, IllegalArgumentException::new));
+	}
+
+
+	private static boolean regionEquals(CharSequence str, String expect) {
+		int len = expect.length();
+		if(str.length() != len) {
+			return false;
+		}
+		for(int i = 0; i < len; i++) {
+			if(str.charAt(i) != expect.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+
+
+	/** A builder for {@link FlagGroup} parameters, flags are assigned bit indexes in the order they are added
+	 * @param <T> the parameter's name type
+	 */
+	public static final class Builder<T extends CharSequence> {
+		private final List<T> flagNames = new ArrayList<>();
+		private final List<List<T>> flagAliases = new ArrayList<>();
+		private final List<String> flagHelpMsgs = new ArrayList<>();
+		private int nameCount;
+		private String helpMsg;
+		private LongConsumer maskSetter;
+		private Consumer<long[]> setter;
+		private Predicate<long[]> validator;
+		private Function<long[], String> validatorMsgGenerator;
+
+
+		/** Add a flag to the group, its bit index is the number of flags added before it
+		 * @param name the flag's name
+		 * @param helpMsg the flag's help message
+		 * @param aliases the flag's aliases
+		 * @return this builder
+		 */
+		@SafeVarargs
+		public final Builder<T> addFlag(T name, String helpMsg, T... aliases) {
+			if(name == null) {
+				throw new IllegalArgumentException("flag name cannot be null");
+			}
+			// copied without Arrays.asList() so that the varargs array does not escape this method
+			List<T> aliasList = new ArrayList<>(aliases.length);
+			for(T alias : aliases) {
+				aliasList.add(alias);
+			}
+			flagNames.add(name);
+			flagAliases.add(aliasList);
+			flagHelpMsgs.add(helpMsg);
+			nameCount += 1 + aliases.length;
+			return this;
+		}
+
+
+		public Builder<T> setHelpMessage(CharSequence helpMessage) {
+			this.helpMsg = helpMessage != null ? helpMessage.toString() : null;
+			return this;
+		}
+
+
+		/** Set the setter of a group of 64 or fewer flags, called with a mask of the flags found in the inputs, bit {@code i} is flag {@code i}
+		 */
+		public Builder<T> setMaskSetter(LongConsumer maskSetter) {
+			this.maskSetter = maskSetter;
+			return this;
+		}
+
+
+		/** Set the setter which is called with the bit set of the flags found in the inputs, the array is not reused by the group
+		 */
+		public Builder<T> setSetter(Consumer<long[]> setter) {
+			this.setter = setter;
+			return this;
+		}
+
+
+		/** Set a validator which is called with the bit set of the flags found in the inputs before the setter is called,
+		 * for example to reject mutually exclusive flags
+		 */
+		public Builder<T> setValidator(Predicate<long[]> validator) {
+			this.validator = validator;
+			return this;
+		}
+
+
+		public Builder<T> setValidatorMessageGenerator(Function<long[], String> validatorMessageGenerator) {
+			this.validatorMsgGenerator = validatorMessageGenerator;
+			return this;
+		}
+
+
+		/**
+		 * @throws IllegalArgumentException if the group has no flags, a mask setter and more than 64 flags, both setters, or duplicate names
+		 */
+		public FlagGroup<T> build() {
+			if(flagNames.isEmpty()) {
+				throw new IllegalArgumentException("a flag group must contain at least one flag");
+			}
+			if(maskSetter != null && setter != null) {
+				throw new IllegalArgumentException("flag group '" + flagNames.get(0) + "' cannot have a mask setter and a bit set setter");
+			}
+			if(maskSetter != null && flagNames.size() > 64) {
+				throw new IllegalArgumentException("flag group '" + flagNames.get(0) + "' has " + flagNames.size() + " flags, a mask setter can only be used with 64 or fewer flags");
+			}
+			return new FlagGroup<>(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,121 @@
+package twg2.cli;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/** A lock-free histogram of non-negative values, such as latencies in nanoseconds, with log-linear buckets similar to an HDR histogram.
+ * Values below {@link #SUB_BUCKET_COUNT} have their own bucket, larger values share a bucket with values that have the same
+ * highest bit and the same {@link #SUB_BUCKET_BITS} bits after it, so values at a percentile are reported within 12.5% of the recorded values.
+ * Recording a value is an array index computation and three atomic updates, reads do not block writers.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class LatencyHistogram {
+	static final int SUB_BUCKET_BITS = 3;
+	static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+
+	/**
+	 * @param value the value to record, negative values are recorded as 0
+	 */
+	public void record(long value) {
+		if(value < 0) {
+			value = 0;
+		}
+		buckets.incrementAndGet(bucketIndex(value));
+		count.increment();
+		total.add(value);
+		max.accumulate(value);
+	}
+
+
+	public long getCount() {
+		return count.sum();
+	}
+
+
+	/**
+	 * @return the sum of the recorded values
+	 */
+	public long getTotal() {
+		return total.sum();
+	}
+
+
+	public long getMax() {
+		return max.get();
+	}
+
+
+	public double getMean() {
+		long n = count.sum();
+		return n > 0 ? (double)total.sum() / n : 0;
+	}
+
+
+	/**
+	 * @param percentile the percentile, between 0 and 100
+	 * @return the highest value in the bucket containing the value at the percentile (but no more than {@link #getMax()}),
+	 * 0 if no values have been recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if(percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+		}
+		long[] counts = new long[BUCKET_COUNT];
+		long n = 0;
+		for(int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] = buckets.get(i);
+			n += counts[i];
+		}
+		if(n == 0) {
+			return 0;
+		}
+		long rank = Math.max((long)Math.ceil(percentile / 100 * n), 1);
+		long seen = 0;
+		for(int i = 0; i < BUCKET_COUNT; i++) {
+			seen += counts[i];
+			if(seen >= rank) {
+				return Math.min(bucketMaxValue(i), max.get());
+			}
+		}
+		return max.get();
+	}
+
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram: { count: " + getCount() + ", mean: " + (long)getMean() + ", p50: " + getValueAtPercentile(50) +
+				", p99: " + getValueAtPercentile(99) + ", max: " + getMax() + " }";
+	}
+
+
+	static int bucketIndex(long value) {
+		if(value < SUB_BUCKET_COUNT) {
+			return (int)value;
+		}
+		int highBit = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int)(value >>> (highBit - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+		return (highBit - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+
+	static long bucketMaxValue(int index) {
+		if(index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int highBit = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+		long subBucket = index % SUB_BUCKET_COUNT;
+		int shift = highBit - SUB_BUCKET_BITS;
+		long min = (SUB_BUCKET_COUNT + subBucket) << shift;
+		return min + (1L << shift) - 1;
+	}
+
+}
@@ -0,0 +1,228 @@
+package twg2.cli;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+/** An immutable perfect hash index of unique names, built using 'hash and displace'.
+ * Names are hashed by content so any {@link CharSequence} range (a {@link String}, {@link java.nio.CharBuffer},
+ * or {@link ParameterTokenizer} token span) can be looked up.  Each name hashes to a bucket and each bucket
+ * has a seed, chosen when the index is built, which places all of the bucket's names in distinct slots.
+ * A lookup computes one hash, probes one slot, and rejects unknown names using the slot name's length and first character
+ * before comparing the remaining characters.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+final class NameIndex {
+	/** the maximum number of seeds to try for a bucket before growing the slot table */
+	private static final int MAX_SEED_ATTEMPTS = 1 << 12;
+	private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+	private final String[] slotNames;
+	private final int[] slotIndexes;
+	private final long[] seeds;
+	private final int slotMask;
+	private final int bucketMask;
+	private final int size;
+
+
+	/**
+	 * @param names the unique names to index, a name's index in this list is returned by {@link #indexOf(CharSequence, int, int)}
+	 * @throws IllegalArgumentException if {@code names} contains duplicates or nulls
+	 */
+	NameIndex(List<String> names) {
+		int count = names.size();
+		long[] hashes = new long[count];
+		HashSet<String> uniqueNames = new HashSet<>();
+		for(int i = 0; i < count; i++) {
+			String name = names.get(i);
+			if(name == null) {
+				throw new IllegalArgumentException("null name at index " + i);
+			}
+			if(!uniqueNames.add(name)) {
+				throw new IllegalArgumentException("duplicate name '" + name + "'");
+			}
+			hashes[i] = hash(name, 0, name.length());
+		}
+
+		int bucketCount = tableSizeFor(Math.max(1, (count + 1) >>> 1));
+		int slotCount = tableSizeFor(count + (count >>> 2) + 1);
+		String[] slotNames;
+		int[] slotIndexes;
+		long[] seeds;
+		while(true) {
+			slotNames = new String[slotCount];
+			slotIndexes = new int[slotCount];
+			seeds = new long[bucketCount];
+			if(tryPlace(names, hashes, bucketCount - 1, slotCount - 1, slotNames, slotIndexes, seeds)) {
+				break;
+			}
+			if(slotCount >= (1 << 30) / 4 || slotCount > count * 64) {
+				throw new IllegalArgumentException("could not build a name index for " + count + " names");
+			}
+			slotCount <<= 1;
+		}
+
+		this.slotNames = slotNames;
+		this.slotIndexes = slotIndexes;
+		this.seeds = seeds;
+		this.slotMask = slotCount - 1;
+		this.bucketMask = bucketCount - 1;
+		this.size = count;
+	}
+
+
+	/**
+	 * @return the number of names in this index
+	 */
+	public int size() {
+		return size;
+	}
+
+
+	/**
+	 * @param name the name to lookup, may be null
+	 * @return the index of the name or -1 if the name is null or not in this index
+	 */
+	public int indexOf(CharSequence name) {
+		return name != null ? indexOf(name, 0, name.length()) : -1;
+	}
+
+
+	/**
+	 * @param src the characters containing the name to lookup
+	 * @param off the offset into {@code src} of the first character of the name
+	 * @param end the offset into {@code src} of the character after the last character of the name
+	 * @return the index of the name or -1 if the name is not in this index
+	 */
+	public int indexOf(CharSequence src, int off, int end) {
+		long hash = hash(src, off, end);
+		int slot = slotOf(hash, seeds[bucketOf(hash, bucketMask)], slotMask);
+		String name = slotNames[slot];
+		int len = end - off;
+		if(name == null || name.length() != len || (len > 0 && name.charAt(0) != src.charAt(off))) {
+			return -1;
+		}
+		for(int i = 1; i < len; i++) {
+			if(name.charAt(i) != src.charAt(off + i)) {
+				return -1;
+			}
+		}
+		return slotIndexes[slot];
+	}
+
+
+	/** Place each bucket's names, largest buckets first, by searching for a seed which maps all of the bucket's names to empty slots
+	 * @return true if all names were placed, false if a bucket could not be placed and the slot table should be larger
+	 */
+	private static boolean tryPlace(List<String> names, long[] hashes, int bucketMask, int slotMask,
+			String[] slotNames, int[] slotIndexes, long[] seeds) {
+		int count = hashes.length;
+		int bucketCount = bucketMask + 1;
+
+		// group name indexes by bucket (counting sort)
+		int[] bucketStarts = new int[bucketCount + 1];
+		for(int i = 0; i < count; i++) {
+			bucketStarts[bucketOf(hashes[i], bucketMask) + 1]++;
+		}
+		for(int b = 0; b < bucketCount; b++) {
+			bucketStarts[b + 1] += bucketStarts[b];
+		}
+		int[] bucketNames = new int[count];
+		int[] bucketFill = Arrays.copyOf(bucketStarts, bucketCount);
+		for(int i = 0; i < count; i++) {
+			bucketNames[bucketFill[bucketOf(hashes[i], bucketMask)]++] = i;
+		}
+
+		// order buckets by size, largest first (boxed sort is acceptable, this only runs when the index is built)
+		Integer[] bucketOrder = new Integer[bucketCount];
+		for(int b = 0; b < bucketCount; b++) {
+			bucketOrder[b] = b;
+		}
+		Arrays.sort(bucketOrder, (b1, b2) -> (bucketStarts[b2 + 1] - bucketStarts[b2]) - (bucketStarts[b1 + 1] - bucketStarts[b1]));
+
+		int[] bucketSlots = new int[count];
+		for(Integer bucket : bucketOrder) {
+			int start = bucketStarts[bucket];
+			int bucketSize = bucketStarts[bucket + 1] - start;
+			if(bucketSize == 0) {
+				break;
+			}
+			long seed = 0;
+			int attempts = 1;
+			while(!trySeed(hashes, bucketNames, start, bucketSize, seed, slotMask, slotNames, bucketSlots)) {
+				if(attempts++ >= MAX_SEED_ATTEMPTS) {
+					return false;
+				}
+				seed += SEED_INCREMENT;
+			}
+			seeds[bucket] = seed;
+			for(int j = 0; j < bucketSize; j++) {
+				int nameIdx = bucketNames[start + j];
+				slotNames[bucketSlots[j]] = names.get(nameIdx);
+				slotIndexes[bucketSlots[j]] = nameIdx;
+			}
+		}
+		return true;
+	}
+
+
+	/** Check whether a seed maps each of a bucket's names to a distinct empty slot
+	 * @param bucketSlots filled with the slot of each of the bucket's names
+	 */
+	private static boolean trySeed(long[] hashes, int[] bucketNames, int start, int bucketSize, long seed, int slotMask,
+			String[] slotNames, int[] bucketSlots) {
+		for(int j = 0; j < bucketSize; j++) {
+			int slot = slotOf(hashes[bucketNames[start + j]], seed, slotMask);
+			if(slotNames[slot] != null || contains(bucketSlots, 0, j, slot)) {
+				return false;
+			}
+			bucketSlots[j] = slot;
+		}
+		return true;
+	}
+
+
+	private static boolean contains(int[] ary, int off, int end, int value) {
+		for(int i = off; i < end; i++) {
+			if(ary[i] == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+
+	private static int bucketOf(long hash, int bucketMask) {
+		// FNV-1a's upper bits vary little between names which only differ in their last character, so mix them first
+		long h = (hash ^ (hash >>> 29)) * 0x9E3779B97F4A7C15L;
+		return (int)(h >>> 32) & bucketMask;
+	}
+
+
+	private static int slotOf(long hash, long seed, int slotMask) {
+		// SplitMix64 finalizer
+		long h = hash + seed;
+		h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+		h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+		return (int)(h ^ (h >>> 31)) & slotMask;
+	}
+
+
+	/** 64-bit FNV-1a hash of a range of characters
+	 */
+	static long hash(CharSequence src, int off, int end) {
+		long h = 0xCBF29CE484222325L;
+		for(int i = off; i < end; i++) {
+			h = (h ^ src.charAt(i)) * 0x100000001B3L;
+		}
+		return h;
+	}
+
+
+	private static int tableSizeFor(int n) {
+		int size = Integer.highestOneBit(Math.max(1, n));
+		return size < n ? size << 1 : size;
+	}
+
+}
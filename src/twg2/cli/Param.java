@@ -0,0 +1,53 @@
+package twg2.cli;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Marks a field, single argument setter method, or constructor parameter as a command line parameter.
+ * At compile time {@link ParamProcessor} generates a {@code <ClassName>Parameters} class, in the same package as the
+ * annotated class, with a {@code newParameterSet(target)} factory which builds the parameters using direct field
+ * assignments and setter calls, no reflection or lambdas, and a precomputed help message.<br>
+ * Supported types: {@code int}, {@code float}, {@code boolean}, {@code long}, {@code double} and their boxed types,
+ * {@link String}, {@link java.nio.file.Path}, {@link java.time.Duration}, {@link java.net.URI}, enums,
+ * and {@code int[]}, {@code float[]}, {@code boolean[]}, {@code String[]}, and {@code Path[]} arrays.
+ * Annotated fields and methods, and their class, cannot be private.<br>
+ * Classes which are not compiled with the processor can be bound at runtime using {@link ParamBinder}, which also supports
+ * annotated constructor parameters.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER })
+public @interface Param {
+
+	/**
+	 * @return the parameter's primary name, defaults to {@code '-'} followed by the field name or the setter's property name
+	 * (e.g. {@code setLoops()} is {@code "-loops"})
+	 */
+	String name() default "";
+
+	/**
+	 * @return the parameter's alias names
+	 */
+	String[] aliases() default {};
+
+	/**
+	 * @return whether the parameter is required
+	 */
+	boolean required() default false;
+
+	/**
+	 * @return the parameter's help message
+	 */
+	String help() default "";
+
+	/**
+	 * @return the message to print when requesting the parameter interactively, if empty no request message is set
+	 */
+	String requestMessage() default "";
+
+}
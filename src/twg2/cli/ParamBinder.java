@@ -0,0 +1,424 @@
+package twg2.cli;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+
+/** Binds command line arguments to a class' {@link Param} annotated fields, setters, or constructor parameters at runtime,
+ * for tools which cannot run {@link ParamProcessor}.<br>
+ * A class is scanned once, the first time {@link #of(Class)} is called for it, and the binder is cached in a {@link ClassValue}.
+ * The binder owns a {@link ParameterSet} whose setters do nothing, values are read from the {@link ParseOutcome} after parsing and
+ * applied using setters created once by {@link LambdaMetafactory} (setter methods) or {@link MethodHandle}s (fields and constructors),
+ * so repeated binds only cost the parse itself and the setter calls.<br>
+ * A class whose constructor parameters are all annotated with {@link Param} is constructor bound (the equivalent of a record's
+ * canonical constructor), {@link #create(String[], Appendable)} parses the arguments and then calls the constructor once with all of the values,
+ * missing values are passed as null, or zero/false for primitive parameters.
+ * Constructor parameter names default to {@code '-'} followed by the parameter name if the class was compiled with {@code -parameters}.<br>
+ * Binders are thread safe.
+ * @param <T> the bound type
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class ParamBinder<T> {
+	private static final ClassValue<AtomicReference<ParamBinder<?>>> BINDERS = new ClassValue<AtomicReference<ParamBinder<?>>>() {
+		@Override
+		protected AtomicReference<ParamBinder<?>> computeValue(Class<?> type) {
+			return new AtomicReference<>();
+		}
+	};
+
+	private final Class<T> type;
+	private final ParameterSet<String> paramSet;
+	/** the setter of each parameter, by ordinal, null for the help parameter and for constructor bound parameters */
+	private final BiConsumer<Object, Object>[] setters;
+	/** the value passed to the constructor for each constructor parameter which was not found in the arguments */
+	private final Object[] defaultValues;
+	/** {@code Object (Object[])}, null if this binder is not constructor bound */
+	private final MethodHandle constructor;
+	/** {@code Object ()}, the no argument constructor used by {@link #create(String[], Appendable)} for setter bound classes, may be null */
+	private final MethodHandle noArgConstructor;
+	private final ThreadLocal<ParseOutcome<String>> outcomes;
+
+
+	private ParamBinder(Class<T> type, MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+		this.type = type;
+		List<ParameterData<String, ?>> params = new ArrayList<>();
+		List<BiConsumer<Object, Object>> setterList = new ArrayList<>();
+
+		Constructor<?> boundCtor = findBoundConstructor(type);
+		if(boundCtor != null) {
+			Parameter[] ctorParams = boundCtor.getParameters();
+			this.defaultValues = new Object[ctorParams.length];
+			for(int i = 0; i < ctorParams.length; i++) {
+				Parameter ctorParam = ctorParams[i];
+				String property = ctorParam.isNamePresent() ? ctorParam.getName() : null;
+				params.add(newParameter(ctorParam, property, ctorParam.getType()));
+				setterList.add(null);
+				defaultValues[i] = ctorParam.getType().isPrimitive() ? Array.get(Array.newInstance(ctorParam.getType(), 1), 0) : null;
+			}
+			MethodHandle ctor = lookup.unreflectConstructor(boundCtor);
+			this.constructor = ctor.asSpreader(Object[].class, ctorParams.length).asType(MethodType.methodType(Object.class, Object[].class));
+			this.noArgConstructor = null;
+		}
+		else {
+			List<Class<?>> hierarchy = new ArrayList<>();
+			for(Class<?> cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+				hierarchy.add(0, cls);
+			}
+			for(Class<?> cls : hierarchy) {
+				for(Field field : cls.getDeclaredFields()) {
+					if(field.isAnnotationPresent(Param.class)) {
+						checkMember(field, field.getModifiers());
+						if(Modifier.isFinal(field.getModifiers())) {
+							throw new IllegalArgumentException("@Param field '" + field + "' cannot be final");
+						}
+						params.add(newParameter(field, field.getName(), field.getType()));
+						setterList.add(fieldSetter(lookup.unreflectSetter(field)));
+					}
+				}
+				for(Method method : cls.getDeclaredMethods()) {
+					if(method.isAnnotationPresent(Param.class)) {
+						checkMember(method, method.getModifiers());
+						if(method.getParameterCount() != 1) {
+							throw new IllegalArgumentException("@Param method '" + method + "' must be a setter with one parameter");
+						}
+						String name = method.getName();
+						String property = name.startsWith("set") && name.length() > 3 ? Character.toLowerCase(name.charAt(3)) + name.substring(4) : name;
+						params.add(newParameter(method, property, method.getParameterTypes()[0]));
+						setterList.add(methodSetter(lookup, method));
+					}
+				}
+			}
+			this.defaultValues = null;
+			this.constructor = null;
+			MethodHandle noArgCtor = null;
+			try {
+				noArgCtor = lookup.findConstructor(type, MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class));
+			} catch(NoSuchMethodException | IllegalAccessException e) {
+				// create() is not supported, bind() can still be used with an existing instance
+			}
+			this.noArgConstructor = noArgCtor;
+		}
+
+		if(params.isEmpty()) {
+			throw new IllegalArgumentException("class " + type.getName() + " does not contain any @Param fields, setters, or constructor parameters");
+		}
+		this.paramSet = ParameterSet.newParameterSet(params, true, ParamProcessor.HELP_PARAM_NAME);
+		@SuppressWarnings("unchecked")
+		BiConsumer<Object, Object>[] setterAry = (BiConsumer<Object, Object>[])setterList.toArray(new BiConsumer<?, ?>[paramSet.getParameterCount()]);
+		this.setters = setterAry;
+		this.outcomes = ThreadLocal.withInitial(paramSet::newOutcome);
+	}
+
+
+	/** Get the binder for a class, the class and its {@link Param} annotated members must be public
+	 * @see #of(Class, MethodHandles.Lookup)
+	 */
+	public static <T> ParamBinder<T> of(Class<T> type) {
+		return of(type, MethodHandles.lookup());
+	}
+
+
+	/** Get the binder for a class, creating it the first time the class is bound
+	 * @param type the class to bind
+	 * @param lookup a lookup which can access the class' {@link Param} annotated members, e.g. {@code MethodHandles.lookup()} from
+	 * within the class' package.  Only used the first time a class is bound
+	 * @throws IllegalArgumentException if the class does not contain any {@link Param} annotations, uses an unsupported type, or
+	 * the annotated members cannot be accessed
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ParamBinder<T> of(Class<T> type, MethodHandles.Lookup lookup) {
+		AtomicReference<ParamBinder<?>> ref = BINDERS.get(type);
+		ParamBinder<?> binder = ref.get();
+		if(binder == null) {
+			try {
+				binder = new ParamBinder<>(type, lookup);
+			} catch(ReflectiveOperationException e) {
+				throw new IllegalArgumentException("cannot bind class " + type.getName() + ": " + e.getMessage(), e);
+			}
+			if(!ref.compareAndSet(null, binder)) {
+				binder = ref.get();
+			}
+		}
+		return (ParamBinder<T>)binder;
+	}
+
+
+	public Class<T> getType() {
+		return type;
+	}
+
+
+	/**
+	 * @return the parameter set used to parse arguments, it includes a {@code "-help"} parameter
+	 */
+	public ParameterSet<String> getParameterSet() {
+		return paramSet;
+	}
+
+
+	/**
+	 * @return true if values are passed to the class' constructor, false if values are assigned to fields and setters
+	 */
+	public boolean isConstructorBound() {
+		return constructor != null;
+	}
+
+
+	/** Parse arguments and assign the values found to a target's fields and setters, parameters not found in the arguments are not assigned
+	 * @param args the arguments to parse
+	 * @param output where to print the help message if the help parameter is parsed, may be null
+	 * @param target the object to assign values to
+	 * @return {@code target}
+	 * @throws IllegalArgumentException if an argument is invalid or a required parameter is missing
+	 * @throws IllegalStateException if this binder is constructor bound
+	 */
+	public T bind(String[] args, Appendable output, T target) {
+		if(constructor != null) {
+			throw new IllegalStateException("class " + type.getName() + " is constructor bound, use create()");
+		}
+		ParseOutcome<String> outcome = parse(args, output);
+		for(int i = 0, count = outcome.getSeenCount(); i < count; i++) {
+			int ordinal = outcome.getSeenOrdinal(i);
+			BiConsumer<Object, Object> setter = setters[ordinal];
+			if(setter != null) {
+				setter.accept(target, outcome.getResult(ordinal).getParseResult());
+			}
+		}
+		outcome.reset();
+		return target;
+	}
+
+
+	/** Parse arguments and create an instance, using the constructor for constructor bound classes, else the
+	 * no argument constructor and {@link #bind(String[], Appendable, Object)}
+	 * @param args the arguments to parse
+	 * @param output where to print the help message if the help parameter is parsed, may be null
+	 * @return the new instance
+	 * @throws IllegalArgumentException if an argument is invalid or a required parameter is missing
+	 * @throws IllegalStateException if the class is not constructor bound and does not have an accessible no argument constructor
+	 */
+	public T create(String[] args, Appendable output) {
+		if(constructor == null) {
+			if(noArgConstructor == null) {
+				throw new IllegalStateException("class " + type.getName() + " does not have an accessible no argument constructor, use bind()");
+			}
+			return bind(args, output, type.cast(invoke(noArgConstructor, null)));
+		}
+		ParseOutcome<String> outcome = parse(args, output);
+		Object[] values = defaultValues.clone();
+		for(int i = 0, count = outcome.getSeenCount(); i < count; i++) {
+			int ordinal = outcome.getSeenOrdinal(i);
+			if(ordinal < values.length) {
+				values[ordinal] = outcome.getResult(ordinal).getParseResult();
+			}
+		}
+		outcome.reset();
+		return type.cast(invoke(constructor, values));
+	}
+
+
+	private ParseOutcome<String> parse(String[] args, Appendable output) {
+		ParseOutcome<String> outcome = paramSet.parse(args, 0, output, outcomes.get());
+		for(int i = 0, count = outcome.getSeenCount(); i < count; i++) {
+			ParameterParserResult res = outcome.getResult(outcome.getSeenOrdinal(i));
+			if(res.isError()) {
+				outcome.reset();
+				throw new IllegalArgumentException(res.getParseError().getMessage(), res.getParseError().getCause());
+			}
+		}
+		for(int ordinal = 0, count = paramSet.getParameterCount(); ordinal < count; ordinal++) {
+			ParameterData<String, ?> param = paramSet.getParameter(ordinal);
+			if(param.isRequired() && !outcome.isSeen(ordinal)) {
+				outcome.reset();
+				throw new IllegalArgumentException("missing required parameter '" + param.getPrimaryName() + "'");
+			}
+		}
+		return outcome;
+	}
+
+
+	private static Object invoke(MethodHandle handle, Object[] args) {
+		try {
+			return args != null ? (Object)handle.invokeExact(args) : (Object)handle.invokeExact();
+		} catch(RuntimeException | Error e) {
+			throw e;
+		} catch(Throwable e) {
+			throw new IllegalStateException("error creating bound instance", e);
+		}
+	}
+
+
+	/**
+	 * @return the constructor whose parameters are all annotated with {@link Param}, or null if there is none
+	 */
+	private static Constructor<?> findBoundConstructor(Class<?> type) {
+		Constructor<?> found = null;
+		for(Constructor<?> ctor : type.getDeclaredConstructors()) {
+			Parameter[] ctorParams = ctor.getParameters();
+			if(ctorParams.length == 0 || !Arrays.stream(ctorParams).allMatch((p) -> p.isAnnotationPresent(Param.class))) {
+				continue;
+			}
+			if(found != null) {
+				throw new IllegalArgumentException("class " + type.getName() + " has more than one constructor with @Param parameters");
+			}
+			found = ctor;
+		}
+		return found;
+	}
+
+
+	private static void checkMember(Object member, int modifiers) {
+		if(Modifier.isPrivate(modifiers) || Modifier.isStatic(modifiers)) {
+			throw new IllegalArgumentException("@Param field or method '" + member + "' cannot be private or static");
+		}
+	}
+
+
+	private static BiConsumer<Object, Object> fieldSetter(MethodHandle setter) {
+		MethodHandle handle = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+		return (target, value) -> {
+			try {
+				handle.invokeExact(target, value);
+			} catch(RuntimeException | Error e) {
+				throw e;
+			} catch(Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		};
+	}
+
+
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object> methodSetter(MethodHandles.Lookup lookup, Method method) throws ReflectiveOperationException {
+		MethodHandle impl = lookup.unreflect(method);
+		try {
+			CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+					MethodType.methodType(void.class, Object.class, Object.class), impl,
+					MethodType.methodType(void.class, method.getDeclaringClass(), MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType()));
+			return (BiConsumer<Object, Object>)site.getTarget().invokeExact();
+		} catch(RuntimeException | Error | ReflectiveOperationException e) {
+			throw e;
+		} catch(Throwable e) {
+			throw new IllegalArgumentException("cannot create setter for " + method, e);
+		}
+	}
+
+
+	/** Create a parameter, with setters which do nothing, for a {@link Param} annotated element
+	 * @param elem the annotated field, method, or constructor parameter
+	 * @param property the default name of the parameter without the leading {@code '-'}, null if the annotation must provide a name
+	 * @param valueType the type of value assigned to the element
+	 */
+	private static ParameterData<String, ?> newParameter(AnnotatedElement elem, String property, Class<?> valueType) {
+		Param param = elem.getAnnotation(Param.class);
+		String name = param.name().isEmpty() ? (property != null ? "-" + property : null) : param.name();
+		if(name == null) {
+			throw new IllegalArgumentException("@Param constructor parameter '" + elem + "' must have a name, or the class must be compiled with -parameters");
+		}
+		@SuppressWarnings("unchecked")
+		ParameterBuilder<String, Object> builder = (ParameterBuilder<String, Object>)newBuilder(valueType);
+		if(builder == null) {
+			throw new IllegalArgumentException("unsupported @Param type " + valueType.getName() + " of '" + elem + "'");
+		}
+		builder.setNameAndAliases(name, param.aliases())
+			.setHelpMessage(param.help())
+			.setRequired(param.required())
+			.setSetter(NoOpSetter.INSTANCE);
+		if(!param.requestMessage().isEmpty()) {
+			builder.setRequestParameterMessage(param.requestMessage());
+		}
+		if(valueType == int.class) {
+			builder.setIntSetter(NoOpSetter.INSTANCE);
+		}
+		else if(valueType == float.class) {
+			builder.setFloatSetter(NoOpSetter.INSTANCE);
+		}
+		else if(valueType == boolean.class) {
+			builder.setFlagSetter(NoOpSetter.INSTANCE);
+		}
+		return builder.build();
+	}
+
+
+	/**
+	 * @return a builder for the type, or null if the type is not supported, see {@link Param}
+	 */
+	private static ParameterBuilder<String, ?> newBuilder(Class<?> type) {
+		if(type == int.class || type == Integer.class) { return ParameterBuilder.newInteger(); }
+		if(type == float.class || type == Float.class) { return ParameterBuilder.newFloat(); }
+		if(type == boolean.class || type == Boolean.class) { return ParameterBuilder.newFlag(); }
+		if(type == long.class || type == Long.class) { return ParameterBuilder.newLong(); }
+		if(type == double.class || type == Double.class) { return ParameterBuilder.newDouble(); }
+		if(type == String.class) { return ParameterBuilder.newText(); }
+		if(type == Path.class) { return ParameterBuilder.newPath(); }
+		if(type == Duration.class) { return ParameterBuilder.newDuration(); }
+		if(type == URI.class) { return ParameterBuilder.newUri(); }
+		if(type == int[].class) { return ParameterBuilder.newIntegerArray(); }
+		if(type == float[].class) { return ParameterBuilder.newFloatArray(); }
+		if(type == boolean[].class) { return ParameterBuilder.newFlagArray(); }
+		if(type == String[].class) { return ParameterBuilder.newTextArray(); }
+		if(type == Path[].class) { return ParameterBuilder.newPathArray(); }
+		if(type.isEnum()) {
+			return newEnumBuilder(type);
+		}
+		return null;
+	}
+
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static ParameterBuilder<String, ?> newEnumBuilder(Class<?> enumType) {
+		return ParameterBuilder.newEnum((Class<Enum>)enumType);
+	}
+
+
+
+
+	/** The setter of every bound parameter, values are read from the parse outcome instead
+	 */
+	private static final class NoOpSetter implements Consumer<Object>, IntConsumer, DoubleConsumer, BooleanConsumer {
+		static final NoOpSetter INSTANCE = new NoOpSetter();
+
+
+		@Override
+		public void accept(Object value) {
+		}
+
+
+		@Override
+		public void accept(int value) {
+		}
+
+
+		@Override
+		public void accept(double value) {
+		}
+
+
+		@Override
+		public void accept(boolean value) {
+		}
+
+	}
+
+}
@@ -0,0 +1,450 @@
+package twg2.cli;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/** Generates a {@code <ClassName>Parameters} factory class for each class containing {@link Param} annotated fields or setters.
+ * The generated class contains:
+ * <ul>
+ * <li>{@code HELP_MESSAGE}, the help message computed at compile time using the same format as {@link ParameterSet#newParameterSet(List, boolean, String, String...)}</li>
+ * <li>{@code newParameters(target)}, which builds the parameters, each parameter's setter is a case in a single generated
+ * setter class which assigns the field or calls the setter directly, so no reflection, lambda, or method reference bootstrapping is done at startup</li>
+ * <li>{@code newParameterSet(target)}, which creates a {@link ParameterSet} from {@code newParameters()} with a {@code "-help"} parameter</li>
+ * </ul>
+ * Duplicate parameter names and unsupported types are reported as compile errors.
+ * Annotated constructor parameters are ignored, see {@link ParamBinder}.
+ * Nested classes are named by joining the enclosing class names with {@code '_'}, e.g. {@code Outer_InnerParameters}.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+@SupportedAnnotationTypes("twg2.cli.Param")
+public final class ParamProcessor extends AbstractProcessor {
+	static final String HELP_PARAM_NAME = "-help";
+
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		Map<TypeElement, List<ParamInfo>> paramsByType = new LinkedHashMap<>();
+		for(Element elem : roundEnv.getElementsAnnotatedWith(Param.class)) {
+			// constructor parameters are only bound at runtime by ParamBinder
+			if(elem.getKind() == ElementKind.PARAMETER) {
+				continue;
+			}
+			ParamInfo info = toParamInfo(elem);
+			if(info != null) {
+				paramsByType.computeIfAbsent((TypeElement)elem.getEnclosingElement(), (k) -> new ArrayList<>()).add(info);
+			}
+		}
+
+		for(Map.Entry<TypeElement, List<ParamInfo>> entry : paramsByType.entrySet()) {
+			TypeElement type = entry.getKey();
+			if(type.getModifiers().contains(Modifier.PRIVATE)) {
+				error(type, "@Param class cannot be private");
+				continue;
+			}
+			if(checkNames(entry.getValue())) {
+				writeFactory(type, entry.getValue());
+			}
+		}
+		return true;
+	}
+
+
+	private ParamInfo toParamInfo(Element elem) {
+		Param param = elem.getAnnotation(Param.class);
+		Set<Modifier> modifiers = elem.getModifiers();
+		if(modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)) {
+			error(elem, "@Param field or method cannot be private or static");
+			return null;
+		}
+
+		String property;
+		TypeMirror valueType;
+		boolean isField = elem.getKind() == ElementKind.FIELD;
+		if(isField) {
+			if(modifiers.contains(Modifier.FINAL)) {
+				error(elem, "@Param field cannot be final");
+				return null;
+			}
+			property = elem.getSimpleName().toString();
+			valueType = elem.asType();
+		}
+		else {
+			ExecutableElement method = (ExecutableElement)elem;
+			if(method.getParameters().size() != 1) {
+				error(elem, "@Param method must be a setter with one parameter");
+				return null;
+			}
+			String methodName = method.getSimpleName().toString();
+			property = methodName.startsWith("set") && methodName.length() > 3 ?
+					Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4) : methodName;
+			valueType = method.getParameters().get(0).asType();
+		}
+
+		ValueKind kind = toValueKind(valueType);
+		if(kind == null) {
+			error(elem, "unsupported @Param type " + valueType);
+			return null;
+		}
+		String name = param.name().isEmpty() ? "-" + property : param.name();
+		return new ParamInfo(elem, elem.getSimpleName().toString(), isField, name, Arrays.asList(param.aliases()), param.required(),
+				param.help(), param.requestMessage(), valueType.toString(), kind, enumNames(valueType));
+	}
+
+
+	private boolean checkNames(List<ParamInfo> params) {
+		Map<String, ParamInfo> names = new HashMap<>();
+		names.put(HELP_PARAM_NAME, null);
+		boolean valid = true;
+		for(ParamInfo param : params) {
+			List<String> paramNames = new ArrayList<>(param.aliases);
+			paramNames.add(0, param.name);
+			for(String name : paramNames) {
+				if(names.containsKey(name)) {
+					ParamInfo other = names.get(name);
+					error(param.elem, "duplicate parameter name '" + name + "'" + (other != null ? ", also used by '" + other.member + "'" : ", reserved for the help parameter"));
+					valid = false;
+				}
+				names.put(name, param);
+			}
+		}
+		return valid;
+	}
+
+
+	private void writeFactory(TypeElement type, List<ParamInfo> params) {
+		String pkg = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String targetName = type.getQualifiedName().toString();
+		String factoryName = nestedName(type) + "Parameters";
+
+		StringBuilder sb = new StringBuilder();
+		if(!pkg.isEmpty()) {
+			sb.append("package ").append(pkg).append(";\n\n");
+		}
+		sb.append("/** Generated by {@link twg2.cli.ParamProcessor} from {@link ").append(targetName).append("}, do not edit\n */\n");
+		sb.append("public final class ").append(factoryName).append(" {\n");
+		sb.append("\t/** the help message printed by the help parameter of {@link #newParameterSet(").append(targetName).append(")} */\n");
+		sb.append("\tpublic static final String HELP_MESSAGE = ").append(literal(helpMessage(params))).append(";\n\n");
+		sb.append("\tprivate ").append(factoryName).append("() { throw new AssertionError(\"cannot instantiate static class ").append(factoryName).append("\"); }\n\n\n");
+
+		sb.append("\t/** Create the parameters of {@link ").append(targetName).append("}, parsed values are assigned to {@code target}\n\t */\n");
+		sb.append("\tpublic static java.util.List<twg2.cli.ParameterData<String, ?>> newParameters(").append(targetName).append(" target) {\n");
+		sb.append("\t\tjava.util.List<twg2.cli.ParameterData<String, ?>> params = new java.util.ArrayList<>(").append(params.size()).append(");\n");
+		for(int i = 0; i < params.size(); i++) {
+			ParamInfo param = params.get(i);
+			sb.append("\t\tparams.add(twg2.cli.ParameterBuilder.").append(param.kind.builder(param.valueType)).append("\n\t\t\t\t.setNameAndAliases(").append(literal(param.name));
+			for(String alias : param.aliases) {
+				sb.append(", ").append(literal(alias));
+			}
+			sb.append(")\n\t\t\t\t.setHelpMessage(").append(literal(param.help)).append(")");
+			if(!param.requestMessage.isEmpty()) {
+				sb.append("\n\t\t\t\t.setRequestParameterMessage(").append(literal(param.requestMessage)).append(")");
+			}
+			sb.append("\n\t\t\t\t.setRequired(").append(param.required).append(")");
+			sb.append("\n\t\t\t\t.").append(param.kind.setterMethod).append("(")
+				.append(param.kind.channel == Channel.OBJECT ? "Setter.<" + param.kind.boxedType(param.valueType) + ">of(target, " + i + ")" : "new Setter(target, " + i + ")")
+				.append(")\n\t\t\t\t.build());\n");
+		}
+		sb.append("\t\treturn params;\n\t}\n\n\n");
+
+		sb.append("\t/** Create a parameter set containing {@link #newParameters(").append(targetName).append(")} and a '")
+			.append(HELP_PARAM_NAME).append("' parameter which prints {@link #HELP_MESSAGE}\n\t */\n");
+		sb.append("\tpublic static twg2.cli.ParameterSet<String> newParameterSet(").append(targetName).append(" target) {\n");
+		sb.append("\t\treturn new twg2.cli.ParameterSet<String>(newParameters(target), true, ").append(literal(HELP_PARAM_NAME)).append(", HELP_MESSAGE);\n\t}\n\n\n\n\n");
+
+
+		writeSetterClass(sb, targetName, params);
+		sb.append("}\n");
+
+		String qualifiedName = pkg.isEmpty() ? factoryName : pkg + "." + factoryName;
+		try {
+			JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+			try(Writer out = file.openWriter()) {
+				out.write(sb.toString());
+			}
+		} catch(IOException e) {
+			error(type, "error writing " + qualifiedName + ": " + e);
+		}
+	}
+
+
+	private static void writeSetterClass(StringBuilder sb, String targetName, List<ParamInfo> params) {
+		sb.append("\t/** Assigns parsed values to a target, one instance per parameter\n\t */\n");
+		sb.append("\tprivate static final class Setter implements java.util.function.Consumer<Object>, java.util.function.IntConsumer, java.util.function.DoubleConsumer, twg2.cli.BooleanConsumer {\n");
+		sb.append("\t\tprivate final ").append(targetName).append(" target;\n\t\tprivate final int idx;\n\n\n");
+		sb.append("\t\tSetter(").append(targetName).append(" target, int idx) {\n\t\t\tthis.target = target;\n\t\t\tthis.idx = idx;\n\t\t}\n\n\n");
+		sb.append("\t\t@SuppressWarnings(\"unchecked\")\n");
+		sb.append("\t\tstatic <T> java.util.function.Consumer<T> of(").append(targetName).append(" target, int idx) {\n");
+		sb.append("\t\t\treturn (java.util.function.Consumer<T>)(java.util.function.Consumer<?>)new Setter(target, idx);\n\t\t}\n\n\n");
+
+		for(Channel channel : Channel.values()) {
+			sb.append("\t\t@Override\n\t\tpublic void accept(").append(channel.argType).append(" value) {\n\t\t\tswitch(idx) {\n");
+			for(int i = 0; i < params.size(); i++) {
+				ParamInfo param = params.get(i);
+				if(param.kind.channel != channel) {
+					continue;
+				}
+				String value = channel == Channel.OBJECT ? "(" + param.kind.boxedType(param.valueType) + ")value" :
+						(param.kind == ValueKind.FLOAT ? "(float)value" : "value");
+				sb.append("\t\t\tcase ").append(i).append(":\n\t\t\t\t").append(param.isField ?
+						"target." + param.member + " = " + value : "target." + param.member + "(" + value + ")").append(";\n\t\t\t\treturn;\n");
+			}
+			sb.append("\t\t\tdefault:\n\t\t\t\tthrow new IllegalStateException(\"parameter \" + idx + \" does not accept ").append(channel.argType).append(" values\");\n");
+			sb.append("\t\t\t}\n\t\t}\n\n\n");
+		}
+		sb.setLength(sb.length() - 2);
+		sb.append("\t}\n\n");
+	}
+
+
+	/** Compute the help message which {@link ParameterSet#newParameterSet(List, boolean, String, String...)} would create for the parameters
+	 */
+	private static String helpMessage(List<ParamInfo> params) {
+		StringBuilder sb = new StringBuilder(ParameterSet.helpParameterInfo(HELP_PARAM_NAME, null));
+		for(ParamInfo param : params) {
+			sb.append(ParameterSet.parameterInfo(param.name, param.aliases, param.kind.helpTypeName, param.kind.isArray, param.required, param.enumNames, param.help));
+		}
+		sb.append("\n");
+		return sb.toString();
+	}
+
+
+	private static ValueKind toValueKind(TypeMirror type) {
+		switch(type.getKind()) {
+		case INT: return ValueKind.INT;
+		case FLOAT: return ValueKind.FLOAT;
+		case BOOLEAN: return ValueKind.BOOLEAN;
+		case LONG: return ValueKind.LONG;
+		case DOUBLE: return ValueKind.DOUBLE;
+		case ARRAY:
+			TypeMirror component = ((ArrayType)type).getComponentType();
+			switch(component.getKind()) {
+			case INT: return ValueKind.INT_ARRAY;
+			case FLOAT: return ValueKind.FLOAT_ARRAY;
+			case BOOLEAN: return ValueKind.BOOLEAN_ARRAY;
+			case DECLARED:
+				String componentName = ((TypeElement)((DeclaredType)component).asElement()).getQualifiedName().toString();
+				return "java.lang.String".equals(componentName) ? ValueKind.TEXT_ARRAY : ("java.nio.file.Path".equals(componentName) ? ValueKind.PATH_ARRAY : null);
+			default:
+				return null;
+			}
+		case DECLARED:
+			TypeElement elem = (TypeElement)((DeclaredType)type).asElement();
+			if(elem.getKind() == ElementKind.ENUM) {
+				return ValueKind.ENUM;
+			}
+			switch(elem.getQualifiedName().toString()) {
+			case "java.lang.Integer": return ValueKind.INTEGER_BOXED;
+			case "java.lang.Float": return ValueKind.FLOAT_BOXED;
+			case "java.lang.Boolean": return ValueKind.BOOLEAN_BOXED;
+			case "java.lang.Long": return ValueKind.LONG;
+			case "java.lang.Double": return ValueKind.DOUBLE;
+			case "java.lang.String": return ValueKind.TEXT;
+			case "java.nio.file.Path": return ValueKind.PATH;
+			case "java.time.Duration": return ValueKind.DURATION;
+			case "java.net.URI": return ValueKind.URI;
+			default: return null;
+			}
+		default:
+			return null;
+		}
+	}
+
+
+	/**
+	 * @return the enum's constant names in declaration order, or null if the type is not an enum
+	 */
+	private static List<String> enumNames(TypeMirror type) {
+		if(type.getKind() != TypeKind.DECLARED || ((DeclaredType)type).asElement().getKind() != ElementKind.ENUM) {
+			return null;
+		}
+		List<String> names = new ArrayList<>();
+		for(Element member : ((DeclaredType)type).asElement().getEnclosedElements()) {
+			if(member.getKind() == ElementKind.ENUM_CONSTANT) {
+				names.add(member.getSimpleName().toString());
+			}
+		}
+		return Collections.unmodifiableList(names);
+	}
+
+
+	private static String nestedName(TypeElement type) {
+		String name = type.getSimpleName().toString();
+		Element parent = type.getEnclosingElement();
+		while(parent instanceof TypeElement) {
+			name = parent.getSimpleName() + "_" + name;
+			parent = parent.getEnclosingElement();
+		}
+		return name;
+	}
+
+
+	private static String literal(String str) {
+		StringBuilder sb = new StringBuilder(str.length() + 2).append('"');
+		for(int i = 0, size = str.length(); i < size; i++) {
+			char ch = str.charAt(i);
+			switch(ch) {
+			case '"': sb.append("\\\""); break;
+			case '\\': sb.append("\\\\"); break;
+			case '\n': sb.append("\\n"); break;
+			case '\r': sb.append("\\r"); break;
+			case '\t': sb.append("\\t"); break;
+			default:
+				if(ch < 0x20 || ch > 0x7E) {
+					sb.append(String.format("\\u%04X", (int)ch));
+				}
+				else {
+					sb.append(ch);
+				}
+			}
+		}
+		return sb.append('"').toString();
+	}
+
+
+	private void error(Element elem, String msg) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, msg, elem);
+	}
+
+
+
+
+	/** The setter interface which receives a parameter's values
+	 */
+	private static enum Channel {
+		OBJECT("Object"),
+		INT("int"),
+		DOUBLE("double"),
+		BOOLEAN("boolean");
+
+		final String argType;
+
+
+		Channel(String argType) {
+			this.argType = argType;
+		}
+
+	}
+
+
+
+
+	/** The supported {@link Param} types and the builder and setter used for each
+	 */
+	private static enum ValueKind {
+		INT("newInteger()", "setIntSetter", Channel.INT, "integer", false, null),
+		INTEGER_BOXED("newInteger()", "setSetter", Channel.OBJECT, "integer", false, "Integer"),
+		FLOAT("newFloat()", "setFloatSetter", Channel.DOUBLE, "float", false, null),
+		FLOAT_BOXED("newFloat()", "setSetter", Channel.OBJECT, "float", false, "Float"),
+		BOOLEAN("newFlag()", "setFlagSetter", Channel.BOOLEAN, "flag", false, null),
+		BOOLEAN_BOXED("newFlag()", "setSetter", Channel.OBJECT, "flag", false, "Boolean"),
+		LONG("newLong()", "setSetter", Channel.OBJECT, ParameterCodecs.LONG.getName(), false, "Long"),
+		DOUBLE("newDouble()", "setSetter", Channel.OBJECT, ParameterCodecs.DOUBLE.getName(), false, "Double"),
+		TEXT("newText()", "setSetter", Channel.OBJECT, "text", false, "String"),
+		PATH("newPath()", "setSetter", Channel.OBJECT, "path", false, "java.nio.file.Path"),
+		DURATION("newDuration()", "setSetter", Channel.OBJECT, ParameterCodecs.DURATION.getName(), false, "java.time.Duration"),
+		URI("newUri()", "setSetter", Channel.OBJECT, ParameterCodecs.URI.getName(), false, "java.net.URI"),
+		ENUM(null, "setSetter", Channel.OBJECT, "enum", false, null),
+		INT_ARRAY("newIntegerArray()", "setIntArraySetter", Channel.OBJECT, "integer", true, "int[]"),
+		FLOAT_ARRAY("newFloatArray()", "setFloatArraySetter", Channel.OBJECT, "float", true, "float[]"),
+		BOOLEAN_ARRAY("newFlagArray()", "setFlagArraySetter", Channel.OBJECT, "flag", true, "boolean[]"),
+		TEXT_ARRAY("newTextArray()", "setSetter", Channel.OBJECT, "text", true, "String[]"),
+		PATH_ARRAY("newPathArray()", "setSetter", Channel.OBJECT, "path", true, "java.nio.file.Path[]");
+
+		final String builder;
+		final String setterMethod;
+		final Channel channel;
+		final String helpTypeName;
+		final boolean isArray;
+		/** the type the setter casts values to, null if the type depends on the annotated element */
+		final String boxedType;
+
+
+		ValueKind(String builder, String setterMethod, Channel channel, String helpTypeName, boolean isArray, String boxedType) {
+			this.builder = builder;
+			this.setterMethod = setterMethod;
+			this.channel = channel;
+			this.helpTypeName = helpTypeName;
+			this.isArray = isArray;
+			this.boxedType = boxedType;
+		}
+
+
+		String builder(String valueType) {
+			return this == ENUM ? "newEnum(" + valueType + ".class)" : builder;
+		}
+
+
+		String boxedType(String valueType) {
+			return boxedType != null ? boxedType : valueType;
+		}
+
+	}
+
+
+
+
+	/** A {@link Param} annotated field or setter
+	 */
+	private static final class ParamInfo {
+		final Element elem;
+		final String member;
+		final boolean isField;
+		final String name;
+		final List<String> aliases;
+		final boolean required;
+		final String help;
+		final String requestMessage;
+		final String valueType;
+		final ValueKind kind;
+		final List<String> enumNames;
+
+
+		ParamInfo(Element elem, String member, boolean isField, String name, List<String> aliases, boolean required, String help, String requestMessage,
+				String valueType, ValueKind kind, List<String> enumNames) {
+			this.elem = elem;
+			this.member = member;
+			this.isField = isField;
+			this.name = name;
+			this.aliases = aliases;
+			this.required = required;
+			this.help = help;
+			this.requestMessage = requestMessage;
+			this.valueType = valueType;
+			this.kind = kind;
+			this.enumNames = enumNames;
+		}
+
+	}
+
+}
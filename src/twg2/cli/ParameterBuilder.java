@@ -1,10 +1,19 @@
 package twg2.cli;
 
+import java.net.URI;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 
 /** Interface for {@link ParameterData} builders
@@ -48,6 +57,16 @@ public interface ParameterBuilder<C extends CharSequence, T> {
 	public <E extends Enum<E>> Map<String, E> getEnumNameMap();
 
 
+	/** Set how an {@link ParameterType#ENUM} parameter matches its arguments to enum names when an argument is not an exact match
+	 * @param ignoreCase true to match names ignoring case
+	 * @param uniquePrefix true to match a name by any prefix which no other name starts with, for example {@code 'min'} for {@code 'minutes'}
+	 * @return this parameter build instance
+	 * @throws IllegalStateException if this is not an enum parameter builder
+	 * @see EnumNames#withMatching(boolean, boolean)
+	 */
+	public ParameterBuilder<C, T> setEnumMatching(boolean ignoreCase, boolean uniquePrefix);
+
+
 	public C getPrimaryName();
 
 
@@ -96,6 +115,201 @@ public interface ParameterBuilder<C extends CharSequence, T> {
 	public ParameterBuilder<C, T> setSetter(Consumer<T> setter);
 
 
+	public IntConsumer getIntSetter();
+
+
+	/** A primitive setter for {@link ParameterType#INTEGER} parameters.
+	 * Used instead of {@link #getSetter()} so that parsed values are not boxed
+	 * @param setter the function to call with each successfully parsed value
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setIntSetter(IntConsumer setter);
+
+
+	public IntPredicate getIntValidator();
+
+
+	/** A primitive validator for {@link ParameterType#INTEGER} parameters and the elements of {@link ParameterType#INTEGER} arrays.
+	 * Used instead of {@link #getValidator()}, {@link #getValidatorMessageGenerator()} is still used to generate error messages
+	 * @param validator the validator
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setIntValidator(IntPredicate validator);
+
+
+	public Consumer<int[]> getIntArraySetter();
+
+
+	/** A setter for {@link ParameterType#INTEGER} array parameters, used instead of {@link #getSetter()}
+	 * @param setter the function to call with the {@code int[]} of parsed values
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setIntArraySetter(Consumer<int[]> setter);
+
+
+	public DoubleConsumer getFloatSetter();
+
+
+	/** A primitive setter for {@link ParameterType#FLOAT} parameters.
+	 * Used instead of {@link #getSetter()} so that parsed values are not boxed
+	 * @param setter the function to call with each successfully parsed value
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setFloatSetter(DoubleConsumer setter);
+
+
+	public DoublePredicate getFloatValidator();
+
+
+	/** A primitive validator for {@link ParameterType#FLOAT} parameters and the elements of {@link ParameterType#FLOAT} arrays.
+	 * Used instead of {@link #getValidator()}, {@link #getValidatorMessageGenerator()} is still used to generate error messages
+	 * @param validator the validator
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setFloatValidator(DoublePredicate validator);
+
+
+	public Consumer<float[]> getFloatArraySetter();
+
+
+	/** A setter for {@link ParameterType#FLOAT} array parameters, used instead of {@link #getSetter()}
+	 * @param setter the function to call with the {@code float[]} of parsed values
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setFloatArraySetter(Consumer<float[]> setter);
+
+
+	public BooleanConsumer getFlagSetter();
+
+
+	/** A primitive setter for {@link ParameterType#FLAG} parameters.
+	 * Used instead of {@link #getSetter()} so that parsed values are not boxed
+	 * @param setter the function to call with each successfully parsed value
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setFlagSetter(BooleanConsumer setter);
+
+
+	public BooleanPredicate getFlagValidator();
+
+
+	/** A primitive validator for {@link ParameterType#FLAG} parameters and the elements of {@link ParameterType#FLAG} arrays.
+	 * Used instead of {@link #getValidator()}, {@link #getValidatorMessageGenerator()} is still used to generate error messages
+	 * @param validator the validator
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setFlagValidator(BooleanPredicate validator);
+
+
+	public Consumer<boolean[]> getFlagArraySetter();
+
+
+	/** A setter for {@link ParameterType#FLAG} array parameters, used instead of {@link #getSetter()}
+	 * @param setter the function to call with the {@code boolean[]} of parsed values
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setFlagArraySetter(Consumer<boolean[]> setter);
+
+
+	/** A declarative range check for {@link ParameterType#INTEGER} parameters and the elements of {@link ParameterType#INTEGER} arrays.
+	 * Values outside of {@code [min, max]} are rejected before the {@link #setIntValidator(IntPredicate) primitive} or boxed validator is called,
+	 * {@link #getValidatorMessageGenerator()} is still used to generate error messages
+	 * @param min the minimum valid value, inclusive
+	 * @param max the maximum valid value, inclusive
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setIntRange(int min, int max);
+
+
+	/** A declarative range check for {@link ParameterType#FLOAT} parameters and the elements of {@link ParameterType#FLOAT} arrays, NaN values are rejected.
+	 * @see #setIntRange(int, int)
+	 * @param min the minimum valid value, inclusive
+	 * @param max the maximum valid value, inclusive
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setFloatRange(float min, float max);
+
+
+	/** A bulk validator for array parameters of types other than {@link ParameterType#INTEGER}, {@link ParameterType#FLOAT}, and {@link ParameterType#FLAG},
+	 * called with the parsed array after the {@link #getValidator() validator} has accepted each element.
+	 * If the validator throws an exception, the error is reported at the first index of the range it was called with
+	 * @param validator the validator, which is passed the element array (e.g. a {@code Path[]})
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setArrayValidator(ArrayValidator<? super T> validator);
+
+
+	/** A bulk validator for {@link ParameterType#INTEGER} array parameters
+	 * @see #setArrayValidator(ArrayValidator)
+	 */
+	public ParameterBuilder<C, T> setIntArrayValidator(ArrayValidator<int[]> validator);
+
+
+	/** A bulk validator for {@link ParameterType#FLOAT} array parameters
+	 * @see #setArrayValidator(ArrayValidator)
+	 */
+	public ParameterBuilder<C, T> setFloatArrayValidator(ArrayValidator<float[]> validator);
+
+
+	/** A bulk validator for {@link ParameterType#FLAG} array parameters
+	 * @see #setArrayValidator(ArrayValidator)
+	 */
+	public ParameterBuilder<C, T> setFlagArrayValidator(ArrayValidator<boolean[]> validator);
+
+
+	/** Validate the elements of this array parameter in parallel, for expensive validators such as file existence checks.
+	 * Arrays with more than {@code chunkSize} elements are split into chunks of {@code chunkSize} elements, the first chunk is
+	 * checked on the parsing thread and the others on {@code executor} (or on the parsing thread if the executor rejects them).
+	 * The validator and {@link ArrayValidator} must be thread safe.  The error reported is the one for the lowest invalid index,
+	 * the same error a sequential check reports, and chunks stop early once an invalid element before them has been found.
+	 * Validator time spent on the executor's threads is not recorded by a {@link ParseListener}
+	 * @param executor the executor to check chunks on
+	 * @param chunkSize the number of elements in each chunk
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setParallelValidation(Executor executor, int chunkSize);
+
+
+	/** Validate this parameter's parsed value asynchronously, for slow validators such as network or database lookups.
+	 * The validator is called with the value which is passed to the setter, after the value has been parsed and has passed the
+	 * synchronous validators, {@link ParameterType#INTEGER}, {@link ParameterType#FLOAT}, and {@link ParameterType#FLAG} arrays are passed as boxed arrays.
+	 * The setter is only called once the returned future completes with true.
+	 * {@link ParameterSet} starts the asynchronous validators of all of the parameters found in the inputs before waiting for any of them,
+	 * so they run concurrently, and fails any parameter whose validator has not completed before the parameter set's deadline,
+	 * see {@link ParameterSet#withAsyncValidationTimeout(long, java.util.concurrent.TimeUnit)}.
+	 * {@link ParameterData#parse(Object[], int, int)} waits for the validator before returning.
+	 * Asynchronous validators are not called by {@link BatchParser} and cannot be used with an element sink or an enum set parameter
+	 * @param validator the function which starts validating a value, the future completes with true if the value is valid
+	 * @return this parameter build instance
+	 */
+	public ParameterBuilder<C, T> setAsyncValidator(Function<T, CompletableFuture<Boolean>> validator);
+
+
+	/** Make this array parameter a streaming parameter which passes each element to {@code sink} as soon as it is parsed
+	 * and validated, instead of creating an array and calling the {@link #setSetter(Consumer) setter}.
+	 * The {@link #getValidator() validator} (or primitive validator) is called with each element, so the memory used
+	 * to parse the parameter does not grow with the number of elements.
+	 * If an element fails to parse or validate, the elements before it have already been passed to the sink and
+	 * the remaining elements are ignored.  A streaming parameter cannot also have a setter or primitive setters.
+	 * @param elementType the type of element which {@code sink} accepts, must be assignable from the parameter's element type
+	 * @param sink the function to call with each element
+	 * @return this parameter build instance
+	 */
+	public <V> ParameterBuilder<C, T> setElementSink(Class<V> elementType, Consumer<? super V> sink);
+
+
+	/** Make this array parameter a streaming parameter which passes its elements to {@code sink} in batches of {@code batchSize}
+	 * elements, the last batch may be smaller.  The batch list is reused after {@code sink} returns, copy it to keep it.
+	 * Batches are created per parse call so a parameter set using this parameter can still be shared between threads.
+	 * @param elementType the type of element which {@code sink} accepts, must be assignable from the parameter's element type
+	 * @param batchSize the maximum number of elements in each batch
+	 * @param sink the function to call with each batch
+	 * @return this parameter build instance
+	 * @see #setElementSink(Class, Consumer)
+	 */
+	public <V> ParameterBuilder<C, T> setElementBatchSink(Class<V> elementType, int batchSize, Consumer<? super List<V>> sink);
+
+
 	public ParameterData<C, T> build();
 
 
@@ -155,21 +369,79 @@ public interface ParameterBuilder<C extends CharSequence, T> {
 	}
 
 
-	public static <E extends Enum<E>> ParameterBuilderImpl<String, E> newEnumArray(
+	public static <E extends Enum<E>> ParameterBuilderImpl<String, E[]> newEnumArray(
 			Class<E[]> enumArrayClass) {
 		return ParameterBuilderImpl.<String, E>newEnumArrayParameterBuilder(enumArrayClass);
 	}
 
 
+	/** Create an enum set parameter builder.  An enum set parameter accepts comma separated enum names, in one or more arguments,
+	 * and may be repeated (e.g. {@code -opts a,b -opts c}), all of its values found in one {@link ParameterSet} parse call are added
+	 * to one {@link EnumSet} and the parameter's setter and validator are called once, after all of the inputs have been parsed
+	 */
+	public static <E extends Enum<E>> ParameterBuilderImpl<String, EnumSet<E>> newEnumSet(
+			Class<E> enumClass) {
+		return ParameterBuilderImpl.<String, E>newEnumSetParameterBuilder(enumClass);
+	}
+
+
+	/** Create a {@link FlagGroup} builder, a group of {@link ParameterType#FLAG} parameters packed into one bit set
+	 */
+	public static FlagGroup.Builder<String> newFlagGroup() {
+		return new FlagGroup.Builder<>();
+	}
+
+
 	public static <E> ParameterBuilderImpl<String, E> newEnumMap(
 			Map<String, E> enumsMap, Class<E> classType) {
 		return ParameterBuilderImpl.<String, E>newEnumMapParameterBuilder(enumsMap, classType);
 	}
 
 
-	public static <E> ParameterBuilderImpl<String, E> newEnumMapArray(
+	public static <E> ParameterBuilderImpl<String, E[]> newEnumMapArray(
 			Map<String, E> enumsMap, Class<E[]> classType) {
 		return ParameterBuilderImpl.<String, E>newEnumArrayMapParameterBuilder(enumsMap, classType);
 	}
 
+
+	/** Create a {@link ParameterType#CUSTOM} parameter builder whose value is decoded by {@code codec}
+	 */
+	public static <V> ParameterBuilderImpl<String, V> newCodec(ParameterCodec<V> codec) {
+		return new ParameterBuilderImpl<>(codec, false);
+	}
+
+
+	/** Create a {@link ParameterType#CUSTOM} parameter builder whose values are each decoded by {@code codec}
+	 */
+	public static <V> ParameterBuilderImpl<String, V[]> newCodecArray(ParameterCodec<V> codec) {
+		return new ParameterBuilderImpl<>(codec, true);
+	}
+
+
+	public static ParameterBuilderImpl<String, Long> newLong() {
+		return newCodec(ParameterCodecs.LONG);
+	}
+
+
+	public static ParameterBuilderImpl<String, Double> newDouble() {
+		return newCodec(ParameterCodecs.DOUBLE);
+	}
+
+
+	public static ParameterBuilderImpl<String, Duration> newDuration() {
+		return newCodec(ParameterCodecs.DURATION);
+	}
+
+
+	/** A byte size such as {@code 512}, {@code 64KB}, or {@code 1.5GiB}, see {@link ParameterCodecs#parseByteSize(CharSequence, int, int)}
+	 */
+	public static ParameterBuilderImpl<String, Long> newByteSize() {
+		return newCodec(ParameterCodecs.BYTE_SIZE);
+	}
+
+
+	public static ParameterBuilderImpl<String, URI> newUri() {
+		return newCodec(ParameterCodecs.URI);
+	}
+
 }
@@ -2,17 +2,24 @@ package twg2.cli;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 
-import twg2.collections.builder.MapBuilder;
-
 public class ParameterBuilderImpl<C extends CharSequence, T> implements ParameterBuilder<C, T> {
 	private ParameterType type;
-	private Map<String, T> enumMap;
+	/** the names and values (or array element values) of an enum parameter, null for other parameter types */
+	private EnumNames<?> enumNames;
+	private boolean enumSet;
 	private boolean isArray;
 	private C primaryName;
 	private List<C> aliases;
@@ -22,18 +29,55 @@ public class ParameterBuilderImpl<C extends CharSequence, T> implements Paramete
 	private Consumer<T> setter;
 	private Predicate<T> validator;
 	private Function<T, String> validatorMsgs;
-
-
-	ParameterBuilderImpl(Map<String, ? extends T> enumsMap, Class<T> dataType, boolean isEnum, boolean isArray) {
-		this(dataType, isEnum);
-		@SuppressWarnings("unchecked")
-		Map<String, T> enumMapE = (Map<String, T>) enumsMap;
-		this.enumMap = enumMapE;
+	private IntConsumer intSetter;
+	private IntPredicate intValidator;
+	private Consumer<int[]> intArraySetter;
+	private DoubleConsumer floatSetter;
+	private DoublePredicate floatValidator;
+	private Consumer<float[]> floatArraySetter;
+	private BooleanConsumer flagSetter;
+	private BooleanPredicate flagValidator;
+	private Consumer<boolean[]> flagArraySetter;
+	private boolean hasIntRange;
+	private int intMin;
+	private int intMax;
+	private boolean hasFloatRange;
+	private float floatMin;
+	private float floatMax;
+	private ArrayValidator<?> arrayValidator;
+	/** the array type the array validator accepts, {@code Object[].class} for non-primitive arrays */
+	private Class<?> arrayValidatorType;
+	private Executor validationExecutor;
+	private int validationChunkSize;
+	private Function<T, CompletableFuture<Boolean>> asyncValidator;
+	private ParameterCodec<?> codec;
+	private ArrayElementSink elementSink;
+
+
+	ParameterBuilderImpl(EnumNames<?> enumNames, boolean isArray) {
+		this.type = ParameterType.ENUM;
+		this.enumNames = enumNames;
+		this.isArray = isArray;
+		this.aliases = new ArrayList<>();
 	}
 
 
 	public ParameterBuilderImpl(ParameterType type, boolean isArray) {
 		this(isArray ? type.getArrayDataType() : type.getDefaultDataType(), type == ParameterType.ENUM);
+		this.isArray = isArray;
+	}
+
+
+	/** Create a builder for a {@link ParameterType#CUSTOM} parameter whose values are decoded by {@code codec}
+	 */
+	public ParameterBuilderImpl(ParameterCodec<?> codec, boolean isArray) {
+		if(codec == null) {
+			throw new IllegalArgumentException("codec cannot be null");
+		}
+		this.type = ParameterType.CUSTOM;
+		this.codec = codec;
+		this.isArray = isArray;
+		this.aliases = new ArrayList<>();
 	}
 
 
@@ -89,7 +133,17 @@ public class ParameterBuilderImpl<C extends CharSequence, T> implements Paramete
 	@Override
 	@SuppressWarnings("unchecked")
 	public Map<String, T> getEnumNameMap() {
-		return enumMap;
+		return enumNames != null ? (Map<String, T>)enumNames.asMap() : null;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setEnumMatching(boolean ignoreCase, boolean uniquePrefix) {
+		if(enumNames == null) {
+			throw new IllegalStateException("enum matching can only be set for " + ParameterType.ENUM + " parameters, this is a " + type + " parameter");
+		}
+		this.enumNames = enumNames.withMatching(ignoreCase, uniquePrefix);
+		return this;
 	}
 
 
@@ -192,22 +246,348 @@ public class ParameterBuilderImpl<C extends CharSequence, T> implements Paramete
 	}
 
 
+	@Override
+	public IntConsumer getIntSetter() {
+		return intSetter;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setIntSetter(IntConsumer setter) {
+		this.intSetter = setter;
+		return this;
+	}
+
+
+	@Override
+	public IntPredicate getIntValidator() {
+		return intValidator;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setIntValidator(IntPredicate validator) {
+		this.intValidator = validator;
+		return this;
+	}
+
+
+	@Override
+	public Consumer<int[]> getIntArraySetter() {
+		return intArraySetter;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setIntArraySetter(Consumer<int[]> setter) {
+		this.intArraySetter = setter;
+		return this;
+	}
+
+
+	@Override
+	public DoubleConsumer getFloatSetter() {
+		return floatSetter;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setFloatSetter(DoubleConsumer setter) {
+		this.floatSetter = setter;
+		return this;
+	}
+
+
+	@Override
+	public DoublePredicate getFloatValidator() {
+		return floatValidator;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setFloatValidator(DoublePredicate validator) {
+		this.floatValidator = validator;
+		return this;
+	}
+
+
+	@Override
+	public Consumer<float[]> getFloatArraySetter() {
+		return floatArraySetter;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setFloatArraySetter(Consumer<float[]> setter) {
+		this.floatArraySetter = setter;
+		return this;
+	}
+
+
+	@Override
+	public BooleanConsumer getFlagSetter() {
+		return flagSetter;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setFlagSetter(BooleanConsumer setter) {
+		this.flagSetter = setter;
+		return this;
+	}
+
+
+	@Override
+	public BooleanPredicate getFlagValidator() {
+		return flagValidator;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setFlagValidator(BooleanPredicate validator) {
+		this.flagValidator = validator;
+		return this;
+	}
+
+
+	@Override
+	public Consumer<boolean[]> getFlagArraySetter() {
+		return flagArraySetter;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setFlagArraySetter(Consumer<boolean[]> setter) {
+		this.flagArraySetter = setter;
+		return this;
+	}
+
+
+	@Override
+	public <V> ParameterBuilder<C, T> setElementSink(Class<V> elementType, Consumer<? super V> sink) {
+		if(elementType == null || sink == null) {
+			throw new IllegalArgumentException("element type and sink cannot be null");
+		}
+		@SuppressWarnings("unchecked")
+		Consumer<Object> sinkObj = (Consumer<Object>)sink;
+		this.elementSink = new ArrayElementSink(elementType, sinkObj, null, 0);
+		return this;
+	}
+
+
+	@Override
+	public <V> ParameterBuilder<C, T> setElementBatchSink(Class<V> elementType, int batchSize, Consumer<? super List<V>> sink) {
+		if(elementType == null || sink == null) {
+			throw new IllegalArgumentException("element type and sink cannot be null");
+		}
+		if(batchSize < 1) {
+			throw new IllegalArgumentException("batch size must be positive, was " + batchSize);
+		}
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Consumer<List<Object>> sinkObj = (Consumer<List<Object>>)(Consumer)sink;
+		this.elementSink = new ArrayElementSink(elementType, null, sinkObj, batchSize);
+		return this;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setIntRange(int min, int max) {
+		if(min > max) {
+			throw new IllegalArgumentException("range minimum " + min + " is greater than maximum " + max);
+		}
+		this.hasIntRange = true;
+		this.intMin = min;
+		this.intMax = max;
+		return this;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setFloatRange(float min, float max) {
+		if(!(min <= max)) {
+			throw new IllegalArgumentException("range minimum " + min + " is greater than maximum " + max + " or is NaN");
+		}
+		this.hasFloatRange = true;
+		this.floatMin = min;
+		this.floatMax = max;
+		return this;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setArrayValidator(ArrayValidator<? super T> validator) {
+		return setArrayValidator(validator, Object[].class);
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setIntArrayValidator(ArrayValidator<int[]> validator) {
+		return setArrayValidator(validator, int[].class);
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setFloatArrayValidator(ArrayValidator<float[]> validator) {
+		return setArrayValidator(validator, float[].class);
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setFlagArrayValidator(ArrayValidator<boolean[]> validator) {
+		return setArrayValidator(validator, boolean[].class);
+	}
+
+
+	private ParameterBuilder<C, T> setArrayValidator(ArrayValidator<?> validator, Class<?> arrayType) {
+		this.arrayValidator = validator;
+		this.arrayValidatorType = validator != null ? arrayType : null;
+		return this;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setParallelValidation(Executor executor, int chunkSize) {
+		if(executor != null && chunkSize < 1) {
+			throw new IllegalArgumentException("chunk size must be positive, was " + chunkSize);
+		}
+		this.validationExecutor = executor;
+		this.validationChunkSize = chunkSize;
+		return this;
+	}
+
+
+	@Override
+	public ParameterBuilder<C, T> setAsyncValidator(Function<T, CompletableFuture<Boolean>> validator) {
+		this.asyncValidator = validator;
+		return this;
+	}
+
+
 	@Override
 	public ParameterData<C, T> build() {
-		ParameterData<C, T> param = null;
-		if(enumMap == null) {
-			param = new ParameterDataImpl<>(type, isArray, primaryName, aliases,
-					setter, validator, validatorMsgs, helpMsg, requestParamMsg, required);
+		PrimitiveParameterFunctions primitives = new PrimitiveParameterFunctions(intSetter, rangeIntValidator(), intArraySetter,
+				floatSetter, rangeFloatValidator(), floatArraySetter, flagSetter, flagValidator, flagArraySetter);
+		if(primitives.isEmpty()) {
+			primitives = null;
+		}
+		else if((primitives.hasIntFunctions() && type != ParameterType.INTEGER) ||
+				(primitives.hasFloatFunctions() && type != ParameterType.FLOAT) ||
+				(primitives.hasFlagFunctions() && type != ParameterType.FLAG)) {
+			throw new IllegalArgumentException("parameter '" + primaryName + "' of type " + type +
+					" has primitive setters or validators for a different parameter type");
+		}
+		// primitive validators are called with each element of an array parameter, but the setters are either single value or array setters
+		else if(isArray ? (intSetter != null || floatSetter != null || flagSetter != null)
+				: (intArraySetter != null || floatArraySetter != null || flagArraySetter != null)) {
+			throw new IllegalArgumentException("parameter '" + primaryName + "' " + (isArray ? "is an array parameter and has a single value primitive setter"
+					: "is not an array parameter and has a primitive array setter"));
+		}
+
+		if(elementSink != null) {
+			checkElementSink();
+		}
+
+		if(asyncValidator != null && enumSet) {
+			throw new IllegalArgumentException("parameter '" + primaryName + "' has an asynchronous validator, an enum set parameter cannot have an asynchronous validator");
+		}
+
+		ParameterType paramType = codec != null ? ParameterType.CUSTOM : type;
+		ArrayValidation arrayValidation = null;
+		if(arrayValidator != null || validationExecutor != null) {
+			arrayValidation = buildArrayValidation(paramType);
+		}
+		return new ParameterDataImpl<>(paramType, codec, isArray, enumNames, primaryName, aliases,
+				setter, validator, validatorMsgs, helpMsg, requestParamMsg, required, primitives, arrayValidation, asyncValidator, elementSink, enumSet);
+	}
+
+
+	/**
+	 * @return the primitive int validator combined with the int range check, if there is one.  The range check is combined with
+	 * the boxed validator if there is no primitive validator, since a primitive validator replaces the boxed validator
+	 */
+	private IntPredicate rangeIntValidator() {
+		if(!hasIntRange) {
+			return intValidator;
+		}
+		int min = intMin;
+		int max = intMax;
+		@SuppressWarnings("unchecked")
+		Predicate<Integer> boxedValidator = (Predicate<Integer>)(Predicate<?>)validator;
+		IntPredicate elemValidator = intValidator != null ? intValidator : (boxedValidator != null ? (v) -> boxedValidator.test(v) : null);
+		return elemValidator != null ? (v) -> v >= min && v <= max && elemValidator.test(v) : (v) -> v >= min && v <= max;
+	}
+
+
+	/**
+	 * @return the primitive float validator combined with the float range check, see {@link #rangeIntValidator()}
+	 */
+	private DoublePredicate rangeFloatValidator() {
+		if(!hasFloatRange) {
+			return floatValidator;
+		}
+		float min = floatMin;
+		float max = floatMax;
+		@SuppressWarnings("unchecked")
+		Predicate<Float> boxedValidator = (Predicate<Float>)(Predicate<?>)validator;
+		DoublePredicate elemValidator = floatValidator != null ? floatValidator : (boxedValidator != null ? (v) -> boxedValidator.test((float)v) : null);
+		return elemValidator != null ? (v) -> v >= min && v <= max && elemValidator.test(v) : (v) -> v >= min && v <= max;
+	}
+
+
+	private ArrayValidation buildArrayValidation(ParameterType paramType) {
+		if(!isArray || enumSet) {
+			throw new IllegalArgumentException("parameter '" + primaryName + "' has an array validator or parallel validation but is not an array parameter");
+		}
+		if(arrayValidator != null) {
+			Class<?> expectType = paramType.getPrimitiveDataType() != null ? paramType.getArrayDataType() : Object[].class;
+			if(arrayValidatorType != expectType) {
+				throw new IllegalArgumentException("parameter '" + primaryName + "' of type " + paramType + " has an array validator which accepts " +
+						arrayValidatorType.getSimpleName() + ", expected " + expectType.getSimpleName());
+			}
+		}
+		@SuppressWarnings("unchecked")
+		ArrayValidator<Object> arrayValidatorObj = (ArrayValidator<Object>)arrayValidator;
+		return new ArrayValidation(arrayValidatorObj, validationExecutor, validationChunkSize);
+	}
+
+
+	private void checkElementSink() {
+		if(!isArray) {
+			throw new IllegalArgumentException("parameter '" + primaryName + "' has an element sink but is not an array parameter");
+		}
+		if(enumSet) {
+			throw new IllegalArgumentException("parameter '" + primaryName + "' has an element sink, an enum set parameter cannot have an element sink");
+		}
+		if(setter != null || intArraySetter != null || floatArraySetter != null || flagArraySetter != null) {
+			throw new IllegalArgumentException("parameter '" + primaryName + "' has an element sink and a setter, a streaming parameter cannot have a setter");
+		}
+		if(arrayValidator != null || validationExecutor != null) {
+			throw new IllegalArgumentException("parameter '" + primaryName + "' has an element sink, a streaming parameter cannot have an array validator or parallel validation");
+		}
+		if(asyncValidator != null) {
+			throw new IllegalArgumentException("parameter '" + primaryName + "' has an element sink, a streaming parameter cannot have an asynchronous validator");
+		}
+		Class<?> sinkType = elementSink.elementType;
+		boolean assignable = true;
+		if(codec != null) {
+			assignable = sinkType.isAssignableFrom(codec.getDataType());
+		}
+		else if(enumNames != null) {
+			for(int i = 0, size = enumNames.size(); i < size; i++) {
+				assignable &= sinkType.isInstance(enumNames.getValue(i));
+			}
 		}
 		else {
-			param = new ParameterDataImpl<>(type, isArray, enumMap, primaryName, aliases,
-					setter, validator, validatorMsgs, helpMsg, requestParamMsg, required);
+			assignable = sinkType.isAssignableFrom(type.getObjectDataType());
+		}
+		if(!assignable) {
+			throw new IllegalArgumentException("parameter '" + primaryName + "' of type " + type +
+					" has an element sink which accepts " + sinkType.getName() + ", which is not assignable from the parameter's elements");
 		}
-		return param;
 	}
 
 
-	/** Provides generic type safety for enum parameter builders
+	/** Provides generic type safety for enum parameter builders, the enum's names are indexed once and shared (see {@link EnumNames#of(Class)})
 	 */
 	public static final <C extends CharSequence, E extends Enum<E>> ParameterBuilderImpl<C, E> newEnumParameterBuilder(
 				Class<E> enumClass) {
@@ -215,14 +595,13 @@ public class ParameterBuilderImpl<C extends CharSequence, T> implements Paramete
 			throw new IllegalArgumentException("this method creates a parameter parser for single enum values, " +
 					"use newEnumArrayParameterBuilder() for parsing arrays of enum values");
 		}
-		Map<String, E> enumMap = MapBuilder.mutableEnumNames(enumClass);
-		return new ParameterBuilderImpl<C, E>(enumMap, enumClass, true, false);
+		return new ParameterBuilderImpl<C, E>(EnumNames.of(enumClass), false);
 	}
 
 
-	/** Provides generic type safety for enum array parameter builders
+	/** Provides generic type safety for enum array parameter builders, arrays are parsed into {@code E[]} arrays
 	 */
-	public static final <C extends CharSequence, E extends Enum<E>> ParameterBuilderImpl<C, E> newEnumArrayParameterBuilder(
+	public static final <C extends CharSequence, E extends Enum<E>> ParameterBuilderImpl<C, E[]> newEnumArrayParameterBuilder(
 			Class<E[]> enumArrayClass) {
 		if(!enumArrayClass.isArray()) {
 			throw new IllegalArgumentException("this method creates a parameter parser for arrays of enum values, " +
@@ -230,26 +609,31 @@ public class ParameterBuilderImpl<C extends CharSequence, T> implements Paramete
 		}
 		@SuppressWarnings("unchecked")
 		Class<E> enumType = (Class<E>)enumArrayClass.getComponentType();
-		Map<String, E> enumMap = MapBuilder.mutableEnumNames(enumType);
-		return new ParameterBuilderImpl<C, E>(enumMap, enumType, true, false);
+		return new ParameterBuilderImpl<C, E[]>(EnumNames.of(enumType), true);
+	}
+
+
+	/** Provides generic type safety for enum set parameter builders, see {@link ParameterBuilder#newEnumSet(Class)}
+	 */
+	public static final <C extends CharSequence, E extends Enum<E>> ParameterBuilderImpl<C, EnumSet<E>> newEnumSetParameterBuilder(
+			Class<E> enumClass) {
+		ParameterBuilderImpl<C, EnumSet<E>> builder = new ParameterBuilderImpl<C, EnumSet<E>>(EnumNames.of(enumClass), true);
+		builder.enumSet = true;
+		return builder;
 	}
 
 
 	public static final <C extends CharSequence, T> ParameterBuilderImpl<C, T> newEnumMapParameterBuilder(
 			Map<String, ? extends T> enumsMap, Class<T> dataType) {
-		@SuppressWarnings("unchecked")
-		Map<String, T> enumMap = (Map<String, T>)enumsMap;
-		return new ParameterBuilderImpl<C, T>(enumMap, dataType, true, false);
+		return new ParameterBuilderImpl<C, T>(EnumNames.from(enumsMap, dataType), false);
 	}
 
 
-	public static final <C extends CharSequence, T> ParameterBuilderImpl<C, T> newEnumArrayMapParameterBuilder(
+	public static final <C extends CharSequence, T> ParameterBuilderImpl<C, T[]> newEnumArrayMapParameterBuilder(
 			Map<String, ? extends T> enumsMap, Class<T[]> dataType) {
 		@SuppressWarnings("unchecked")
 		Class<T> enumType = (Class<T>)dataType.getComponentType();
-		@SuppressWarnings("unchecked")
-		Map<String, T> enumMap = (Map<String, T>)enumsMap;
-		return new ParameterBuilderImpl<C, T>(enumMap, enumType, true, true);
+		return new ParameterBuilderImpl<C, T[]>(EnumNames.from(enumsMap, enumType), true);
 	}
 
 }
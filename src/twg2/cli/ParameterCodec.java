@@ -0,0 +1,34 @@
+package twg2.cli;
+
+/** Decodes parameter values of a specific data type from character sequences.
+ * Codecs are used by {@link ParameterType#CUSTOM} parameters (see {@link ParameterBuilder#newCodec(ParameterCodec)})
+ * and can be registered by name with {@link ParameterCodecs#register(ParameterCodec)}.
+ * Implementations must be stateless and thread safe.
+ * @param <V> the type of value decoded by this codec
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public interface ParameterCodec<V> {
+
+	/**
+	 * @return the name of this codec, displayed in help messages, for example {@code "long"} or {@code "duration"}
+	 */
+	public String getName();
+
+
+	/**
+	 * @return the class of values returned by {@link #decode(CharSequence, int, int)}
+	 */
+	public Class<V> getDataType();
+
+
+	/** Decode a value from a sub-sequence of characters
+	 * @param src the characters to decode
+	 * @param off the offset into {@code src} of the first character to decode
+	 * @param end the offset into {@code src} of the character after the last character to decode
+	 * @return the decoded value
+	 * @throws IllegalArgumentException if the characters are not a valid value
+	 */
+	public V decode(CharSequence src, int off, int end);
+
+}
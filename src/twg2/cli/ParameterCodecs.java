@@ -0,0 +1,483 @@
+package twg2.cli;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** A registry of {@link ParameterCodec} instances and the built-in codecs for {@code long}, {@code double}, {@link Duration},
+ * byte sizes (e.g. {@code "64MiB"}), and {@link URI}.
+ * Also contains parsers for {@code int}, {@code long}, and {@code double} values which read directly from {@link CharSequence}
+ * ranges without creating intermediate strings.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class ParameterCodecs {
+	/** returned by {@link #tryParseInt(CharSequence, int, int)} for invalid inputs, outside the range of {@code int} */
+	static final long INVALID_INT = Long.MIN_VALUE;
+
+	private static final long[] POWERS_OF_TEN = {
+		1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L,
+		100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L,
+		10000000000000000L, 100000000000000000L, 1000000000000000000L
+	};
+	/** powers of ten which are exactly representable as doubles */
+	private static final double[] DOUBLE_POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	/** Decodes base 10 {@code long} values */
+	public static final ParameterCodec<Long> LONG = new SimpleCodec<Long>("long", Long.class) {
+		@Override public Long decode(CharSequence src, int off, int end) {
+			return parseLong(src, off, end);
+		}
+	};
+
+	/** Decodes {@code double} values, the same as {@link Double#parseDouble(String)} */
+	public static final ParameterCodec<Double> DOUBLE = new SimpleCodec<Double>("double", Double.class) {
+		@Override public Double decode(CharSequence src, int off, int end) {
+			return parseDouble(src, off, end);
+		}
+	};
+
+	/** Decodes {@link Duration} values, see {@link ParameterCodecs#parseDuration(CharSequence, int, int)} */
+	public static final ParameterCodec<Duration> DURATION = new SimpleCodec<Duration>("duration", Duration.class) {
+		@Override public Duration decode(CharSequence src, int off, int end) {
+			return parseDuration(src, off, end);
+		}
+	};
+
+	/** Decodes byte sizes as a {@code long} number of bytes, see {@link ParameterCodecs#parseByteSize(CharSequence, int, int)} */
+	public static final ParameterCodec<Long> BYTE_SIZE = new SimpleCodec<Long>("bytes", Long.class) {
+		@Override public Long decode(CharSequence src, int off, int end) {
+			return parseByteSize(src, off, end);
+		}
+	};
+
+	/** Decodes {@link URI} values, the same as {@link URI#create(String)} */
+	public static final ParameterCodec<URI> URI = new SimpleCodec<URI>("uri", URI.class) {
+		@Override public URI decode(CharSequence src, int off, int end) {
+			// URI stores its source string, so creating a string here is not an extra allocation
+			return java.net.URI.create(src.subSequence(off, end).toString());
+		}
+	};
+
+	private static final ConcurrentHashMap<String, ParameterCodec<?>> codecs = new ConcurrentHashMap<>();
+
+	static {
+		register(LONG);
+		register(DOUBLE);
+		register(DURATION);
+		register(BYTE_SIZE);
+		register(URI);
+	}
+
+
+	private ParameterCodecs() { throw new AssertionError("cannot instantiate static class ParameterCodecs"); }
+
+
+	/** Register a codec by its {@link ParameterCodec#getName() name}
+	 * @param codec the codec to register
+	 * @throws IllegalArgumentException if a different codec with the same name is already registered
+	 */
+	public static void register(ParameterCodec<?> codec) {
+		ParameterCodec<?> existing = codecs.putIfAbsent(codec.getName(), codec);
+		if(existing != null && existing != codec) {
+			throw new IllegalArgumentException("a codec named '" + codec.getName() + "' is already registered: " + existing);
+		}
+	}
+
+
+	/**
+	 * @param name the name of the codec
+	 * @return the codec registered with the name or null if there is no codec with the name
+	 */
+	public static ParameterCodec<?> get(String name) {
+		return codecs.get(name);
+	}
+
+
+	/**
+	 * @param name the name of the codec
+	 * @param dataType the expected {@link ParameterCodec#getDataType() data type} of the codec
+	 * @return the codec registered with the name or null if there is no codec with the name
+	 * @throws IllegalArgumentException if the codec's data type does not match {@code dataType}
+	 */
+	public static <V> ParameterCodec<V> get(String name, Class<V> dataType) {
+		ParameterCodec<?> codec = codecs.get(name);
+		if(codec != null && codec.getDataType() != dataType) {
+			throw new IllegalArgumentException("codec '" + name + "' decodes " + codec.getDataType().getName() + ", not " + dataType.getName());
+		}
+		@SuppressWarnings("unchecked")
+		ParameterCodec<V> res = (ParameterCodec<V>)codec;
+		return res;
+	}
+
+
+	/** Parse a base 10 {@code int}, the same as {@link Integer#parseInt(String)}, from a sub-sequence of characters
+	 * @throws NumberFormatException if the characters are not a valid {@code int}
+	 */
+	public static int parseInt(CharSequence src, int off, int end) {
+		long val = parseLong(src, off, end);
+		if(val < Integer.MIN_VALUE || val > Integer.MAX_VALUE) {
+			// throws the same exception as Integer.parseInt()
+			return Integer.parseInt(src.subSequence(off, end).toString());
+		}
+		return (int)val;
+	}
+
+
+	/** Parse a base 10 {@code int}, accepting the same inputs as {@link Integer#parseInt(String)}, without throwing an exception for invalid inputs
+	 * @return the value, or {@link #INVALID_INT} if the characters are not a valid {@code int}
+	 */
+	// package-private
+	static long tryParseInt(CharSequence src, int off, int end) {
+		int i = off;
+		boolean negative = false;
+		if(i < end && (src.charAt(i) == '-' || src.charAt(i) == '+')) {
+			negative = src.charAt(i) == '-';
+			i++;
+		}
+		if(i >= end) {
+			return INVALID_INT;
+		}
+		long limit = negative ? -(long)Integer.MIN_VALUE : Integer.MAX_VALUE;
+		long result = 0;
+		for(; i < end; i++) {
+			char ch = src.charAt(i);
+			int digit = ch - '0';
+			if(digit < 0 || digit > 9) {
+				// non-ASCII digits, the same as Integer.parseInt()
+				digit = Character.digit(ch, 10);
+				if(digit < 0) {
+					return INVALID_INT;
+				}
+			}
+			result = result * 10 + digit;
+			if(result > limit) {
+				return INVALID_INT;
+			}
+		}
+		return negative ? -result : result;
+	}
+
+
+	/** Parse a base 10 {@code long}, the same as {@link Long#parseLong(String)}, from a sub-sequence of characters.
+	 * ASCII digits are parsed without creating a string, anything else is passed to {@link Long#parseLong(String)}
+	 * @throws NumberFormatException if the characters are not a valid {@code long}
+	 */
+	public static long parseLong(CharSequence src, int off, int end) {
+		int i = off;
+		char first = off < end ? src.charAt(i) : 0;
+		boolean negative = false;
+		if(first == '-' || first == '+') {
+			negative = first == '-';
+			i++;
+		}
+		if(i >= end) {
+			return fallbackParseLong(src, off, end);
+		}
+		// accumulate negatively to handle Long.MIN_VALUE, same as Long.parseLong()
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multMin = limit / 10;
+		long result = 0;
+		for(; i < end; i++) {
+			int digit = src.charAt(i) - '0';
+			if(digit < 0 || digit > 9 || result < multMin) {
+				return fallbackParseLong(src, off, end);
+			}
+			result *= 10;
+			if(result < limit + digit) {
+				return fallbackParseLong(src, off, end);
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+
+	/** Handles non-ASCII digits and throws the same exceptions as {@link Long#parseLong(String)}
+	 */
+	private static long fallbackParseLong(CharSequence src, int off, int end) {
+		return Long.parseLong(src.subSequence(off, end).toString());
+	}
+
+
+	/** Parse a {@code double}, the same as {@link Double#parseDouble(String)}, from a sub-sequence of characters.
+	 * Decimal values with at most 15 significant digits and small exponents are parsed without creating a string,
+	 * all other values are passed to {@link Double#parseDouble(String)}
+	 * @throws NumberFormatException if the characters are not a valid {@code double}
+	 */
+	public static double parseDouble(CharSequence src, int off, int end) {
+		int i = off;
+		boolean negative = false;
+		if(i < end && (src.charAt(i) == '-' || src.charAt(i) == '+')) {
+			negative = src.charAt(i) == '-';
+			i++;
+		}
+		long mantissa = 0;
+		int sigDigits = 0;
+		int digitCount = 0;
+		int exp10 = 0;
+		boolean fastPath = true;
+		// integer digits
+		for(; i < end; i++) {
+			int digit = src.charAt(i) - '0';
+			if(digit < 0 || digit > 9) {
+				break;
+			}
+			digitCount++;
+			if(mantissa != 0 || digit != 0) {
+				mantissa = mantissa * 10 + digit;
+				sigDigits++;
+			}
+		}
+		// fraction digits
+		if(i < end && src.charAt(i) == '.') {
+			i++;
+			for(; i < end; i++) {
+				int digit = src.charAt(i) - '0';
+				if(digit < 0 || digit > 9) {
+					break;
+				}
+				digitCount++;
+				exp10--;
+				if(mantissa != 0 || digit != 0) {
+					mantissa = mantissa * 10 + digit;
+					sigDigits++;
+				}
+				if(sigDigits > 15) {
+					break;
+				}
+			}
+		}
+		// exponent
+		if(i < end && digitCount > 0 && (src.charAt(i) == 'e' || src.charAt(i) == 'E')) {
+			i++;
+			boolean expNegative = false;
+			if(i < end && (src.charAt(i) == '-' || src.charAt(i) == '+')) {
+				expNegative = src.charAt(i) == '-';
+				i++;
+			}
+			int expStart = i;
+			int exp = 0;
+			for(; i < end && exp < 1000; i++) {
+				int digit = src.charAt(i) - '0';
+				if(digit < 0 || digit > 9) {
+					break;
+				}
+				exp = exp * 10 + digit;
+			}
+			fastPath = i > expStart;
+			exp10 += expNegative ? -exp : exp;
+		}
+
+		fastPath = fastPath && i == end && digitCount > 0 && sigDigits <= 15 && exp10 >= -22 && exp10 <= 22;
+		if(!fastPath) {
+			return Double.parseDouble(src.subSequence(off, end).toString());
+		}
+		// the mantissa and the power of ten are both exact, so a single multiply or divide is correctly rounded
+		double value = (double)mantissa;
+		value = exp10 < 0 ? value / DOUBLE_POWERS_OF_TEN[-exp10] : value * DOUBLE_POWERS_OF_TEN[exp10];
+		return negative ? -value : value;
+	}
+
+
+	/** Parse a {@link Duration} from a sub-sequence of characters.
+	 * Accepts ISO-8601 durations (see {@link Duration#parse(CharSequence)}, for example {@code "PT1H30M"}) and one or more
+	 * integer amounts followed by a (case-insensitive) unit: {@code ns, us, ms, s, m, h, d}, for example {@code "1h30m"} or {@code "250ms"}
+	 * @throws IllegalArgumentException if the characters are not a valid duration
+	 */
+	public static Duration parseDuration(CharSequence src, int off, int end) {
+		if(off >= end) {
+			throw new IllegalArgumentException("invalid duration ''");
+		}
+		char first = src.charAt(off);
+		if(first == 'P' || first == 'p' || ((first == '-' || first == '+') && end - off > 1 && (src.charAt(off + 1) == 'P' || src.charAt(off + 1) == 'p'))) {
+			try {
+				return Duration.parse(src.subSequence(off, end));
+			} catch(RuntimeException e) {
+				throw new IllegalArgumentException("invalid duration '" + src.subSequence(off, end) + "'", e);
+			}
+		}
+
+		Duration res = Duration.ZERO;
+		int i = off;
+		while(i < end) {
+			int numStart = i;
+			long amount = 0;
+			for(; i < end; i++) {
+				int digit = src.charAt(i) - '0';
+				if(digit < 0 || digit > 9) {
+					break;
+				}
+				if(amount > (Long.MAX_VALUE - digit) / 10) {
+					throw new IllegalArgumentException("duration amount too large '" + src.subSequence(off, end) + "'");
+				}
+				amount = amount * 10 + digit;
+			}
+			int unitStart = i;
+			for(; i < end; i++) {
+				char ch = src.charAt(i);
+				if(ch >= '0' && ch <= '9') {
+					break;
+				}
+			}
+			ChronoUnit unit = i - unitStart > 0 ? durationUnit(src, unitStart, i) : null;
+			if(unitStart == numStart || unit == null) {
+				throw new IllegalArgumentException("invalid duration '" + src.subSequence(off, end) + "'" +
+						", expected an ISO-8601 duration or amounts followed by units (ns, us, ms, s, m, h, d)");
+			}
+			try {
+				res = res.plus(amount, unit);
+			} catch(ArithmeticException e) {
+				throw new IllegalArgumentException("duration too large '" + src.subSequence(off, end) + "'", e);
+			}
+		}
+		return res;
+	}
+
+
+	/** Parse a number of bytes from a sub-sequence of characters.
+	 * A size is a decimal number, optional whitespace, and an optional (case-insensitive) unit:
+	 * {@code B}; binary units {@code K, M, G, T, P, E} and {@code KiB, MiB, GiB, TiB, PiB, EiB}; or decimal units {@code KB, MB, GB, TB, PB, EB}.
+	 * For example {@code "64MiB"}, {@code "512k"}, {@code "1.5 GB"}.  Fractional byte counts are rounded down.
+	 * @throws IllegalArgumentException if the characters are not a valid byte size
+	 */
+	public static long parseByteSize(CharSequence src, int off, int end) {
+		int i = off;
+		long mantissa = 0;
+		int digitCount = 0;
+		int fractionDigits = 0;
+		try {
+			for(; i < end; i++) {
+				int digit = src.charAt(i) - '0';
+				if(digit < 0 || digit > 9) {
+					break;
+				}
+				mantissa = Math.addExact(Math.multiplyExact(mantissa, 10), digit);
+				digitCount++;
+			}
+			if(i < end && src.charAt(i) == '.') {
+				i++;
+				for(; i < end; i++) {
+					int digit = src.charAt(i) - '0';
+					if(digit < 0 || digit > 9) {
+						break;
+					}
+					if(fractionDigits < 9) {
+						mantissa = Math.addExact(Math.multiplyExact(mantissa, 10), digit);
+						fractionDigits++;
+					}
+					digitCount++;
+				}
+			}
+			while(i < end && Character.isWhitespace(src.charAt(i))) {
+				i++;
+			}
+			long multiplier = byteSizeUnit(src, i, end);
+			if(digitCount == 0 || multiplier < 0) {
+				throw new IllegalArgumentException("invalid byte size '" + src.subSequence(off, end) + "'" +
+						", expected a number followed by an optional unit (B, K, KB, KiB, M, MB, MiB, ...)");
+			}
+			if(fractionDigits == 0) {
+				return Math.multiplyExact(mantissa, multiplier);
+			}
+			long scale = POWERS_OF_TEN[fractionDigits];
+			// multiply whole and fractional parts separately to avoid overflowing on large multipliers
+			return Math.addExact(Math.multiplyExact(mantissa / scale, multiplier), (mantissa % scale) * (multiplier / scale) + (mantissa % scale) * (multiplier % scale) / scale);
+		} catch(ArithmeticException e) {
+			throw new IllegalArgumentException("byte size too large '" + src.subSequence(off, end) + "'", e);
+		}
+	}
+
+
+	/**
+	 * @return the number of bytes in the unit or -1 if the unit is not recognized
+	 */
+	private static long byteSizeUnit(CharSequence src, int off, int end) {
+		int len = end - off;
+		if(len == 0) {
+			return 1;
+		}
+		char prefix = Character.toUpperCase(src.charAt(off));
+		if(len == 1 && prefix == 'B') {
+			return 1;
+		}
+		int power = "KMGTPE".indexOf(prefix) + 1;
+		if(power == 0 || len > 3) {
+			return -1;
+		}
+		boolean binary;
+		if(len == 1) {
+			binary = true;
+		}
+		else if(len == 2 && Character.toUpperCase(src.charAt(off + 1)) == 'B') {
+			binary = false;
+		}
+		else if(len == 3 && Character.toUpperCase(src.charAt(off + 1)) == 'I' && Character.toUpperCase(src.charAt(off + 2)) == 'B') {
+			binary = true;
+		}
+		else {
+			return -1;
+		}
+		return binary ? 1L << (10 * power) : POWERS_OF_TEN[3 * power];
+	}
+
+
+	/**
+	 * @return the unit or null if the unit is not recognized
+	 */
+	private static ChronoUnit durationUnit(CharSequence src, int off, int end) {
+		int len = end - off;
+		char c0 = Character.toLowerCase(src.charAt(off));
+		if(len == 1) {
+			switch(c0) {
+			case 's': return ChronoUnit.SECONDS;
+			case 'm': return ChronoUnit.MINUTES;
+			case 'h': return ChronoUnit.HOURS;
+			case 'd': return ChronoUnit.DAYS;
+			default: return null;
+			}
+		}
+		if(len == 2 && Character.toLowerCase(src.charAt(off + 1)) == 's') {
+			switch(c0) {
+			case 'n': return ChronoUnit.NANOS;
+			case 'u': return ChronoUnit.MICROS;
+			case '\u00B5': return ChronoUnit.MICROS;
+			case 'm': return ChronoUnit.MILLIS;
+			default: return null;
+			}
+		}
+		return null;
+	}
+
+
+	/** Base class for codecs with a fixed name and data type
+	 */
+	private static abstract class SimpleCodec<V> implements ParameterCodec<V> {
+		private final String name;
+		private final Class<V> dataType;
+
+		SimpleCodec(String name, Class<V> dataType) {
+			this.name = name;
+			this.dataType = dataType;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public Class<V> getDataType() {
+			return dataType;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+}
@@ -37,6 +37,34 @@ public interface ParameterData<T, E> extends ParameterName<T>, ParameterAliases<
 	public Map<String, E> getEnumMap();
 
 
+	/**
+	 * @return the index of the recognized enum names and values of this parameter if it has a {@link ParameterType}
+	 * of {@link ParameterType#ENUM ENUM}, else null.  For array parameters, the index contains the element values
+	 */
+	public default EnumNames<?> getEnumNames() {
+		return null;
+	}
+
+
+	/**
+	 * @return the codec which decodes this parameter's values if this parameter has a {@link ParameterType} of
+	 * {@link ParameterType#CUSTOM CUSTOM}, else null.  For array parameters, the codec decodes individual elements
+	 */
+	public default ParameterCodec<?> getCodec() {
+		return null;
+	}
+
+
+	/**
+	 * @return true if this is an array parameter whose elements are passed to an element sink as they are parsed
+	 * instead of being collected into an array and passed to the {@link #getSetter() setter},
+	 * see {@link ParameterBuilder#setElementSink(Class, Consumer)}
+	 */
+	public default boolean isStreamingArray() {
+		return false;
+	}
+
+
 	public boolean isRequired();
 
 
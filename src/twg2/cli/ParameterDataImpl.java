@@ -1,14 +1,27 @@
 package twg2.cli;
 
+import java.lang.reflect.Array;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /** Meta data about a program argument (e.g. a program's {@code main()} arguments)
  * @author TeamworkGuy2
@@ -17,58 +30,114 @@ import java.util.function.Predicate;
  * @param <E>
  * @see ParameterData
  */
-public class ParameterDataImpl<T extends CharSequence, E> implements ParameterData<T, E> {
+public class ParameterDataImpl<T extends CharSequence, E> implements ParameterData<T, E>, AccumulatingParameter {
 	private static final CharSequence[] arrayOfTrue = new CharSequence[] { "true" };
 
-	private ParameterType type;
-	private boolean isArray;
-	private Map<String, E> enumMap;
-	private T primaryName;
-	private List<T> aliases;
-	private String helpMsg;
-	private String requestParameterMsg;
-	private boolean required;
-	private Consumer<E> setter;
-	private Predicate<E> validator;
-	private Function<E, String> validatorMsgGenerator;
+	private final ParameterType type;
+	private final boolean isArray;
+	/** the names and values of an {@link ParameterType#ENUM} parameter, null for other types */
+	private final EnumNames<?> enumNames;
+	/** true if this is an enum set parameter, whose values (from all of its occurrences in the inputs) are parsed into one {@link EnumSet} */
+	private final boolean enumSet;
+	private final T primaryName;
+	private final List<T> aliases;
+	private final String helpMsg;
+	private final String requestParameterMsg;
+	private final boolean required;
+	private final Consumer<E> setter;
+	private final Predicate<E> validator;
+	private final Function<E, String> validatorMsgGenerator;
+	/** primitive setters and validators, null if none were provided */
+	private final PrimitiveParameterFunctions primitives;
+	/** the array validator and parallel validation settings of an array parameter, null if neither were provided */
+	private final ArrayValidation arrayValidation;
+	/** validates parsed values before the setter is called, see {@link ParameterBuilder#setAsyncValidator(Function)}, null if there is none */
+	private final Function<E, CompletableFuture<Boolean>> asyncValidator;
+	/** the codec for {@link ParameterType#CUSTOM} parameters, null for other types */
+	private final ParameterCodec<?> codec;
+	/** the parser for this parameter's type, bound once when this parameter is created */
+	private final ValueReader reader;
+	/** the destination of this parameter's elements if this is a streaming array parameter, else null */
+	private final ArrayElementSink elementSink;
+	/** the decoder and validator of single values and array elements, used by streaming array parameters and {@link BatchParser} */
+	private final ElementDecoder elementDecoder;
+	private final Predicate<Object> elementValidator;
+	/** a copy of this parameter with timed setters and validators, created the first time this parameter is parsed while a
+	 * {@link ParseListener} is installed, the copy's own {@code observed} field refers to itself */
+	private volatile ParameterDataImpl<T, E> observed;
 
 
 	public ParameterDataImpl(ParameterType type, boolean isArray, T primaryName, List<T> aliases,
 			Consumer<E> setter, Predicate<E> validator, Function<E, String> validatorMessageGenerator,
 			String helpMsg, String requestParameterMsg, boolean required) {
-		super();
-		if(type == ParameterType.ENUM) {
-			throw new IllegalArgumentException("cannot create parameter of type '" + type + "'" +
-					" without an enumeration of the enum's elements");
-		}
-		this.type = type;
-		this.isArray = isArray;
-		this.primaryName = primaryName;
-		this.aliases = aliases;
-		this.setter = setter;
-		this.validator = validator;
-		this.validatorMsgGenerator = validatorMessageGenerator;
-		this.helpMsg = helpMsg;
-		this.requestParameterMsg = requestParameterMsg;
-		this.required = required;
+		this(type, null, isArray, null, primaryName, aliases, setter, validator, validatorMessageGenerator, helpMsg, requestParameterMsg, required, null, null, null, null, false);
+	}
+
+
+	/** Create a {@link ParameterType#CUSTOM} parameter whose values are decoded by a codec
+	 * @param codec the codec which decodes this parameter's values (or array elements if {@code isArray} is true)
+	 */
+	public ParameterDataImpl(ParameterCodec<?> codec, boolean isArray, T primaryName, List<T> aliases,
+			Consumer<E> setter, Predicate<E> validator, Function<E, String> validatorMessageGenerator,
+			String helpMsg, String requestParameterMsg, boolean required) {
+		this(ParameterType.CUSTOM, codec, isArray, null, primaryName, aliases, setter, validator, validatorMessageGenerator, helpMsg, requestParameterMsg, required, null, null, null, null, false);
 	}
 
 
 	public ParameterDataImpl(ParameterType type, boolean isArray, Map<String, E> enumMap,
 			T primaryName, List<T> aliases, Consumer<E> setter, Predicate<E> validator, Function<E, String> validatorMessageGenerator,
 			String helpMsg, String requestParameterMsg, boolean required) {
+		this(type, null, isArray, enumMap != null ? EnumNames.from(enumMap, Object.class) : null, primaryName, aliases,
+				setter, validator, validatorMessageGenerator, helpMsg, requestParameterMsg, required, null, null, null, null, false);
+	}
+
+
+	// package-private
+	ParameterDataImpl(ParameterType type, ParameterCodec<?> codec, boolean isArray, EnumNames<?> enumNames,
+			T primaryName, List<T> aliases, Consumer<E> setter, Predicate<E> validator, Function<E, String> validatorMessageGenerator,
+			String helpMsg, String requestParameterMsg, boolean required, PrimitiveParameterFunctions primitives, ArrayValidation arrayValidation,
+			Function<E, CompletableFuture<Boolean>> asyncValidator, ArrayElementSink elementSink, boolean enumSet) {
 		super();
+		if(type == ParameterType.ENUM && enumNames == null) {
+			throw new IllegalArgumentException("cannot create parameter of type '" + type + "'" +
+					" without an enumeration of the enum's elements");
+		}
+		if((type == ParameterType.CUSTOM) != (codec != null)) {
+			throw new IllegalArgumentException("cannot create parameter of type '" + type + "'" +
+					(codec != null ? " with a codec" : " without a codec"));
+		}
+		if(enumSet && (enumNames == null || !enumNames.getType().isEnum() || !isArray || elementSink != null)) {
+			throw new IllegalArgumentException("an enum set parameter must be an " + type + " array parameter of an enum class without an element sink");
+		}
+		if(elementSink != null && !isArray) {
+			throw new IllegalArgumentException("cannot create a non-array parameter with an element sink");
+		}
+		if(arrayValidation != null && (!isArray || elementSink != null || enumSet)) {
+			throw new IllegalArgumentException("an array validator or parallel validation requires an array parameter without an element sink");
+		}
+		if(asyncValidator != null && (elementSink != null || enumSet)) {
+			throw new IllegalArgumentException("cannot create a streaming or enum set parameter with an asynchronous validator");
+		}
 		this.type = type;
+		this.codec = codec;
 		this.isArray = isArray;
-		this.enumMap = enumMap;
+		this.enumNames = enumNames;
+		this.enumSet = enumSet;
 		this.primaryName = primaryName;
-		this.aliases = aliases;
+		this.aliases = copyAliases(aliases);
 		this.setter = setter;
 		this.validator = validator;
 		this.validatorMsgGenerator = validatorMessageGenerator;
 		this.helpMsg = helpMsg;
 		this.requestParameterMsg = requestParameterMsg;
 		this.required = required;
+		this.primitives = primitives;
+		this.arrayValidation = arrayValidation;
+		this.asyncValidator = asyncValidator;
+		this.reader = bindReader();
+		this.elementSink = elementSink;
+		this.elementDecoder = bindElementDecoder();
+		this.elementValidator = bindElementValidator();
 	}
 
 
@@ -86,10 +155,24 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 
 	@Override
 	public Map<String, E> getEnumMap() {
+		@SuppressWarnings("unchecked")
+		Map<String, E> enumMap = enumNames != null ? (Map<String, E>)enumNames.asMap() : null;
 		return enumMap;
 	}
 
 
+	@Override
+	public EnumNames<?> getEnumNames() {
+		return enumNames;
+	}
+
+
+	@Override
+	public ParameterCodec<?> getCodec() {
+		return codec;
+	}
+
+
 	@Override
 	public T getPrimaryName() {
 		return primaryName;
@@ -144,8 +227,41 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 	}
 
 
+	/** Parse this parameter, if it has an {@link ParameterBuilder#setAsyncValidator(Function) asynchronous validator}
+	 * this waits up to {@link ParameterSet#DEFAULT_ASYNC_VALIDATION_TIMEOUT_MILLIS} for the validator before calling the setter
+	 */
 	@Override
 	public ParameterParserResult parse(T[] strings, int off, int len) {
+		return parse(strings, off, len, true);
+	}
+
+
+	/** Parse this parameter without running its asynchronous validator or calling its setter, see {@link #startAsyncValidation(ParameterParserResult)}
+	 */
+	// package-private
+	ParameterParserResult parseDeferred(T[] strings, int off, int len) {
+		return parse(strings, off, len, false);
+	}
+
+
+	/**
+	 * @param completeAsync true to run the asynchronous validator, if there is one, and call the setter,
+	 * false to only parse and run the synchronous validators
+	 */
+	// package-private
+	ParameterParserResult parse(T[] strings, int off, int len, boolean completeAsync) {
+		ParseListener listener = ParseListeners.installed;
+		if(listener != null) {
+			ParameterDataImpl<T, E> observedCopy = observed;
+			if(observedCopy != this) {
+				if(observedCopy == null) {
+					observedCopy = ParseListeners.observe(this, codec, enumNames, setter, validator, validatorMsgGenerator, primitives, arrayValidation, asyncValidator, elementSink, enumSet);
+					observedCopy.observed = observedCopy;
+					observed = observedCopy;
+				}
+				return ParseListeners.parseObserved(listener, this, observedCopy, strings, off, len, completeAsync);
+			}
+		}
 		validateParameterName(strings[off]);
 		off++;
 		len--;
@@ -159,12 +275,258 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 		}
 		checkInputArray(type, isArray, strings, off, len);
 
-		ParameterParserResult result = null;
+		if(elementSink != null) {
+			ElementReader elemReader = newElementReader();
+			for(int i = off, size = off + len; i < size; i++) {
+				ParameterParserResult res = elemReader.accept(strings[i]);
+				if(res != null) {
+					return res;
+				}
+			}
+			return elemReader.finish();
+		}
+		ParameterParserResult res = reader.read(strings, off, len);
+		if(asyncValidator != null && completeAsync && !res.isError()) {
+			res = completeAsyncValidation(res, startAsyncValidation(res), TimeUnit.MILLISECONDS.toNanos(ParameterSet.DEFAULT_ASYNC_VALIDATION_TIMEOUT_MILLIS));
+		}
+		return res;
+	}
+
+
+	/**
+	 * @return true if this parameter has an {@link ParameterBuilder#setAsyncValidator(Function) asynchronous validator}, whose setter is
+	 * called by {@link #completeAsyncValidation(ParameterParserResult, CompletableFuture, long)} instead of while parsing
+	 */
+	// package-private
+	boolean hasAsyncValidator() {
+		return asyncValidator != null;
+	}
+
+
+	/** Start this parameter's asynchronous validator
+	 * @param result a successful result returned by {@link #parseDeferred(CharSequence[], int, int)}
+	 * @return the validator's future, completed exceptionally if the validator threw an exception or returned null
+	 */
+	// package-private
+	CompletableFuture<Boolean> startAsyncValidation(ParameterParserResult result) {
+		CompletableFuture<Boolean> validation;
+		try {
+			@SuppressWarnings("unchecked")
+			E value = (E)boxArray(result.getParseResult());
+			validation = asyncValidator.apply(value);
+			if(validation == null) {
+				throw new NullPointerException("asynchronous validator returned null");
+			}
+		} catch(Exception e) {
+			validation = new CompletableFuture<>();
+			validation.completeExceptionally(e);
+		}
+		return validation;
+	}
+
+
+	/** Wait for this parameter's asynchronous validator and call the setter if the value is valid
+	 * @param result the result passed to {@link #startAsyncValidation(ParameterParserResult)}
+	 * @param validation the future returned by {@link #startAsyncValidation(ParameterParserResult)}
+	 * @param timeoutNanos the maximum time to wait for the validator, the validation fails if it has not completed in time
+	 * @return {@code result} or an error
+	 */
+	// package-private
+	ParameterParserResult completeAsyncValidation(ParameterParserResult result, CompletableFuture<Boolean> validation, long timeoutNanos) {
+		Boolean valid;
+		try {
+			valid = validation.get(Math.max(timeoutNanos, 0), TimeUnit.NANOSECONDS);
+		} catch(TimeoutException e) {
+			return asyncValidatorException(e, () -> "asynchronous validator for " + type + " '" + primaryName + "' did not complete in time");
+		} catch(ExecutionException e) {
+			Throwable cause = e.getCause();
+			return validatorException(type, -1, cause instanceof Exception ? (Exception)cause : e);
+		} catch(CancellationException e) {
+			return validatorException(type, -1, e);
+		} catch(InterruptedException e) {
+			// keep the interrupt so the remaining validations of the same parse fail without waiting
+			Thread.currentThread().interrupt();
+			return asyncValidatorException(e, () -> "interrupted while waiting for the asynchronous validator for " + type + " '" + primaryName + "'");
+		}
+
+		Object value = result.getParseResult();
+		if(!Boolean.TRUE.equals(valid)) {
+			String name = primaryName != null ? primaryName.toString() : null;
+			// array values are passed to the message generator as one value, unlike synchronous validators which are called with each element
+			return isArray ? new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INVALID_PARSED_INPUT, -1,
+					() -> "invalid " + type + " '" + name + "' value of '" + Arrays.deepToString(new Object[] { value }) + "'", (msg) -> new IllegalArgumentException()))
+					: invalidValue(type, value, validatorMsgGenerator, name, -1);
+		}
+		return setValue(result, value);
+	}
+
+
+	/** Pass a value which has been validated to this parameter's setter or primitive setter
+	 * @return {@code result} or a setter error
+	 */
+	private final ParameterParserResult setValue(ParameterParserResult result, Object value) {
+		PrimitiveParameterFunctions prims = primitives;
+		Object called = setter;
+		try {
+			if(prims != null && type == ParameterType.INTEGER && (isArray ? prims.intArraySetter : prims.intSetter) != null) {
+				called = isArray ? prims.intArraySetter : prims.intSetter;
+				if(isArray) { prims.intArraySetter.accept((int[])value); } else { prims.intSetter.accept(result.getInt()); }
+			}
+			else if(prims != null && type == ParameterType.FLOAT && (isArray ? prims.floatArraySetter : prims.floatSetter) != null) {
+				called = isArray ? prims.floatArraySetter : prims.floatSetter;
+				if(isArray) { prims.floatArraySetter.accept((float[])value); } else { prims.floatSetter.accept(result.getFloat()); }
+			}
+			else if(prims != null && type == ParameterType.FLAG && (isArray ? prims.flagArraySetter : prims.flagSetter) != null) {
+				called = isArray ? prims.flagArraySetter : prims.flagSetter;
+				if(isArray) { prims.flagArraySetter.accept((boolean[])value); } else { prims.flagSetter.accept(result.getFlag()); }
+			}
+			else {
+				@SuppressWarnings("unchecked")
+				Consumer<Object> setterObj = (Consumer<Object>)setter;
+				setterObj.accept(value);
+			}
+		} catch(Exception e) {
+			return setterError(primaryName != null ? primaryName.toString() : null, type, called, value, e);
+		}
+		return result;
+	}
+
+
+	/**
+	 * @return {@code value} converted to a boxed array if it is a primitive array, since the element type of a parameter's value is boxed
+	 */
+	private static final Object boxArray(Object value) {
+		if(value instanceof int[]) {
+			int[] ints = (int[])value;
+			Integer[] res = new Integer[ints.length];
+			for(int i = 0; i < ints.length; i++) {
+				res[i] = ints[i];
+			}
+			return res;
+		}
+		else if(value instanceof float[]) {
+			float[] floats = (float[])value;
+			Float[] res = new Float[floats.length];
+			for(int i = 0; i < floats.length; i++) {
+				res[i] = floats[i];
+			}
+			return res;
+		}
+		else if(value instanceof boolean[]) {
+			boolean[] flags = (boolean[])value;
+			Boolean[] res = new Boolean[flags.length];
+			for(int i = 0; i < flags.length; i++) {
+				res[i] = flags[i];
+			}
+			return res;
+		}
+		return value;
+	}
+
+
+	private static final ParameterParserResult asyncValidatorException(Exception e, Supplier<String> message) {
+		return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.VALIDATOR_EXCEPTION, -1, message, (msg) -> e));
+	}
+
+
+	@Override
+	public boolean isStreamingArray() {
+		return elementSink != null;
+	}
+
+
+	/**
+	 * @return true if this is an enum set parameter, see {@link ParameterBuilder#newEnumSet(Class)}
+	 */
+	@Override
+	public boolean isAccumulating() {
+		return enumSet;
+	}
+
+
+	@Override
+	public int nameKey(CharSequence name) {
+		return -1;
+	}
+
+
+	@Override
+	public ParameterParserResult accumulate(ParameterParserResult prev, int nameKey, CharSequence[] inputs, int off, int len) {
+		if(!enumSet) {
+			throw new IllegalStateException("parameter '" + primaryName + "' is not an enum set parameter");
+		}
+		if(prev != null && prev.isError()) {
+			return prev;
+		}
+		@SuppressWarnings("unchecked")
+		T name = (T)inputs[off];
+		validateParameterName(name);
+		return readEnumSet(primaryName != null ? primaryName.toString() : null, enumNames, prev, inputs, off + 1, len - 1);
+	}
+
+
+	@Override
+	public ParameterParserResult finish(ParameterParserResult result) {
+		if(result.isError()) {
+			return result;
+		}
+		@SuppressWarnings("unchecked")
+		E values = (E)result.getParseResult();
+		ParameterParserResult error = trySetValue(type, values, setter, validator, validatorMsgGenerator, primaryName != null ? primaryName.toString() : null);
+		return error != null ? error : result;
+	}
+
+
+	/** Create a reader which parses, validates, and delivers this streaming array parameter's elements one at a time.
+	 * A new reader is created for each parse call so that batches are not shared between threads
+	 * @return a new element reader or null if this is not a streaming array parameter
+	 */
+	// package-private
+	ElementReader newElementReader() {
+		return elementSink != null ? new ElementReader(this) : null;
+	}
+
+
+	/** Copy a builder's alias list so that a built parameter's aliases cannot change after it is shared
+	 */
+	private static final <T> List<T> copyAliases(List<T> aliases) {
+		return aliases != null ? Collections.unmodifiableList(new ArrayList<>(aliases)) : null;
+	}
+
+
+	/** Select the parser for this parameter's type
+	 */
+	private final ValueReader bindReader() {
+		final String name = primaryName != null ? primaryName.toString() : null;
+		final boolean isArray = this.isArray;
+		final ArrayValidation arrays = this.arrayValidation;
+		// the setters of parameters with an asynchronous validator are called by completeAsyncValidation()
+		final Consumer<E> setter = asyncValidator != null ? (val) -> { } : this.setter;
+		final PrimitiveParameterFunctions primitives = asyncValidator != null && this.primitives != null ? this.primitives.withoutSetters() : this.primitives;
 
 		switch(type) {
+		case CUSTOM:
+			{
+				@SuppressWarnings("unchecked")
+				ParameterCodec<E> codecE = (ParameterCodec<E>)codec;
+				Consumer<E> setFunc = setter;
+				Predicate<E> validateFunc = validator;
+				Function<E, String> validateMsgGenFunc = validatorMsgGenerator;
+				return (strs, off, len) -> readCodec(name, isArray, codecE, strs, off, len, setFunc, validateFunc, validateMsgGenFunc, arrays);
+			}
 		case ENUM:
-			result = readEnum(primaryName.toString(), isArray, enumMap, strings, off, len, setter, validator, validatorMsgGenerator);
-			break;
+			if(enumSet) {
+				EnumNames<?> enumNames = this.enumNames;
+				return (strs, off, len) -> finish(readEnumSet(name, enumNames, null, strs, off, len));
+			}
+			{
+				@SuppressWarnings("unchecked")
+				EnumNames<E> enumNames = (EnumNames<E>)this.enumNames;
+				Consumer<E> setFunc = setter;
+				Predicate<E> validateFunc = validator;
+				Function<E, String> validateMsgGenFunc = validatorMsgGenerator;
+				return (strs, off, len) -> readEnum(name, isArray, enumNames, strs, off, len, setFunc, validateFunc, validateMsgGenFunc, arrays);
+			}
 		case FLAG:
 			{
 				@SuppressWarnings("unchecked")
@@ -173,9 +535,9 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 				Predicate<Boolean> validateFunc = (Predicate<Boolean>)validator;
 				@SuppressWarnings("unchecked")
 				Function<Boolean, String> validateMsgGenFunc = (Function<Boolean, String>)validatorMsgGenerator;
-				result = readFlag(primaryName.toString(), isArray, strings, off, len, setFunc, validateFunc, validateMsgGenFunc);
+				PrimitiveParameterFunctions prims = primitives;
+				return (strs, off, len) -> readFlag(name, isArray, strs, off, len, setFunc, validateFunc, validateMsgGenFunc, prims, arrays);
 			}
-			break;
 		case FLOAT:
 			{
 				@SuppressWarnings("unchecked")
@@ -184,9 +546,9 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 				Predicate<Float> validateFunc = (Predicate<Float>)validator;
 				@SuppressWarnings("unchecked")
 				Function<Float, String> validateMsgGenFunc = (Function<Float, String>)validatorMsgGenerator;
-				result = readFloat(primaryName.toString(), isArray, strings, off, len, setFunc, validateFunc, validateMsgGenFunc);
+				PrimitiveParameterFunctions prims = primitives;
+				return (strs, off, len) -> readFloat(name, isArray, strs, off, len, setFunc, validateFunc, validateMsgGenFunc, prims, arrays);
 			}
-			break;
 		case INTEGER:
 			{
 				@SuppressWarnings("unchecked")
@@ -195,9 +557,9 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 				Predicate<Integer> validateFunc = (Predicate<Integer>)validator;
 				@SuppressWarnings("unchecked")
 				Function<Integer, String> validateMsgGenFunc = (Function<Integer, String>)validatorMsgGenerator;
-				result = readInteger(primaryName.toString(), isArray, strings, off, len, setFunc, validateFunc, validateMsgGenFunc);
+				PrimitiveParameterFunctions prims = primitives;
+				return (strs, off, len) -> readInteger(name, isArray, strs, off, len, setFunc, validateFunc, validateMsgGenFunc, prims, arrays);
 			}
-			break;
 		case PATH:
 			{
 				@SuppressWarnings("unchecked")
@@ -206,9 +568,8 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 				Predicate<Path> validateFunc = (Predicate<Path>)validator;
 				@SuppressWarnings("unchecked")
 				Function<Path, String> validateMsgGenFunc = (Function<Path, String>)validatorMsgGenerator;
-				result = readPath(primaryName.toString(), isArray, strings, off, len, setFunc, validateFunc, validateMsgGenFunc);
+				return (strs, off, len) -> readPath(name, isArray, strs, off, len, setFunc, validateFunc, validateMsgGenFunc, arrays);
 			}
-			break;
 		case TEXT:
 			{
 				@SuppressWarnings("unchecked")
@@ -217,13 +578,157 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 				Predicate<String> validateFunc = (Predicate<String>)validator;
 				@SuppressWarnings("unchecked")
 				Function<String, String> validateMsgGenFunc = (Function<String, String>)validatorMsgGenerator;
-				result = readText(primaryName.toString(), isArray, strings, off, len, setFunc, validateFunc, validateMsgGenFunc);
+				return (strs, off, len) -> readText(name, isArray, strs, off, len, setFunc, validateFunc, validateMsgGenFunc, arrays);
 			}
-			break;
 		default:
 			throw new IllegalStateException("unknown " + ParameterType.class + " enum constant '" + type + "'");
 		}
-		return result;
+	}
+
+
+	/** Select the decoder for single values or array elements of this parameter
+	 */
+	private final ElementDecoder bindElementDecoder() {
+		switch(type) {
+		case CUSTOM:
+			{
+				ParameterCodec<?> codec = this.codec;
+				return (src, off, end) -> codec.decode(src, off, end);
+			}
+		case ENUM:
+			{
+				EnumNames<?> enumNames = this.enumNames;
+				return (src, off, end) -> enumNames.get(src, off, end);
+			}
+		case FLAG:
+			return (src, off, end) -> regionEquals(src, off, end, "true") ? Boolean.TRUE : (regionEquals(src, off, end, "false") ? Boolean.FALSE : null);
+		case FLOAT:
+			return (src, off, end) -> Float.parseFloat(src.subSequence(off, end).toString());
+		case INTEGER:
+			return (src, off, end) -> {
+				long val = ParameterCodecs.tryParseInt(src, off, end);
+				return val != ParameterCodecs.INVALID_INT ? Integer.valueOf((int)val) : null;
+			};
+		case PATH:
+			return (src, off, end) -> Paths.get(src.subSequence(off, end).toString());
+		case TEXT:
+			return (src, off, end) -> src.subSequence(off, end).toString();
+		default:
+			throw new IllegalStateException("unknown " + ParameterType.class + " enum constant '" + type + "'");
+		}
+	}
+
+
+	/** Select the validator for single values or array elements of this parameter, the primitive validator if there is one
+	 */
+	private final Predicate<Object> bindElementValidator() {
+		PrimitiveParameterFunctions prims = primitives;
+		if(prims != null && prims.intValidator != null) {
+			IntPredicate intValidator = prims.intValidator;
+			return (val) -> intValidator.test((Integer)val);
+		}
+		if(prims != null && prims.floatValidator != null) {
+			DoublePredicate floatValidator = prims.floatValidator;
+			return (val) -> floatValidator.test((Float)val);
+		}
+		if(prims != null && prims.flagValidator != null) {
+			BooleanPredicate flagValidator = prims.flagValidator;
+			return (val) -> flagValidator.test((Boolean)val);
+		}
+		@SuppressWarnings("unchecked")
+		Predicate<Object> validatorObj = (Predicate<Object>)validator;
+		return validatorObj;
+	}
+
+
+	/** Decode a single value, or array element, without validating it or calling this parameter's setter
+	 * @return the decoded value or null if the characters are not a recognized value
+	 * @throws Exception if the characters cannot be decoded
+	 */
+	// package-private
+	Object decodeElement(CharSequence src, int off, int end) throws Exception {
+		return elementDecoder.decode(src, off, end);
+	}
+
+
+	/** Validate a value decoded by {@link #decodeElement(CharSequence, int, int)}
+	 * @param idx the index of the value if it is an array element, or -1
+	 * @return null if the value is valid, else the validation error
+	 */
+	// package-private
+	ParameterParserResult validateElement(Object val, int idx) {
+		if(elementValidator != null) {
+			try {
+				if(!elementValidator.test(val)) {
+					return invalidValue(type, val, validatorMsgGenerator, primaryName != null ? primaryName.toString() : null, idx);
+				}
+			} catch(Exception e) {
+				return validatorException(type, idx, e);
+			}
+		}
+		return null;
+	}
+
+
+	/** Check an array whose elements were validated by {@link #validateElement(Object, int)} using this parameter's
+	 * {@link ArrayValidator}, if it has one, on the calling thread
+	 * @param values the array of decoded elements
+	 * @return null if the array is valid, else the validation error
+	 */
+	// package-private
+	ParameterParserResult validateArray(Object values) {
+		if(arrayValidation == null || arrayValidation.arrayValidator == null) {
+			return null;
+		}
+		ArrayValidation sequential = arrayValidation.executor != null ? new ArrayValidation(arrayValidation.arrayValidator, null, 0) : arrayValidation;
+		return findInvalid(type, values, Array.getLength(values), null, sequential, validatorMsgGenerator, primaryName != null ? primaryName.toString() : null);
+	}
+
+
+	/**
+	 * @param idx the index of the element if it is an array element, or -1
+	 * @param cause the exception thrown by {@link #decodeElement(CharSequence, int, int)}, or null if it returned null
+	 * @return an error for characters which could not be decoded
+	 */
+	// package-private
+	ParameterParserResult decodeError(CharSequence src, int off, int end, int idx, Exception cause) {
+		String name = primaryName != null ? primaryName.toString() : null;
+		// copy the characters, the source may be a reused buffer
+		String arg = src.subSequence(off, end).toString();
+		int inputOffset = idx > -1 ? idx + 1 : 1;
+		if(cause == null && type == ParameterType.INTEGER) {
+			return invalidInt(name, arg, inputOffset);
+		}
+		Object typeName = codec != null ? codec.getName() : type;
+		return cause != null ? unknownInputArg(name, typeName, arg, inputOffset, cause) : unknownInputArg(name, typeName, arg, inputOffset);
+	}
+
+
+	/**
+	 * @return an error for a parameter which was given the wrong number of values
+	 */
+	// package-private
+	ParameterParserResult argumentCountError(int count) {
+		CharSequence name = primaryName;
+		boolean isArray = this.isArray;
+		ParameterType type = this.type;
+		return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INPUT_PARSING_EXCEPTION, -1,
+				() -> "parameter: " + name + ", expected " + (isArray ? "zero or more arguments" : "one argument") + " of type " + type + ", found " + count,
+				IllegalArgumentException::new));
+	}
+
+
+	private static final boolean regionEquals(CharSequence src, int off, int end, String str) {
+		int len = str.length();
+		if(end - off != len) {
+			return false;
+		}
+		for(int i = 0; i < len; i++) {
+			if(src.charAt(off + i) != str.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 
@@ -248,31 +753,55 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 	}
 
 
-	private static final <T> ParameterParserResult unknownInputArg(String parameterName, ParameterType type, T arg) {
-		RuntimeException errMsg = new IllegalArgumentException("parameter: " + parameterName + ", unkown argument '" + arg + "', expected type " + type);
-		return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INPUT_PARSING_EXCEPTION, errMsg.getMessage(), errMsg));
+	/** The error messages and causes created by the following methods are formatted when they are first requested,
+	 * see {@link ParameterParserException#getMessage()}
+	 * @param inputOffset the offset of the argument from the parameter's name
+	 */
+	private static final ParameterParserResult unknownInputArg(String parameterName, Object type, Object arg, int inputOffset) {
+		return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INPUT_PARSING_EXCEPTION, inputOffset,
+				() -> "parameter: " + parameterName + ", unkown argument '" + arg + "', expected type " + type,
+				IllegalArgumentException::new));
 	}
 
 
-	private static final <T> ParameterParserResult unknownInputArg(String parameterName, ParameterType type, T arg, Exception cause) {
-		RuntimeException errMsg = new IllegalArgumentException("parameter: " + parameterName + ", unkown program argument '" + arg + "', expected type " + type +
-				", caused by exception: " + cause, cause);
-		return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INPUT_PARSING_EXCEPTION, errMsg.getMessage(), errMsg));
+	private static final ParameterParserResult unknownInputArg(String parameterName, Object type, Object arg, int inputOffset, Exception cause) {
+		return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INPUT_PARSING_EXCEPTION, inputOffset,
+				() -> "parameter: " + parameterName + ", unkown program argument '" + arg + "', expected type " + type + ", caused by exception: " + cause,
+				(msg) -> new IllegalArgumentException(msg, cause)));
 	}
 
 
-	private static final <T, R> RuntimeException setterException(String parameterName, ParameterType type, Consumer<T> setter, R value, Exception cause) {
-		return new RuntimeException("parameter: " + parameterName + " (" + type.name() + ")" +
-				", error calling setter function (" + setter.getClass().getTypeName() + "<" + Arrays.toString(setter.getClass().getTypeParameters()) + ">) " + setter +
-				" with argument '" + (value.getClass().isArray() ? Arrays.deepToString(new Object[] { value }) : value) + "' (" + value.getClass().getCanonicalName() + ")", cause);
+	/** An error for an argument rejected by {@link ParameterCodecs#tryParseInt(CharSequence, int, int)}, the {@link NumberFormatException}
+	 * thrown by {@link Integer#parseInt(String)} for the argument is only created if the error's message or cause is requested
+	 */
+	private static final ParameterParserResult invalidInt(String parameterName, CharSequence arg, int inputOffset) {
+		return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INPUT_PARSING_EXCEPTION, inputOffset,
+				() -> "parameter: " + parameterName + ", unkown program argument '" + arg + "', expected type " + ParameterType.INTEGER +
+						", caused by exception: " + numberFormatException(arg),
+				(msg) -> new IllegalArgumentException(msg, numberFormatException(arg))));
 	}
 
 
-	private static final <T, R> String invalidParseData(String parameterName, ParameterType type, Function<R, String> validatorMessageGenerator, R value) {
-		String message = validatorMessageGenerator != null
-				? validatorMessageGenerator.apply(value)
-				: "invalid " + type + " '" + parameterName + "' value of '" + value + "'";
-		return message;
+	private static final NumberFormatException numberFormatException(CharSequence arg) {
+		try {
+			Integer.parseInt(arg.toString());
+		} catch(NumberFormatException e) {
+			return e;
+		}
+		return new NumberFormatException("For input string: \"" + arg + "\"");
+	}
+
+
+	private static final String setterMessage(String parameterName, ParameterType type, Object setter, Object value) {
+		String setterDesc = setter != null ? setter.getClass().getTypeName() + "<" + Arrays.toString(setter.getClass().getTypeParameters()) + ">) " + setter : "null)";
+		String valueDesc = value != null ? (value.getClass().isArray() ? Arrays.deepToString(new Object[] { value }) : value) + "' (" + value.getClass().getCanonicalName() + ")" : "null'";
+		return "parameter: " + parameterName + " (" + type.name() + ")" +
+				", error calling setter function (" + setterDesc + " with argument '" + valueDesc;
+	}
+
+
+	private static final String valueDescription(int idx) {
+		return idx > -1 ? "parameter " + (idx + 1) + " of " : "";
 	}
 
 
@@ -284,24 +813,17 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 		if(validator != null) {
 			try {
 				if(!validator.test(value)) {
-					String message = null;
-					try {
-						message = invalidParseData(parameterName, type, validatorMessageGenerator, value);
-					} catch(Exception e) {
-						return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.VALIDATOR_MESSAGE_GENERATOR_EXCEPTION, "validator message generator for " + type + " threw an exception", null));
-					}
-					return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INVALID_PARSED_INPUT, message, new IllegalArgumentException()));
+					return invalidValue(type, value, validatorMessageGenerator, parameterName, -1);
 				}
 			} catch(Exception e) {
-				return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.VALIDATOR_EXCEPTION, "validator for " + type + " threw an exception", e));
+				return validatorException(type, -1, e);
 			}
 		}
 
 		try {
 			setter.accept(value);
 		} catch (Exception e) {
-			RuntimeException cause = setterException(parameterName, ParameterType.FLAG, setter, value, e);
-			return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.SETTER_EXCEPTION, cause.getMessage(), cause));
+			return setterError(parameterName, ParameterType.FLAG, setter, value, e);
 		}
 		return null;
 	}
@@ -311,8 +833,18 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 	 * @return null if no error occurred
 	 */
 	private static final <E, R> ParameterParserResult trySetValues(ParameterType type, R values, Consumer<E> setter,
-			Predicate<E> validator, Function<E, String> validatorMessageGenerator, String parameterName) {
-		if(validator != null) {
+			Predicate<E> validator, Function<E, String> validatorMessageGenerator, String parameterName, ArrayValidation arrayValidation) {
+		if(arrayValidation != null) {
+			Object[] valueAry = (Object[])values;
+			@SuppressWarnings("unchecked")
+			Predicate<Object> validatorObj = (Predicate<Object>)validator;
+			ParameterParserResult invalid = findInvalid(type, valueAry, valueAry.length, validator != null ? (i) -> validatorObj.test(valueAry[i]) : null,
+					arrayValidation, validatorMessageGenerator, parameterName);
+			if(invalid != null) {
+				return invalid;
+			}
+		}
+		else if(validator != null) {
 			Object[] valueAry = (Object[])values;
 			int i = 0;
 			int size = valueAry.length;
@@ -321,17 +853,11 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 					@SuppressWarnings("unchecked")
 					E val = (E)valueAry[i];
 					if(!validator.test(val)) {
-						String message = null;
-						try {
-							message = invalidParseData(parameterName, type, validatorMessageGenerator, val);
-						} catch(Exception e) {
-							return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.VALIDATOR_MESSAGE_GENERATOR_EXCEPTION, "validator message generator for parameter " + (i + 1) + " of " + type + " threw an exception", null));
-						}
-						return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INVALID_PARSED_INPUT, message, new IllegalArgumentException()));
+						return invalidValue(type, val, validatorMessageGenerator, parameterName, i);
 					}
 				}
 			} catch(Exception e) {
-				return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.VALIDATOR_EXCEPTION, "validator for parameter " + (i + 1) + " of " + type + " threw an exception", e));
+				return validatorException(type, i, e);
 			}
 		}
 
@@ -340,221 +866,493 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 			Consumer<R> arraySetter = (Consumer<R>)(Consumer)setter;
 			arraySetter.accept(values);
 		} catch (Exception e) {
-			RuntimeException cause = setterException(parameterName, ParameterType.FLAG, setter, values, e);
-			return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.SETTER_EXCEPTION, cause.getMessage(), cause));
+			return setterError(parameterName, ParameterType.FLAG, setter, values, e);
 		}
 		return null;
 	}
 
 
-	private static final <E, T extends CharSequence> ParameterParserResult readEnum(String parameterName, boolean isArray, Map<String, E> enumMap,
-			T[] strs, int off, int len, Consumer<E> setter, Predicate<E> validator, Function<E, String> validatorMessageGenerator) {
-		E[] enumVals = null;
-		if(isArray) {
+	/** An error for a value rejected by a validator, the validator message generator, if any, is called immediately
+	 * since its failure is reported as a different error type
+	 * @param idx the index of the value if it is an array element, or -1
+	 */
+	private static final ParameterParserResult invalidValue(ParameterType type, Object value, Function<?, String> validatorMessageGenerator,
+			String parameterName, int idx) {
+		int inputOffset = idx > -1 ? idx + 1 : 1;
+		if(validatorMessageGenerator == null) {
+			return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INVALID_PARSED_INPUT, inputOffset,
+					() -> "invalid " + type + " '" + parameterName + "' value of '" + value + "'", (msg) -> new IllegalArgumentException()));
+		}
+		String message = null;
+		try {
 			@SuppressWarnings("unchecked")
-			E[] vals = (E[]) new Object[len];
-			enumVals = vals;
+			Function<Object, String> msgGen = (Function<Object, String>)validatorMessageGenerator;
+			message = msgGen.apply(value);
+		} catch(Exception e) {
+			return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.VALIDATOR_MESSAGE_GENERATOR_EXCEPTION, inputOffset,
+					() -> "validator message generator for " + valueDescription(idx) + type + " threw an exception", null));
 		}
+		String msg = message;
+		return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INVALID_PARSED_INPUT, inputOffset,
+				() -> msg, (m) -> new IllegalArgumentException()));
+	}
 
-		ParameterType paramType = ParameterType.ENUM;
-		ParameterParserResult result = null;
 
-		List<E> enumResults = new ArrayList<>();
-		for(int i = off, size = off + len; i < size; i++) {
-			E enumVal = enumMap.get(strs[i].toString());
-			if(enumVal == null) {
-				return unknownInputArg(parameterName, paramType, strs[i]);
+	/** Check an array using its parameter's element validator and {@link ArrayValidation}
+	 * @return null if every element is valid
+	 */
+	private static final ParameterParserResult findInvalid(ParameterType type, Object values, int length, ArrayValidation.ElementCheck elementCheck,
+			ArrayValidation arrayValidation, Function<?, String> validatorMessageGenerator, String parameterName) {
+		ArrayValidation.Failure failure = arrayValidation.findInvalid(values, length, elementCheck);
+		if(failure == null) {
+			return null;
+		}
+		return failure.error != null ? validatorException(type, failure.index, failure.error)
+				: invalidValue(type, Array.get(values, failure.index), validatorMessageGenerator, parameterName, failure.index);
+	}
+
+
+	private static final ParameterParserResult validatorException(ParameterType type, int idx, Exception e) {
+		return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.VALIDATOR_EXCEPTION, idx > -1 ? idx + 1 : 1,
+				() -> "validator for " + valueDescription(idx) + type + " threw an exception", (msg) -> e));
+	}
+
+
+	private static final ParameterParserResult setterError(String parameterName, ParameterType type, Object setter, Object value, Exception e) {
+		return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.SETTER_EXCEPTION, -1,
+				() -> setterMessage(parameterName, type, setter, value), (msg) -> new RuntimeException(msg, e)));
+	}
+
+
+	/** Validate and set an int using the primitive validator and setter if available, else the boxed validator and setter
+	 * @return null if no error occurred
+	 */
+	private static final ParameterParserResult trySetInt(int value, IntConsumer intSetter, Consumer<Integer> setter,
+			IntPredicate intValidator, Predicate<Integer> validator, Function<Integer, String> validatorMessageGenerator, String parameterName) {
+		ParameterType type = ParameterType.INTEGER;
+		try {
+			if(intValidator != null ? !intValidator.test(value) : (validator != null && !validator.test(value))) {
+				return invalidValue(type, value, validatorMessageGenerator, parameterName, -1);
 			}
-			if(!isArray) {
-				result = trySetValue(paramType, enumVal, setter, validator, validatorMessageGenerator, parameterName);
-				if(result == null) {
-					enumResults.add(enumVal);
-				}
-				else {
-					return result;
-				}
+		} catch(Exception e) {
+			return validatorException(type, -1, e);
+		}
+
+		try {
+			if(intSetter != null) {
+				intSetter.accept(value);
 			}
 			else {
-				enumVals[i - off] = enumVal;
+				setter.accept(value);
 			}
+		} catch(Exception e) {
+			return setterError(parameterName, type, intSetter != null ? intSetter : setter, value, e);
 		}
+		return null;
+	}
 
-		if(isArray) {
-			result = trySetValues(paramType, enumVals, setter, validator, validatorMessageGenerator, parameterName);
-			if(result == null) {
-				result = new ParameterParserResult(paramType, enumVals, true);
+
+	/**
+	 * @return null if no error occurred
+	 */
+	private static final ParameterParserResult trySetInts(int[] values, Consumer<int[]> arraySetter, Consumer<Integer> setter,
+			IntPredicate intValidator, Predicate<Integer> validator, Function<Integer, String> validatorMessageGenerator, String parameterName,
+			ArrayValidation arrayValidation) {
+		ParameterType type = ParameterType.INTEGER;
+		if(arrayValidation != null) {
+			ArrayValidation.ElementCheck elementCheck = intValidator != null ? (i) -> intValidator.test(values[i])
+					: (validator != null ? (i) -> validator.test(values[i]) : null);
+			ParameterParserResult invalid = findInvalid(type, values, values.length, elementCheck, arrayValidation, validatorMessageGenerator, parameterName);
+			if(invalid != null) {
+				return invalid;
 			}
 		}
-		else {
-			boolean hasOneResVal = enumResults.size() == 1;
-			if(hasOneResVal) {
-				result = new ParameterParserResult(paramType, enumResults.get(0), false);
+		else if(intValidator != null || validator != null) {
+			int i = 0;
+			try {
+				for(int size = values.length; i < size; i++) {
+					int val = values[i];
+					if(intValidator != null ? !intValidator.test(val) : !validator.test(val)) {
+						return invalidValue(type, val, validatorMessageGenerator, parameterName, i);
+					}
+				}
+			} catch(Exception e) {
+				return validatorException(type, i, e);
+			}
+		}
+
+		try {
+			if(arraySetter != null) {
+				arraySetter.accept(values);
 			}
 			else {
-				result = new ParameterParserResult(paramType, enumResults.toArray(), true);
+				@SuppressWarnings({ "unchecked", "rawtypes" })
+				Consumer<int[]> boxedArraySetter = (Consumer<int[]>)(Consumer)setter;
+				boxedArraySetter.accept(values);
 			}
+		} catch(Exception e) {
+			return setterError(parameterName, type, arraySetter != null ? arraySetter : setter, values, e);
 		}
-		return result;
+		return null;
 	}
 
 
-	private static final <T extends CharSequence> ParameterParserResult readFlag(String parameterName, boolean isArray, T[] strs, int off, int len,
-			Consumer<Boolean> setter, Predicate<Boolean> validator, Function<Boolean, String> validatorMessageGenerator) {
-		boolean[] flagVals = null;
-		if(isArray) {
-			flagVals = new boolean[len];
+	/** Validate and set a float using the primitive validator and setter if available, else the boxed validator and setter
+	 * @return null if no error occurred
+	 */
+	private static final ParameterParserResult trySetFloat(float value, DoubleConsumer floatSetter, Consumer<Float> setter,
+			DoublePredicate floatValidator, Predicate<Float> validator, Function<Float, String> validatorMessageGenerator, String parameterName) {
+		ParameterType type = ParameterType.FLOAT;
+		try {
+			if(floatValidator != null ? !floatValidator.test(value) : (validator != null && !validator.test(value))) {
+				return invalidValue(type, value, validatorMessageGenerator, parameterName, -1);
+			}
+		} catch(Exception e) {
+			return validatorException(type, -1, e);
 		}
 
-		ParameterType paramType = ParameterType.FLAG;
-		ParameterParserResult result = null;
-
-		List<Boolean> flagResults = new ArrayList<>();
-		for(int i = off, size = off + len; i < size; i++) {
-			String str = strs[i].toString();
-			boolean flagVal = false;
-			if("true".equals(str) || "false".equals(str)) {
-				flagVal = "true".equals(str);
+		try {
+			if(floatSetter != null) {
+				floatSetter.accept(value);
 			}
 			else {
-				return unknownInputArg(parameterName, paramType, strs[i]);
+				setter.accept(value);
 			}
-			if(!isArray) {
-				result = trySetValue(paramType, flagVal, setter, validator, validatorMessageGenerator, parameterName);
-				if(result == null) {
-					flagResults.add(flagVal);
-				}
-				else {
-					return result;
+		} catch(Exception e) {
+			return setterError(parameterName, type, floatSetter != null ? floatSetter : setter, value, e);
+		}
+		return null;
+	}
+
+
+	/**
+	 * @return null if no error occurred
+	 */
+	private static final ParameterParserResult trySetFloats(float[] values, Consumer<float[]> arraySetter, Consumer<Float> setter,
+			DoublePredicate floatValidator, Predicate<Float> validator, Function<Float, String> validatorMessageGenerator, String parameterName,
+			ArrayValidation arrayValidation) {
+		ParameterType type = ParameterType.FLOAT;
+		if(arrayValidation != null) {
+			ArrayValidation.ElementCheck elementCheck = floatValidator != null ? (i) -> floatValidator.test(values[i])
+					: (validator != null ? (i) -> validator.test(values[i]) : null);
+			ParameterParserResult invalid = findInvalid(type, values, values.length, elementCheck, arrayValidation, validatorMessageGenerator, parameterName);
+			if(invalid != null) {
+				return invalid;
+			}
+		}
+		else if(floatValidator != null || validator != null) {
+			int i = 0;
+			try {
+				for(int size = values.length; i < size; i++) {
+					float val = values[i];
+					if(floatValidator != null ? !floatValidator.test(val) : !validator.test(val)) {
+						return invalidValue(type, val, validatorMessageGenerator, parameterName, i);
+					}
 				}
+			} catch(Exception e) {
+				return validatorException(type, i, e);
+			}
+		}
+
+		try {
+			if(arraySetter != null) {
+				arraySetter.accept(values);
 			}
 			else {
-				flagVals[i - off] = flagVal;
+				@SuppressWarnings({ "unchecked", "rawtypes" })
+				Consumer<float[]> boxedArraySetter = (Consumer<float[]>)(Consumer)setter;
+				boxedArraySetter.accept(values);
 			}
+		} catch(Exception e) {
+			return setterError(parameterName, type, arraySetter != null ? arraySetter : setter, values, e);
 		}
+		return null;
+	}
 
-		if(isArray) {
-			result = trySetValues(paramType, flagVals, setter, validator, validatorMessageGenerator, parameterName);
-			if(result == null) {
-				result = new ParameterParserResult(paramType, flagVals, true);
+
+	/** Validate and set a boolean using the primitive validator and setter if available, else the boxed validator and setter
+	 * @return null if no error occurred
+	 */
+	private static final ParameterParserResult trySetFlag(boolean value, BooleanConsumer flagSetter, Consumer<Boolean> setter,
+			BooleanPredicate flagValidator, Predicate<Boolean> validator, Function<Boolean, String> validatorMessageGenerator, String parameterName) {
+		ParameterType type = ParameterType.FLAG;
+		try {
+			if(flagValidator != null ? !flagValidator.test(value) : (validator != null && !validator.test(value))) {
+				return invalidValue(type, value, validatorMessageGenerator, parameterName, -1);
 			}
+		} catch(Exception e) {
+			return validatorException(type, -1, e);
 		}
-		else {
-			boolean hasOneResVal = flagResults.size() == 1;
-			if(hasOneResVal) {
-				result = new ParameterParserResult(paramType, flagResults.get(0), false);
+
+		try {
+			if(flagSetter != null) {
+				flagSetter.accept(value);
 			}
 			else {
-				result = new ParameterParserResult(paramType, flagResults.toArray(), true);
+				setter.accept(value);
 			}
+		} catch(Exception e) {
+			return setterError(parameterName, type, flagSetter != null ? flagSetter : setter, value, e);
 		}
-		return result;
+		return null;
 	}
 
 
-	private static final <T extends CharSequence> ParameterParserResult readFloat(String parameterName, boolean isArray, T[] strs, int off, int len,
-			Consumer<Float> setter, Predicate<Float> validator, Function<Float, String> validatorMessageGenerator) {
-		float[] floatVals = null;
-		if(isArray) {
-			floatVals = new float[len];
+	/**
+	 * @return null if no error occurred
+	 */
+	private static final ParameterParserResult trySetFlags(boolean[] values, Consumer<boolean[]> arraySetter, Consumer<Boolean> setter,
+			BooleanPredicate flagValidator, Predicate<Boolean> validator, Function<Boolean, String> validatorMessageGenerator, String parameterName,
+			ArrayValidation arrayValidation) {
+		ParameterType type = ParameterType.FLAG;
+		if(arrayValidation != null) {
+			ArrayValidation.ElementCheck elementCheck = flagValidator != null ? (i) -> flagValidator.test(values[i])
+					: (validator != null ? (i) -> validator.test(values[i]) : null);
+			ParameterParserResult invalid = findInvalid(type, values, values.length, elementCheck, arrayValidation, validatorMessageGenerator, parameterName);
+			if(invalid != null) {
+				return invalid;
+			}
 		}
-
-		ParameterType paramType = ParameterType.FLOAT;
-		ParameterParserResult result = null;
-
-		List<Float> floatResults = new ArrayList<>();
-		for(int i = off, size = off + len; i < size; i++) {
-			float floatVal = 0;
+		else if(flagValidator != null || validator != null) {
+			int i = 0;
 			try {
-				floatVal = Float.parseFloat(strs[i].toString());
+				for(int size = values.length; i < size; i++) {
+					boolean val = values[i];
+					if(flagValidator != null ? !flagValidator.test(val) : !validator.test(val)) {
+						return invalidValue(type, val, validatorMessageGenerator, parameterName, i);
+					}
+				}
 			} catch(Exception e) {
-				return unknownInputArg(parameterName, paramType, strs[i], e);
+				return validatorException(type, i, e);
 			}
-			if(!isArray) {
-				result = trySetValue(paramType, floatVal, setter, validator, validatorMessageGenerator, parameterName);
-				if(result == null) {
-					floatResults.add(floatVal);
-				}
-				else {
-					return result;
-				}
+		}
+
+		try {
+			if(arraySetter != null) {
+				arraySetter.accept(values);
 			}
 			else {
-				floatVals[i - off] = floatVal;
+				@SuppressWarnings({ "unchecked", "rawtypes" })
+				Consumer<boolean[]> boxedArraySetter = (Consumer<boolean[]>)(Consumer)setter;
+				boxedArraySetter.accept(values);
 			}
+		} catch(Exception e) {
+			return setterError(parameterName, type, arraySetter != null ? arraySetter : setter, values, e);
 		}
+		return null;
+	}
+
+
+	private static final <E> ParameterParserResult readCodec(String parameterName, boolean isArray, ParameterCodec<E> codec,
+			CharSequence[] strs, int off, int len, Consumer<E> setter, Predicate<E> validator, Function<E, String> validatorMessageGenerator,
+			ArrayValidation arrayValidation) {
+		ParameterType paramType = ParameterType.CUSTOM;
 
 		if(isArray) {
-			result = trySetValues(paramType, floatVals, setter, validator, validatorMessageGenerator, parameterName);
-			if(result == null) {
-				result = new ParameterParserResult(paramType, floatVals, true);
+			@SuppressWarnings("unchecked")
+			E[] vals = (E[])Array.newInstance(codec.getDataType(), len);
+			for(int i = off, size = off + len; i < size; i++) {
+				CharSequence str = strs[i];
+				try {
+					vals[i - off] = codec.decode(str, 0, str.length());
+				} catch(Exception e) {
+					return unknownInputArg(parameterName, codec.getName(), str, i - off + 1, e);
+				}
 			}
+			ParameterParserResult result = trySetValues(paramType, vals, setter, validator, validatorMessageGenerator, parameterName, arrayValidation);
+			return result != null ? result : new ParameterParserResult(paramType, vals, true);
 		}
 		else {
-			boolean hasOneResVal = floatResults.size() == 1;
-			if(hasOneResVal) {
-				result = new ParameterParserResult(paramType, floatResults.get(0), false);
-			}
-			else {
-				result = new ParameterParserResult(paramType, floatResults.toArray(), true);
+			CharSequence str = strs[off];
+			E val = null;
+			try {
+				val = codec.decode(str, 0, str.length());
+			} catch(Exception e) {
+				return unknownInputArg(parameterName, codec.getName(), str, 1, e);
 			}
+			ParameterParserResult result = trySetValue(paramType, val, setter, validator, validatorMessageGenerator, parameterName);
+			return result != null ? result : new ParameterParserResult(paramType, val, false);
 		}
-		return result;
 	}
 
 
-	private static final <T extends CharSequence> ParameterParserResult readInteger(String parameterName, boolean isArray, T[] strs, int off, int len,
-			Consumer<Integer> setter, Predicate<Integer> validator, Function<Integer, String> validatorMessageGenerator) {
-		int[] intVals = null;
+	private static final <E, T extends CharSequence> ParameterParserResult readEnum(String parameterName, boolean isArray, EnumNames<E> enumNames,
+			T[] strs, int off, int len, Consumer<E> setter, Predicate<E> validator, Function<E, String> validatorMessageGenerator,
+			ArrayValidation arrayValidation) {
+		ParameterType paramType = ParameterType.ENUM;
+
 		if(isArray) {
-			intVals = new int[len];
+			E[] enumVals = enumNames.newArray(len);
+			for(int i = off, size = off + len; i < size; i++) {
+				T str = strs[i];
+				int idx = enumNames.indexOf(str, 0, str.length());
+				if(idx < 0) {
+					return unknownEnumArg(parameterName, enumNames, str, idx, i - off + 1);
+				}
+				enumVals[i - off] = enumNames.getValue(idx);
+			}
+			ParameterParserResult result = trySetValues(paramType, enumVals, setter, validator, validatorMessageGenerator, parameterName, arrayValidation);
+			return result != null ? result : new ParameterParserResult(paramType, enumVals, true);
+		}
+		else {
+			T str = strs[off];
+			int idx = enumNames.indexOf(str, 0, str.length());
+			if(idx < 0) {
+				return unknownEnumArg(parameterName, enumNames, str, idx, 1);
+			}
+			E enumVal = enumNames.getValue(idx);
+			ParameterParserResult result = trySetValue(paramType, enumVal, setter, validator, validatorMessageGenerator, parameterName);
+			return result != null ? result : new ParameterParserResult(paramType, enumVal, false);
 		}
+	}
 
-		ParameterType paramType = ParameterType.INTEGER;
-		ParameterParserResult result = null;
 
-		List<Integer> intResults = new ArrayList<>();
+	/** Parse comma separated enum names, from one or more inputs, into an {@link EnumSet} without creating strings or intermediate arrays
+	 * @param prev the result of the previous occurrences of the parameter, whose set the values are added to, or null
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static final ParameterParserResult readEnumSet(String parameterName, EnumNames<?> enumNames, ParameterParserResult prev,
+			CharSequence[] strs, int off, int len) {
+		EnumSet set = prev != null ? (EnumSet)prev.getParseResult() : EnumSet.noneOf((Class)enumNames.getType());
 		for(int i = off, size = off + len; i < size; i++) {
-			int intVal = 0;
-			try {
-				intVal = Integer.parseInt(strs[i].toString());
-			} catch(Exception e) {
-				return unknownInputArg(parameterName, paramType, strs[i], e);
+			CharSequence str = strs[i];
+			int start = 0;
+			for(int j = 0, n = str.length(); j <= n; j++) {
+				if(j == n || str.charAt(j) == ',') {
+					if(j > start) {
+						int idx = enumNames.indexOf(str, start, j);
+						if(idx < 0) {
+							return unknownEnumArg(parameterName, enumNames, str.subSequence(start, j), idx, i - off + 1);
+						}
+						set.add(enumNames.getValue(idx));
+					}
+					start = j + 1;
+				}
 			}
-			if(!isArray) {
-				result = trySetValue(paramType, intVal, setter, validator, validatorMessageGenerator, parameterName);
-				if(result == null) {
-					intResults.add(intVal);
+		}
+		return prev != null ? prev : new ParameterParserResult(ParameterType.ENUM, set, true);
+	}
+
+
+	/**
+	 * @param idx the {@link EnumNames#NOT_FOUND} or {@link EnumNames#AMBIGUOUS} index returned for the argument
+	 * @param inputOffset the offset of the argument from the parameter's name
+	 */
+	private static final ParameterParserResult unknownEnumArg(String parameterName, EnumNames<?> enumNames, CharSequence arg, int idx, int inputOffset) {
+		if(idx == EnumNames.AMBIGUOUS) {
+			return new ParameterParserResult(new ParameterParserException(ParameterParserExceptionType.INPUT_PARSING_EXCEPTION, inputOffset,
+					() -> "parameter: " + parameterName + ", ambiguous argument '" + arg + "', matches more than one of " + enumNames,
+					IllegalArgumentException::new));
+		}
+		return unknownInputArg(parameterName, ParameterType.ENUM, arg, inputOffset);
+	}
+
+
+	private static final <T extends CharSequence> ParameterParserResult readFlag(String parameterName, boolean isArray, T[] strs, int off, int len,
+			Consumer<Boolean> setter, Predicate<Boolean> validator, Function<Boolean, String> validatorMessageGenerator, PrimitiveParameterFunctions prims,
+			ArrayValidation arrayValidation) {
+		ParameterType paramType = ParameterType.FLAG;
+		BooleanPredicate flagValidator = prims != null ? prims.flagValidator : null;
+
+		if(isArray) {
+			boolean[] flagVals = new boolean[len];
+			for(int i = off, size = off + len; i < size; i++) {
+				String str = strs[i].toString();
+				if("true".equals(str) || "false".equals(str)) {
+					flagVals[i - off] = "true".equals(str);
 				}
 				else {
-					return result;
+					return unknownInputArg(parameterName, paramType, strs[i], i - off + 1);
 				}
 			}
+			Consumer<boolean[]> arraySetter = prims != null ? prims.flagArraySetter : null;
+			ParameterParserResult result = trySetFlags(flagVals, arraySetter, setter, flagValidator, validator, validatorMessageGenerator, parameterName, arrayValidation);
+			return result != null ? result : new ParameterParserResult(paramType, flagVals, true);
+		}
+		else {
+			String str = strs[off].toString();
+			boolean flagVal = false;
+			if("true".equals(str) || "false".equals(str)) {
+				flagVal = "true".equals(str);
+			}
 			else {
-				intVals[i - off] = intVal;
+				return unknownInputArg(parameterName, paramType, strs[off], 1);
 			}
+			BooleanConsumer flagSetter = prims != null ? prims.flagSetter : null;
+			ParameterParserResult result = trySetFlag(flagVal, flagSetter, setter, flagValidator, validator, validatorMessageGenerator, parameterName);
+			return result != null ? result : ParameterParserResult.newFlagResult(flagVal);
 		}
+	}
+
+
+	private static final <T extends CharSequence> ParameterParserResult readFloat(String parameterName, boolean isArray, T[] strs, int off, int len,
+			Consumer<Float> setter, Predicate<Float> validator, Function<Float, String> validatorMessageGenerator, PrimitiveParameterFunctions prims,
+			ArrayValidation arrayValidation) {
+		ParameterType paramType = ParameterType.FLOAT;
+		DoublePredicate floatValidator = prims != null ? prims.floatValidator : null;
 
 		if(isArray) {
-			result = trySetValues(paramType, intVals, setter, validator, validatorMessageGenerator, parameterName);
-			if(result == null) {
-				result = new ParameterParserResult(paramType, intVals, true);
+			float[] floatVals = new float[len];
+			for(int i = off, size = off + len; i < size; i++) {
+				try {
+					floatVals[i - off] = Float.parseFloat(strs[i].toString());
+				} catch(Exception e) {
+					return unknownInputArg(parameterName, paramType, strs[i], i - off + 1, e);
+				}
 			}
+			Consumer<float[]> arraySetter = prims != null ? prims.floatArraySetter : null;
+			ParameterParserResult result = trySetFloats(floatVals, arraySetter, setter, floatValidator, validator, validatorMessageGenerator, parameterName, arrayValidation);
+			return result != null ? result : new ParameterParserResult(paramType, floatVals, true);
 		}
 		else {
-			boolean hasOneResVal = intResults.size() == 1;
-			if(hasOneResVal) {
-				result = new ParameterParserResult(paramType, intResults.get(0), false);
+			float floatVal = 0;
+			try {
+				floatVal = Float.parseFloat(strs[off].toString());
+			} catch(Exception e) {
+				return unknownInputArg(parameterName, paramType, strs[off], 1, e);
 			}
-			else {
-				result = new ParameterParserResult(paramType, intResults.toArray(), true);
+			DoubleConsumer floatSetter = prims != null ? prims.floatSetter : null;
+			ParameterParserResult result = trySetFloat(floatVal, floatSetter, setter, floatValidator, validator, validatorMessageGenerator, parameterName);
+			return result != null ? result : ParameterParserResult.newFloatResult(floatVal);
+		}
+	}
+
+
+	private static final <T extends CharSequence> ParameterParserResult readInteger(String parameterName, boolean isArray, T[] strs, int off, int len,
+			Consumer<Integer> setter, Predicate<Integer> validator, Function<Integer, String> validatorMessageGenerator, PrimitiveParameterFunctions prims,
+			ArrayValidation arrayValidation) {
+		ParameterType paramType = ParameterType.INTEGER;
+		IntPredicate intValidator = prims != null ? prims.intValidator : null;
+
+		if(isArray) {
+			int[] intVals = new int[len];
+			for(int i = off, size = off + len; i < size; i++) {
+				long val = ParameterCodecs.tryParseInt(strs[i], 0, strs[i].length());
+				if(val == ParameterCodecs.INVALID_INT) {
+					return invalidInt(parameterName, strs[i], i - off + 1);
+				}
+				intVals[i - off] = (int)val;
 			}
+			Consumer<int[]> arraySetter = prims != null ? prims.intArraySetter : null;
+			ParameterParserResult result = trySetInts(intVals, arraySetter, setter, intValidator, validator, validatorMessageGenerator, parameterName, arrayValidation);
+			return result != null ? result : new ParameterParserResult(paramType, intVals, true);
+		}
+		else {
+			long val = ParameterCodecs.tryParseInt(strs[off], 0, strs[off].length());
+			if(val == ParameterCodecs.INVALID_INT) {
+				return invalidInt(parameterName, strs[off], 1);
+			}
+			int intVal = (int)val;
+			IntConsumer intSetter = prims != null ? prims.intSetter : null;
+			ParameterParserResult result = trySetInt(intVal, intSetter, setter, intValidator, validator, validatorMessageGenerator, parameterName);
+			return result != null ? result : ParameterParserResult.newIntResult(intVal);
 		}
-		return result;
 	}
 
 
 	private static final <T extends CharSequence> ParameterParserResult readPath(String parameterName, boolean isArray, T[] strs, int off, int len,
-			Consumer<Path> setter, Predicate<Path> validator, Function<Path, String> validatorMessageGenerator) {
+			Consumer<Path> setter, Predicate<Path> validator, Function<Path, String> validatorMessageGenerator,
+			ArrayValidation arrayValidation) {
 		Path[] pathVals = null;
 		if(isArray) {
 			pathVals = new Path[len];
@@ -569,7 +1367,7 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 			try {
 				pathVal = Paths.get(strs[i].toString());
 			} catch(Exception e) {
-				return unknownInputArg(parameterName, paramType, strs[i], e);
+				return unknownInputArg(parameterName, paramType, strs[i], i - off + 1, e);
 			}
 			if(!isArray) {
 				result = trySetValue(paramType, pathVal, setter, validator, validatorMessageGenerator, parameterName);
@@ -586,7 +1384,7 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 		}
 
 		if(isArray) {
-			result = trySetValues(paramType, pathVals, setter, validator, validatorMessageGenerator, parameterName);
+			result = trySetValues(paramType, pathVals, setter, validator, validatorMessageGenerator, parameterName, arrayValidation);
 			if(result == null) {
 				result = new ParameterParserResult(paramType, pathVals, true);
 			}
@@ -605,7 +1403,8 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 
 
 	private static final <T extends CharSequence> ParameterParserResult readText(String parameterName, boolean isArray, T[] strs, int off, int len,
-			Consumer<String> setter, Predicate<String> validator, Function<String, String> validatorMessageGenerator) {
+			Consumer<String> setter, Predicate<String> validator, Function<String, String> validatorMessageGenerator,
+			ArrayValidation arrayValidation) {
 		String[] textVals = null;
 		if(isArray) {
 			textVals = new String[len];
@@ -620,7 +1419,7 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 			try {
 				textVal = strs[i].toString();
 			} catch(Exception e) {
-				return unknownInputArg(parameterName, paramType, strs[i], e);
+				return unknownInputArg(parameterName, paramType, strs[i], i - off + 1, e);
 			}
 			if(!isArray) {
 				result = trySetValue(paramType, textVal, setter, validator, validatorMessageGenerator, parameterName);
@@ -637,7 +1436,7 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 		}
 
 		if(isArray) {
-			result = trySetValues(paramType, textVals, setter, validator, validatorMessageGenerator, parameterName);
+			result = trySetValues(paramType, textVals, setter, validator, validatorMessageGenerator, parameterName, arrayValidation);
 			if(result == null) {
 				result = new ParameterParserResult(paramType, textVals, true);
 			}
@@ -654,4 +1453,110 @@ public class ParameterDataImpl<T extends CharSequence, E> implements ParameterDa
 		return result;
 	}
 
+
+	/** Parses, validates, and delivers the elements of a streaming array parameter to the parameter's {@link ArrayElementSink}
+	 * one at a time.  Once an element fails, the remaining elements are ignored and {@link #finish()} returns the error.
+	 * Elements are not retained (other than the current batch), so {@link #accept(CharSequence)} can be passed
+	 * reused buffers such as the arguments returned by an {@link ArgumentSource}
+	 */
+	static final class ElementReader {
+		private final ParameterDataImpl<?, ?> param;
+		private final String parameterName;
+		/** the current batch, null if elements are delivered one at a time */
+		private final List<Object> batch;
+		private int count;
+		private ParameterParserResult error;
+
+
+		ElementReader(ParameterDataImpl<?, ?> param) {
+			this.param = param;
+			this.parameterName = param.primaryName != null ? param.primaryName.toString() : null;
+			this.batch = param.elementSink.batchConsumer != null ? new ArrayList<>(Math.min(param.elementSink.batchSize, 1024)) : null;
+		}
+
+
+		/** Parse, validate, and deliver an element
+		 * @return null if no error occurred
+		 */
+		ParameterParserResult accept(CharSequence str) {
+			if(error != null) {
+				return error;
+			}
+			int len = str.length();
+			Object val = null;
+			try {
+				val = param.decodeElement(str, 0, len);
+			} catch(Exception e) {
+				return error = param.decodeError(str, 0, len, count, e);
+			}
+			if(val == null) {
+				return error = param.decodeError(str, 0, len, count, null);
+			}
+			ParameterParserResult invalid = param.validateElement(val, count);
+			if(invalid != null) {
+				return error = invalid;
+			}
+			count++;
+
+			if(batch != null) {
+				batch.add(val);
+				return batch.size() < param.elementSink.batchSize ? null : flush();
+			}
+			try {
+				param.elementSink.elementConsumer.accept(val);
+			} catch(Exception e) {
+				return error = setterError(parameterName, param.type, param.elementSink.elementConsumer, val, e);
+			}
+			return null;
+		}
+
+
+		/** Deliver the last batch, if any
+		 * @return the error which stopped this reader or a result for the parsed elements.
+		 * The result's {@link ParameterParserResult#getParseResult() value} is null because the elements are not retained
+		 */
+		ParameterParserResult finish() {
+			if(error == null && batch != null && batch.size() > 0) {
+				flush();
+			}
+			return error != null ? error : new ParameterParserResult(param.type, null, true);
+		}
+
+
+		private ParameterParserResult flush() {
+			Consumer<List<Object>> batchConsumer = param.elementSink.batchConsumer;
+			try {
+				batchConsumer.accept(batch);
+			} catch(Exception e) {
+				return error = setterError(parameterName, param.type, batchConsumer, batch, e);
+			}
+			batch.clear();
+			return null;
+		}
+
+	}
+
+
+	/** Decodes a single value or array element from a range of characters
+	 */
+	@FunctionalInterface
+	private static interface ElementDecoder {
+
+		/**
+		 * @return the decoded element or null if the characters from {@code off} to {@code end} are not a recognized value
+		 */
+		public Object decode(CharSequence src, int off, int end) throws Exception;
+
+	}
+
+
+	/** A parser bound to a parameter's type, setter, and validator
+	 */
+	@FunctionalInterface
+	private static interface ValueReader {
+
+		public ParameterParserResult read(CharSequence[] strs, int off, int len);
+
+	}
+
 }
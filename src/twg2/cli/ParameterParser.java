@@ -12,8 +12,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import twg2.functions.TriConsumer;
-import twg2.text.stringUtils.StringReplace;
-import twg2.text.stringUtils.StringTrim;
 
 /** A program parameter that can be identified by a list of aliases
  * and can be executed.
@@ -25,7 +23,13 @@ import twg2.text.stringUtils.StringTrim;
  */
 public final class ParameterParser<U> {
 	private Map<String, BiConsumer<Supplier<String>, U>> parameterMap;
+	/** lazily built from {@link #parameterMap}, reset when a parameter is added */
+	private volatile AliasIndex<U> aliasIndex;
 	private List<Map.Entry<Pattern, TriConsumer<Supplier<String>, MatchResult, U>>> regexParameters;
+	/** true to use {@link #regexDispatcher} to search {@link #regexParameters} */
+	private boolean compiledRegexDispatch;
+	/** lazily built from {@link #regexParameters}, reset when a regex parameter is added */
+	private volatile RegexDispatcher regexDispatcher;
 
 
 	public ParameterParser() {
@@ -49,6 +53,7 @@ public final class ParameterParser<U> {
 
 	public void addParameter(String alias, BiConsumer<Supplier<String>, U> param) {
 		this.parameterMap.put(alias, param);
+		this.aliasIndex = null;
 	}
 
 
@@ -56,12 +61,31 @@ public final class ParameterParser<U> {
 		for(int i = 0, size = aliases.size(); i < size; i++) {
 			this.parameterMap.put(aliases.get(i), param);
 		}
+		this.aliasIndex = null;
 	}
 
 
 	public void addRegexParameter(String regex, TriConsumer<Supplier<String>, MatchResult, U> param) {
 		Pattern pattern = Pattern.compile(regex);
 		this.regexParameters.add(new AbstractMap.SimpleImmutableEntry<>(pattern, param));
+		this.regexDispatcher = null;
+	}
+
+
+	public boolean isCompiledRegexDispatch() {
+		return compiledRegexDispatch;
+	}
+
+
+	/** Enable or disable compiled regex dispatch.  When enabled, regex parameters are searched using a
+	 * prefiltered, combined, automaton (built the first time a name is looked up after a regex parameter is added)
+	 * and per-thread {@link Matcher} instances instead of creating a new {@link Matcher} for each pattern.
+	 * The first regex parameter (in the order added) that matches a name is still the one called, but it receives an
+	 * immutable {@link Matcher#toMatchResult() snapshot} of the match rather than the {@link Matcher} itself.
+	 * @param compiledRegexDispatch true to enable compiled dispatch, false to try each regex parameter in order (default)
+	 */
+	public void setCompiledRegexDispatch(boolean compiledRegexDispatch) {
+		this.compiledRegexDispatch = compiledRegexDispatch;
 	}
 
 
@@ -95,28 +119,88 @@ public final class ParameterParser<U> {
 	}*/
 
 
+	/** Find a parameter by alias using a range of characters, such as a {@link ParameterTokenizer} token span.
+	 * Regex parameters are not searched.
+	 * @param src the characters containing the alias
+	 * @param off the offset into {@code src} of the first character of the alias
+	 * @param end the offset into {@code src} of the character after the last character of the alias
+	 * @return the parameter with the alias or null if no parameter has the alias
+	 */
+	public BiConsumer<Supplier<String>, U> getParameter(CharSequence src, int off, int end) {
+		AliasIndex<U> index = getAliasIndex();
+		int idx = index.names.indexOf(src, off, end);
+		return idx > -1 ? index.params[idx] : null;
+	}
+
+
 	private final boolean findAndCallParameter(String paramName, Supplier<String> remainingParameters, U data) {
 		// Check for matching parameter aliases
-		BiConsumer<Supplier<String>, U> aliasParam = parameterMap.get(paramName);
+		BiConsumer<Supplier<String>, U> aliasParam = getParameter(paramName, 0, paramName.length());
 		if(aliasParam != null) {
 			aliasParam.accept(remainingParameters, data);
 			return true;
 		}
+		if(regexParameters.isEmpty()) {
+			return false;
+		}
 		// Check for matching regex aliases
-		Map.Entry<Pattern, TriConsumer<Supplier<String>, MatchResult, U>> regexParam = null;
-		for(int i = 0, size = regexParameters.size(); i < size; i++) {
-			Matcher match = regexParameters.get(i).getKey().matcher(paramName);
-			if(match.find()) {
-				regexParam = regexParameters.get(i);
-				regexParam.getValue().accept(remainingParameters, match, data);
-				return true;
+		ParseListener listener = ParseListeners.installed;
+		Object trace = listener != null ? listener.phaseStarted(ParsePhase.REGEX_DISPATCH) : null;
+		int idx = -1;
+		MatchResult match = null;
+		if(compiledRegexDispatch) {
+			RegexDispatcher dispatcher = getRegexDispatcher();
+			idx = dispatcher.find(paramName);
+			if(idx > -1) {
+				match = dispatcher.toMatchResult(idx);
+			}
+		}
+		else {
+			for(int i = 0, size = regexParameters.size(); i < size; i++) {
+				Matcher matcher = regexParameters.get(i).getKey().matcher(paramName);
+				if(matcher.find()) {
+					idx = i;
+					match = matcher;
+					break;
+				}
 			}
 		}
+		if(trace != null) {
+			listener.phaseEnded(trace, ParsePhase.REGEX_DISPATCH, paramName, null, 1, idx > -1);
+		}
 
+		if(idx > -1) {
+			regexParameters.get(idx).getValue().accept(remainingParameters, match, data);
+			return true;
+		}
 		return false;
 	}
 
 
+	private final AliasIndex<U> getAliasIndex() {
+		AliasIndex<U> index = aliasIndex;
+		if(index == null) {
+			index = new AliasIndex<>(parameterMap);
+			aliasIndex = index;
+		}
+		return index;
+	}
+
+
+	private final RegexDispatcher getRegexDispatcher() {
+		RegexDispatcher dispatcher = regexDispatcher;
+		if(dispatcher == null) {
+			List<Pattern> patterns = new ArrayList<>(regexParameters.size());
+			for(int i = 0, size = regexParameters.size(); i < size; i++) {
+				patterns.add(regexParameters.get(i).getKey());
+			}
+			dispatcher = new RegexDispatcher(patterns);
+			regexDispatcher = dispatcher;
+		}
+		return dispatcher;
+	}
+
+
 	/** Parse a string into an array of strings by splitting at spaces and
 	 * quotes. Primarily used to parse a single parameter string into multiple parameters.
 	 * This method calls is the same as {@code parseParameters(param, '"')}.
@@ -157,91 +241,44 @@ public final class ParameterParser<U> {
 	 * @return the {@code dst} string list containing the original string split at
 	 * spaces or quote characters. Quote characters without spaces before them are not split.
 	 * Spaces between opening and closing quote characters are not split.
+	 * @see ParameterTokenizer
 	 */
 	public static final List<String> parseParameters(String param, final char quote,
 			final boolean parseEscapeChars, final char escapeChar, List<String> dst) {
-		// used for debugging
-		//char[] spaces = new char[800];
-		//for(int i = 0; i < spaces.length; i++) { spaces[i] = ' '; }
-
-		param = param.trim();
-		boolean lookingForQuote = false;
-		boolean lookingForWhitespace = false;
-		boolean finishedQuotes = false;
-		int subsequenceStartIndex = -1;
-		//PrintStream outP = System.out;
-		//char[] spaces = new String("                                                                ").toCharArray();
-		if(param.charAt(0) == quote) {
-			lookingForQuote = true;
-			subsequenceStartIndex = 0;
-		}
-		else {
-			lookingForWhitespace = true;
-			subsequenceStartIndex = 0;
+		ParameterTokenizer tokenizer = new ParameterTokenizer(quote, parseEscapeChars, escapeChar);
+		ParseListener listener = ParseListeners.installed;
+		Object trace = listener != null ? listener.phaseStarted(ParsePhase.TOKENIZE) : null;
+		tokenizer.tokenize(param);
+		if(trace != null) {
+			listener.phaseEnded(trace, ParsePhase.TOKENIZE, null, null, tokenizer.size(), true);
 		}
+		return tokenizer.toList(dst);
+	}
 
-		// For each character in the string
-		for(int i = 0, size = param.length(); i < size; i++) {
-			char c = param.charAt(i);
-			// Search for a closing quote
-			if(i != 0 && lookingForQuote && c == quote && (!parseEscapeChars || param.charAt(i - 1) != escapeChar)) {
-				//outP.println(param);
-				//outP.println(new String(spaces, 0, i) + "^end quote");
-				lookingForQuote = false;
-				finishedQuotes = true;
-				// skip to the next character upon finding a closing quote
-				continue;
-			}
-			// Search for an opening quote
-			if(!lookingForQuote && c == quote) {
-				//outP.println(param);
-				//outP.println(new String(spaces, 0, i) + "^start quote");
-				lookingForQuote = true;
-				if(lookingForWhitespace) {
-					lookingForWhitespace = false;
-				}
-				else {
-					subsequenceStartIndex = i;
-				}
-			}
-			// Search for closing (second) space while not between an opening and closing quote
-			if(!lookingForQuote && lookingForWhitespace && Character.isWhitespace(c)) {
-				//outP.println(param);
-				//outP.println(new String(spaces, 0, i) + "^end space");
-				String paramStr = param.substring(subsequenceStartIndex, i);
-				dst.add(parseEscapeChars ? StringReplace.replace(paramStr, "\\\"", "\"") : paramStr);
-				lookingForWhitespace = false;
-				subsequenceStartIndex = -1;
-				//continue;
-			}
-			// Search for a starting (first) space while not between an opening and closing quote
-			if(!lookingForQuote && Character.isWhitespace(c)) {
-				//outP.println(param);
-				//outP.println(new String(spaces, 0, i) + "^start space");
-				lookingForWhitespace = true;
-				if(finishedQuotes) {
-					finishedQuotes = false;
-					String paramStr = StringTrim.trimQuotes(param.substring(subsequenceStartIndex, i));
-					dst.add(parseEscapeChars ? StringReplace.replace(paramStr, "\\\"", "\"") : paramStr);
-					//startIndex = -1;
+
+	/** A {@link NameIndex} of parameter aliases and the parameter for each alias
+	 */
+	private static final class AliasIndex<U> {
+		final NameIndex names;
+		final BiConsumer<Supplier<String>, U>[] params;
+
+
+		AliasIndex(Map<String, BiConsumer<Supplier<String>, U>> parameterMap) {
+			List<String> aliases = new ArrayList<>(parameterMap.size());
+			@SuppressWarnings("unchecked")
+			BiConsumer<Supplier<String>, U>[] params = (BiConsumer<Supplier<String>, U>[])new BiConsumer<?, ?>[parameterMap.size()];
+			for(Map.Entry<String, BiConsumer<Supplier<String>, U>> entry : parameterMap.entrySet()) {
+				// a null alias can never match a parameter name
+				if(entry.getKey() == null) {
+					continue;
 				}
-				subsequenceStartIndex = i+1;
+				params[aliases.size()] = entry.getValue();
+				aliases.add(entry.getKey());
 			}
+			this.names = new NameIndex(aliases);
+			this.params = params;
 		}
 
-		if(subsequenceStartIndex != -1) {
-			//outP.println(param);
-			//outP.println(new String(spaces, 0, param.length()-1) + "^end");
-			String paramStr = StringTrim.trimQuotes(param.substring(subsequenceStartIndex, param.length()));
-			dst.add(parseEscapeChars ? StringReplace.replace(paramStr, "\\\"", "\"") : paramStr);
-			subsequenceStartIndex = -1;
-		}
-		else if(dst.size() == 0) {
-			String paramStr = param.substring(0, param.length());
-			dst.add(parseEscapeChars ? StringReplace.replace(paramStr, "\\\"", "\"") : paramStr);
-			subsequenceStartIndex = -1;
-		}
-		return dst;
 	}
 
 }
@@ -1,6 +1,11 @@
 package twg2.cli;
 
-/**
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/** A parameter parsing error.  Errors created while parsing untrusted input carry only their {@link #getParseErrorType() type}
+ * and the {@link #getInputOffset() offset} of the offending input, their message and cause are created the first time
+ * {@link #getMessage()} or {@link #getCause()} is called, so rejecting input does not build strings or fill in stack traces.
  * @author TeamworkGuy2
  * @since 2015-4-30
  */
@@ -8,6 +13,11 @@ public class ParameterParserException {
 	private ParameterParserExceptionType errorType;
 	private String message;
 	private Throwable cause;
+	/** creates {@link #message} when it is first requested, null if the message was given */
+	private Supplier<String> messageFormatter;
+	/** creates {@link #cause} from the message when it is first requested, null if the cause was given */
+	private Function<String, Throwable> causeFactory;
+	private int inputOffset;
 
 
 	/**
@@ -19,6 +29,21 @@ public class ParameterParserException {
 		this.errorType = errorType;
 		this.message = message;
 		this.cause = cause;
+		this.inputOffset = -1;
+	}
+
+
+	/** Create an error whose message and cause are created when they are first requested.
+	 * The formatter and factory may be called more than once if multiple threads request the message or cause at the same time
+	 * @param inputOffset see {@link #getInputOffset()}
+	 * @param messageFormatter creates the error message
+	 * @param causeFactory creates the cause from the error message, may be null
+	 */
+	ParameterParserException(ParameterParserExceptionType errorType, int inputOffset, Supplier<String> messageFormatter, Function<String, Throwable> causeFactory) {
+		this.errorType = errorType;
+		this.inputOffset = inputOffset;
+		this.messageFormatter = messageFormatter;
+		this.causeFactory = causeFactory;
 	}
 
 
@@ -27,13 +52,38 @@ public class ParameterParserException {
 	}
 
 
+	/**
+	 * @return the offset of the input which caused this error from the parameter's name,
+	 * 1 for the first input after the name, or -1 if the error was not caused by a single input
+	 */
+	public int getInputOffset() {
+		return inputOffset;
+	}
+
+
 	public String getMessage() {
-		return message;
+		String msg = message;
+		if(msg == null && messageFormatter != null) {
+			msg = messageFormatter.get();
+			message = msg;
+		}
+		return msg;
 	}
 
 
 	public Throwable getCause() {
-		return cause;
+		Throwable err = cause;
+		if(err == null && causeFactory != null) {
+			err = causeFactory.apply(getMessage());
+			cause = err;
+		}
+		return err;
+	}
+
+
+	@Override
+	public String toString() {
+		return "ParameterParserException: { type: " + errorType + ", inputOffset: " + inputOffset + ", message: " + getMessage() + " }";
 	}
 
 }
@@ -1,6 +1,8 @@
 package twg2.cli;
 
-enum ParameterParserExceptionType {
+/** The kinds of {@link ParameterParserException} errors
+ */
+public enum ParameterParserExceptionType {
 	INPUT_PARSING_EXCEPTION, // if the input could not be parsed
 	SETTER_EXCEPTION, // the setter function call threw an exception (probably code related issue)
 	VALIDATOR_EXCEPTION, // the validator function call threw an exception (probably code related issue)
@@ -1,5 +1,7 @@
 package twg2.cli;
 
+import java.util.EnumSet;
+
 /**
  * @author TeamworkGuy2
  * @since 2015-4-30
@@ -10,6 +12,11 @@ public class ParameterParserResult {
 	private ParameterType resultType;
 	private boolean isParseResultAnArray;
 	private Object parseResult;
+	/** true if the result is a single primitive value stored in one of the primitive result fields instead of {@link #parseResult} */
+	private boolean isPrimitiveResult;
+	private int intResult;
+	private float floatResult;
+	private boolean flagResult;
 
 
 	public ParameterParserResult(ParameterParserException parseError) {
@@ -24,6 +31,12 @@ public class ParameterParserResult {
 	}
 
 
+	private ParameterParserResult(ParameterType type) {
+		this.resultType = type;
+		this.isPrimitiveResult = true;
+	}
+
+
 	public boolean isError() {
 		return parseError != null;
 	}
@@ -44,8 +57,117 @@ public class ParameterParserResult {
 	}
 
 
+	/**
+	 * @return the parsed value, single {@link ParameterType#INTEGER}, {@link ParameterType#FLOAT}, and {@link ParameterType#FLAG}
+	 * values are boxed when this method is called, use {@link #getInt()}, {@link #getFloat()}, or {@link #getFlag()} to avoid boxing
+	 */
 	public Object getParseResult() {
+		if(isPrimitiveResult) {
+			switch(resultType) {
+			case INTEGER: return intResult;
+			case FLOAT: return floatResult;
+			case FLAG: return flagResult;
+			default: throw new IllegalStateException("unknown primitive result type " + resultType);
+			}
+		}
 		return parseResult;
 	}
 
+
+	public int getInt() {
+		checkResultType(ParameterType.INTEGER, false);
+		return isPrimitiveResult ? intResult : ((Integer)parseResult).intValue();
+	}
+
+
+	public int[] getIntArray() {
+		checkResultType(ParameterType.INTEGER, true);
+		return (int[])parseResult;
+	}
+
+
+	public float getFloat() {
+		checkResultType(ParameterType.FLOAT, false);
+		return isPrimitiveResult ? floatResult : ((Float)parseResult).floatValue();
+	}
+
+
+	public float[] getFloatArray() {
+		checkResultType(ParameterType.FLOAT, true);
+		return (float[])parseResult;
+	}
+
+
+	public boolean getFlag() {
+		checkResultType(ParameterType.FLAG, false);
+		return isPrimitiveResult ? flagResult : ((Boolean)parseResult).booleanValue();
+	}
+
+
+	public boolean[] getFlagArray() {
+		checkResultType(ParameterType.FLAG, true);
+		return (boolean[])parseResult;
+	}
+
+
+	/**
+	 * @return the result of an {@link ParameterType#ENUM} array or enum set parameter as an {@link EnumSet},
+	 * the result of an enum set parameter (see {@link ParameterBuilder#newEnumSet(Class)}) is returned without copying it
+	 * @param enumClass the parameter's enum class
+	 */
+	public <E extends Enum<E>> EnumSet<E> getEnumSet(Class<E> enumClass) {
+		checkResultType(ParameterType.ENUM, true);
+		if(parseResult instanceof EnumSet) {
+			@SuppressWarnings("unchecked")
+			EnumSet<E> set = (EnumSet<E>)parseResult;
+			return set;
+		}
+		EnumSet<E> set = EnumSet.noneOf(enumClass);
+		for(Object value : (Object[])parseResult) {
+			set.add(enumClass.cast(value));
+		}
+		return set;
+	}
+
+
+	/**
+	 * @return the bit set of a {@link FlagGroup} result, bit {@code i} is set if flag {@code i} was found
+	 */
+	public long[] getFlagBits() {
+		if(parseError != null || !(parseResult instanceof long[])) {
+			throw new IllegalStateException("parse result is " + (parseError != null ? "an error" : (isParseResultAnArray ? "an array of " : "") + resultType) +
+					", not a flag group");
+		}
+		return (long[])parseResult;
+	}
+
+
+	private void checkResultType(ParameterType type, boolean isArray) {
+		if(parseError != null || resultType != type || isParseResultAnArray != isArray) {
+			throw new IllegalStateException("parse result is " + (parseError != null ? "an error" : (isParseResultAnArray ? "an array of " : "") + resultType) +
+					", not " + (isArray ? "an array of " : "") + type);
+		}
+	}
+
+
+	public static ParameterParserResult newIntResult(int value) {
+		ParameterParserResult res = new ParameterParserResult(ParameterType.INTEGER);
+		res.intResult = value;
+		return res;
+	}
+
+
+	public static ParameterParserResult newFloatResult(float value) {
+		ParameterParserResult res = new ParameterParserResult(ParameterType.FLOAT);
+		res.floatResult = value;
+		return res;
+	}
+
+
+	public static ParameterParserResult newFlagResult(boolean value) {
+		ParameterParserResult res = new ParameterParserResult(ParameterType.FLAG);
+		res.flagResult = value;
+		return res;
+	}
+
 }
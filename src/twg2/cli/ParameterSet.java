@@ -4,12 +4,19 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
-/** A set of {@link ParameterData} instances to parse against a give set of input values
+/** A set of {@link ParameterData} instances to parse against a give set of input values.
+ * A parameter set is immutable once created and can be shared by multiple threads, each call to
+ * {@link #parse(CharSequence[], int, Appendable)} or {@link #parseInteractive(CharSequence[], int, BufferedReader, Appendable, String)}
+ * keeps its state (such as the output stream help messages are written to) in its own {@link ParseContext}.
  * 
  * @param <T> the parameter's name type
  * 
@@ -17,13 +24,33 @@ import java.util.Map;
  * @since 2014-11-22
  */
 public final class ParameterSet<T extends CharSequence> {
-	private static int MAX_PARSE_ATTEMPTS = 10;
+	private static final int MAX_PARSE_ATTEMPTS = 10;
+	/** the default time a parse waits for all of the {@link ParameterBuilder#setAsyncValidator(java.util.function.Function) asynchronous validators} it starts */
+	public static final long DEFAULT_ASYNC_VALIDATION_TIMEOUT_MILLIS = 10_000;
 	/** a unique set of all the parameters in this parameter set */
-	private List<ParameterData<T, ? extends Object>> parameters;
-	/** a map of parameter names and aliases to their parameters, the same parameter may appear multiple times associated with different names/aliases */
-	private Map<T, ParameterData<T, ? extends Object>> parameterNameMap;
-	/** the output stream to print the help message to when it is parsed by {@link ParameterSet#parse()} */
-	private Appendable outStream;
+	private final List<ParameterData<T, ? extends Object>> parameters;
+	/** an index of all parameter names and aliases, the same parameter may appear multiple times associated with different names/aliases */
+	private final NameIndex parameterNames;
+	/** the ordinal of the parameter for each name in {@link #parameterNames} */
+	private final int[] parameterNameOrdinals;
+	/** the {@link AccumulatingParameter#nameKey(CharSequence) name key} of each name in {@link #parameterNames}, null if there are no accumulating parameters */
+	private final int[] parameterNameKeys;
+	/** a map of parameters to their ordinal (index) in {@link #parameters} */
+	private final IdentityHashMap<ParameterData<?, ?>, Integer> parameterOrdinals;
+	/** true if all of the parameter names are strings, required by {@link #parse(ArgumentSource, Appendable, ParseOutcome)} */
+	private final boolean stringNames;
+	/** true for the ordinal of each {@link AccumulatingParameter} whose occurrences are merged, null if there are no such parameters */
+	private final boolean[] accumulating;
+	/** true for the ordinal of each parameter with an asynchronous validator, null if there are no such parameters */
+	private final boolean[] asyncValidated;
+	/** the maximum time a parse waits for all of its asynchronous validators to complete */
+	private final long asyncValidationTimeoutNanos;
+	/** the help parameter, null if this parameter set was created without one */
+	private final ParameterData<T, ?> helpParam;
+	/** the message printed when {@link #helpParam} is parsed, null to generate the message from the parameters */
+	private final String helpMsg;
+	/** the help message generated from the parameters, null until it is first requested, see {@link #getHelpMessage()} */
+	private volatile String generatedHelpMsg;
 
 
 	public ParameterSet(List<? extends ParameterData<T, ? extends Object>> parameters) {
@@ -33,24 +60,249 @@ public final class ParameterSet<T extends CharSequence> {
 
 	/** Create a parameter set from a list of parameters
 	 * @param parameters the list of parameters to store in this parameter set
+	 * @param buildHelpParam true to add a help parameter which prints the help message to the output stream of the parse call
+	 * @param helpParamName the name of the help parameter
+	 * @param helpMsg the help message, or null to generate it from the parameters the first time it is printed, see {@link #getHelpMessage()}
+	 * @param helpParamAliases additional alias names of the help parameter
 	 */
 	public ParameterSet(List<? extends ParameterData<T, ? extends Object>> parameters,
 			boolean buildHelpParam, String helpParamName, String helpMsg, String... helpParamAliases) {
-		this.parameters = new ArrayList<>();
-		this.parameters.addAll(parameters);
+		List<ParameterData<T, ? extends Object>> params = new ArrayList<>(parameters.size() + 1);
+		IdentityHashMap<ParameterData<?, ?>, Integer> ordinals = new IdentityHashMap<>();
+		for(ParameterData<T, ? extends Object> parameter : parameters) {
+			if(!ordinals.containsKey(parameter)) {
+				ordinals.put(parameter, params.size());
+				params.add(parameter);
+			}
+		}
 
 		if(buildHelpParam) {
-			this.parameters.add(createHelpParameter(helpParamName, helpMsg, helpParamAliases));
+			this.helpParam = createHelpParameter(helpParamName, helpParamAliases);
+			this.helpMsg = helpMsg;
+			ordinals.put(this.helpParam, params.size());
+			params.add(this.helpParam);
+		}
+		else {
+			this.helpParam = null;
+			this.helpMsg = null;
 		}
 
-		this.parameterNameMap = new HashMap<>();
-
-		for(ParameterData<T, ?> parameter : this.parameters) {
-			this.parameterNameMap.put(parameter.getPrimaryName(), parameter);
+		// if multiple parameters share a name, the last parameter with the name is used
+		Map<String, Integer> nameMap = new LinkedHashMap<>();
+		boolean stringNames = true;
+		boolean[] accumulating = null;
+		boolean[] asyncValidated = null;
+
+		for(int i = 0, size = params.size(); i < size; i++) {
+			ParameterData<T, ?> parameter = params.get(i);
+			stringNames &= parameter.getPrimaryName() instanceof String;
+			if(parameter instanceof AccumulatingParameter && ((AccumulatingParameter)parameter).isAccumulating()) {
+				if(accumulating == null) {
+					accumulating = new boolean[size];
+				}
+				accumulating[i] = true;
+			}
+			if(parameter instanceof ParameterDataImpl && ((ParameterDataImpl<?, ?>)parameter).hasAsyncValidator()) {
+				if(asyncValidated == null) {
+					asyncValidated = new boolean[size];
+				}
+				asyncValidated[i] = true;
+			}
+			nameMap.put(parameter.getPrimaryName().toString(), i);
 			for(T name : parameter.getAliases()) {
-				this.parameterNameMap.put(name, parameter);
+				nameMap.put(name.toString(), i);
+			}
+		}
+
+		int[] nameOrdinals = new int[nameMap.size()];
+		int[] nameKeys = accumulating != null ? new int[nameMap.size()] : null;
+		int nameIdx = 0;
+		for(Map.Entry<String, Integer> entry : nameMap.entrySet()) {
+			int ordinal = entry.getValue();
+			if(nameKeys != null) {
+				nameKeys[nameIdx] = accumulating[ordinal] ? ((AccumulatingParameter)params.get(ordinal)).nameKey(entry.getKey()) : -1;
+			}
+			nameOrdinals[nameIdx++] = ordinal;
+		}
+
+		this.parameters = Collections.unmodifiableList(params);
+		this.parameterNames = new NameIndex(new ArrayList<>(nameMap.keySet()));
+		this.parameterNameOrdinals = nameOrdinals;
+		this.parameterNameKeys = nameKeys;
+		this.parameterOrdinals = ordinals;
+		this.stringNames = stringNames;
+		this.accumulating = accumulating;
+		this.asyncValidated = asyncValidated;
+		this.asyncValidationTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_ASYNC_VALIDATION_TIMEOUT_MILLIS);
+	}
+
+
+	private ParameterSet(ParameterSet<T> src, long asyncValidationTimeoutNanos) {
+		this.parameters = src.parameters;
+		this.parameterNames = src.parameterNames;
+		this.parameterNameOrdinals = src.parameterNameOrdinals;
+		this.parameterNameKeys = src.parameterNameKeys;
+		this.parameterOrdinals = src.parameterOrdinals;
+		this.stringNames = src.stringNames;
+		this.accumulating = src.accumulating;
+		this.asyncValidated = src.asyncValidated;
+		this.helpParam = src.helpParam;
+		this.helpMsg = src.helpMsg;
+		this.asyncValidationTimeoutNanos = asyncValidationTimeoutNanos;
+	}
+
+
+	/** Create a copy of this parameter set with a different asynchronous validation deadline.
+	 * A parse fails any parameter whose {@link ParameterBuilder#setAsyncValidator(java.util.function.Function) asynchronous validator}
+	 * has not completed within this time of the parse starting to wait for its validators
+	 * @param timeout the maximum time, default {@link #DEFAULT_ASYNC_VALIDATION_TIMEOUT_MILLIS} milliseconds
+	 * @param unit the unit of {@code timeout}
+	 * @return a new parameter set with the same parameters
+	 */
+	public ParameterSet<T> withAsyncValidationTimeout(long timeout, TimeUnit unit) {
+		if(timeout < 0) {
+			throw new IllegalArgumentException("asynchronous validation timeout must not be negative: " + timeout);
+		}
+		return new ParameterSet<>(this, unit.toNanos(timeout));
+	}
+
+
+	/**
+	 * @return an unmodifiable list of this parameter set's parameters, including the help parameter if this parameter set has one.
+	 * Each parameter's index in this list is its ordinal
+	 */
+	public List<ParameterData<T, ? extends Object>> getParameters() {
+		return parameters;
+	}
+
+
+	public int getParameterCount() {
+		return parameters.size();
+	}
+
+
+	/**
+	 * @param ordinal the ordinal of the parameter, between 0 and {@link #getParameterCount()} - 1
+	 * @return the parameter with the ordinal
+	 */
+	public ParameterData<T, ? extends Object> getParameter(int ordinal) {
+		return parameters.get(ordinal);
+	}
+
+
+	/**
+	 * @param param the parameter
+	 * @return the parameter's ordinal in this parameter set or -1 if the parameter is not part of this parameter set
+	 */
+	public int getOrdinal(ParameterData<?, ?> param) {
+		Integer ordinal = parameterOrdinals.get(param);
+		return ordinal != null ? ordinal : -1;
+	}
+
+
+	/**
+	 * @param name a parameter name or alias, may be null
+	 * @return the ordinal of the parameter with the name or alias or -1 if no parameter in this parameter set has the name
+	 */
+	public int findOrdinal(CharSequence name) {
+		int nameIdx = parameterNames.indexOf(name);
+		return nameIdx > -1 ? parameterNameOrdinals[nameIdx] : -1;
+	}
+
+
+	/** Find a parameter by a range of characters, such as a {@link ParameterTokenizer} token span or part of a {@link java.nio.CharBuffer}.
+	 * Unknown names are rejected after one hash lookup without creating any objects.
+	 * @param src the characters containing the parameter name or alias
+	 * @param off the offset into {@code src} of the first character of the name
+	 * @param end the offset into {@code src} of the character after the last character of the name
+	 * @return the ordinal of the parameter with the name or alias or -1 if no parameter in this parameter set has the name
+	 */
+	public int findOrdinal(CharSequence src, int off, int end) {
+		int nameIdx = parameterNames.indexOf(src, off, end);
+		return nameIdx > -1 ? parameterNameOrdinals[nameIdx] : -1;
+	}
+
+
+	/** Get the help message printed by this parameter set's help parameter.
+	 * If this parameter set was not created with a help message, the message is generated from the parameters the first time
+	 * it is requested and then cached, with one line per parameter (one per flag of a {@link FlagGroup}) in the format:
+	 * {@code 'name type', 'alias_1', ..., 'alias_n' [(one of: [enum_name_1, ..., enum_name_n])] [(required)] - help message}
+	 * @return the help message
+	 */
+	public String getHelpMessage() {
+		if(helpMsg != null) {
+			return helpMsg;
+		}
+		String help = generatedHelpMsg;
+		if(help == null) {
+			StringBuilder sb = new StringBuilder(64 * parameters.size());
+			try {
+				writeHelp(sb, null);
+			} catch(IOException e) {
+				throw new AssertionError("StringBuilder threw IOException", e);
 			}
+			help = sb.toString();
+			generatedHelpMsg = help;
 		}
+		return help;
+	}
+
+
+	/** Write the {@link #getHelpMessage() help message} to an output stream
+	 * @param output the output stream to write to
+	 * @throws IOException if there is an error writing to {@code output}
+	 */
+	public void writeHelp(Appendable output) throws IOException {
+		output.append(getHelpMessage());
+	}
+
+
+	/** Generate help lines for the parameters with a name or alias starting with a prefix and write them directly to an output stream,
+	 * without building or caching the whole help message, so that help for one part of a large parameter set can be printed quickly.
+	 * The lines are always generated from the parameters, even if this parameter set was created with a help message.
+	 * @param output the output stream to write to
+	 * @param namePrefix only parameters, or flags of {@link FlagGroup FlagGroups}, with a name or alias starting with this prefix are included,
+	 * null or empty to include all of the parameters
+	 * @param width the maximum line width, longer lines are wrapped at spaces and continued on indented lines,
+	 * tabs count as {@value twg2.cli.WrappingAppendable#TAB_WIDTH} characters, 0 to not wrap lines
+	 * @throws IOException if there is an error writing to {@code output}
+	 */
+	public void writeHelp(Appendable output, String namePrefix, int width) throws IOException {
+		if(width < 0) {
+			throw new IllegalArgumentException("width cannot be negative: " + width);
+		}
+		if(width == 0) {
+			writeHelp(output, namePrefix);
+		}
+		else {
+			WrappingAppendable wrapper = new WrappingAppendable(output, width, "\t\t");
+			writeHelp(wrapper, namePrefix);
+			wrapper.flush();
+		}
+	}
+
+
+	private void writeHelp(Appendable out, String namePrefix) throws IOException {
+		if(namePrefix != null && namePrefix.isEmpty()) {
+			namePrefix = null;
+		}
+		if(helpParam != null && hasNameWithPrefix(helpParam.getPrimaryName(), helpParam.getAliases(), namePrefix)) {
+			writeHelpParameterInfo(out, helpParam.getPrimaryName(), helpParam.getAliases());
+		}
+		for(ParameterData<T, ?> param : parameters) {
+			if(param != helpParam) {
+				writeParameterInfo(out, param, namePrefix);
+			}
+		}
+		out.append('\n');
+	}
+
+
+	/**
+	 * @return a new empty {@link ParseOutcome} for {@link #parse(CharSequence[], int, Appendable, ParseOutcome)}
+	 */
+	public ParseOutcome<T> newOutcome() {
+		return new ParseOutcome<>(this);
 	}
 
 
@@ -60,49 +312,136 @@ public final class ParameterSet<T extends CharSequence> {
 	 * @param off the offset into {@code inputs} at which to start parsing
 	 * @param output the output stream to write information/help messages to
 	 * @return a map of all of this parameter set's parameters mapped to true if the
-	 * parameter was found in the {@code inputs}, false if a parameter was not in the {@code inputs}
+	 * parameter was found in the {@code inputs}, false if a parameter was not in the {@code inputs}.
+	 * The map is read-only, see {@link ParseOutcome#asMap()}
+	 * @see #parse(CharSequence[], int, Appendable, ParseOutcome)
 	 */
 	public Map<ParameterData<T, Object>, Boolean> parse(T[] inputs, int off, Appendable output) {
-		outStream = output;
-		ParameterData<T, Object> param = null;
+		return parse(inputs, off, output, null).asMap();
+	}
+
+
+	/** Parse an array of inputs in a single pass and invoke {@link ParameterData#parse(Object[], int, int)} on
+	 * the parameters in this parameter set that match any of the inputs.
+	 * Each parameter is parsed from the span of inputs starting at its name and ending before the next parameter name
+	 * or the end of the inputs, inputs before the first parameter name are ignored.
+	 * @param inputs the array of inputs to parse
+	 * @param off the offset into {@code inputs} at which to start parsing
+	 * @param output the output stream to write information/help messages to
+	 * @param dst an outcome created by this parameter set's {@link #newOutcome()} to reset and store the results in,
+	 * or null to create a new outcome
+	 * @return {@code dst} or a new outcome containing the parameters found in the {@code inputs}
+	 */
+	public ParseOutcome<T> parse(T[] inputs, int off, Appendable output, ParseOutcome<T> dst) {
+		dst = prepareOutcome(dst);
+		dst.setInputs(inputs);
+		ParseContext<T> ctx = new ParseContext<>(output, dst);
+		ParseListener listener = ctx.listener;
+
+		int nameIdx = -1;
 		int paramStart = -1;
 		for(int i = off, size = inputs.length; i < size; i++) {
-			@SuppressWarnings("unchecked")
-			ParameterData<T, Object> paramTemp = (ParameterData<T, Object>)parameterNameMap.get(inputs[i]);
-			if(paramTemp != null) {
-				param = paramTemp;
-				paramStart = i;
-				if(paramStart+1 >= inputs.length) {
-					param.parse(inputs, paramStart, 1);
+			Object trace = listener != null ? listener.phaseStarted(ParsePhase.NAME_LOOKUP) : null;
+			int nextNameIdx = parameterNames.indexOf(inputs[i]);
+			if(trace != null) {
+				listener.phaseEnded(trace, ParsePhase.NAME_LOOKUP, inputs[i], null, 1, nextNameIdx > -1);
+			}
+			if(nextNameIdx > -1) {
+				if(nameIdx > -1) {
+					parseParameter(ctx, nameIdx, inputs, paramStart, i - paramStart, paramStart);
 				}
-				break;
+				nameIdx = nextNameIdx;
+				paramStart = i;
 			}
 		}
+		if(nameIdx > -1) {
+			parseParameter(ctx, nameIdx, inputs, paramStart, inputs.length - paramStart, paramStart);
+		}
+		finishAccumulated(dst);
+		finishAsyncValidated(dst);
 
-		Map<ParameterData<T, Object>, Boolean> parametersCompleted = new LinkedHashMap<>();
-		for(ParameterData<T, ? extends Object> parameter : parameters) {
-			@SuppressWarnings("unchecked")
-			ParameterData<T, Object> prmtr = (ParameterData<T, Object>)parameter;
-			parametersCompleted.put(prmtr, false);
-		}
-		int nextParamStart = -1;
-		for(int i = paramStart + 1, size = inputs.length; i < size; i++) {
-			@SuppressWarnings("unchecked")
-			ParameterData<T, Object> paramTemp = (ParameterData<T, Object>)parameterNameMap.get(inputs[i]);
-			if(paramTemp != null || (i == size - 1 && param != null)) {
-				nextParamStart = i + (paramTemp == null && i == size - 1 ? 1 : 0);
-				param.parse(inputs, paramStart, nextParamStart - paramStart);
-				parametersCompleted.put(param, true);
-				paramStart = nextParamStart;
-				param = paramTemp;
-				if(param != null && i == size - 1) {
-					param.parse(inputs, paramStart, 1);
-					parametersCompleted.put(param, true);
+		return dst;
+	}
+
+
+	/** Parse arguments read incrementally from a source, such as an argument file or standard input (see {@link ArgumentSources}).
+	 * Arguments are matched against parameter names without creating strings, only the arguments following a parameter
+	 * name, up to the next parameter name, are copied into strings and buffered until that parameter is parsed.
+	 * The arguments of {@link ParameterData#isStreamingArray() streaming array} parameters are not buffered, each one is
+	 * parsed and passed to the parameter's element sink as it is read.
+	 * Arguments before the first parameter name are ignored.
+	 * The outcome's {@link ParseOutcome#getInputs() inputs} are null and its spans are argument indexes within the source.
+	 * This parameter set's parameter names must be {@link String Strings}.
+	 * @param args the source of arguments, this method does not close the source
+	 * @param output the output stream to write information/help messages to
+	 * @param dst an outcome created by this parameter set's {@link #newOutcome()} to reset and store the results in,
+	 * or null to create a new outcome
+	 * @return {@code dst} or a new outcome containing the parameters found in the {@code args}
+	 * @throws IOException if there is an error reading from {@code args}
+	 * @throws IllegalStateException if this parameter set has parameter names which are not {@link String Strings}
+	 */
+	public ParseOutcome<T> parse(ArgumentSource args, Appendable output, ParseOutcome<T> dst) throws IOException {
+		if(!stringNames) {
+			throw new IllegalStateException("parsing an argument source requires String parameter names");
+		}
+		dst = prepareOutcome(dst);
+		ParseContext<T> ctx = new ParseContext<>(output, dst);
+
+		// the current parameter's name (replaced by its primary name) followed by its arguments
+		@SuppressWarnings("unchecked")
+		T[] span = (T[])new String[16];
+		int spanLen = 0;
+		int nameIdx = -1;
+		int ordinal = -1;
+		int paramStart = -1;
+		// non-null while the current parameter is a streaming array parameter
+		ParameterDataImpl.ElementReader elemReader = null;
+		ParseListener listener = ctx.listener;
+		CharSequence arg;
+		for(int i = 0; (arg = args.next()) != null; i++) {
+			Object trace = listener != null ? listener.phaseStarted(ParsePhase.NAME_LOOKUP) : null;
+			int nextNameIdx = parameterNames.indexOf(arg);
+			if(trace != null) {
+				listener.phaseEnded(trace, ParsePhase.NAME_LOOKUP, arg, null, 1, nextNameIdx > -1);
+			}
+			if(nextNameIdx > -1) {
+				if(elemReader != null) {
+					ctx.outcome.record(ordinal, paramStart, spanLen, elemReader.finish());
 				}
+				else if(nameIdx > -1) {
+					parseParameter(ctx, nameIdx, span, 0, spanLen, paramStart);
+					Arrays.fill(span, 0, spanLen, null);
+				}
+				nameIdx = nextNameIdx;
+				ordinal = parameterNameOrdinals[nameIdx];
+				paramStart = i;
+				span[0] = parameters.get(ordinal).getPrimaryName();
+				spanLen = 1;
+				elemReader = newElementReader(parameters.get(ordinal));
 			}
+			else if(elemReader != null) {
+				elemReader.accept(arg);
+				spanLen++;
+			}
+			else if(ordinal > -1) {
+				if(spanLen == span.length) {
+					span = Arrays.copyOf(span, spanLen * 2);
+				}
+				@SuppressWarnings("unchecked")
+				T argStr = (T)arg.toString();
+				span[spanLen++] = argStr;
+			}
+		}
+		if(elemReader != null) {
+			ctx.outcome.record(ordinal, paramStart, spanLen, elemReader.finish());
 		}
+		else if(nameIdx > -1) {
+			parseParameter(ctx, nameIdx, span, 0, spanLen, paramStart);
+		}
+		finishAccumulated(dst);
+		finishAsyncValidated(dst);
 
-		return parametersCompleted;
+		return dst;
 	}
 
 
@@ -129,16 +468,14 @@ public final class ParameterSet<T extends CharSequence> {
 	 */
 	public void parseInteractive(T[] inputs, int off, BufferedReader input, Appendable output,
 			String paramHelpIdentifier) {
-		Map<ParameterData<T, Object>, Boolean> parametersCompleted = parse(inputs, off, output);
-
-		outStream = output;
+		ParseOutcome<T> outcome = parse(inputs, off, output, null);
 
-		for(Map.Entry<ParameterData<T, Object>, Boolean> paramComplete : parametersCompleted.entrySet()) {
-			if(paramComplete.getValue() == false && paramComplete.getKey().isRequired()) {
+		for(int ordinal = 0, count = parameters.size(); ordinal < count; ordinal++) {
+			if(!outcome.isSeen(ordinal) && parameters.get(ordinal).isRequired()) {
 				@SuppressWarnings("unchecked")
-				ParameterData<String, ?> paramData = (ParameterData<String, ?>) paramComplete.getKey();
+				ParameterData<String, ?> paramData = (ParameterData<String, ?>)parameters.get(ordinal);
 
-				ParameterParserResult parseRes = getParameterInteractive(paramData, input, output, paramHelpIdentifier);
+				ParameterParserResult parseRes = getParameterInteractive(paramData, input, output, paramHelpIdentifier, asyncValidationTimeoutNanos);
 				int i = 0;
 				while(parseRes.isError() && parseRes.getParseError().getParseErrorType() == ParameterParserExceptionType.INVALID_PARSED_INPUT && i < ParameterSet.MAX_PARSE_ATTEMPTS) {
 					try {
@@ -148,50 +485,147 @@ public final class ParameterSet<T extends CharSequence> {
 						throw new RuntimeException("error writing parameter info and request to output stream", e);
 					}
 
-					parseRes = getParameterInteractive(paramData, input, output, paramHelpIdentifier);
 					i++;
+					ParseListener listener = ParseListeners.installed;
+					if(listener != null) {
+						listener.interactiveRetry(paramData, i);
+					}
+					parseRes = getParameterInteractive(paramData, input, output, paramHelpIdentifier, asyncValidationTimeoutNanos);
 				}
 				if(parseRes.isError()) {
 					throw new RuntimeException(parseRes.getParseError().getMessage(), parseRes.getParseError().getCause());
 				}
 			}
 		}
+	}
 
-		outStream = null;
+
+	private ParseOutcome<T> prepareOutcome(ParseOutcome<T> dst) {
+		if(dst == null) {
+			dst = newOutcome();
+		}
+		else if(dst.getParameterSet() != this) {
+			throw new IllegalArgumentException("parse outcome was created by a different parameter set");
+		}
+		else {
+			dst.reset();
+		}
+		return dst;
 	}
 
 
-	/** Create a help parameter which prints this parameter set's help information to {@code outStream}
-	 * when its setter method is called.
+	/** Parse a parameter and record the result in the context's outcome. If the parameter is this parameter set's
+	 * help parameter and it parsed to true, print this parameter set's help message to the context's output stream
+	 * @param nameIdx the index in {@link #parameterNames} of the parameter name found at {@code inputs[off]}
+	 */
+	private void parseParameter(ParseContext<T> ctx, int nameIdx, T[] inputs, int off, int len, int spanOff) {
+		int ordinal = parameterNameOrdinals[nameIdx];
+		ParameterData<T, ?> param = parameters.get(ordinal);
+		ParseListener listener = ctx.listener;
+		Object trace = listener != null ? listener.phaseStarted(ParsePhase.PARSE_PARAMETER) : null;
+		ParameterParserResult res;
+		if(accumulating != null && accumulating[ordinal]) {
+			ParameterParserResult prev = ctx.outcome.getResult(ordinal);
+			res = ((AccumulatingParameter)param).accumulate(prev, parameterNameKeys[nameIdx], inputs, off, len);
+		}
+		else if(asyncValidated != null && asyncValidated[ordinal]) {
+			res = ((ParameterDataImpl<T, ?>)param).parseDeferred(inputs, off, len);
+		}
+		else {
+			res = param.parse(inputs, off, len);
+		}
+		if(trace != null) {
+			listener.phaseEnded(trace, ParsePhase.PARSE_PARAMETER, param.getPrimaryName(), param.getParameterType(), len - 1, !res.isError());
+		}
+		ctx.outcome.record(ordinal, spanOff, len, res);
+		if(param == helpParam && !res.isError() && res.getFlag() && ctx.output != null) {
+			try {
+				writeHelp(ctx.output);
+			} catch(IOException e) {
+				throw new RuntimeException("writing parameter help message to output stream", e);
+			}
+		}
+	}
+
+
+	/** Validate and set the merged value of each {@link AccumulatingParameter} found in the inputs, after all of the inputs have been parsed
+	 */
+	private void finishAccumulated(ParseOutcome<T> outcome) {
+		if(accumulating == null) {
+			return;
+		}
+		for(int i = 0, count = outcome.getSeenCount(); i < count; i++) {
+			int ordinal = outcome.getSeenOrdinal(i);
+			if(accumulating[ordinal]) {
+				AccumulatingParameter param = (AccumulatingParameter)parameters.get(ordinal);
+				outcome.record(ordinal, outcome.getSpanOffset(ordinal), outcome.getSpanLength(ordinal), param.finish(outcome.getResult(ordinal)));
+			}
+		}
+	}
+
+
+	/** Run the asynchronous validators of the parameters found in the inputs concurrently, then call the setter of each
+	 * parameter whose validator succeeded, in the order the parameters were found, on the parsing thread.
+	 * All of the validators share one deadline, a validator which has not completed by the deadline fails its parameter.
+	 * If a parameter is found more than once, only its last value is validated and set
+	 */
+	private void finishAsyncValidated(ParseOutcome<T> outcome) {
+		if(asyncValidated == null) {
+			return;
+		}
+		int count = outcome.getSeenCount();
+		@SuppressWarnings("unchecked")
+		CompletableFuture<Boolean>[] validations = (CompletableFuture<Boolean>[])new CompletableFuture<?>[count];
+		for(int i = 0; i < count; i++) {
+			int ordinal = outcome.getSeenOrdinal(i);
+			ParameterParserResult res = outcome.getResult(ordinal);
+			if(asyncValidated[ordinal] && !res.isError()) {
+				validations[i] = ((ParameterDataImpl<?, ?>)parameters.get(ordinal)).startAsyncValidation(res);
+			}
+		}
+
+		long deadline = System.nanoTime() + asyncValidationTimeoutNanos;
+		for(int i = 0; i < count; i++) {
+			if(validations[i] != null) {
+				int ordinal = outcome.getSeenOrdinal(i);
+				ParameterDataImpl<?, ?> param = (ParameterDataImpl<?, ?>)parameters.get(ordinal);
+				ParameterParserResult res = param.completeAsyncValidation(outcome.getResult(ordinal), validations[i], deadline - System.nanoTime());
+				outcome.record(ordinal, outcome.getSpanOffset(ordinal), outcome.getSpanLength(ordinal), res);
+			}
+		}
+	}
+
+
+	/**
+	 * @return a reader for the parameter's elements if it is a streaming array parameter, else null
+	 */
+	private static final ParameterDataImpl.ElementReader newElementReader(ParameterData<?, ?> param) {
+		return param.isStreamingArray() && param instanceof ParameterDataImpl ? ((ParameterDataImpl<?, ?>)param).newElementReader() : null;
+	}
+
+
+	/** Create a help parameter, the help message is printed by {@link #parseParameter(ParseContext, int, CharSequence[], int, int, int)}
+	 * to the output stream of the parse call which parsed the help parameter.
 	 * @param helpParamName the name of the help parameter
-	 * @param helpMsg the help message to print
 	 * @param helpParamAliases additional alias names of the help parameter
 	 * @return the created help parameter
 	 */
-	private ParameterData<T, ?> createHelpParameter(String helpParamName, String helpMsg,
-			String... helpParamAliases) {
-
+	private static final <T> ParameterData<T, ?> createHelpParameter(String helpParamName, String... helpParamAliases) {
 		@SuppressWarnings("unchecked")
 		ParameterData<T, Boolean> helpParam = (ParameterData<T, Boolean>)ParameterBuilder.newFlag()
 				.setNameAndAliases(helpParamName, helpParamAliases)
-				.setSetter((flag) -> {
-					if(flag == false) {
-						return;
-					}
-					try {
-						outStream.append(helpMsg);
-					} catch(Exception e) {
-						throw new RuntimeException("writing parameter help message to output stream", e);
-					}
-				})
+				.setSetter((flag) -> { })
 				.setHelpMessage("enter '" + helpParamName + "' to receive information about this program: ")
 				.build();
 		return helpParam;
 	}
 
 
+	/**
+	 * @param asyncValidationTimeoutNanos the maximum time to wait for the parameter's asynchronous validator, if it has one
+	 */
 	private static final ParameterParserResult getParameterInteractive(ParameterData<String, ?> param,
-			BufferedReader input, Appendable output, String paramHelpIdentifier) {
+			BufferedReader input, Appendable output, String paramHelpIdentifier, long asyncValidationTimeoutNanos) {
 		try {
 			output.append(param.getRequestParameterMessage());
 		} catch (IOException e) {
@@ -201,16 +635,15 @@ public final class ParameterSet<T extends CharSequence> {
 		ParameterParserResult parseRes = null;
 
 		try {
-			String line = input.readLine();
+			String line = readLine(param, input);
 			while(paramHelpIdentifier != null && paramHelpIdentifier.equals(line)) {
 				try {
-					output.append(parameterInfo(param))
-						.append('\n')
-						.append(param.getRequestParameterMessage());
+					writeInteractiveParameterInfo(output, param);
+					output.append(param.getRequestParameterMessage());
 				} catch (IOException e) {
 					throw new RuntimeException("error writing parameter info and request to output stream", e);
 				}
-				line = input.readLine();
+				line = readLine(param, input);
 			}
 			List<String> inputs = new ArrayList<String>(2);
 			inputs.add(param.getPrimaryName());
@@ -225,7 +658,7 @@ public final class ParameterSet<T extends CharSequence> {
 
 			String[] inputsAry = inputs.toArray(new String[inputs.size()]);
 
-			parseRes = param.parse(inputsAry, 0, inputs.size());
+			parseRes = parseWithAsyncTimeout(param, inputsAry, 0, inputs.size(), asyncValidationTimeoutNanos);
 
 		} catch (IOException e) {
 			throw new RuntimeException("error reading user parameter from input stream", e);
@@ -234,7 +667,42 @@ public final class ParameterSet<T extends CharSequence> {
 	}
 
 
-	/** Create a new parameter set with the given parameters and generate a help parameter
+	/** Parse a parameter the same way as {@link ParameterData#parse(Object[], int, int)}, but wait up to {@code asyncValidationTimeoutNanos}
+	 * instead of the default timeout for the parameter's asynchronous validator, if it has one
+	 */
+	private static final <S extends CharSequence> ParameterParserResult parseWithAsyncTimeout(ParameterData<S, ?> param, S[] inputs, int off, int len,
+			long asyncValidationTimeoutNanos) {
+		if(!(param instanceof ParameterDataImpl) || !((ParameterDataImpl<S, ?>)param).hasAsyncValidator()) {
+			return param.parse(inputs, off, len);
+		}
+		ParameterDataImpl<S, ?> paramImpl = (ParameterDataImpl<S, ?>)param;
+		ParameterParserResult res = paramImpl.parseDeferred(inputs, off, len);
+		if(!res.isError()) {
+			res = paramImpl.completeAsyncValidation(res, paramImpl.startAsyncValidation(res), asyncValidationTimeoutNanos);
+		}
+		return res;
+	}
+
+
+	/** Read the user's input for a parameter, the wait is reported to the installed {@link ParseListener} as {@link ParsePhase#INTERACTIVE_PROMPT}
+	 */
+	private static final String readLine(ParameterData<String, ?> param, BufferedReader input) throws IOException {
+		ParseListener listener = ParseListeners.installed;
+		Object trace = listener != null ? listener.phaseStarted(ParsePhase.INTERACTIVE_PROMPT) : null;
+		String line = null;
+		try {
+			line = input.readLine();
+		} finally {
+			if(trace != null) {
+				listener.phaseEnded(trace, ParsePhase.INTERACTIVE_PROMPT, param.getPrimaryName(), param.getParameterType(), 1, line != null);
+			}
+		}
+		return line;
+	}
+
+
+	/** Create a new parameter set with the given parameters and generate a help parameter.
+	 * The help message is generated the first time it is printed, see {@link #getHelpMessage()}
 	 * @param parameters the list of parameters
 	 * @param generateHelpParam true to generate a help parameter
 	 * @param helpParamName the name of the help parameter
@@ -249,17 +717,7 @@ public final class ParameterSet<T extends CharSequence> {
 		ParameterSet<String> paramSet = null;
 
 		if(generateHelpParam == true && helpParamName != null) {
-			List<String> aliases = helpParamAliases != null ? Arrays.asList(helpParamAliases) : null;
-
-			StringBuilder sb = new StringBuilder("\t'" + helpParamName + "'" + orParamAliasesToString(",", aliases) +
-					" - displays this help message\n");
-			for(ParameterData<String, ?> param : parameters) {
-				sb.append("\t" + parameterInfo(param) + "\n");
-			}
-			sb.append("\n");
-			final String helpMsg = sb.toString();
-
-			paramSet = new ParameterSet<String>(parameters, true, helpParamName, helpMsg, helpParamAliases);
+			paramSet = new ParameterSet<String>(parameters, true, helpParamName, null, helpParamAliases);
 		}
 		else {
 			paramSet = new ParameterSet<>(paramsCopy);
@@ -268,46 +726,200 @@ public final class ParameterSet<T extends CharSequence> {
 	}
 
 
-	private static final String parameterInfo(ParameterData<String, ?> param) {
-		return parameterTypeToString(param) + " " + (param.isRequired() ? "(required) - " : "- ") +
-				param.getHelpMessage();
+	/** Write the help line of a parameter, or one line per flag of a {@link FlagGroup}, if it has a name or alias starting with a prefix
+	 * @param namePrefix the prefix, null to write the parameter's help regardless of its names
+	 */
+	private static final void writeParameterInfo(Appendable out, ParameterData<? extends CharSequence, ?> param, String namePrefix) throws IOException {
+		if(param instanceof FlagGroup) {
+			FlagGroup<?> group = (FlagGroup<?>)param;
+			for(int i = 0, count = group.getFlagCount(); i < count; i++) {
+				if(hasNameWithPrefix(group.getFlagName(i), group.getFlagAliases(i), namePrefix)) {
+					writeParameterInfo(out, group.getFlagName(i), group.getFlagAliases(i), "flag", false, false, null, group.getFlagHelpMessage(i));
+				}
+			}
+			return;
+		}
+		if(!hasNameWithPrefix(param.getPrimaryName(), param.getAliases(), namePrefix)) {
+			return;
+		}
+		out.append('\t');
+		writeParameterLine(out, param);
+		out.append('\n');
+	}
+
+
+	/** Write the reply to a parameter help request during {@link #parseInteractive(CharSequence[], int, BufferedReader, Appendable, String)},
+	 * the parameter's help line without the help message's indent, followed by a newline
+	 */
+	private static final void writeInteractiveParameterInfo(Appendable out, ParameterData<? extends CharSequence, ?> param) throws IOException {
+		if(param instanceof FlagGroup) {
+			// one line per flag, each already followed by a newline
+			writeParameterInfo(out, param, null);
+			return;
+		}
+		writeParameterLine(out, param);
+		out.append('\n');
+	}
+
+
+	private static final void writeParameterLine(Appendable out, ParameterData<? extends CharSequence, ?> param) throws IOException {
+		ParameterType type = param.getParameterType();
+		String typeName = type == ParameterType.CUSTOM ? param.getCodec().getName() : type.name().toLowerCase();
+		writeParameterLine(out, param.getPrimaryName(), param.getAliases(), typeName, param.isParameterArrayType(), param.isRequired(),
+				type == ParameterType.ENUM ? param.getEnumMap().keySet() : null, param.getHelpMessage());
 	}
 
 
-	/** Converts a list of aliases to a string in the format:
+	private static final boolean hasNameWithPrefix(CharSequence primaryName, List<? extends CharSequence> aliases, String prefix) {
+		if(prefix == null || startsWith(primaryName, prefix)) {
+			return true;
+		}
+		for(int i = 0, size = aliases.size(); i < size; i++) {
+			if(startsWith(aliases.get(i), prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+
+	private static final boolean startsWith(CharSequence str, String prefix) {
+		int len = prefix.length();
+		if(str.length() < len) {
+			return false;
+		}
+		for(int i = 0; i < len; i++) {
+			if(str.charAt(i) != prefix.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/** Create the help message line for a help parameter, also used by {@link ParamProcessor} to precompute help messages
+	 * @param helpParamName the name of the help parameter
+	 * @param helpParamAliases the help parameter's aliases, may be null
+	 * @return the help line, including a leading tab and trailing newline
+	 */
+	static final String helpParameterInfo(String helpParamName, List<String> helpParamAliases) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			writeHelpParameterInfo(sb, helpParamName, helpParamAliases);
+		} catch(IOException e) {
+			throw new AssertionError("StringBuilder threw IOException", e);
+		}
+		return sb.toString();
+	}
+
+
+	private static final void writeHelpParameterInfo(Appendable out, CharSequence helpParamName, List<? extends CharSequence> helpParamAliases) throws IOException {
+		out.append("\t'").append(helpParamName).append('\'');
+		writeParamAliases(out, ",", helpParamAliases);
+		out.append(" - displays this help message\n");
+	}
+
+
+	/** Create the help message line for a parameter, also used by {@link ParamProcessor} to precompute help messages
+	 * @param primaryName the parameter's name
+	 * @param aliases the parameter's aliases
+	 * @param typeName the lower case {@link ParameterType} name or the {@link ParameterCodec#getName() codec name}, {@code "flag"} is displayed as {@code "[false]"}
+	 * @param isArray whether the parameter is an array parameter
+	 * @param required whether the parameter is required
+	 * @param enumNames the names of the parameter's enum values, null if the parameter is not an enum parameter
+	 * @param helpMsg the parameter's help message
+	 * @return the help line, including a leading tab and trailing newline
+	 */
+	static final String parameterInfo(String primaryName, List<String> aliases, String typeName, boolean isArray, boolean required,
+			Collection<String> enumNames, String helpMsg) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			writeParameterInfo(sb, primaryName, aliases, typeName, isArray, required, enumNames, helpMsg);
+		} catch(IOException e) {
+			throw new AssertionError("StringBuilder threw IOException", e);
+		}
+		return sb.toString();
+	}
+
+
+	/** Write the help message line for a parameter in the format:
+	 * {@code \t'parameter_name type', 'alias_1', ..., 'alias_n' [#IF_ENUM (one of: [enum_const_1, ..., enum_const_n])] [(required)] - help_message\n}
+	 * @see #parameterInfo(String, List, String, boolean, boolean, Collection, String)
+	 */
+	private static final void writeParameterInfo(Appendable out, CharSequence primaryName, List<? extends CharSequence> aliases, String typeName,
+			boolean isArray, boolean required, Iterable<? extends CharSequence> enumNames, String helpMsg) throws IOException {
+		out.append('\t');
+		writeParameterLine(out, primaryName, aliases, typeName, isArray, required, enumNames, helpMsg);
+		out.append('\n');
+	}
+
+
+	/** Write a parameter's help message line without the leading tab and trailing newline, see
+	 * {@link #writeParameterInfo(Appendable, CharSequence, List, String, boolean, boolean, Iterable, String)}
+	 */
+	private static final void writeParameterLine(Appendable out, CharSequence primaryName, List<? extends CharSequence> aliases, String typeName,
+			boolean isArray, boolean required, Iterable<? extends CharSequence> enumNames, String helpMsg) throws IOException {
+		String displayName = "flag".equals(typeName) ? "[false]" : typeName;
+		out.append('\'').append(primaryName).append(' ').append(displayName);
+		if(isArray) {
+			out.append(" [").append(displayName).append(" ...]");
+		}
+		out.append('\'');
+		writeParamAliases(out, ",", aliases);
+		if(enumNames != null) {
+			out.append(" (one of: [");
+			boolean first = true;
+			for(CharSequence enumName : enumNames) {
+				if(!first) {
+					out.append(", ");
+				}
+				out.append(enumName);
+				first = false;
+			}
+			out.append("])");
+		}
+		out.append(required ? " (required) - " : " - ").append(helpMsg);
+	}
+
+
+	/** Write a list of aliases in the format:
 	 * {@code "prefix 'alias_1', 'alias_2', ..., 'alias_n'"}
-	 * @param prefix the prefix to add to the beginning of the generated string
-	 * @param aliases the list of aliases
-	 * @return the prefix and list of aliases or {@code ""} if {@code aliases} is null or empty
+	 * @param prefix the prefix to write before the aliases
+	 * @param aliases the list of aliases, nothing is written if null or empty
 	 */
-	private static final String orParamAliasesToString(String prefix, List<String> aliases) {
+	private static final void writeParamAliases(Appendable out, String prefix, List<? extends CharSequence> aliases) throws IOException {
 		if(aliases != null && !aliases.isEmpty()) {
-			StringBuilder sb = new StringBuilder(prefix != null ? prefix + " " : "");
-			int size = aliases.size();
-			for(int i = 0, count = size - 1; i < count; i++) {
-				sb.append("'" + aliases.get(i) + "', ");
+			if(prefix != null) {
+				out.append(prefix).append(' ');
+			}
+			for(int i = 0, size = aliases.size(); i < size; i++) {
+				if(i > 0) {
+					out.append(", ");
+				}
+				out.append('\'').append(aliases.get(i)).append('\'');
 			}
-			sb.append("'" + aliases.get(size - 1) + "'");
-			return sb.toString();
 		}
-		return "";
 	}
 
 
-	/** Create a string representation of a parameter in the format:
-	 * {@code 'parameter_name type', 'alias_1', ..., 'alias_n' [#IF_ENUM (one of: [enum_const_1, ..., enum_const_n])]}
-	 * @param param the parameter to generate a string representation of
-	 * @return the string representation of the parameter
+
+
+	/** The state of a single {@link ParameterSet#parse(CharSequence[], int, Appendable, ParseOutcome)} call
 	 */
-	private static final <T> String parameterTypeToString(ParameterData<String, T> param) {
-		String typeName = param.getParameterType() != ParameterType.FLAG ?
-				param.getParameterType().name().toLowerCase() : "[false]";
-		boolean isArray = param.isParameterArrayType();
-		boolean isEnum = param.getParameterType() == ParameterType.ENUM;
+	private static final class ParseContext<T extends CharSequence> {
+		/** the output stream to print the help message to, may be null */
+		final Appendable output;
+		final ParseOutcome<T> outcome;
+		/** the listener installed when the parse started, null if there is none */
+		final ParseListener listener;
+
+
+		ParseContext(Appendable output, ParseOutcome<T> outcome) {
+			this.output = output;
+			this.outcome = outcome;
+			this.listener = ParseListeners.installed;
+		}
 
-		return "'" + param.getPrimaryName() + " " + (isArray ? typeName + " [" + typeName + " ...]" : typeName) +
-				"'" + orParamAliasesToString(",", param.getAliases()) +
-				(isEnum ? " (one of: " + param.getEnumMap().keySet().toString() + ")" : "");
 	}
 
 }
@@ -0,0 +1,312 @@
+package twg2.cli;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/** A reusable, single pass, command line tokenizer which splits a string at whitespace and quotes.
+ * Tokens are recorded as (start, end, flags) spans into a primitive buffer which is reused between calls
+ * to {@link #tokenize(CharSequence)}, strings are only created when {@link #getToken(int)} or
+ * {@link #toList(List)} are called and tokens are only unescaped if they contain an escaped quote.<br>
+ * The tokens produced are identical to those produced by {@link ParameterParser#parseParameters(String, char, boolean, char, List)}:
+ * <ul>
+ * <li>the input is trimmed of leading and trailing whitespace ({@code <= ' '}) before tokenizing</li>
+ * <li>quotes without whitespace before them do not start a new token</li>
+ * <li>whitespace between an opening and closing quote does not split a token</li>
+ * <li>tokens that both start and end with a double quote, after a closing quote, are trimmed of those quotes</li>
+ * <li>if escape parsing is enabled, {@code \"} sequences are replaced with {@code "}</li>
+ * </ul>
+ * This class is not thread safe, use one instance per thread.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class ParameterTokenizer {
+	/** flag set on tokens which contain an escaped quote ({@code \"}) that is unescaped when the token is materialized */
+	public static final int FLAG_ESCAPED = 1;
+
+	private static final int SPAN_SIZE = 3;
+
+	private final char quote;
+	private final boolean parseEscapeChars;
+	private final char escapeChar;
+	/** (start, end, flags) triples for each token */
+	private int[] spans;
+	private int count;
+	private CharSequence src;
+	/** non-null if the source being tokenized is a char array */
+	private char[] srcChars;
+
+
+	/** Create a tokenizer which is the same as {@code new ParameterTokenizer('"', true, '\\')}
+	 */
+	public ParameterTokenizer() {
+		this('"', true, '\\');
+	}
+
+
+	/**
+	 * @param quote the character that represents a quote (normally a {@code "} or {@code '}).
+	 * @param parseEscapeChars true to check for escape characters before closing quotes,
+	 * false to end at the first closing quote
+	 * @param escapeChar the character to recognize as an escape character before
+	 * potential closing quote
+	 */
+	public ParameterTokenizer(char quote, boolean parseEscapeChars, char escapeChar) {
+		this.quote = quote;
+		this.parseEscapeChars = parseEscapeChars;
+		this.escapeChar = escapeChar;
+		this.spans = new int[16 * SPAN_SIZE];
+	}
+
+
+	/** Tokenize a string, replacing any tokens from a previous call
+	 * @param src the string to tokenize
+	 * @return the number of tokens found
+	 */
+	public int tokenize(CharSequence src) {
+		return tokenize(src, 0, src.length());
+	}
+
+
+	/** Tokenize a sub-sequence of a string, replacing any tokens from a previous call.
+	 * Token start and end indices are relative to the start of {@code src}, not {@code off}
+	 * @param src the string to tokenize
+	 * @param off the offset into {@code src} at which to start tokenizing
+	 * @param len the number of characters to tokenize
+	 * @return the number of tokens found
+	 */
+	public int tokenize(CharSequence src, int off, int len) {
+		this.src = src;
+		this.srcChars = null;
+		return tokenizeRange(src, off, off + len);
+	}
+
+
+	/** Tokenize a sub-array of characters, replacing any tokens from a previous call.
+	 * The array is not copied and must not be modified while tokens are being read from this tokenizer.
+	 * Token start and end indices are relative to the start of {@code src}, not {@code off}
+	 * @param src the characters to tokenize
+	 * @param off the offset into {@code src} at which to start tokenizing
+	 * @param len the number of characters to tokenize
+	 * @return the number of tokens found
+	 */
+	public int tokenize(char[] src, int off, int len) {
+		this.src = CharBuffer.wrap(src);
+		this.srcChars = src;
+		return tokenizeRange(this.src, off, off + len);
+	}
+
+
+	/** Remove all tokens and release the reference to the last tokenized source
+	 */
+	public void reset() {
+		this.count = 0;
+		this.src = null;
+		this.srcChars = null;
+	}
+
+
+	/**
+	 * @return the number of tokens found by the last tokenize call
+	 */
+	public int size() {
+		return count;
+	}
+
+
+	/**
+	 * @return the source passed to the last tokenize call
+	 */
+	public CharSequence getSource() {
+		return src;
+	}
+
+
+	public int getStart(int idx) {
+		checkIndex(idx);
+		return spans[idx * SPAN_SIZE];
+	}
+
+
+	public int getEnd(int idx) {
+		checkIndex(idx);
+		return spans[idx * SPAN_SIZE + 1];
+	}
+
+
+	public int getFlags(int idx) {
+		checkIndex(idx);
+		return spans[idx * SPAN_SIZE + 2];
+	}
+
+
+	/**
+	 * @return true if the token contains an escaped quote which is replaced when the token is materialized
+	 */
+	public boolean isEscaped(int idx) {
+		return (getFlags(idx) & FLAG_ESCAPED) != 0;
+	}
+
+
+	/** Create a string from a token, unescaping it if necessary
+	 * @param idx the index of the token
+	 * @return the token string
+	 */
+	public String getToken(int idx) {
+		checkIndex(idx);
+		int start = spans[idx * SPAN_SIZE];
+		int end = spans[idx * SPAN_SIZE + 1];
+		int flags = spans[idx * SPAN_SIZE + 2];
+		if((flags & FLAG_ESCAPED) != 0) {
+			return appendUnescaped(src, start, end, new StringBuilder(end - start)).toString();
+		}
+		if(srcChars != null) {
+			return new String(srcChars, start, end - start);
+		}
+		if(src instanceof String) {
+			return ((String)src).substring(start, end);
+		}
+		return src.subSequence(start, end).toString();
+	}
+
+
+	/** Append a token, unescaping it if necessary, to a string builder without creating an intermediate string
+	 * @param idx the index of the token
+	 * @param dst the string builder to append the token to
+	 * @return the {@code dst} string builder
+	 */
+	public StringBuilder appendToken(int idx, StringBuilder dst) {
+		checkIndex(idx);
+		int start = spans[idx * SPAN_SIZE];
+		int end = spans[idx * SPAN_SIZE + 1];
+		int flags = spans[idx * SPAN_SIZE + 2];
+		if((flags & FLAG_ESCAPED) != 0) {
+			return appendUnescaped(src, start, end, dst);
+		}
+		if(srcChars != null) {
+			return dst.append(srcChars, start, end - start);
+		}
+		return dst.append(src, start, end);
+	}
+
+
+	/** Create strings from all of the tokens found by the last tokenize call
+	 * @param dst the list to add the token strings to
+	 * @return the {@code dst} list
+	 */
+	public List<String> toList(List<String> dst) {
+		for(int i = 0; i < count; i++) {
+			dst.add(getToken(i));
+		}
+		return dst;
+	}
+
+
+	private int tokenizeRange(CharSequence src, int off, int end) {
+		this.count = 0;
+		// trim, same as String.trim()
+		while(off < end && src.charAt(off) <= ' ') {
+			off++;
+		}
+		while(off < end && src.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if(off == end) {
+			return 0;
+		}
+
+		final char quote = this.quote;
+		final boolean parseEscapeChars = this.parseEscapeChars;
+		final char escapeChar = this.escapeChar;
+		boolean lookingForQuote = src.charAt(off) == quote;
+		boolean lookingForWhitespace = !lookingForQuote;
+		boolean finishedQuotes = false;
+		int tokenStart = off;
+		// index of the first '\"' sequence at or after 'tokenStart', -1 if none
+		int escapeIdx = -1;
+
+		for(int i = off; i < end; i++) {
+			char c = src.charAt(i);
+			if(parseEscapeChars && escapeIdx < 0 && c == '"' && i - 1 >= tokenStart && src.charAt(i - 1) == '\\') {
+				escapeIdx = i - 1;
+			}
+			// closing quote
+			if(lookingForQuote && i != off && c == quote && (!parseEscapeChars || src.charAt(i - 1) != escapeChar)) {
+				lookingForQuote = false;
+				finishedQuotes = true;
+				continue;
+			}
+			// opening quote
+			if(!lookingForQuote && c == quote) {
+				lookingForQuote = true;
+				if(lookingForWhitespace) {
+					lookingForWhitespace = false;
+				}
+				else {
+					tokenStart = i;
+					escapeIdx = -1;
+				}
+			}
+			if(!lookingForQuote && Character.isWhitespace(c)) {
+				// end of an unquoted token
+				if(lookingForWhitespace) {
+					addSpan(tokenStart, i, escapeIdx, false);
+				}
+				// end of a quoted token
+				else if(finishedQuotes) {
+					addSpan(tokenStart, i, escapeIdx, true);
+				}
+				finishedQuotes = false;
+				lookingForWhitespace = true;
+				tokenStart = i + 1;
+				escapeIdx = -1;
+			}
+		}
+
+		addSpan(tokenStart, end, escapeIdx, true);
+		return count;
+	}
+
+
+	private void addSpan(int start, int end, int escapeIdx, boolean trimQuotes) {
+		if(trimQuotes && end - start > 1 && src.charAt(start) == '"' && src.charAt(end - 1) == '"') {
+			start++;
+			end--;
+		}
+		int flags = (escapeIdx >= start && escapeIdx + 1 < end) ? FLAG_ESCAPED : 0;
+
+		int idx = count * SPAN_SIZE;
+		if(idx + SPAN_SIZE > spans.length) {
+			spans = Arrays.copyOf(spans, spans.length * 2);
+		}
+		spans[idx] = start;
+		spans[idx + 1] = end;
+		spans[idx + 2] = flags;
+		count++;
+	}
+
+
+	private void checkIndex(int idx) {
+		if(idx < 0 || idx >= count) {
+			throw new IndexOutOfBoundsException("token index " + idx + ", token count " + count);
+		}
+	}
+
+
+	/** Append a sub-sequence to a string builder, replacing {@code \"} sequences with {@code "}
+	 */
+	private static final StringBuilder appendUnescaped(CharSequence src, int start, int end, StringBuilder dst) {
+		int last = start;
+		for(int i = start; i < end - 1; i++) {
+			if(src.charAt(i) == '\\' && src.charAt(i + 1) == '"') {
+				dst.append(src, last, i);
+				dst.append('"');
+				i++;
+				last = i + 1;
+			}
+		}
+		dst.append(src, last, end);
+		return dst;
+	}
+
+}
@@ -7,6 +7,12 @@ import java.nio.file.Path;
  * @since 2014-11-16
  */
 public enum ParameterType {
+	/** a parameter whose values are decoded by a {@link ParameterCodec}, see {@link ParameterData#getCodec()} */
+	CUSTOM(Object.class, null, Object[].class, null) {
+		@Override public boolean isDataTypeClass(Class<?> type) {
+			return false;
+		}
+	},
 	ENUM(Enum.class, null, Enum[].class, null) {
 		@Override public boolean isDataTypeClass(Class<?> type) {
 			return Enum.class.isAssignableFrom(type);
@@ -32,7 +38,7 @@ public enum ParameterType {
 			return Path.class.isAssignableFrom(type);
 		}
 	},
-	TEXT(String.class, null, String.class, null) {
+	TEXT(String.class, null, String[].class, null) {
 		@Override public boolean isDataTypeClass(Class<?> type) {
 			return String.class.isAssignableFrom(type);
 		}
@@ -0,0 +1,60 @@
+package twg2.cli;
+
+/** Receives timing and error events from parameter parsing, install a listener using {@link ParseListeners#install(ParseListener)}.
+ * Listeners are called on the parsing thread, often by multiple threads at once, and should be fast and thread safe.
+ * See {@link ParseMetrics} for a listener which records latency histograms and error counts.<br>
+ * Listeners which trace individual {@link ParsePhase phases}, for example to emit profiling or flight recorder events,
+ * override {@link #phaseStarted(ParsePhase)} and {@link #phaseEnded(Object, ParsePhase, CharSequence, ParameterType, int, boolean)}.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public interface ParseListener {
+
+	/** Called after each call to {@link ParameterDataImpl#parse(CharSequence[], int, int)}, including calls which failed
+	 * @param param the parameter which was parsed
+	 * @param decodeNanos the time spent parsing the inputs into values, the total parse time minus the validate and set time
+	 * @param validateNanos the time spent in the parameter's validators and validator message generator
+	 * @param setNanos the time spent in the parameter's setters or element sink
+	 */
+	public void parsed(ParameterData<?, ?> param, long decodeNanos, long validateNanos, long setNanos);
+
+
+	/** Called after {@link #parsed(ParameterData, long, long, long)} if the parse returned an error
+	 * @param param the parameter which failed to parse
+	 * @param errorType the type of error
+	 */
+	public void parseError(ParameterData<?, ?> param, ParameterParserExceptionType errorType);
+
+
+	/** Called when {@link ParameterSet#parseInteractive(CharSequence[], int, java.io.BufferedReader, Appendable, String)}
+	 * asks the user to enter a parameter again because the previous value was invalid
+	 * @param param the parameter being requested
+	 * @param attempt the retry number, starting at 1
+	 */
+	public void interactiveRetry(ParameterData<?, ?> param, int attempt);
+
+
+	/** Called when a parse phase starts
+	 * @param phase the phase
+	 * @return a value passed to {@link #phaseEnded(Object, ParsePhase, CharSequence, ParameterType, int, boolean)} when the phase ends,
+	 * such as a start time or trace event, or null to not be notified when the phase ends (default)
+	 */
+	public default Object phaseStarted(ParsePhase phase) {
+		return null;
+	}
+
+
+	/** Called when a parse phase ends if {@link #phaseStarted(ParsePhase)} returned a non-null value
+	 * @param token the value returned by {@link #phaseStarted(ParsePhase)}
+	 * @param phase the phase
+	 * @param name the parameter's primary name, the input looked up for {@link ParsePhase#NAME_LOOKUP} and {@link ParsePhase#REGEX_DISPATCH},
+	 * or null for {@link ParsePhase#TOKENIZE}
+	 * @param type the parameter's type, null if the phase is not associated with a {@link ParameterData}
+	 * @param argCount the number of arguments, the number of values following the parameter name for {@link ParsePhase#PARSE_PARAMETER},
+	 * the number of tokens for {@link ParsePhase#TOKENIZE}, otherwise 1
+	 * @param success false if the phase failed or did not find a match
+	 */
+	public default void phaseEnded(Object token, ParsePhase phase, CharSequence name, ParameterType type, int argCount, boolean success) {
+	}
+
+}
@@ -0,0 +1,313 @@
+package twg2.cli;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/** Installs the process wide {@link ParseListener}.  While no listener is installed, parsing only pays for reading
+ * one volatile field and a null check.  While a listener is installed, each {@link ParameterDataImpl} is parsed using
+ * a copy of the parameter, created the first time it is needed, whose setters, validators, and element sinks are
+ * wrapped with timers.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class ParseListeners {
+	/** the installed listener, null if there is none */
+	static volatile ParseListener installed;
+
+	/** the validate and set time of the parse call running on each thread, only used while a listener is installed */
+	private static final ThreadLocal<PhaseTimer> TIMERS = new ThreadLocal<PhaseTimer>() {
+		@Override
+		protected PhaseTimer initialValue() {
+			return new PhaseTimer();
+		}
+	};
+
+
+	private ParseListeners() { throw new AssertionError("cannot instantiate static class ParseListeners"); }
+
+
+	/** Install a listener, replacing the current listener
+	 * @param listener the listener, or null to remove the current listener
+	 */
+	public static void install(ParseListener listener) {
+		installed = listener;
+	}
+
+
+	/**
+	 * @return the installed listener or null if there is none
+	 */
+	public static ParseListener getInstalled() {
+		return installed;
+	}
+
+
+	/** Run a parse of an observed parameter copy (see {@link #observe}) and report its times and errors to a listener
+	 * @param listener the listener to report to
+	 * @param param the parameter reported to the listener
+	 * @param observed the parameter's copy created by {@link #observe}
+	 * @param completeAsync whether to wait for the parameter's asynchronous validator, see {@link ParameterDataImpl#parse(CharSequence[], int, int, boolean)}
+	 */
+	static <T extends CharSequence> ParameterParserResult parseObserved(ParseListener listener, ParameterData<T, ?> param,
+			ParameterDataImpl<T, ?> observed, T[] inputs, int off, int len, boolean completeAsync) {
+		PhaseTimer timer = TIMERS.get();
+		long validateStart = timer.validateNanos;
+		long setStart = timer.setNanos;
+		long start = System.nanoTime();
+		ParameterParserResult res = observed.parse(inputs, off, len, completeAsync);
+		long total = System.nanoTime() - start;
+		long validate = timer.validateNanos - validateStart;
+		long set = timer.setNanos - setStart;
+		listener.parsed(param, Math.max(total - validate - set, 0), validate, set);
+		if(res.isError()) {
+			listener.parseError(param, res.getParseError().getParseErrorType());
+		}
+		return res;
+	}
+
+
+	/** Create a copy of a parameter whose setters, validators, and element sink record their time in the current thread's timer,
+	 * the setters and element sink also report {@link ParsePhase#SET_VALUE} to the installed listener
+	 */
+	static <T extends CharSequence, E> ParameterDataImpl<T, E> observe(ParameterDataImpl<T, E> param, ParameterCodec<?> codec, EnumNames<?> enumNames,
+			Consumer<E> setter, Predicate<E> validator, Function<E, String> validatorMsgGenerator,
+			PrimitiveParameterFunctions primitives, ArrayValidation arrayValidation, Function<E, CompletableFuture<Boolean>> asyncValidator,
+			ArrayElementSink elementSink, boolean enumSet) {
+		return new ParameterDataImpl<>(param.getParameterType(), codec, param.isParameterArrayType(), enumNames, param.getPrimaryName(), param.getAliases(),
+				timeSetter(param, setter), timeValidator(validator), timeMessageGenerator(validatorMsgGenerator), param.getHelpMessage(), param.getRequestParameterMessage(),
+				param.isRequired(), timePrimitives(param, primitives), timeArrayValidation(arrayValidation), asyncValidator, timeSink(param, elementSink), enumSet);
+	}
+
+
+	private static <E> Consumer<E> timeSetter(ParameterData<? extends CharSequence, ?> param, Consumer<E> setter) {
+		if(setter == null) {
+			return null;
+		}
+		return (value) -> {
+			ParseListener listener = installed;
+			Object trace = setStarted(listener);
+			long start = System.nanoTime();
+			boolean success = false;
+			try {
+				setter.accept(value);
+				success = true;
+			} finally {
+				setEnded(listener, trace, start, param, success);
+			}
+		};
+	}
+
+
+	private static IntConsumer timeIntSetter(ParameterData<? extends CharSequence, ?> param, IntConsumer setter) {
+		if(setter == null) {
+			return null;
+		}
+		return (value) -> {
+			ParseListener listener = installed;
+			Object trace = setStarted(listener);
+			long start = System.nanoTime();
+			boolean success = false;
+			try {
+				setter.accept(value);
+				success = true;
+			} finally {
+				setEnded(listener, trace, start, param, success);
+			}
+		};
+	}
+
+
+	private static DoubleConsumer timeFloatSetter(ParameterData<? extends CharSequence, ?> param, DoubleConsumer setter) {
+		if(setter == null) {
+			return null;
+		}
+		return (value) -> {
+			ParseListener listener = installed;
+			Object trace = setStarted(listener);
+			long start = System.nanoTime();
+			boolean success = false;
+			try {
+				setter.accept(value);
+				success = true;
+			} finally {
+				setEnded(listener, trace, start, param, success);
+			}
+		};
+	}
+
+
+	private static BooleanConsumer timeFlagSetter(ParameterData<? extends CharSequence, ?> param, BooleanConsumer setter) {
+		if(setter == null) {
+			return null;
+		}
+		return (value) -> {
+			ParseListener listener = installed;
+			Object trace = setStarted(listener);
+			long start = System.nanoTime();
+			boolean success = false;
+			try {
+				setter.accept(value);
+				success = true;
+			} finally {
+				setEnded(listener, trace, start, param, success);
+			}
+		};
+	}
+
+
+	/** Report the start of {@link ParsePhase#SET_VALUE} to a listener
+	 * @return the listener's trace, or null if {@code listener} is null
+	 */
+	private static Object setStarted(ParseListener listener) {
+		return listener != null ? listener.phaseStarted(ParsePhase.SET_VALUE) : null;
+	}
+
+
+	/** Record a setter's time in the current thread's timer and report the end of {@link ParsePhase#SET_VALUE} to the listener which was notified when it started
+	 */
+	private static void setEnded(ParseListener listener, Object trace, long start, ParameterData<? extends CharSequence, ?> param, boolean success) {
+		TIMERS.get().setNanos += System.nanoTime() - start;
+		if(trace != null) {
+			listener.phaseEnded(trace, ParsePhase.SET_VALUE, param.getPrimaryName(), param.getParameterType(), 1, success);
+		}
+	}
+
+
+	private static <E> Predicate<E> timeValidator(Predicate<E> validator) {
+		if(validator == null) {
+			return null;
+		}
+		return (value) -> {
+			long start = System.nanoTime();
+			try {
+				return validator.test(value);
+			} finally {
+				validateEnded(start);
+			}
+		};
+	}
+
+
+	private static <E> Function<E, String> timeMessageGenerator(Function<E, String> validatorMsgGenerator) {
+		if(validatorMsgGenerator == null) {
+			return null;
+		}
+		return (value) -> {
+			long start = System.nanoTime();
+			try {
+				return validatorMsgGenerator.apply(value);
+			} finally {
+				validateEnded(start);
+			}
+		};
+	}
+
+
+	private static IntPredicate timeIntValidator(IntPredicate validator) {
+		if(validator == null) {
+			return null;
+		}
+		return (value) -> {
+			long start = System.nanoTime();
+			try {
+				return validator.test(value);
+			} finally {
+				validateEnded(start);
+			}
+		};
+	}
+
+
+	private static DoublePredicate timeFloatValidator(DoublePredicate validator) {
+		if(validator == null) {
+			return null;
+		}
+		return (value) -> {
+			long start = System.nanoTime();
+			try {
+				return validator.test(value);
+			} finally {
+				validateEnded(start);
+			}
+		};
+	}
+
+
+	private static BooleanPredicate timeFlagValidator(BooleanPredicate validator) {
+		if(validator == null) {
+			return null;
+		}
+		return (value) -> {
+			long start = System.nanoTime();
+			try {
+				return validator.test(value);
+			} finally {
+				validateEnded(start);
+			}
+		};
+	}
+
+
+	/** Time an array parameter's {@link ArrayValidator}, in parallel mode the time spent on the executor's threads is not recorded
+	 */
+	private static ArrayValidation timeArrayValidation(ArrayValidation arrays) {
+		if(arrays == null || arrays.arrayValidator == null) {
+			return arrays;
+		}
+		ArrayValidator<Object> arrayValidator = arrays.arrayValidator;
+		return new ArrayValidation((values, off, len) -> {
+			long start = System.nanoTime();
+			try {
+				return arrayValidator.findInvalid(values, off, len);
+			} finally {
+				validateEnded(start);
+			}
+		}, arrays.executor, arrays.chunkSize);
+	}
+
+
+	/** Record a validator's time in the current thread's timer
+	 */
+	private static void validateEnded(long start) {
+		TIMERS.get().validateNanos += System.nanoTime() - start;
+	}
+
+
+	private static PrimitiveParameterFunctions timePrimitives(ParameterData<? extends CharSequence, ?> param, PrimitiveParameterFunctions prims) {
+		if(prims == null) {
+			return null;
+		}
+		return new PrimitiveParameterFunctions(timeIntSetter(param, prims.intSetter), timeIntValidator(prims.intValidator), timeSetter(param, prims.intArraySetter),
+				timeFloatSetter(param, prims.floatSetter), timeFloatValidator(prims.floatValidator), timeSetter(param, prims.floatArraySetter),
+				timeFlagSetter(param, prims.flagSetter), timeFlagValidator(prims.flagValidator), timeSetter(param, prims.flagArraySetter));
+	}
+
+
+	private static ArrayElementSink timeSink(ParameterData<? extends CharSequence, ?> param, ArrayElementSink sink) {
+		if(sink == null) {
+			return null;
+		}
+		Consumer<Object> elementConsumer = timeSetter(param, sink.elementConsumer);
+		Consumer<List<Object>> batchConsumer = timeSetter(param, sink.batchConsumer);
+		return new ArrayElementSink(sink.elementType, elementConsumer, batchConsumer, sink.batchSize);
+	}
+
+
+
+
+	/** The time spent in the validators and setters of the parse calls on one thread, only ever increases,
+	 * each observed parse call reports the difference between its start and end times
+	 */
+	private static final class PhaseTimer {
+		long validateNanos;
+		long setNanos;
+	}
+
+}
@@ -0,0 +1,172 @@
+package twg2.cli;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/** A {@link ParseListener} which records, for each parameter, latency histograms of the time spent decoding, validating,
+ * and setting values, error counts by {@link ParameterParserExceptionType}, and interactive retry counts.
+ * All counters are {@link LongAdder LongAdders} and {@link LatencyHistogram LatencyHistograms} so parsing threads do not block each other.
+ * <pre>
+ * ParseMetrics metrics = new ParseMetrics();
+ * ParseListeners.install(metrics);
+ * ...
+ * metrics.get(param).getDecodeNanos().getValueAtPercentile(99);
+ * </pre>
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class ParseMetrics implements ParseListener {
+	private final ConcurrentHashMap<ParameterData<?, ?>, ParameterMetrics> params = new ConcurrentHashMap<>();
+	private final LongAdder[] errors = newAdders(ParameterParserExceptionType.values().length);
+	private final LongAdder retries = new LongAdder();
+
+
+	/**
+	 * @return the metrics of a parameter, or null if no events have been recorded for the parameter
+	 */
+	public ParameterMetrics get(ParameterData<?, ?> param) {
+		return params.get(param);
+	}
+
+
+	/**
+	 * @return a read-only view of every parameter with recorded events and its metrics
+	 */
+	public Map<ParameterData<?, ?>, ParameterMetrics> asMap() {
+		return Collections.unmodifiableMap(params);
+	}
+
+
+	/**
+	 * @return the number of errors of the type recorded for all parameters
+	 */
+	public long getErrorCount(ParameterParserExceptionType errorType) {
+		return errors[errorType.ordinal()].sum();
+	}
+
+
+	/**
+	 * @return the number of interactive retries recorded for all parameters
+	 */
+	public long getRetryCount() {
+		return retries.sum();
+	}
+
+
+	@Override
+	public void parsed(ParameterData<?, ?> param, long decodeNanos, long validateNanos, long setNanos) {
+		ParameterMetrics metrics = metrics(param);
+		metrics.decodeNanos.record(decodeNanos);
+		metrics.validateNanos.record(validateNanos);
+		metrics.setNanos.record(setNanos);
+	}
+
+
+	@Override
+	public void parseError(ParameterData<?, ?> param, ParameterParserExceptionType errorType) {
+		errors[errorType.ordinal()].increment();
+		metrics(param).errors[errorType.ordinal()].increment();
+	}
+
+
+	@Override
+	public void interactiveRetry(ParameterData<?, ?> param, int attempt) {
+		retries.increment();
+		metrics(param).retries.increment();
+	}
+
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("ParseMetrics: {\n");
+		for(Map.Entry<ParameterData<?, ?>, ParameterMetrics> entry : params.entrySet()) {
+			sb.append('\t').append(entry.getKey().getPrimaryName()).append(": ").append(entry.getValue()).append('\n');
+		}
+		return sb.append('}').toString();
+	}
+
+
+	private ParameterMetrics metrics(ParameterData<?, ?> param) {
+		ParameterMetrics metrics = params.get(param);
+		return metrics != null ? metrics : params.computeIfAbsent(param, (p) -> new ParameterMetrics());
+	}
+
+
+	private static LongAdder[] newAdders(int count) {
+		LongAdder[] adders = new LongAdder[count];
+		for(int i = 0; i < count; i++) {
+			adders[i] = new LongAdder();
+		}
+		return adders;
+	}
+
+
+
+
+	/** The metrics of one parameter
+	 */
+	public static final class ParameterMetrics {
+		private final LatencyHistogram decodeNanos = new LatencyHistogram();
+		private final LatencyHistogram validateNanos = new LatencyHistogram();
+		private final LatencyHistogram setNanos = new LatencyHistogram();
+		private final LongAdder[] errors = newAdders(ParameterParserExceptionType.values().length);
+		private final LongAdder retries = new LongAdder();
+
+
+		/**
+		 * @return the time spent parsing inputs into values, one value per parse call
+		 */
+		public LatencyHistogram getDecodeNanos() {
+			return decodeNanos;
+		}
+
+
+		/**
+		 * @return the time spent in validators and the validator message generator, one value per parse call
+		 */
+		public LatencyHistogram getValidateNanos() {
+			return validateNanos;
+		}
+
+
+		/**
+		 * @return the time spent in setters and element sinks, one value per parse call
+		 */
+		public LatencyHistogram getSetNanos() {
+			return setNanos;
+		}
+
+
+		public long getParseCount() {
+			return decodeNanos.getCount();
+		}
+
+
+		public long getErrorCount(ParameterParserExceptionType errorType) {
+			return errors[errorType.ordinal()].sum();
+		}
+
+
+		public long getRetryCount() {
+			return retries.sum();
+		}
+
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder("{ parses: ").append(getParseCount())
+				.append(", decode: ").append(decodeNanos).append(", validate: ").append(validateNanos).append(", set: ").append(setNanos);
+			for(ParameterParserExceptionType type : ParameterParserExceptionType.values()) {
+				long n = errors[type.ordinal()].sum();
+				if(n > 0) {
+					sb.append(", ").append(type).append(": ").append(n);
+				}
+			}
+			return sb.append(", retries: ").append(retries.sum()).append(" }").toString();
+		}
+
+	}
+
+}
@@ -0,0 +1,270 @@
+package twg2.cli;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/** The result of {@link ParameterSet#parse(CharSequence[], int, Appendable, ParseOutcome)}.
+ * Records which of a parameter set's parameters were found in the inputs (by parameter ordinal, see {@link ParameterSet#getOrdinal(ParameterData)}),
+ * the span of inputs each parameter was parsed from, and each parameter's {@link ParameterParserResult}.
+ * An outcome can be {@link #reset() reset} and reused by subsequent parse calls, resetting only clears the parameters
+ * which were found, so the cost of reusing an outcome depends on the number of inputs, not the number of parameters.
+ * Instances are not thread safe, use one outcome per thread.
+ * @param <T> the parameter's name type
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public final class ParseOutcome<T extends CharSequence> {
+	private final ParameterSet<T> paramSet;
+	/** bitset of the ordinals of the parameters found in the inputs */
+	private final long[] seen;
+	/** the offset into the inputs of each parameter's span (starting with the parameter's name) */
+	private final int[] spanOffs;
+	/** the length of each parameter's span, including the parameter's name */
+	private final int[] spanLens;
+	private final ParameterParserResult[] results;
+	/** the ordinals of the parameters found in the inputs, in the order they were found */
+	private final int[] seenOrdinals;
+	private int seenCount;
+	private T[] inputs;
+
+
+	/** Create an empty outcome for a parameter set, see {@link ParameterSet#newOutcome()}
+	 */
+	ParseOutcome(ParameterSet<T> paramSet) {
+		int paramCount = paramSet.getParameterCount();
+		this.paramSet = paramSet;
+		this.seen = new long[(paramCount + 63) >>> 6];
+		this.spanOffs = new int[paramCount];
+		this.spanLens = new int[paramCount];
+		this.results = new ParameterParserResult[paramCount];
+		this.seenOrdinals = new int[paramCount];
+	}
+
+
+	/**
+	 * @return the parameter set which this outcome records parse results for
+	 */
+	public ParameterSet<T> getParameterSet() {
+		return paramSet;
+	}
+
+
+	/**
+	 * @return the inputs passed to the last parse call which used this outcome, null if this outcome has not been used or was reset
+	 */
+	public T[] getInputs() {
+		return inputs;
+	}
+
+
+	/**
+	 * @return true if the parameter with the given ordinal was found in the inputs
+	 */
+	public boolean isSeen(int ordinal) {
+		return (seen[ordinal >>> 6] & (1L << ordinal)) != 0;
+	}
+
+
+	/**
+	 * @return true if the parameter was found in the inputs, false if it was not found or is not part of this outcome's parameter set
+	 */
+	public boolean isSeen(ParameterData<T, ?> param) {
+		int ordinal = paramSet.getOrdinal(param);
+		return ordinal > -1 && isSeen(ordinal);
+	}
+
+
+	/**
+	 * @return the number of unique parameters found in the inputs
+	 */
+	public int getSeenCount() {
+		return seenCount;
+	}
+
+
+	/**
+	 * @param index the index, in the order they were found in the inputs, of a parameter found in the inputs, less than {@link #getSeenCount()}
+	 * @return the ordinal of the found parameter
+	 */
+	public int getSeenOrdinal(int index) {
+		if(index >= seenCount) {
+			throw new IndexOutOfBoundsException("index " + index + ", seen count " + seenCount);
+		}
+		return seenOrdinals[index];
+	}
+
+
+	/**
+	 * @return the offset into {@link #getInputs()} of the parameter's name, or -1 if the parameter was not found.
+	 * If a parameter appears multiple times in the inputs, its last span is returned
+	 */
+	public int getSpanOffset(int ordinal) {
+		return isSeen(ordinal) ? spanOffs[ordinal] : -1;
+	}
+
+
+	/**
+	 * @return the number of inputs (including the parameter's name) the parameter was parsed from, or 0 if the parameter was not found
+	 */
+	public int getSpanLength(int ordinal) {
+		return isSeen(ordinal) ? spanLens[ordinal] : 0;
+	}
+
+
+	/**
+	 * @return the result of parsing the parameter, or null if the parameter was not found
+	 */
+	public ParameterParserResult getResult(int ordinal) {
+		return isSeen(ordinal) ? results[ordinal] : null;
+	}
+
+
+	/**
+	 * @return the number of parameters found in the inputs whose results are errors
+	 */
+	public int getErrorCount() {
+		int count = 0;
+		for(int i = 0; i < seenCount; i++) {
+			if(results[seenOrdinals[i]].isError()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+
+	/** Get a parameter's error without formatting its message
+	 * @return the type of the parameter's error, or null if the parameter was not found or parsed successfully
+	 */
+	public ParameterParserExceptionType getErrorType(int ordinal) {
+		ParameterParserResult res = getResult(ordinal);
+		return res != null && res.isError() ? res.getParseError().getParseErrorType() : null;
+	}
+
+
+	/**
+	 * @return the offset into {@link #getInputs()} of the input which caused the parameter's error, the parameter's
+	 * {@link #getSpanOffset(int) span offset} if the error was not caused by a single input, or -1 if the parameter's result is not an error
+	 */
+	public int getErrorInputIndex(int ordinal) {
+		ParameterParserResult res = getResult(ordinal);
+		if(res == null || !res.isError()) {
+			return -1;
+		}
+		int inputOffset = res.getParseError().getInputOffset();
+		return spanOffs[ordinal] + (inputOffset > -1 ? inputOffset : 0);
+	}
+
+
+	/** Clear this outcome so it can be passed to another parse call
+	 */
+	public void reset() {
+		for(int i = 0; i < seenCount; i++) {
+			int ordinal = seenOrdinals[i];
+			seen[ordinal >>> 6] = 0;
+			results[ordinal] = null;
+		}
+		seenCount = 0;
+		inputs = null;
+	}
+
+
+	/** A read-only view of this outcome in the format returned by {@link ParameterSet#parse(CharSequence[], int, Appendable)},
+	 * each of the parameter set's parameters, in ordinal order, mapped to true if the parameter was found in the inputs.
+	 * The view reflects changes to this outcome
+	 */
+	public Map<ParameterData<T, Object>, Boolean> asMap() {
+		return new SeenMap();
+	}
+
+
+	void setInputs(T[] inputs) {
+		this.inputs = inputs;
+	}
+
+
+	void record(int ordinal, int off, int len, ParameterParserResult result) {
+		if(!isSeen(ordinal)) {
+			seen[ordinal >>> 6] |= (1L << ordinal);
+			seenOrdinals[seenCount++] = ordinal;
+		}
+		spanOffs[ordinal] = off;
+		spanLens[ordinal] = len;
+		results[ordinal] = result;
+	}
+
+
+	@Override
+	public String toString() {
+		int[] ordinals = Arrays.copyOf(seenOrdinals, seenCount);
+		return "ParseOutcome: { seen: " + Arrays.toString(ordinals) + ", parameterCount: " + spanOffs.length + " }";
+	}
+
+
+
+
+	private final class SeenMap extends AbstractMap<ParameterData<T, Object>, Boolean> {
+
+		@Override
+		public int size() {
+			return spanOffs.length;
+		}
+
+
+		@Override
+		public boolean containsKey(Object key) {
+			return key instanceof ParameterData && paramSet.getOrdinal((ParameterData<?, ?>)key) > -1;
+		}
+
+
+		@Override
+		public Boolean get(Object key) {
+			int ordinal = key instanceof ParameterData ? paramSet.getOrdinal((ParameterData<?, ?>)key) : -1;
+			return ordinal > -1 ? isSeen(ordinal) : null;
+		}
+
+
+		@Override
+		public Set<Map.Entry<ParameterData<T, Object>, Boolean>> entrySet() {
+			return new AbstractSet<Map.Entry<ParameterData<T, Object>, Boolean>>() {
+				@Override
+				public int size() {
+					return spanOffs.length;
+				}
+
+
+				@Override
+				public Iterator<Map.Entry<ParameterData<T, Object>, Boolean>> iterator() {
+					return new Iterator<Map.Entry<ParameterData<T, Object>, Boolean>>() {
+						private int ordinal = 0;
+
+						@Override
+						public boolean hasNext() {
+							return ordinal < spanOffs.length;
+						}
+
+
+						@Override
+						public Map.Entry<ParameterData<T, Object>, Boolean> next() {
+							if(ordinal >= spanOffs.length) {
+								throw new NoSuchElementException();
+							}
+							@SuppressWarnings("unchecked")
+							ParameterData<T, Object> param = (ParameterData<T, Object>)paramSet.getParameter(ordinal);
+							Map.Entry<ParameterData<T, Object>, Boolean> entry = new AbstractMap.SimpleImmutableEntry<>(param, isSeen(ordinal));
+							ordinal++;
+							return entry;
+						}
+					};
+				}
+			};
+		}
+
+	}
+
+}
@@ -0,0 +1,20 @@
+package twg2.cli;
+
+/** The parsing steps reported to {@link ParseListener#phaseStarted(ParsePhase)} and {@link ParseListener#phaseEnded(Object, ParsePhase, CharSequence, ParameterType, int, boolean)}
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public enum ParsePhase {
+	/** splitting a string into arguments in {@link ParameterParser#parseParameters(String, char, boolean, char, java.util.List)} */
+	TOKENIZE,
+	/** looking up one input in a {@link ParameterSet}'s parameter names, succeeds if the input is a parameter name */
+	NAME_LOOKUP,
+	/** parsing one parameter found by {@link ParameterSet#parse(CharSequence[], int, Appendable, ParseOutcome)}, including its setter */
+	PARSE_PARAMETER,
+	/** searching a {@link ParameterParser}'s regex parameters for a name which is not an alias, succeeds if a regex matched */
+	REGEX_DISPATCH,
+	/** waiting for the user to enter a line in {@link ParameterSet#parseInteractive(CharSequence[], int, java.io.BufferedReader, Appendable, String)} */
+	INTERACTIVE_PROMPT,
+	/** running a parameter's setter or element sink */
+	SET_VALUE
+}
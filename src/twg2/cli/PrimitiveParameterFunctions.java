@@ -0,0 +1,72 @@
+package twg2.cli;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/** Primitive specialized setters and validators for {@link ParameterType#INTEGER}, {@link ParameterType#FLOAT},
+ * and {@link ParameterType#FLAG} parameters.  When present these are used instead of a parameter's boxed
+ * {@link ParameterData#getSetter() setter} and {@link ParameterData#getValidator() validator}.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+final class PrimitiveParameterFunctions {
+	final IntConsumer intSetter;
+	final IntPredicate intValidator;
+	final Consumer<int[]> intArraySetter;
+	final DoubleConsumer floatSetter;
+	final DoublePredicate floatValidator;
+	final Consumer<float[]> floatArraySetter;
+	final BooleanConsumer flagSetter;
+	final BooleanPredicate flagValidator;
+	final Consumer<boolean[]> flagArraySetter;
+
+
+	PrimitiveParameterFunctions(IntConsumer intSetter, IntPredicate intValidator, Consumer<int[]> intArraySetter,
+			DoubleConsumer floatSetter, DoublePredicate floatValidator, Consumer<float[]> floatArraySetter,
+			BooleanConsumer flagSetter, BooleanPredicate flagValidator, Consumer<boolean[]> flagArraySetter) {
+		this.intSetter = intSetter;
+		this.intValidator = intValidator;
+		this.intArraySetter = intArraySetter;
+		this.floatSetter = floatSetter;
+		this.floatValidator = floatValidator;
+		this.floatArraySetter = floatArraySetter;
+		this.flagSetter = flagSetter;
+		this.flagValidator = flagValidator;
+		this.flagArraySetter = flagArraySetter;
+	}
+
+
+	boolean hasIntFunctions() {
+		return intSetter != null || intValidator != null || intArraySetter != null;
+	}
+
+
+	boolean hasFloatFunctions() {
+		return floatSetter != null || floatValidator != null || floatArraySetter != null;
+	}
+
+
+	boolean hasFlagFunctions() {
+		return flagSetter != null || flagValidator != null || flagArraySetter != null;
+	}
+
+
+	/**
+	 * @return a copy of these functions with the same validators and no setters
+	 */
+	PrimitiveParameterFunctions withoutSetters() {
+		return new PrimitiveParameterFunctions(null, intValidator, null, null, floatValidator, null, null, flagValidator, null);
+	}
+
+
+	/**
+	 * @return true if none of the functions in this object are set
+	 */
+	boolean isEmpty() {
+		return !hasIntFunctions() && !hasFloatFunctions() && !hasFlagFunctions();
+	}
+
+}
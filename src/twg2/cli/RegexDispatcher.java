@@ -0,0 +1,261 @@
+package twg2.cli;
+
+import java.util.List;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/** Finds the first pattern, in order, from a list of patterns which {@link Matcher#find() finds} a match in an input string.
+ * Equivalent to calling {@code pattern.matcher(input).find()} on each pattern until one returns true, but:
+ * <ul>
+ * <li>patterns that begin with literal text are prefiltered using that literal text ({@code startsWith()} for
+ * patterns anchored by {@code ^} or {@code \A}, {@code indexOf()} for unanchored patterns)</li>
+ * <li>patterns that can be safely combined (no back references, named groups, inline flags, or {@code \Q} quotes)
+ * are joined into a single alternation so that input which matches none of them is rejected with one regex search</li>
+ * <li>{@link Matcher} instances are cached per thread and reused</li>
+ * </ul>
+ * Instances are immutable and thread safe.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+final class RegexDispatcher {
+	private final Pattern[] patterns;
+	/** literal text that must appear in an input for the pattern to match, null if unknown */
+	private final String[] literals;
+	/** true if the {@link #literals} must appear at the start of the input */
+	private final boolean[] anchored;
+	/** the alternation of all patterns that could be combined, null if fewer than two patterns could be combined */
+	private final Pattern combined;
+	/** the capture group index in {@link #combined} that wraps each pattern, -1 if the pattern is not part of {@link #combined} */
+	private final int[] combinedGroups;
+	/** one matcher per pattern, plus one for {@link #combined} */
+	private final ThreadLocal<Matcher[]> matchers;
+
+
+	public RegexDispatcher(List<Pattern> patterns) {
+		int size = patterns.size();
+		this.patterns = patterns.toArray(new Pattern[size]);
+		this.literals = new String[size];
+		this.anchored = new boolean[size];
+		this.combinedGroups = new int[size];
+
+		StringBuilder alternation = new StringBuilder();
+		int combinedCount = 0;
+		int groupIdx = 1;
+		for(int i = 0; i < size; i++) {
+			String regex = this.patterns[i].pattern();
+			if(!hasTopLevelAlternation(regex)) {
+				boolean isAnchored = regex.startsWith("^") || regex.startsWith("\\A");
+				String literal = literalPrefix(regex, isAnchored ? (regex.charAt(0) == '^' ? 1 : 2) : 0);
+				if(literal.length() > 0) {
+					this.literals[i] = literal;
+					this.anchored[i] = isAnchored;
+				}
+			}
+
+			if(isCombinable(regex)) {
+				if(combinedCount > 0) {
+					alternation.append('|');
+				}
+				alternation.append('(').append(regex).append(')');
+				this.combinedGroups[i] = groupIdx;
+				groupIdx += 1 + this.patterns[i].matcher("").groupCount();
+				combinedCount++;
+			}
+			else {
+				this.combinedGroups[i] = -1;
+			}
+		}
+
+		Pattern combinedPattern = null;
+		if(combinedCount > 1) {
+			try {
+				combinedPattern = Pattern.compile(alternation.toString());
+			} catch(PatternSyntaxException pse) {
+				combinedPattern = null;
+			}
+		}
+		this.combined = combinedPattern;
+		if(combinedPattern == null) {
+			for(int i = 0; i < size; i++) {
+				this.combinedGroups[i] = -1;
+			}
+		}
+
+		int matcherCount = size + 1;
+		this.matchers = ThreadLocal.withInitial(() -> new Matcher[matcherCount]);
+	}
+
+
+	public int size() {
+		return patterns.length;
+	}
+
+
+	/** Find the first pattern which matches somewhere in the input
+	 * @param input the input to search
+	 * @return the index of the first matching pattern, or -1 if no patterns match.
+	 * If a match is found, {@link #toMatchResult(int)} returns the match result
+	 */
+	public int find(String input) {
+		Matcher[] ms = matchers.get();
+		int size = patterns.length;
+		// the first combined pattern known to match, patterns after it never need to be tried
+		int limit = size - 1;
+		boolean combinedMiss = false;
+
+		if(combined != null) {
+			Matcher cm = matcher(ms, size, combined, input);
+			if(cm.find()) {
+				for(int i = 0; i < size; i++) {
+					int group = combinedGroups[i];
+					if(group != -1 && cm.start(group) != -1) {
+						limit = i;
+						break;
+					}
+				}
+			}
+			else {
+				combinedMiss = true;
+			}
+		}
+
+		for(int i = 0; i <= limit; i++) {
+			if(combinedMiss && combinedGroups[i] != -1) {
+				continue;
+			}
+			String literal = literals[i];
+			if(literal != null && !(anchored[i] ? input.startsWith(literal) : input.indexOf(literal) > -1)) {
+				continue;
+			}
+			if(matcher(ms, i, patterns[i], input).find()) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @param patternIdx the index returned by the last {@link #find(String)} call on the current thread
+	 * @return an immutable snapshot of the match found by the pattern
+	 */
+	public MatchResult toMatchResult(int patternIdx) {
+		return matchers.get()[patternIdx].toMatchResult();
+	}
+
+
+	private static final Matcher matcher(Matcher[] ms, int idx, Pattern pattern, String input) {
+		Matcher m = ms[idx];
+		if(m == null) {
+			m = pattern.matcher(input);
+			ms[idx] = m;
+		}
+		else {
+			m.reset(input);
+		}
+		return m;
+	}
+
+
+	/**
+	 * @return true if the regex can be wrapped in a capturing group and combined with other patterns via alternation without changing its behavior
+	 */
+	static final boolean isCombinable(String regex) {
+		for(int i = 0, size = regex.length(); i < size; i++) {
+			char c = regex.charAt(i);
+			if(c == '\\' && i + 1 < size) {
+				char next = regex.charAt(i + 1);
+				// back references and quotes
+				if((next >= '1' && next <= '9') || next == 'k' || next == 'Q') {
+					return false;
+				}
+				i++;
+			}
+			else if(c == '(' && i + 2 < size && regex.charAt(i + 1) == '?') {
+				char next = regex.charAt(i + 2);
+				// named groups (but not lookbehinds) and inline flags
+				if((next == '<' && i + 3 < size && regex.charAt(i + 3) != '=' && regex.charAt(i + 3) != '!') ||
+						Character.isLetter(next) || next == '-') {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * @return true if the regex contains a '|' which is not inside a group or character class
+	 */
+	static final boolean hasTopLevelAlternation(String regex) {
+		int depth = 0;
+		int classDepth = 0;
+		for(int i = 0, size = regex.length(); i < size; i++) {
+			char c = regex.charAt(i);
+			if(c == '\\') {
+				// skip quoted sections entirely
+				if(i + 1 < size && regex.charAt(i + 1) == 'Q') {
+					int end = regex.indexOf("\\E", i + 2);
+					i = (end > -1 ? end + 1 : size);
+				}
+				else {
+					i++;
+				}
+			}
+			else if(c == '[') {
+				classDepth++;
+			}
+			else if(c == ']' && classDepth > 0) {
+				classDepth--;
+			}
+			else if(classDepth == 0) {
+				if(c == '(') {
+					depth++;
+				}
+				else if(c == ')') {
+					depth--;
+				}
+				else if(c == '|' && depth == 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+
+	/** Get the literal text at the start of a regex (starting from {@code off}), excluding any character followed by an optional quantifier
+	 */
+	static final String literalPrefix(String regex, int off) {
+		StringBuilder sb = new StringBuilder();
+		for(int i = off, size = regex.length(); i < size; i++) {
+			char c = regex.charAt(i);
+			if(c == '\\') {
+				if(i + 1 >= size) {
+					break;
+				}
+				char next = regex.charAt(i + 1);
+				// escaped letters and digits are character classes, anchors, or back references
+				if(Character.isLetterOrDigit(next)) {
+					break;
+				}
+				sb.append(next);
+				i++;
+			}
+			else if(".^$|?*+()[]{}".indexOf(c) > -1) {
+				// the previous character is optional
+				if((c == '?' || c == '*' || c == '{') && sb.length() > 0) {
+					sb.setLength(sb.length() - 1);
+				}
+				break;
+			}
+			else {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+}
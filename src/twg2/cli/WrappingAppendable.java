@@ -0,0 +1,119 @@
+package twg2.cli;
+
+import java.io.IOException;
+
+/** An {@link Appendable} which wraps the lines written to it at a maximum width before passing them to another {@link Appendable}.
+ * Lines are broken at spaces, the spaces at a break are dropped and each continuation line starts with an indent.
+ * Words longer than the width are not split.  Tabs count as {@link #TAB_WIDTH} characters.
+ * Call {@link #flush()} after writing the last line if it does not end with a newline.
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+final class WrappingAppendable implements Appendable {
+	static final int TAB_WIDTH = 8;
+
+	private final Appendable out;
+	private final int width;
+	private final String indent;
+	private final int indentWidth;
+	/** the current word, not yet written to {@link #out} */
+	private final StringBuilder word = new StringBuilder();
+	private int wordWidth;
+	/** the number of spaces between the last word written and {@link #word} */
+	private int spaces;
+	/** the width of the current line written to {@link #out} */
+	private int col;
+
+
+	/**
+	 * @param out the destination of the wrapped lines
+	 * @param width the maximum line width, greater than zero
+	 * @param indent the indent written at the start of each continuation line
+	 */
+	WrappingAppendable(Appendable out, int width, String indent) {
+		if(width < 1) {
+			throw new IllegalArgumentException("width must be greater than zero: " + width);
+		}
+		this.out = out;
+		this.width = width;
+		this.indent = indent;
+		this.indentWidth = width(indent);
+	}
+
+
+	@Override
+	public WrappingAppendable append(CharSequence csq) throws IOException {
+		return csq != null ? append(csq, 0, csq.length()) : append("null");
+	}
+
+
+	@Override
+	public WrappingAppendable append(CharSequence csq, int start, int end) throws IOException {
+		if(csq == null) {
+			return append("null", start, end);
+		}
+		for(int i = start; i < end; i++) {
+			append(csq.charAt(i));
+		}
+		return this;
+	}
+
+
+	@Override
+	public WrappingAppendable append(char c) throws IOException {
+		if(c == ' ') {
+			writeWord();
+			spaces++;
+		}
+		else if(c == '\n') {
+			writeWord();
+			out.append('\n');
+			spaces = 0;
+			col = 0;
+		}
+		else {
+			word.append(c);
+			wordWidth += (c == '\t' ? TAB_WIDTH : 1);
+		}
+		return this;
+	}
+
+
+	/** Write the current word, if any, to the destination
+	 */
+	public void flush() throws IOException {
+		writeWord();
+	}
+
+
+	private void writeWord() throws IOException {
+		if(word.length() == 0) {
+			return;
+		}
+		if(col > indentWidth && col + spaces + wordWidth > width) {
+			out.append('\n').append(indent);
+			col = indentWidth;
+		}
+		else {
+			for(int i = 0; i < spaces; i++) {
+				out.append(' ');
+			}
+			col += spaces;
+		}
+		out.append(word);
+		col += wordWidth;
+		word.setLength(0);
+		wordWidth = 0;
+		spaces = 0;
+	}
+
+
+	private static int width(CharSequence str) {
+		int w = 0;
+		for(int i = 0, size = str.length(); i < size; i++) {
+			w += (str.charAt(i) == '\t' ? TAB_WIDTH : 1);
+		}
+		return w;
+	}
+
+}
@@ -0,0 +1,126 @@
+package twg2.cli.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ArgumentSource;
+import twg2.cli.ArgumentSources;
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseOutcome;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class ArgumentSourceTest {
+
+	@Test
+	public void lineDelimitedFile() throws IOException {
+		Path file = Files.createTempFile("args", ".txt");
+		try {
+			Files.write(file, "-paths\r\nC:/a b/c.txt\n\n/caf\u00E9/\u65E5\u672C\r\n-last".getBytes(StandardCharsets.UTF_8));
+			List<String> expected = Arrays.asList("-paths", "C:/a b/c.txt", "/caf\u00E9/\u65E5\u672C", "-last");
+
+			try(ArgumentSource src = ArgumentSources.ofFile(file)) {
+				Assert.assertEquals(expected, readAll(src));
+			}
+			// tiny map windows so that arguments span multiple windows
+			for(int window = 1; window < 8; window++) {
+				try(ArgumentSource src = ArgumentSources.ofMappedFile(file, ArgumentSources.LINE_DELIMITER, window)) {
+					Assert.assertEquals("window " + window, expected, readAll(src));
+				}
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+
+	@Test
+	public void expandArgFilesAndStdin() throws IOException {
+		Path file = Files.createTempFile("args", ".txt");
+		try {
+			Files.write(file, "f1\nf2\n".getBytes(StandardCharsets.UTF_8));
+			byte[] stdin = "s1\0s 2\0\0s3\0".getBytes(StandardCharsets.UTF_8);
+			String[] args = { "a", "@" + file, "-0", "@@literal", "b" };
+
+			try(ArgumentSource src = ArgumentSources.expand(args, 0, new ByteArrayInputStream(stdin))) {
+				Assert.assertEquals(Arrays.asList("a", "f1", "f2", "s1", "s 2", "", "s3", "@literal", "b"), readAll(src));
+			}
+			try(ArgumentSource src = ArgumentSources.expand(args, 2, null)) {
+				Assert.assertEquals(Arrays.asList("-0", "@literal", "b"), readAll(src));
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+
+	@Test
+	public void parseArgumentSource() throws IOException {
+		AtomicReference<Path[]> paths = new AtomicReference<>();
+		boolean[] verbose = { false };
+		ParameterData<String, Path[]> pathsParam = ParameterBuilder.newPathArray().setNameAndAliases("-paths", "-p").setSetter(paths::set).build();
+		ParameterData<String, Boolean> verboseParam = ParameterBuilder.newFlag().setNameAndAliases("-verbose").setSetter((v) -> verbose[0] = v).build();
+		ParameterSet<String> paramSet = ParameterSet.newParameterSet(Arrays.asList(pathsParam, verboseParam), false, null);
+
+		StringBuilder content = new StringBuilder("-p\n");
+		for(int i = 0; i < 5000; i++) {
+			content.append("/data/file-").append(i).append(".bin\n");
+		}
+		Path file = Files.createTempFile("args", ".txt");
+		try {
+			Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+			try(ArgumentSource src = ArgumentSources.expand(new String[] { "ignored", "@" + file, "-verbose" }, 0, null)) {
+				ParseOutcome<String> outcome = paramSet.parse(src, null, null);
+				Assert.assertEquals(2, outcome.getSeenCount());
+				Assert.assertEquals(1, outcome.getSpanOffset(0));
+				Assert.assertEquals(5001, outcome.getSpanLength(0));
+				Assert.assertEquals(5002, outcome.getSpanOffset(1));
+			}
+			Assert.assertEquals(5000, paths.get().length);
+			Assert.assertEquals(Paths.get("/data/file-4999.bin"), paths.get()[4999]);
+			Assert.assertTrue(verbose[0]);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+
+	@Test
+	public void malformedInput() throws IOException {
+		byte[] bytes = { 'a', 0, (byte)0xC3, 0 };
+		try(ArgumentSource src = ArgumentSources.ofStream(new ByteArrayInputStream(bytes), ArgumentSources.NUL_DELIMITER)) {
+			Assert.assertEquals("a", src.next().toString());
+			src.next();
+			Assert.fail("expected malformed UTF-8 to throw");
+		} catch(CharacterCodingException cce) {
+			// expected
+		}
+	}
+
+
+	private static List<String> readAll(ArgumentSource src) throws IOException {
+		List<String> res = new ArrayList<>();
+		CharSequence arg;
+		while((arg = src.next()) != null) {
+			res.add(arg.toString());
+		}
+		return res;
+	}
+
+}
@@ -0,0 +1,197 @@
+package twg2.cli.test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.BatchParser;
+import twg2.cli.BatchResult;
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterParserException;
+import twg2.cli.ParameterParserExceptionType;
+import twg2.cli.ParameterParserResult;
+import twg2.cli.ParameterSet;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class ArrayValidationTest {
+
+	@Test
+	public void ranges() {
+		ParameterData<String, Integer> count = ParameterBuilder.newInteger().setNameAndAliases("-c").setIntRange(1, 10).setIntSetter((v) -> { }).build();
+		Assert.assertFalse(count.parse(new String[] { "-c", "10" }).isError());
+		ParameterParserException err = count.parse(new String[] { "-c", "11" }).getParseError();
+		Assert.assertEquals(ParameterParserExceptionType.INVALID_PARSED_INPUT, err.getParseErrorType());
+		Assert.assertEquals("invalid INTEGER '-c' value of '11'", err.getMessage());
+
+		// the range is combined with the boxed validator if there is no primitive validator
+		ParameterData<String, Integer> notFive = ParameterBuilder.newInteger().setNameAndAliases("-c").setIntRange(1, 10)
+				.setValidator((v) -> v != 5).setSetter((v) -> { }).build();
+		Assert.assertFalse(notFive.parse(new String[] { "-c", "4" }).isError());
+		Assert.assertTrue(notFive.parse(new String[] { "-c", "5" }).isError());
+		Assert.assertTrue(notFive.parse(new String[] { "-c", "0" }).isError());
+
+		// the range and the primitive validator are both checked
+		ParameterData<String, Integer[]> evens = ParameterBuilder.newIntegerArray().setNameAndAliases("-n").setIntRange(0, 100)
+				.setIntValidator((v) -> v % 2 == 0).setIntArraySetter((v) -> { }).build();
+		Assert.assertFalse(evens.parse(new String[] { "-n", "0", "2", "100" }).isError());
+		Assert.assertEquals(3, evens.parse(new String[] { "-n", "0", "2", "102" }).getParseError().getInputOffset());
+		Assert.assertEquals(2, evens.parse(new String[] { "-n", "0", "3", "102" }).getParseError().getInputOffset());
+
+		ParameterData<String, Float[]> ratios = ParameterBuilder.newFloatArray().setNameAndAliases("-r").setFloatRange(0, 1).setFloatArraySetter((v) -> { }).build();
+		Assert.assertFalse(ratios.parse(new String[] { "-r", "0", "0.5", "1" }).isError());
+		Assert.assertEquals(2, ratios.parse(new String[] { "-r", "0", "NaN" }).getParseError().getInputOffset());
+		Assert.assertEquals(1, ratios.parse(new String[] { "-r", "-0.1" }).getParseError().getInputOffset());
+
+		try {
+			ParameterBuilder.newText().setNameAndAliases("-t").setIntRange(0, 1).build();
+			Assert.fail("expected an int range on a text parameter to fail");
+		} catch(IllegalArgumentException e) {
+		}
+	}
+
+
+	@Test
+	public void arrayValidators() {
+		// ascending values, the first element which is not greater than the one before it is invalid
+		int[][] received = { null };
+		ParameterData<String, Integer[]> sorted = ParameterBuilder.newIntegerArray().setNameAndAliases("-s").setIntArraySetter((v) -> received[0] = v)
+				.setIntArrayValidator((values, off, len) -> {
+					for(int i = Math.max(off, 1), end = off + len; i < end; i++) {
+						if(values[i] <= values[i - 1]) {
+							return i;
+						}
+					}
+					return -1;
+				}).build();
+		Assert.assertFalse(sorted.parse(new String[] { "-s", "1", "5", "9" }).isError());
+		Assert.assertArrayEquals(new int[] { 1, 5, 9 }, received[0]);
+		ParameterParserResult res = sorted.parse(new String[] { "-s", "1", "5", "5", "2" });
+		Assert.assertEquals(ParameterParserExceptionType.INVALID_PARSED_INPUT, res.getParseError().getParseErrorType());
+		Assert.assertEquals(3, res.getParseError().getInputOffset());
+		Assert.assertTrue(res.getParseError().getMessage(), res.getParseError().getMessage().contains("'5'"));
+
+		ParameterData<String, String[]> unique = ParameterBuilder.newTextArray().setNameAndAliases("-u").setSetter((v) -> { })
+				.setArrayValidator((String[] values, int off, int len) -> {
+					Set<String> seen = new HashSet<>();
+					for(int i = off; i < off + len; i++) {
+						if(!seen.add(values[i])) {
+							return i;
+						}
+					}
+					return -1;
+				}).build();
+		Assert.assertFalse(unique.parse(new String[] { "-u", "a", "b" }).isError());
+		Assert.assertEquals(4, unique.parse(new String[] { "-u", "a", "b", "c", "a" }).getParseError().getInputOffset());
+
+		// validator exceptions are reported at the first index checked
+		ParameterData<String, Boolean> throwing = ParameterBuilder.newFlagArray().setNameAndAliases("-f")
+				.setFlagArrayValidator((values, off, len) -> { throw new IllegalStateException("bulk"); }).build();
+		ParameterParserException err = throwing.parse(new String[] { "-f", "true", "false" }).getParseError();
+		Assert.assertEquals(ParameterParserExceptionType.VALIDATOR_EXCEPTION, err.getParseErrorType());
+		Assert.assertEquals(1, err.getInputOffset());
+		Assert.assertEquals("bulk", err.getCause().getMessage());
+
+		// array validators are called by the batch parser too
+		BatchResult batch = new BatchParser(new ParameterSet<>(Arrays.asList(sorted))).parse(Arrays.asList("-s 1 2", "-s 3 1"));
+		Assert.assertEquals(1, batch.getErrors().size());
+		Assert.assertEquals(1, batch.getErrors().get(0).getLine());
+		Assert.assertEquals(2, batch.getErrors().get(0).getError().getInputOffset());
+	}
+
+
+	@Test
+	public void invalidBuilders() {
+		String[] failures = new String[4];
+		try {
+			ParameterBuilder.newTextArray().setNameAndAliases("-t").setIntArrayValidator((values, off, len) -> -1).build();
+		} catch(IllegalArgumentException e) {
+			failures[0] = e.getMessage();
+		}
+		try {
+			ParameterBuilder.newIntegerArray().setNameAndAliases("-i").setArrayValidator((values, off, len) -> -1).build();
+		} catch(IllegalArgumentException e) {
+			failures[1] = e.getMessage();
+		}
+		try {
+			ParameterBuilder.newText().setNameAndAliases("-t").setParallelValidation(Runnable::run, 8).build();
+		} catch(IllegalArgumentException e) {
+			failures[2] = e.getMessage();
+		}
+		try {
+			ParameterBuilder.newTextArray().setNameAndAliases("-t").setElementSink(String.class, (s) -> { })
+					.setArrayValidator((values, off, len) -> -1).build();
+		} catch(IllegalArgumentException e) {
+			failures[3] = e.getMessage();
+		}
+		for(String failure : failures) {
+			Assert.assertTrue(Arrays.toString(failures), failure != null);
+		}
+	}
+
+
+	@Test
+	public void parallelValidation() throws InterruptedException {
+		int size = 10_000;
+		String[] inputs = new String[size + 1];
+		inputs[0] = "-n";
+		for(int i = 1; i <= size; i++) {
+			inputs[i] = Integer.toString(i - 1);
+		}
+		Set<Integer> invalid = new HashSet<>(Arrays.asList(9000, 2501, 7003));
+		AtomicInteger calls = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			int[][] received = { null };
+			ParameterData<String, Integer[]> param = ParameterBuilder.newIntegerArray().setNameAndAliases("-n")
+					.setIntValidator((v) -> { calls.incrementAndGet(); return !invalid.contains(v); })
+					.setIntArrayValidator((values, off, len) -> {
+						for(int i = off; i < off + len; i++) {
+							if(values[i] == 2600) {
+								return i;
+							}
+						}
+						return -1;
+					})
+					.setIntArraySetter((v) -> received[0] = v)
+					.setParallelValidation(executor, 100).build();
+
+			for(int i = 0; i < 20; i++) {
+				ParameterParserException err = param.parse(inputs).getParseError();
+				Assert.assertEquals(ParameterParserExceptionType.INVALID_PARSED_INPUT, err.getParseErrorType());
+				Assert.assertEquals(2502, err.getInputOffset());
+			}
+			Assert.assertEquals(null, received[0]);
+
+			// the array validator's failure is reported if it is first
+			invalid.clear();
+			invalid.add(9999);
+			Assert.assertEquals(2601, param.parse(inputs).getParseError().getInputOffset());
+
+			invalid.clear();
+			inputs[2601] = "0";
+			calls.set(0);
+			Assert.assertFalse(param.parse(inputs).isError());
+			Assert.assertEquals(size, calls.get());
+			Assert.assertEquals(size, received[0].length);
+		} finally {
+			executor.shutdown();
+		}
+
+		// chunks rejected by the executor are checked on the parsing thread
+		ParameterData<String, Integer[]> rejecting = ParameterBuilder.newIntegerArray().setNameAndAliases("-n").setIntRange(0, 5000).setIntArraySetter((v) -> { })
+				.setParallelValidation((task) -> { throw new RejectedExecutionException(); }, 64).build();
+		Assert.assertEquals(5002, rejecting.parse(inputs).getParseError().getInputOffset());
+	}
+
+}
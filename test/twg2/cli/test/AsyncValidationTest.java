@@ -0,0 +1,159 @@
+package twg2.cli.test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterParserException;
+import twg2.cli.ParameterParserExceptionType;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseOutcome;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class AsyncValidationTest {
+
+	@Test
+	public void concurrentValidation() {
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			List<String> set = new ArrayList<>();
+			Function<String, CompletableFuture<Boolean>> slowNonEmpty = (v) -> CompletableFuture.supplyAsync(() -> {
+				sleep(200);
+				return !v.isEmpty();
+			}, executor);
+			ParameterData<String, String> a = ParameterBuilder.newText().setNameAndAliases("-a").setSetter((v) -> set.add("a=" + v)).setAsyncValidator(slowNonEmpty).build();
+			ParameterData<String, String> b = ParameterBuilder.newText().setNameAndAliases("-b").setSetter((v) -> set.add("b=" + v)).setAsyncValidator(slowNonEmpty).build();
+			ParameterData<String, Integer> c = ParameterBuilder.newInteger().setNameAndAliases("-c").setIntSetter((v) -> set.add("c=" + v))
+					.setAsyncValidator((v) -> CompletableFuture.supplyAsync(() -> { sleep(200); return v > 0; }, executor)).build();
+			ParameterData<String, String> d = ParameterBuilder.newText().setNameAndAliases("-d").setSetter((v) -> set.add("d=" + v)).build();
+			ParameterSet<String> paramSet = new ParameterSet<>(Arrays.asList(a, b, c, d));
+
+			long start = System.nanoTime();
+			ParseOutcome<String> outcome = paramSet.parse(new String[] { "-c", "3", "-a", "x", "-d", "y", "-b", "" }, 0, null, null);
+			long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			// the validators run at the same time, sequential validation would take at least 600 milliseconds
+			Assert.assertTrue("parse took " + millis + " ms", millis < 550);
+
+			// setters without asynchronous validators are called while parsing, the others in the order their parameters were found
+			Assert.assertEquals(Arrays.asList("d=y", "c=3", "a=x"), set);
+			Assert.assertEquals(1, outcome.getErrorCount());
+			Assert.assertEquals(ParameterParserExceptionType.INVALID_PARSED_INPUT, outcome.getErrorType(paramSet.getOrdinal(b)));
+			Assert.assertEquals(7, outcome.getErrorInputIndex(paramSet.getOrdinal(b)));
+
+			// values rejected by the synchronous validators are not passed to the asynchronous validator
+			int[] calls = { 0 };
+			ParameterData<String, Integer[]> nums = ParameterBuilder.newIntegerArray().setNameAndAliases("-n").setIntRange(0, 9).setIntArraySetter((v) -> set.add("n=" + v.length))
+					.setAsyncValidator((v) -> { calls[0] += v.length; return CompletableFuture.completedFuture(true); }).build();
+			set.clear();
+			Assert.assertEquals(ParameterParserExceptionType.INVALID_PARSED_INPUT, nums.parse(new String[] { "-n", "1", "10" }).getParseError().getParseErrorType());
+			Assert.assertEquals(0, calls[0]);
+			Assert.assertFalse(nums.parse(new String[] { "-n", "1", "2" }).isError());
+			Assert.assertEquals(2, calls[0]);
+			Assert.assertEquals(Arrays.asList("n=2"), set);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+
+	@Test
+	public void deadline() {
+		CompletableFuture<Boolean> hung = new CompletableFuture<>();
+		String[] value = { null };
+		ParameterData<String, String> slow = ParameterBuilder.newText().setNameAndAliases("-s").setSetter((v) -> value[0] = v).setAsyncValidator((v) -> hung).build();
+		ParameterData<String, String> fast = ParameterBuilder.newText().setNameAndAliases("-f").setSetter((v) -> { })
+				.setAsyncValidator((v) -> CompletableFuture.completedFuture(true)).build();
+		ParameterSet<String> paramSet = new ParameterSet<>(Arrays.asList(slow, fast)).withAsyncValidationTimeout(100, TimeUnit.MILLISECONDS);
+
+		long start = System.nanoTime();
+		ParseOutcome<String> outcome = paramSet.parse(new String[] { "-s", "a", "-f", "b" }, 0, null, null);
+		long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		Assert.assertTrue("parse took " + millis + " ms", millis >= 90 && millis < 2000);
+		Assert.assertEquals(1, outcome.getErrorCount());
+		ParameterParserException err = outcome.getResult(paramSet.getOrdinal(slow)).getParseError();
+		Assert.assertEquals(ParameterParserExceptionType.VALIDATOR_EXCEPTION, err.getParseErrorType());
+		Assert.assertTrue(err.getMessage(), err.getMessage().contains("did not complete in time"));
+		Assert.assertEquals(null, value[0]);
+
+		// the deadline also applies to parameters requested interactively
+		ParameterData<String, String> required = ParameterBuilder.newText().setNameAndAliases("-r").setRequired(true).setRequestParameterMessage("r: ")
+				.setSetter((v) -> value[0] = v).setAsyncValidator((v) -> hung).build();
+		ParameterSet<String> interactiveSet = new ParameterSet<>(Arrays.asList(required)).withAsyncValidationTimeout(100, TimeUnit.MILLISECONDS);
+		start = System.nanoTime();
+		try {
+			interactiveSet.parseInteractive(new String[0], 0, new BufferedReader(new StringReader("a\n")), new StringBuilder(), "-help");
+			Assert.fail("expected the interactive parse to fail");
+		} catch(RuntimeException e) {
+			Assert.assertTrue(e.getMessage(), e.getMessage().contains("did not complete in time"));
+		}
+		millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		Assert.assertTrue("interactive parse took " + millis + " ms", millis >= 90 && millis < 2000);
+		Assert.assertEquals(null, value[0]);
+
+		try {
+			paramSet.withAsyncValidationTimeout(-1, TimeUnit.SECONDS);
+			Assert.fail("expected a negative timeout to fail");
+		} catch(IllegalArgumentException e) {
+		}
+	}
+
+
+	@Test
+	public void validatorErrors() {
+		ParameterData<String, String> failing = ParameterBuilder.newText().setNameAndAliases("-f").setSetter((v) -> { }).setAsyncValidator((v) -> {
+			CompletableFuture<Boolean> res = new CompletableFuture<>();
+			res.completeExceptionally(new IllegalStateException("lookup " + v));
+			return res;
+		}).build();
+		ParameterParserException err = failing.parse(new String[] { "-f", "a" }).getParseError();
+		Assert.assertEquals(ParameterParserExceptionType.VALIDATOR_EXCEPTION, err.getParseErrorType());
+		Assert.assertEquals("lookup a", err.getCause().getMessage());
+
+		ParameterData<String, String> throwing = ParameterBuilder.newText().setNameAndAliases("-t").setSetter((v) -> { })
+				.setAsyncValidator((v) -> { throw new IllegalArgumentException(v); }).build();
+		Assert.assertEquals(ParameterParserExceptionType.VALIDATOR_EXCEPTION, throwing.parse(new String[] { "-t", "a" }).getParseError().getParseErrorType());
+
+		ParameterData<String, String> nullFuture = ParameterBuilder.newText().setNameAndAliases("-n").setSetter((v) -> { }).setAsyncValidator((v) -> null).build();
+		Assert.assertEquals(ParameterParserExceptionType.VALIDATOR_EXCEPTION, nullFuture.parse(new String[] { "-n", "a" }).getParseError().getParseErrorType());
+
+		ParameterData<String, String> failingSetter = ParameterBuilder.newText().setNameAndAliases("-s").setSetter((v) -> { throw new IllegalStateException(v); })
+				.setAsyncValidator((v) -> CompletableFuture.completedFuture(true)).build();
+		Assert.assertEquals(ParameterParserExceptionType.SETTER_EXCEPTION, failingSetter.parse(new String[] { "-s", "a" }).getParseError().getParseErrorType());
+
+		ParameterData<String, String> rejected = ParameterBuilder.newText().setNameAndAliases("-r").setSetter((v) -> { })
+				.setValidatorMessageGenerator((v) -> "unknown user " + v).setAsyncValidator((v) -> CompletableFuture.completedFuture(false)).build();
+		Assert.assertEquals("unknown user bob", rejected.parse(new String[] { "-r", "bob" }).getParseError().getMessage());
+
+		try {
+			ParameterBuilder.newTextArray().setNameAndAliases("-t").setElementSink(String.class, (s) -> { })
+					.setAsyncValidator((v) -> CompletableFuture.completedFuture(true)).build();
+			Assert.fail("expected an element sink with an asynchronous validator to fail");
+		} catch(IllegalArgumentException e) {
+		}
+	}
+
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
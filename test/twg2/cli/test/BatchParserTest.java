@@ -0,0 +1,133 @@
+package twg2.cli.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.BatchColumn;
+import twg2.cli.BatchParser;
+import twg2.cli.BatchResult;
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class BatchParserTest {
+	private final ParameterData<String, Integer> countParam = ParameterBuilder.newInteger().setNameAndAliases("-count", "-c")
+			.setSetter((v) -> { throw new AssertionError("setters are not called by batch parsing"); }).setIntValidator((v) -> v >= 0).build();
+	private final ParameterData<String, String> nameParam = ParameterBuilder.newText().setNameAndAliases("-name").setSetter((v) -> { }).build();
+	private final ParameterData<String, Boolean> verboseParam = ParameterBuilder.newFlag().setNameAndAliases("-verbose").setSetter((v) -> { }).build();
+	private final ParameterData<String, Long> sizeParam = ParameterBuilder.newLong().setNameAndAliases("-size").setSetter((v) -> { }).build();
+	private final ParameterData<String, Path> pathParam = ParameterBuilder.newPath().setNameAndAliases("-path").setSetter((v) -> { }).build();
+	private final ParameterData<String, Integer[]> idsParam = ParameterBuilder.newIntegerArray().setNameAndAliases("-ids").setIntArraySetter((v) -> { }).build();
+	private final ParameterSet<String> paramSet = new ParameterSet<>(Arrays.asList(countParam, nameParam, verboseParam, sizeParam, pathParam, idsParam));
+
+
+	@Test
+	public void columnsAndErrors() {
+		List<String> lines = Arrays.asList(
+			"-count 5 -name alpha -verbose -size 9000000000",
+			"",
+			"ignored -name \"b c\" -ids 1 2 3 -path /tmp/x",
+			"-count -1 -name alpha",
+			"-count x -verbose false -size 1 2",
+			"-count 7 -count 8"
+		);
+		BatchResult res = new BatchParser(paramSet, ForkJoinPool.commonPool(), 16).parse(lines);
+		Assert.assertEquals(6, res.getLineCount());
+
+		BatchColumn.Ints counts = (BatchColumn.Ints)res.getColumn(countParam);
+		Assert.assertEquals(5, counts.getInt(0));
+		Assert.assertTrue(counts.isNull(1));
+		Assert.assertTrue(counts.isNull(3));
+		Assert.assertTrue(counts.isNull(4));
+		Assert.assertEquals(Integer.valueOf(8), counts.get(5));
+		Assert.assertEquals(2, counts.getValueCount());
+
+		BatchColumn.Dictionary<?> names = (BatchColumn.Dictionary<?>)res.getColumn(nameParam);
+		Assert.assertEquals(Arrays.asList("alpha", "b c"), names.getDictionary());
+		Assert.assertEquals(0, names.getCode(0));
+		Assert.assertEquals(1, names.getCode(2));
+		Assert.assertEquals(0, names.getCode(3));
+		Assert.assertEquals(-1, names.getCode(4));
+
+		BatchColumn.Flags verbose = (BatchColumn.Flags)res.getColumn(verboseParam);
+		Assert.assertTrue(verbose.getFlag(0));
+		Assert.assertEquals(Boolean.FALSE, verbose.get(4));
+		Assert.assertNull(verbose.get(1));
+
+		Assert.assertEquals(9000000000L, ((BatchColumn.Longs)res.getColumn(sizeParam)).getLong(0));
+		Assert.assertEquals(Paths.get("/tmp/x"), res.getColumn(pathParam).get(2));
+		Assert.assertArrayEquals(new int[] { 1, 2, 3 }, (int[])res.getColumn(idsParam).get(2));
+
+		// the validator rejected -1, 'x' is not an integer, and -size was given two values
+		List<BatchResult.LineError> errors = res.getErrors();
+		Assert.assertEquals(3, errors.size());
+		Assert.assertEquals(3, errors.get(0).getLine());
+		Assert.assertEquals(paramSet.getOrdinal(countParam), errors.get(0).getOrdinal());
+		Assert.assertEquals(4, errors.get(1).getLine());
+		Assert.assertEquals(paramSet.getOrdinal(countParam), errors.get(1).getOrdinal());
+		Assert.assertEquals(4, errors.get(2).getLine());
+		Assert.assertEquals(paramSet.getOrdinal(sizeParam), errors.get(2).getOrdinal());
+	}
+
+
+	@Test
+	public void fileMatchesLines() throws IOException {
+		Random rand = new Random(20261017);
+		List<String> lines = new ArrayList<>();
+		for(int i = 0; i < 5000; i++) {
+			StringBuilder sb = new StringBuilder();
+			if(rand.nextInt(4) > 0) {
+				sb.append("-count ").append(rand.nextInt(50) - 5).append(' ');
+			}
+			if(rand.nextBoolean()) {
+				sb.append("-name n\u00E9").append(rand.nextInt(20)).append(' ');
+			}
+			if(rand.nextBoolean()) {
+				sb.append("-ids");
+				for(int j = rand.nextInt(4); j > 0; j--) {
+					sb.append(' ').append(rand.nextInt(1000));
+				}
+			}
+			lines.add(sb.toString());
+		}
+
+		Path file = Files.createTempFile("jobs", ".txt");
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			Files.write(file, String.join("\r\n", lines).getBytes(StandardCharsets.UTF_8));
+			BatchResult expected = new BatchParser(paramSet, ForkJoinPool.commonPool(), 1 << 20).parse(lines);
+			for(int chunkSize : new int[] { 1, 100, 4096, 1 << 20 }) {
+				BatchResult res = new BatchParser(paramSet, pool, chunkSize).parse(file);
+				Assert.assertEquals(lines.size(), res.getLineCount());
+				Assert.assertEquals(expected.getErrors().size(), res.getErrors().size());
+				for(int i = 0; i < res.getErrors().size(); i++) {
+					Assert.assertEquals(expected.getErrors().get(i).getLine(), res.getErrors().get(i).getLine());
+				}
+				for(int row = 0; row < lines.size(); row++) {
+					Assert.assertEquals(expected.getColumn(countParam).get(row), res.getColumn(countParam).get(row));
+					Assert.assertEquals(expected.getColumn(nameParam).get(row), res.getColumn(nameParam).get(row));
+					Assert.assertArrayEquals((int[])expected.getColumn(idsParam).get(row), (int[])res.getColumn(idsParam).get(row));
+				}
+			}
+		} finally {
+			pool.shutdown();
+			Files.delete(file);
+		}
+	}
+
+}
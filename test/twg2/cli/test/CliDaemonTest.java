@@ -0,0 +1,111 @@
+package twg2.cli.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.CliDaemon;
+import twg2.cli.CliDaemonClient;
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterSet;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class CliDaemonTest {
+
+	@Test
+	public void runWithPrompt() throws Exception {
+		AtomicReference<String> name = new AtomicReference<>();
+		ParameterSet<String> paramSet = ParameterSet.newParameterSet(Arrays.asList(
+			ParameterBuilder.newText().setNameAndAliases("-name").setSetter(name::set).setRequestParameterMessage("name? ").setRequired(true).build()
+		), true, "-help");
+
+		ExecutorService executor = Executors.newCachedThreadPool();
+		Path dir = Files.createTempDirectory("jcli-daemon");
+		Path infoFile = dir.resolve("daemon.info");
+		try(CliDaemon daemon = new CliDaemon((req) -> {
+			paramSet.parseInteractive(req.getArgs(), 0, req.getInput(), req.getOutput(), "-help");
+			req.getOutput().print("hi " + name.get() + " in " + req.resolve("a.txt") + " as " + req.getEnvironment().get("USER"));
+			req.getError().print("done");
+			return name.get().length();
+		}, executor)) {
+			daemon.start(infoFile);
+			Assert.assertTrue(daemon.getPort() > 0);
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			ByteArrayOutputStream err = new ByteArrayOutputStream();
+			Path cwd = Paths.get("/work").toAbsolutePath();
+			int exitCode = CliDaemonClient.run(infoFile, new String[0], cwd, Collections.singletonMap("USER", "sam"),
+					new ByteArrayInputStream("carol\nunused\n".getBytes(StandardCharsets.UTF_8)), out, err);
+			Assert.assertEquals(5, exitCode);
+			Assert.assertEquals("name? hi carol in " + cwd.resolve("a.txt") + " as sam", new String(out.toByteArray(), StandardCharsets.UTF_8));
+			Assert.assertEquals("done", new String(err.toByteArray(), StandardCharsets.UTF_8));
+
+			out.reset();
+			exitCode = CliDaemonClient.run(infoFile, new String[] { "-name", "dee" }, cwd, Collections.emptyMap(),
+					new ByteArrayInputStream(new byte[0]), out, new ByteArrayOutputStream());
+			Assert.assertEquals(3, exitCode);
+			Assert.assertEquals("hi dee in " + cwd.resolve("a.txt") + " as null", new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+			// a client without the daemon's token is disconnected without running the command
+			Path badInfo = dir.resolve("bad.info");
+			Files.write(badInfo, (daemon.getPort() + " 0123").getBytes(StandardCharsets.UTF_8));
+			try {
+				CliDaemonClient.run(badInfo, new String[] { "-name", "eve" }, cwd, Collections.emptyMap(), new ByteArrayInputStream(new byte[0]), out, out);
+				Assert.fail("expected the daemon to reject an invalid token");
+			} catch(IOException e) {
+				Assert.assertEquals("dee", name.get());
+			}
+			Files.delete(badInfo);
+		} finally {
+			executor.shutdown();
+		}
+		Assert.assertFalse(Files.exists(infoFile));
+		Files.delete(dir);
+	}
+
+
+	@Test
+	public void idleConnectionsTimeOut() throws Exception {
+		// a single thread, so an idle connection blocks every other request until it times out
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		Path dir = Files.createTempDirectory("jcli-daemon");
+		Path infoFile = dir.resolve("daemon.info");
+		try(CliDaemon daemon = new CliDaemon((req) -> 7, executor, 200)) {
+			daemon.start(infoFile);
+
+			try(Socket idle = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+				idle.setSoTimeout(10_000);
+				long start = System.nanoTime();
+				// the daemon closes the connection without a response
+				Assert.assertEquals(-1, idle.getInputStream().read());
+				long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+				Assert.assertTrue("idle connection closed after " + millis + " ms", millis >= 150 && millis < 5000);
+
+				Assert.assertEquals(7, CliDaemonClient.run(infoFile, new String[0], dir, Collections.emptyMap(),
+						new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream(), new ByteArrayOutputStream()));
+			}
+		} finally {
+			executor.shutdown();
+		}
+		Files.delete(dir);
+	}
+
+}
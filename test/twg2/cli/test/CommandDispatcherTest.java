@@ -0,0 +1,200 @@
+package twg2.cli.test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.CommandDispatcher;
+import twg2.cli.ParameterParser;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class CommandDispatcherTest {
+
+	@Test
+	public void orderingAndConcurrencyLimit() throws Exception {
+		Map<String, List<Integer>> seen = new ConcurrentHashMap<>();
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		ParameterParser<Void> parser = new ParameterParser<>();
+		parser.addParameter("-put", (params, data) -> {
+			int now = running.incrementAndGet();
+			maxRunning.accumulateAndGet(now, Math::max);
+			String key = params.get();
+			int seq = Integer.parseInt(params.get());
+			seen.computeIfAbsent(key, (k) -> new ArrayList<>()).add(seq);
+			Thread.yield();
+			running.decrementAndGet();
+		});
+
+		StringBuilder input = new StringBuilder();
+		for(int i = 0; i < 400; i++) {
+			input.append("-put k").append(i % 5).append(' ').append(i / 5).append('\n');
+		}
+		input.append("\n-unknown 1\n");
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			// the ordering key is the second token, the key passed to '-put'
+			CommandDispatcher<Void> dispatcher = new CommandDispatcher<>(parser, executor, 3, 16, (tokens) -> tokens.size() > 1 ? tokens.get(1) : null, null);
+			Assert.assertEquals(401, dispatcher.dispatch(new StringReader(input.toString()), null));
+			Assert.assertTrue(dispatcher.awaitIdle(10, TimeUnit.SECONDS));
+
+			Assert.assertEquals(5, seen.size());
+			for(List<Integer> seqs : seen.values()) {
+				Assert.assertEquals(80, seqs.size());
+				for(int i = 0; i < seqs.size(); i++) {
+					Assert.assertEquals(i, (int)seqs.get(i));
+				}
+			}
+			Assert.assertTrue(maxRunning.get() <= 3);
+
+			CommandDispatcher.Stats stats = dispatcher.getStats();
+			Assert.assertEquals(401, stats.getSubmitted());
+			Assert.assertEquals(401, stats.getCompleted());
+			Assert.assertEquals(1, stats.getUnmatched());
+			Assert.assertEquals(0, stats.getFailed());
+			Assert.assertEquals(0, stats.getPending());
+			Assert.assertTrue(stats.getMaxLatencyNanos() >= stats.getLatencyPercentileNanos(50));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+
+	@Test
+	public void backPressureAndErrors() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> errors = new ArrayList<>();
+		ParameterParser<Void> parser = new ParameterParser<>();
+		parser.addParameter("-wait", (params, data) -> {
+			try {
+				release.await();
+			} catch(InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		parser.addParameter("-fail", (params, data) -> { throw new IllegalStateException(params.get()); });
+
+		ExecutorService executor = Executors.newCachedThreadPool();
+		try {
+			CommandDispatcher<Void> dispatcher = new CommandDispatcher<>(parser, executor, 2, 3, null, (line, err) -> {
+				synchronized(errors) {
+					errors.add(line + ": " + err.getMessage());
+				}
+			});
+			Assert.assertTrue(dispatcher.trySubmit("-wait", null));
+			Assert.assertTrue(dispatcher.trySubmit("-wait", null));
+			Assert.assertTrue(dispatcher.trySubmit("-fail boom", null));
+			Assert.assertFalse(dispatcher.trySubmit("-wait", null));
+			Assert.assertFalse(dispatcher.trySubmit("   ", null));
+			Assert.assertEquals(3, dispatcher.getPendingCount());
+			Assert.assertFalse(dispatcher.awaitIdle(20, TimeUnit.MILLISECONDS));
+
+			release.countDown();
+			Assert.assertTrue(dispatcher.awaitIdle(10, TimeUnit.SECONDS));
+			Assert.assertEquals(1, errors.size());
+			Assert.assertEquals("-fail boom: boom", errors.get(0));
+
+			CommandDispatcher.Stats stats = dispatcher.getStats();
+			Assert.assertEquals(3, stats.getCompleted());
+			Assert.assertEquals(1, stats.getFailed());
+			Assert.assertEquals(1, stats.getRejected());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+
+	@Test
+	public void blockedTimeIsNotQueueTime() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		ParameterParser<Void> parser = new ParameterParser<>();
+		parser.addParameter("-wait", (params, data) -> {
+			try {
+				release.await();
+			} catch(InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		parser.addParameter("-run", (params, data) -> { });
+
+		ExecutorService executor = Executors.newCachedThreadPool();
+		try {
+			CommandDispatcher<Void> dispatcher = new CommandDispatcher<>(parser, executor, 1, 1);
+			Assert.assertTrue(dispatcher.submit("-wait", null));
+			// blocks until '-wait' completes, since only one command may be pending
+			Thread submitter = new Thread(() -> {
+				try {
+					dispatcher.submit("-run", null);
+				} catch(InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+			});
+			submitter.start();
+			Thread.sleep(300);
+			release.countDown();
+			submitter.join(10_000);
+			Assert.assertTrue(dispatcher.awaitIdle(10, TimeUnit.SECONDS));
+
+			CommandDispatcher.Stats stats = dispatcher.getStats();
+			Assert.assertEquals(2, stats.getCompleted());
+			Assert.assertTrue("blocked " + stats.getBlockedNanos(), stats.getBlockedNanos() >= TimeUnit.MILLISECONDS.toNanos(250));
+			// the back-pressure wait is counted as blocked time, not as queue time
+			Assert.assertTrue("mean queue " + stats.getMeanQueueNanos(), stats.getMeanQueueNanos() < TimeUnit.MILLISECONDS.toNanos(100));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+
+	@Test
+	public void orderingKeyErrors() throws Exception {
+		AtomicInteger runs = new AtomicInteger();
+		ParameterParser<Void> parser = new ParameterParser<>();
+		parser.addParameter("-run", (params, data) -> runs.incrementAndGet());
+
+		ExecutorService executor = Executors.newCachedThreadPool();
+		try {
+			// commands with one token throw an IndexOutOfBoundsException from the ordering key function
+			CommandDispatcher<Void> dispatcher = new CommandDispatcher<>(parser, executor, 1, 2, (tokens) -> tokens.get(1), null);
+			for(int i = 0; i < 3; i++) {
+				try {
+					dispatcher.trySubmit("-run", null);
+					Assert.fail("expected the ordering key function to throw");
+				} catch(IndexOutOfBoundsException e) {
+				}
+				try {
+					dispatcher.submit("-run", null);
+					Assert.fail("expected the ordering key function to throw");
+				} catch(IndexOutOfBoundsException e) {
+				}
+			}
+			Assert.assertEquals(0, dispatcher.getPendingCount());
+			Assert.assertTrue(dispatcher.awaitIdle(200, TimeUnit.MILLISECONDS));
+
+			// failed submits do not use up pending slots
+			Assert.assertTrue(dispatcher.trySubmit("-run a", null));
+			Assert.assertTrue(dispatcher.awaitIdle(10, TimeUnit.SECONDS));
+			Assert.assertTrue(dispatcher.trySubmit("-run b", null));
+			Assert.assertTrue(dispatcher.submit("-run c", null));
+			Assert.assertTrue(dispatcher.awaitIdle(10, TimeUnit.SECONDS));
+			Assert.assertEquals(3, runs.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,113 @@
+package twg2.cli.test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ConfigSnapshot;
+import twg2.cli.FlagGroup;
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseOutcome;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class ConfigSnapshotTest {
+
+	@Test
+	public void snapshotValues() {
+		ParameterData<String, Integer> count = ParameterBuilder.newInteger().setNameAndAliases("-count").setIntSetter((v) -> { }).build();
+		ParameterData<String, Float> ratio = ParameterBuilder.newFloat().setNameAndAliases("-ratio").setFloatSetter((v) -> { }).build();
+		ParameterData<String, Boolean> regex = ParameterBuilder.newFlag().setNameAndAliases("-regex").setSetter((v) -> { }).build();
+		ParameterData<String, String[]> ids = ParameterBuilder.newTextArray().setNameAndAliases("-ids").setSetter((v) -> v[0] = "x").build();
+		ParameterData<String, TimeUnit> unit = ParameterBuilder.newEnum(TimeUnit.class).setNameAndAliases("-unit").setSetter((v) -> { }).build();
+		FlagGroup<String> flags = ParameterBuilder.newFlagGroup().addFlag("-a", null).addFlag("-b", null).setMaskSetter((v) -> { }).build();
+		ParameterSet<String> paramSet = new ParameterSet<>(Arrays.asList(count, ratio, regex, ids, unit, flags));
+		int countOrd = paramSet.getOrdinal(count);
+		int ratioOrd = paramSet.getOrdinal(ratio);
+		int regexOrd = paramSet.getOrdinal(regex);
+		int idsOrd = paramSet.getOrdinal(ids);
+		int unitOrd = paramSet.getOrdinal(unit);
+		int flagsOrd = paramSet.getOrdinal(flags);
+
+		ParseOutcome<String> outcome = paramSet.parse(new String[] { "-count", "3", "-ratio", "0.5", "-ids", "4", "5", "-b", "-unit", "WEEKS" }, 0, null, null);
+		ConfigSnapshot<String> snapshot = ConfigSnapshot.of(outcome);
+
+		Assert.assertEquals(3, snapshot.getInt(countOrd, 0));
+		Assert.assertEquals(0.5f, snapshot.getFloat(ratioOrd, 0), 0);
+		Assert.assertTrue(snapshot.getFlag(regexOrd, true));
+		Assert.assertFalse(snapshot.isPresent(regexOrd));
+		Assert.assertEquals(Integer.valueOf(3), snapshot.get(count));
+		// the snapshot holds a copy of the parsed array made when the snapshot was created
+		Assert.assertArrayEquals(new String[] { "x", "5" }, (String[])outcome.getResult(idsOrd).getParseResult());
+		Assert.assertArrayEquals(new String[] { "x", "5" }, snapshot.get(ids));
+		((String[])outcome.getResult(idsOrd).getParseResult())[1] = "y";
+		Assert.assertArrayEquals(new String[] { "x", "5" }, snapshot.get(ids));
+		// parse errors are not present
+		Assert.assertFalse(snapshot.isPresent(unitOrd));
+		Assert.assertNull(snapshot.get(unit));
+		Assert.assertEquals(0b10L, snapshot.getFlagMask(flagsOrd));
+		Assert.assertArrayEquals(new long[] { 0b10L }, snapshot.getFlagBits(flagsOrd));
+
+		// the snapshot does not change when the outcome is reused
+		paramSet.parse(new String[] { "-count", "7", "-regex" }, 0, null, outcome);
+		Assert.assertEquals(3, snapshot.getInt(countOrd, 0));
+		Assert.assertEquals(7, ConfigSnapshot.of(outcome).getInt(countOrd, 0));
+
+		try {
+			snapshot.getFloat(countOrd, 0);
+			Assert.fail("expected reading an integer parameter as a float to fail");
+		} catch(IllegalStateException e) {
+			// expected
+		}
+	}
+
+
+	@Test
+	public void publishSnapshots() throws InterruptedException {
+		// two parameters which are always written together, readers should never see a mix of two snapshots
+		ParameterData<String, Integer> lo = ParameterBuilder.newInteger().setNameAndAliases("-lo").setIntSetter((v) -> { }).build();
+		ParameterData<String, Integer> hi = ParameterBuilder.newInteger().setNameAndAliases("-hi").setIntSetter((v) -> { }).build();
+		ParameterSet<String> paramSet = new ParameterSet<>(Arrays.asList(lo, hi));
+		int loOrd = paramSet.getOrdinal(lo);
+		int hiOrd = paramSet.getOrdinal(hi);
+		ConfigSnapshot.Publisher<String> publisher = new ConfigSnapshot.Publisher<>(ConfigSnapshot.empty(paramSet));
+		Assert.assertFalse(publisher.get().isPresent(loOrd));
+
+		AtomicReference<String> error = new AtomicReference<>();
+		CountDownLatch done = new CountDownLatch(1);
+		Thread reader = new Thread(() -> {
+			while(done.getCount() > 0) {
+				ConfigSnapshot<String> snapshot = publisher.get();
+				if(snapshot.getInt(hiOrd, 0) != snapshot.getInt(loOrd, 0) * 2) {
+					error.set(snapshot.toString());
+				}
+			}
+		});
+		reader.start();
+		ParseOutcome<String> outcome = paramSet.newOutcome();
+		for(int i = 0; i < 2000; i++) {
+			paramSet.parse(new String[] { "-lo", Integer.toString(i), "-hi", Integer.toString(i * 2) }, 0, null, outcome);
+			publisher.publish(outcome);
+		}
+		done.countDown();
+		reader.join();
+		Assert.assertNull(error.get());
+		Assert.assertEquals(1999, publisher.get().getInt(loOrd, 0));
+
+		ConfigSnapshot<String> current = publisher.get();
+		ConfigSnapshot<String> empty = ConfigSnapshot.empty(paramSet);
+		Assert.assertFalse(publisher.compareAndSet(empty, empty));
+		Assert.assertTrue(publisher.compareAndSet(current, empty));
+		Assert.assertSame(current, publisher.update((prev) -> prev == empty ? current : prev));
+		Assert.assertSame(current, publisher.get());
+	}
+
+}
@@ -0,0 +1,96 @@
+package twg2.cli.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ConfigWatcher;
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class ConfigWatcherTest {
+
+	@Test
+	public void reloadChangedValues() throws IOException, InterruptedException {
+		List<String> calls = new ArrayList<>();
+		ParameterData<String, Integer> count = ParameterBuilder.newInteger().setNameAndAliases("-count")
+				.setValidator((v) -> v >= 0).setIntSetter((v) -> calls.add("count=" + v)).build();
+		ParameterData<String, String> name = ParameterBuilder.newText().setNameAndAliases("-name").setSetter((v) -> calls.add("name=" + v)).build();
+		ParameterData<String, String[]> tags = ParameterBuilder.newTextArray().setNameAndAliases("-tags").setSetter((v) -> calls.add("tags=" + Arrays.toString(v))).build();
+		ParameterSet<String> paramSet = new ParameterSet<>(Arrays.asList(count, name, tags));
+
+		Path dir = Files.createTempDirectory("jcli-config");
+		Path base = dir.resolve("base.args");
+		Path local = dir.resolve("local.args");
+		write(base, "-count 3 -name a\n-tags x y");
+		write(local, "-name b");
+		try(ConfigWatcher watcher = new ConfigWatcher(paramSet, Arrays.asList(base, local), 20, null)) {
+			ConfigWatcher.Reload reload = watcher.reload();
+			Assert.assertEquals(3, reload.getChangedCount());
+			Assert.assertEquals(Arrays.asList("count=3", "name=b", "tags=[x, y]"), calls);
+
+			// only the values which changed are applied, including array values
+			calls.clear();
+			write(base, "-count 03 -name c -tags x z");
+			reload = watcher.reload();
+			Assert.assertEquals(Arrays.asList(tags), reload.getChangedParameters());
+			Assert.assertEquals(Arrays.asList("tags=[x, z]"), calls);
+
+			// invalid edits are rejected without calling any setters
+			calls.clear();
+			write(local, "-name d -count -1");
+			reload = watcher.reload();
+			Assert.assertTrue(reload.isRejected());
+			Assert.assertEquals(1, reload.getErrors().size());
+			Assert.assertTrue(reload.getErrors().get(0), reload.getErrors().get(0).startsWith(local.toAbsolutePath().toString()));
+			Assert.assertEquals(Arrays.asList(), calls);
+
+			// the watch thread debounces file events and reports each reload
+			BlockingQueue<ConfigWatcher.Reload> reloads = new LinkedBlockingQueue<>();
+			try(ConfigWatcher fileWatcher = new ConfigWatcher(paramSet, Arrays.asList(base, local), 50, reloads::add)) {
+				write(local, "-name b");
+				Assert.assertFalse(fileWatcher.reload().isRejected());
+				calls.clear();
+				fileWatcher.start();
+				write(local, "-name e");
+				write(local, "-name f");
+				reload = reloads.poll(20, TimeUnit.SECONDS);
+				Assert.assertTrue("expected a reload after the file changed", reload != null);
+				Assert.assertFalse(reload.isRejected());
+				Assert.assertTrue(reload.getLatencyNanos() >= reload.getReloadNanos());
+				// a second reload might see the last write if it arrived after the debounce time
+				ConfigWatcher.Reload next;
+				while((next = reloads.poll(500, TimeUnit.MILLISECONDS)) != null) {
+					reload = next;
+				}
+				Assert.assertEquals(Arrays.asList(name), reload.getChangedParameters());
+				Assert.assertEquals("name=f", calls.get(calls.size() - 1));
+			}
+		} finally {
+			Files.deleteIfExists(base);
+			Files.deleteIfExists(local);
+			Files.deleteIfExists(dir);
+		}
+	}
+
+
+	private static void write(Path file, String content) throws IOException {
+		Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
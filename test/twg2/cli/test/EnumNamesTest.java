@@ -0,0 +1,120 @@
+package twg2.cli.test;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.EnumNames;
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseOutcome;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class EnumNamesTest {
+
+	@Test
+	public void lookup() {
+		EnumNames<TimeUnit> names = EnumNames.of(TimeUnit.class);
+		Assert.assertSame(names, EnumNames.of(TimeUnit.class));
+		Assert.assertSame(TimeUnit.class, names.getType());
+		Assert.assertEquals(TimeUnit.values().length, names.size());
+		Assert.assertEquals(Arrays.asList(TimeUnit.values()), Arrays.asList(names.asMap().values().toArray()));
+
+		CharBuffer buf = CharBuffer.wrap("-unit=SECONDS,");
+		Assert.assertEquals(TimeUnit.SECONDS.ordinal(), names.indexOf(buf, 6, 13));
+		Assert.assertEquals(EnumNames.NOT_FOUND, names.indexOf("seconds"));
+		Assert.assertEquals(EnumNames.NOT_FOUND, names.indexOf("SEC"));
+
+		EnumNames<TimeUnit> loose = names.withMatching(true, true);
+		Assert.assertSame(loose, loose.withMatching(true, true));
+		Assert.assertSame(TimeUnit.SECONDS, loose.get(buf, 6, 13));
+		Assert.assertEquals(TimeUnit.SECONDS.ordinal(), loose.indexOf("seconds"));
+		Assert.assertEquals(TimeUnit.HOURS.ordinal(), loose.indexOf("h"));
+		Assert.assertEquals(TimeUnit.MILLISECONDS.ordinal(), loose.indexOf("Mil"));
+		Assert.assertEquals(EnumNames.AMBIGUOUS, loose.indexOf("m"));
+		Assert.assertEquals(EnumNames.NOT_FOUND, loose.indexOf("weeks"));
+		Assert.assertEquals(EnumNames.NOT_FOUND, names.withMatching(false, true).indexOf("sec"));
+		Assert.assertEquals(EnumNames.NOT_FOUND, names.withMatching(true, false).indexOf("sec"));
+
+		// names which only differ by case are ambiguous when ignoring case unless one is an exact match
+		Map<String, Integer> map = new LinkedHashMap<>();
+		map.put("on", 1);
+		map.put("ON", 2);
+		map.put("off", 0);
+		EnumNames<Integer> mixed = EnumNames.from(map, Integer.class).withMatching(true, false);
+		Assert.assertEquals(1, mixed.indexOf("ON"));
+		Assert.assertEquals(EnumNames.AMBIGUOUS, mixed.indexOf("On"));
+		Assert.assertEquals(Integer.valueOf(0), mixed.get("OFF", 0, 3));
+	}
+
+
+	@Test
+	public void enumParameters() {
+		TimeUnit[] units = new TimeUnit[1];
+		TimeUnit[][] unitArrays = new TimeUnit[1][];
+		ParameterData<String, TimeUnit> unitParam = ParameterBuilder.newEnum(TimeUnit.class)
+				.setNameAndAliases("-unit").setEnumMatching(true, true).setSetter((v) -> units[0] = v).build();
+		ParameterData<String, TimeUnit[]> unitsParam = ParameterBuilder.newEnumArray(TimeUnit[].class)
+				.setNameAndAliases("-units").setSetter((v) -> unitArrays[0] = v).build();
+		ParameterSet<String> paramSet = new ParameterSet<>(Arrays.asList(unitParam, unitsParam));
+		ParseOutcome<String> outcome = paramSet.newOutcome();
+
+		paramSet.parse(new String[] { "-unit", "min", "-units", "DAYS", "SECONDS" }, 0, null, outcome);
+		Assert.assertEquals(TimeUnit.MINUTES, units[0]);
+		Assert.assertEquals(TimeUnit[].class, unitArrays[0].getClass());
+		Assert.assertArrayEquals(new TimeUnit[] { TimeUnit.DAYS, TimeUnit.SECONDS }, unitArrays[0]);
+		Assert.assertEquals(EnumSet.of(TimeUnit.DAYS, TimeUnit.SECONDS), outcome.getResult(paramSet.getOrdinal(unitsParam)).getEnumSet(TimeUnit.class));
+
+		outcome.reset();
+		paramSet.parse(new String[] { "-unit", "m" }, 0, null, outcome);
+		String error = outcome.getResult(paramSet.getOrdinal(unitParam)).getParseError().getMessage();
+		Assert.assertTrue(error, error.contains("ambiguous argument 'm'"));
+
+		String[][] texts = new String[1][];
+		ParameterData<String, String[]> textsParam = ParameterBuilder.newTextArray().setNameAndAliases("-texts").setSetter((v) -> texts[0] = v).build();
+		Assert.assertTrue(textsParam.isParameterArrayType());
+		new ParameterSet<>(Arrays.asList(textsParam)).parse(new String[] { "-texts", "a", "b" }, 0, null, null);
+		Assert.assertArrayEquals(new String[] { "a", "b" }, texts[0]);
+	}
+
+
+	@Test
+	public void enumSetParameters() {
+		AtomicReference<EnumSet<TimeUnit>> dst = new AtomicReference<>();
+		int[] setterCalls = new int[1];
+		ParameterData<String, EnumSet<TimeUnit>> unitsParam = ParameterBuilder.newEnumSet(TimeUnit.class)
+				.setNameAndAliases("-units", "-u").setEnumMatching(true, false)
+				.setSetter((v) -> { dst.set(v); setterCalls[0]++; })
+				.setValidator((v) -> !v.contains(TimeUnit.NANOSECONDS))
+				.build();
+		ParameterSet<String> paramSet = ParameterSet.newParameterSet(Arrays.asList(unitsParam), true, "-help");
+		ParseOutcome<String> outcome = paramSet.newOutcome();
+		int ordinal = paramSet.getOrdinal(unitsParam);
+
+		paramSet.parse(new String[] { "-units", "days,,hours", "-u", "SECONDS", "-units", "DAYS,minutes" }, 0, null, outcome);
+		Assert.assertEquals(EnumSet.of(TimeUnit.DAYS, TimeUnit.HOURS, TimeUnit.SECONDS, TimeUnit.MINUTES), dst.get());
+		Assert.assertEquals(1, setterCalls[0]);
+		Assert.assertSame(dst.get(), outcome.getResult(ordinal).getEnumSet(TimeUnit.class));
+
+		paramSet.parse(new String[] { "-u", "seconds,nanoseconds" }, 0, null, outcome);
+		Assert.assertEquals(1, setterCalls[0]);
+		Assert.assertTrue(outcome.getResult(ordinal).isError());
+
+		paramSet.parse(new String[] { "-u", "seconds,weeks" }, 0, null, outcome);
+		String error = outcome.getResult(ordinal).getParseError().getMessage();
+		Assert.assertTrue(error, error.contains("'weeks'"));
+		Assert.assertEquals(1, setterCalls[0]);
+	}
+
+}
@@ -0,0 +1,91 @@
+package twg2.cli.test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ArgumentSources;
+import twg2.cli.FlagGroup;
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseOutcome;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class FlagGroupTest {
+
+	@Test
+	public void maskGroup() throws IOException {
+		List<Long> masks = new ArrayList<>();
+		FlagGroup<String> group = ParameterBuilder.newFlagGroup()
+				.addFlag("-verbose", "print more", "-v")
+				.addFlag("-quiet", "print less", "-q")
+				.addFlag("-dryRun", "do not write files")
+				.setMaskSetter(masks::add)
+				.setValidator((bits) -> !(FlagGroup.isSet(bits, 0) && FlagGroup.isSet(bits, 1)))
+				.setValidatorMessageGenerator((bits) -> "-verbose and -quiet cannot be used together")
+				.build();
+		ParameterData<String, Integer> count = ParameterBuilder.newInteger().setNameAndAliases("-count").setIntSetter((v) -> { }).build();
+		ParameterSet<String> paramSet = ParameterSet.newParameterSet(Arrays.asList(group, count), true, "-help");
+		ParseOutcome<String> outcome = paramSet.newOutcome();
+		int ordinal = paramSet.getOrdinal(group);
+
+		// one setter call for all of the group's flags
+		paramSet.parse(new String[] { "-v", "-count", "3", "-dryRun", "true" }, 0, null, outcome);
+		Assert.assertEquals(Arrays.asList(0b101L), masks);
+		Assert.assertArrayEquals(new long[] { 0b101L }, outcome.getResult(ordinal).getFlagBits());
+
+		masks.clear();
+		paramSet.parse(ArgumentSources.of(new String[] { "-dryRun", "-quiet", "-dryRun", "false" }, 0), null, outcome);
+		Assert.assertEquals(Arrays.asList(0b010L), masks);
+
+		masks.clear();
+		paramSet.parse(new String[] { "-verbose", "-q" }, 0, null, outcome);
+		Assert.assertEquals(Arrays.asList(), masks);
+		Assert.assertEquals("-verbose and -quiet cannot be used together", outcome.getResult(ordinal).getParseError().getMessage());
+
+		paramSet.parse(new String[] { "-q", "maybe" }, 0, null, outcome);
+		Assert.assertTrue(outcome.getResult(ordinal).isError());
+
+		StringBuilder help = new StringBuilder();
+		paramSet.parse(new String[] { "-help" }, 0, help, outcome);
+		Assert.assertTrue(help.toString(), help.toString().contains("\t'-verbose [false]', '-v' - print more\n\t'-quiet [false]', '-q' - print less\n\t'-dryRun [false]' - do not write files\n"));
+	}
+
+
+	@Test
+	public void largeGroup() {
+		FlagGroup.Builder<String> builder = ParameterBuilder.newFlagGroup();
+		for(int i = 0; i < 130; i++) {
+			builder.addFlag("-f" + i, "flag " + i);
+		}
+		long[][] dst = new long[1][];
+		FlagGroup<String> group = builder.setSetter((bits) -> dst[0] = bits).build();
+		Assert.assertEquals(130, group.getFlagCount());
+		Assert.assertEquals(129, group.getFlag("-f129"));
+
+		new ParameterSet<>(Arrays.asList(group)).parse(new String[] { "-f1", "-f64", "-f129" }, 0, null, null);
+		Assert.assertArrayEquals(new long[] { 1L << 1, 1L, 1L << 1 }, dst[0]);
+
+		try {
+			builder.setSetter(null).setMaskSetter((mask) -> { }).build();
+			Assert.fail("expected a mask setter to be rejected for more than 64 flags");
+		} catch(IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			ParameterBuilder.newFlagGroup().addFlag("-a", null).addFlag("-b", null, "-a").build();
+			Assert.fail("expected duplicate flag names to be rejected");
+		} catch(IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+}
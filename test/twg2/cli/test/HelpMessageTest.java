@@ -0,0 +1,118 @@
+package twg2.cli.test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.FlagGroup;
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class HelpMessageTest {
+
+	@Test
+	public void generatedHelp() throws IOException {
+		ParameterSet<String> paramSet = newParameterSet();
+		String expected =
+				"\t'-help', '-h' - displays this help message\n" +
+				"\t'-count integer', '-c' (required) - the number of items\n" +
+				"\t'-unit enum', '-u' (one of: [NANOSECONDS, MICROSECONDS, MILLISECONDS, SECONDS, MINUTES, HOURS, DAYS]) - the unit of time\n" +
+				"\t'-names text [text ...]' - the names to print, one per line\n" +
+				"\t'-verbose [false]', '-v' - print more\n" +
+				"\t'-quiet [false]' - print less\n" +
+				"\n";
+		String help = paramSet.getHelpMessage();
+		Assert.assertEquals(expected, help);
+		Assert.assertSame(help, paramSet.getHelpMessage());
+
+		StringBuilder printed = new StringBuilder();
+		paramSet.parse(new String[] { "-h" }, 0, printed);
+		Assert.assertEquals(expected, printed.toString());
+
+		// an explicit help message is printed as is
+		ParameterSet<String> explicitSet = new ParameterSet<>(Arrays.asList(ParameterBuilder.newFlag().setNameAndAliases("-a").setSetter((v) -> { }).build()),
+				true, "-help", "usage: a\n");
+		Assert.assertEquals("usage: a\n", explicitSet.getHelpMessage());
+	}
+
+
+	@Test
+	public void filterAndWrap() throws IOException {
+		ParameterSet<String> paramSet = newParameterSet();
+
+		StringBuilder sb = new StringBuilder();
+		paramSet.writeHelp(sb, "-v", 0);
+		Assert.assertEquals("\t'-verbose [false]', '-v' - print more\n\n", sb.toString());
+
+		// aliases match the prefix too
+		sb.setLength(0);
+		paramSet.writeHelp(sb, "-h", 0);
+		Assert.assertEquals("\t'-help', '-h' - displays this help message\n\n", sb.toString());
+
+		sb.setLength(0);
+		paramSet.writeHelp(sb, "-names", 40);
+		Assert.assertEquals(
+				"\t'-names text [text ...]' - the\n" +
+				"\t\tnames to print, one per\n" +
+				"\t\tline\n" +
+				"\n", sb.toString());
+
+		// wrapping without a prefix only changes whitespace
+		sb.setLength(0);
+		paramSet.writeHelp(sb, null, 50);
+		Assert.assertEquals(paramSet.getHelpMessage().replaceAll("\\s+", " "), sb.toString().replaceAll("\\s+", " "));
+		for(String line : sb.toString().split("\n")) {
+			Assert.assertTrue(line, line.replace("\t", "        ").length() <= 50 || line.indexOf(' ', 17) < 0);
+		}
+	}
+
+
+	@Test
+	public void interactiveHelp() {
+		int[] count = { 0 };
+		ParameterData<String, Integer> countParam = ParameterBuilder.newInteger().setNameAndAliases("-count", "-c").setHelpMessage("the number of items")
+				.setRequestParameterMessage("count: ").setRequired(true).setIntSetter((v) -> count[0] = v).build();
+		ParameterData<String, TimeUnit> unitParam = ParameterBuilder.newEnum(TimeUnit.class).setNameAndAliases("-unit").setHelpMessage("the unit of time")
+				.setRequestParameterMessage("unit: ").setRequired(true).setSetter((v) -> { }).build();
+		ParameterSet<String> paramSet = new ParameterSet<>(Arrays.asList(countParam, unitParam));
+
+		// the help reply is the parameter's help line without the help message's indent, followed by the request message again
+		StringBuilder out = new StringBuilder();
+		paramSet.parseInteractive(new String[0], 0, new BufferedReader(new StringReader("?\n5\n?\nDAYS\n")), out, "?");
+		Assert.assertEquals(
+				"count: " +
+				"'-count integer', '-c' (required) - the number of items\n" +
+				"count: " +
+				"unit: " +
+				"'-unit enum' (one of: [NANOSECONDS, MICROSECONDS, MILLISECONDS, SECONDS, MINUTES, HOURS, DAYS]) (required) - the unit of time\n" +
+				"unit: ", out.toString());
+		Assert.assertEquals(5, count[0]);
+	}
+
+
+	private static ParameterSet<String> newParameterSet() {
+		ParameterData<String, Integer> count = ParameterBuilder.newInteger().setNameAndAliases("-count", "-c")
+				.setHelpMessage("the number of items").setRequired(true).setIntSetter((v) -> { }).build();
+		ParameterData<String, TimeUnit> unit = ParameterBuilder.newEnum(TimeUnit.class).setNameAndAliases("-unit", "-u")
+				.setHelpMessage("the unit of time").setSetter((v) -> { }).build();
+		ParameterData<String, String[]> names = ParameterBuilder.newTextArray().setNameAndAliases("-names")
+				.setHelpMessage("the names to print, one per line").setSetter((v) -> { }).build();
+		FlagGroup<String> flags = ParameterBuilder.newFlagGroup()
+				.addFlag("-verbose", "print more", "-v")
+				.addFlag("-quiet", "print less")
+				.setMaskSetter((mask) -> { })
+				.build();
+		return ParameterSet.newParameterSet(Arrays.asList(count, unit, names, flags), true, "-help", "-h");
+	}
+
+}
@@ -0,0 +1,102 @@
+package twg2.cli.test;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterParser;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParameterTokenizer;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class NameIndexTest {
+
+	@Test
+	public void findOrdinalByRange() {
+		List<ParameterData<String, ?>> params = new ArrayList<>();
+		// "Aa" and "BB" have the same String.hashCode()
+		params.add(ParameterBuilder.newFlag().setNameAndAliases("Aa", "-a").setSetter((v) -> { }).build());
+		params.add(ParameterBuilder.newFlag().setNameAndAliases("BB", "-b", "").setSetter((v) -> { }).build());
+		params.add(ParameterBuilder.newFlag().setNameAndAliases("-count").setSetter((v) -> { }).build());
+		ParameterSet<String> paramSet = new ParameterSet<>(params);
+
+		Assert.assertEquals(0, paramSet.findOrdinal("Aa"));
+		Assert.assertEquals(0, paramSet.findOrdinal("-a"));
+		Assert.assertEquals(1, paramSet.findOrdinal("BB"));
+		Assert.assertEquals(1, paramSet.findOrdinal(""));
+		Assert.assertEquals(2, paramSet.findOrdinal(new StringBuilder("-count")));
+		Assert.assertEquals(-1, paramSet.findOrdinal("-counts"));
+		Assert.assertEquals(-1, paramSet.findOrdinal("-c"));
+		Assert.assertEquals(-1, paramSet.findOrdinal("-b "));
+		Assert.assertEquals(-1, paramSet.findOrdinal(null));
+
+		CharBuffer buf = CharBuffer.wrap("x -count y");
+		Assert.assertEquals(2, paramSet.findOrdinal(buf, 2, 8));
+		Assert.assertEquals(-1, paramSet.findOrdinal(buf, 2, 7));
+
+		ParameterTokenizer tokenizer = new ParameterTokenizer();
+		tokenizer.tokenize("-b 5 -count");
+		Assert.assertEquals(1, paramSet.findOrdinal(tokenizer.getSource(), tokenizer.getStart(0), tokenizer.getEnd(0)));
+		Assert.assertEquals(-1, paramSet.findOrdinal(tokenizer.getSource(), tokenizer.getStart(1), tokenizer.getEnd(1)));
+		Assert.assertEquals(2, paramSet.findOrdinal(tokenizer.getSource(), tokenizer.getStart(2), tokenizer.getEnd(2)));
+	}
+
+
+	@Test
+	public void randomNames() {
+		Random rand = new Random(20261017);
+		for(int round = 0; round < 20; round++) {
+			int count = 1 + rand.nextInt(round < 10 ? 20 : 2000);
+			Set<String> names = new HashSet<>();
+			while(names.size() < count) {
+				names.add(randomName(rand));
+			}
+
+			ParameterParser<Void> parser = new ParameterParser<>();
+			List<String> nameList = new ArrayList<>(names);
+			List<BiConsumer<Supplier<String>, Void>> paramList = new ArrayList<>();
+			for(String name : nameList) {
+				BiConsumer<Supplier<String>, Void> param = (s, d) -> { };
+				parser.addParameter(name, param);
+				paramList.add(param);
+			}
+
+			for(int i = 0; i < nameList.size(); i++) {
+				String name = nameList.get(i);
+				String padded = "  " + name + " ";
+				Assert.assertTrue(name, parser.getParameter(name, 0, name.length()) == paramList.get(i));
+				Assert.assertTrue(name, parser.getParameter(padded, 2, 2 + name.length()) == paramList.get(i));
+			}
+			for(int i = 0; i < 1000; i++) {
+				String name = randomName(rand);
+				if(!names.contains(name)) {
+					Assert.assertNull(name, parser.getParameter(name, 0, name.length()));
+				}
+			}
+		}
+	}
+
+
+	private static String randomName(Random rand) {
+		char[] chars = new char[1 + rand.nextInt(12)];
+		chars[0] = '-';
+		for(int i = 1; i < chars.length; i++) {
+			chars[i] = (char)('a' + rand.nextInt(rand.nextBoolean() ? 3 : 26));
+		}
+		return new String(chars);
+	}
+
+}
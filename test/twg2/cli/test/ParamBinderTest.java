@@ -0,0 +1,147 @@
+package twg2.cli.test;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.Param;
+import twg2.cli.ParamBinder;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class ParamBinderTest {
+
+	public static class BaseOptions {
+		@Param(aliases = "-v", help = "print more")
+		public boolean verbose;
+	}
+
+
+	public static class Options extends BaseOptions {
+		@Param(name = "-loops", aliases = "-l", required = true)
+		public int loops;
+		@Param
+		public TimeUnit timeUnit;
+		@Param
+		public int[] ids;
+		Path searchPath;
+
+		@Param(help = "where to search")
+		public Options setSearchPath(Path searchPath) {
+			this.searchPath = searchPath;
+			return this;
+		}
+	}
+
+
+	/** An immutable, record like, class bound through its constructor
+	 */
+	static final class Job {
+		final String name;
+		final long size;
+		final float ratio;
+
+		Job(@Param(name = "-name", required = true) String name, @Param(name = "-size") long size, @Param(name = "-ratio") float ratio) {
+			this.name = name;
+			this.size = size;
+			this.ratio = ratio;
+		}
+	}
+
+
+	@Test
+	public void bindFieldsAndSetters() {
+		ParamBinder<Options> binder = ParamBinder.of(Options.class);
+		Assert.assertSame(binder, ParamBinder.of(Options.class));
+		Assert.assertFalse(binder.isConstructorBound());
+
+		Options opts = binder.create(new String[] { "-l", "3", "-timeUnit", "MINUTES", "-ids", "1", "2", "-searchPath", "a/b", "-v" }, null);
+		Assert.assertEquals(3, opts.loops);
+		Assert.assertEquals(TimeUnit.MINUTES, opts.timeUnit);
+		Assert.assertArrayEquals(new int[] { 1, 2 }, opts.ids);
+		Assert.assertEquals(Paths.get("a/b"), opts.searchPath);
+		Assert.assertTrue(opts.verbose);
+
+		// parameters which are not in the arguments keep their current value
+		Options prev = new Options();
+		prev.timeUnit = TimeUnit.DAYS;
+		Assert.assertSame(prev, binder.bind(new String[] { "-loops", "7" }, null, prev));
+		Assert.assertEquals(7, prev.loops);
+		Assert.assertEquals(TimeUnit.DAYS, prev.timeUnit);
+		Assert.assertFalse(prev.verbose);
+
+		try {
+			binder.create(new String[] { "-timeUnit", "SECONDS" }, null);
+			Assert.fail("expected a missing required parameter error");
+		} catch(IllegalArgumentException e) {
+			Assert.assertEquals("missing required parameter '-loops'", e.getMessage());
+		}
+		try {
+			binder.create(new String[] { "-loops", "x" }, null);
+			Assert.fail("expected an invalid value error");
+		} catch(IllegalArgumentException e) {
+			// expected
+		}
+
+		StringBuilder help = new StringBuilder();
+		binder.create(new String[] { "-loops", "1", "-help" }, help);
+		Assert.assertTrue(help.toString(), help.toString().contains("'-searchPath path' - where to search"));
+		Assert.assertTrue(help.toString(), help.toString().indexOf("'-verbose") < help.toString().indexOf("'-loops"));
+	}
+
+
+	@Test
+	public void bindConstructor() {
+		ParamBinder<Job> binder = ParamBinder.of(Job.class, MethodHandles.lookup());
+		Assert.assertTrue(binder.isConstructorBound());
+
+		Job job = binder.create(new String[] { "-size", "9000000000", "-name", "nightly", "-ratio", "0.25" }, null);
+		Assert.assertEquals("nightly", job.name);
+		Assert.assertEquals(9000000000L, job.size);
+		Assert.assertEquals(0.25f, job.ratio, 0f);
+
+		job = binder.create(new String[] { "-name", "defaults" }, null);
+		Assert.assertEquals("defaults", job.name);
+		Assert.assertEquals(0L, job.size);
+		Assert.assertEquals(0f, job.ratio, 0f);
+
+		try {
+			binder.bind(new String[] { "-name", "x" }, null, job);
+			Assert.fail("expected constructor bound classes to reject bind()");
+		} catch(IllegalStateException e) {
+			// expected
+		}
+	}
+
+
+	@Test
+	public void invalidClasses() {
+		try {
+			ParamBinder.of(String.class);
+			Assert.fail("expected a class without @Param annotations to be rejected");
+		} catch(IllegalArgumentException e) {
+			Assert.assertTrue(e.getMessage(), e.getMessage().contains("does not contain any @Param"));
+		}
+		// the default lookup cannot access package-private classes
+		try {
+			ParamBinder.of(Hidden.class);
+			Assert.fail("expected an inaccessible class to be rejected");
+		} catch(IllegalArgumentException e) {
+			// expected
+		}
+		Assert.assertEquals(5, ParamBinder.of(Hidden.class, MethodHandles.lookup()).create(new String[] { "-count", "5" }, null).count);
+	}
+
+
+	static class Hidden {
+		@Param
+		int count;
+	}
+
+}
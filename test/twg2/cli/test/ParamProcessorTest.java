@@ -0,0 +1,170 @@
+package twg2.cli.test;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ParamProcessor;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class ParamProcessorTest {
+
+	private static final String SOURCE = String.join("\n",
+		"package gen;",
+		"import twg2.cli.Param;",
+		"public class Job {",
+		"	public static class Options {",
+		"		@Param(name = \"-loops\", aliases = \"-l\", help = \"times to \\\"run\\\"\") int loops;",
+		"		@Param(required = true, help = \"the task name\", requestMessage = \"task? \") String taskName;",
+		"		@Param java.util.concurrent.TimeUnit timeUnit;",
+		"		@Param boolean regex;",
+		"		@Param Float ratio;",
+		"		@Param long size;",
+		"		@Param int[] ids;",
+		"		@Param java.nio.file.Path[] paths;",
+		"		java.time.Duration timeout;",
+		"		@Param(aliases = \"-t\") void setTimeout(java.time.Duration timeout) { this.timeout = timeout; }",
+		"	}",
+		"}");
+
+
+	@Test
+	public void generatedParameterSet() throws Exception {
+		Path dir = Files.createTempDirectory("jcli-params");
+		try {
+			List<Diagnostic<? extends JavaFileObject>> errors = compile(dir, "Job", SOURCE);
+			Assert.assertEquals(Collections.emptyList(), errors);
+
+			try(URLClassLoader loader = new URLClassLoader(new URL[] { dir.toUri().toURL() }, getClass().getClassLoader())) {
+				Class<?> optionsClass = loader.loadClass("gen.Job$Options");
+				Class<?> factory = loader.loadClass("gen.Job_OptionsParameters");
+				Object options = instantiate(optionsClass);
+
+				@SuppressWarnings("unchecked")
+				ParameterSet<String> paramSet = (ParameterSet<String>)factory.getMethod("newParameterSet", optionsClass).invoke(null, options);
+				paramSet.parse(new String[] { "-l", "3", "-taskName", "build", "-timeUnit", "SECONDS", "-regex", "-ratio", "0.5", "-size", "9000000000",
+						"-ids", "4", "5", "-paths", "a", "b/c", "-t", "PT2S" }, 0, null, null);
+
+				Assert.assertEquals(3, field(options, "loops"));
+				Assert.assertEquals("build", field(options, "taskName"));
+				Assert.assertEquals(TimeUnit.SECONDS, field(options, "timeUnit"));
+				Assert.assertEquals(true, field(options, "regex"));
+				Assert.assertEquals(0.5f, field(options, "ratio"));
+				Assert.assertEquals(9000000000L, field(options, "size"));
+				Assert.assertArrayEquals(new int[] { 4, 5 }, (int[])field(options, "ids"));
+				Assert.assertArrayEquals(new Path[] { Paths.get("a"), Paths.get("b/c") }, (Path[])field(options, "paths"));
+				Assert.assertEquals(Duration.ofSeconds(2), field(options, "timeout"));
+				Assert.assertEquals("task? ", paramSet.getParameter(1).getRequestParameterMessage());
+				Assert.assertTrue(paramSet.getParameter(1).isRequired());
+
+				// the precomputed help message matches the message built at runtime
+				@SuppressWarnings("unchecked")
+				List<ParameterData<String, ?>> params = (List<ParameterData<String, ?>>)factory.getMethod("newParameters", optionsClass).invoke(null, instantiate(optionsClass));
+				StringBuilder expected = new StringBuilder();
+				ParameterSet.newParameterSet(params, true, "-help").parse(new String[] { "-help" }, 0, expected, null);
+				StringBuilder actual = new StringBuilder();
+				paramSet.parse(new String[] { "-help" }, 0, actual, null);
+				Assert.assertEquals(expected.toString(), actual.toString());
+				Assert.assertEquals(expected.toString(), factory.getField("HELP_MESSAGE").get(null));
+				Assert.assertTrue(actual.toString().contains("'-timeUnit enum' (one of: [NANOSECONDS, MICROSECONDS, MILLISECONDS, SECONDS, MINUTES, HOURS, DAYS])"));
+			}
+		} finally {
+			deleteAll(dir);
+		}
+	}
+
+
+	@Test
+	public void compileErrors() throws IOException {
+		Path dir = Files.createTempDirectory("jcli-params");
+		try {
+			List<Diagnostic<? extends JavaFileObject>> errors = compile(dir, "Bad", String.join("\n",
+				"package gen;",
+				"import twg2.cli.Param;",
+				"public class Bad {",
+				"	@Param(name = \"-a\") int first;",
+				"	@Param(aliases = \"-a\") int second;",
+				"	@Param Object unsupported;",
+				"	@Param private int hidden;",
+				"}"));
+			List<String> messages = errors.stream().map((d) -> d.getMessage(null)).collect(Collectors.toList());
+			Assert.assertEquals(3, messages.size());
+			Assert.assertTrue(messages.toString(), messages.contains("unsupported @Param type java.lang.Object"));
+			Assert.assertTrue(messages.toString(), messages.contains("@Param field or method cannot be private or static"));
+			Assert.assertTrue(messages.toString(), messages.contains("duplicate parameter name '-a', also used by 'first'"));
+		} finally {
+			deleteAll(dir);
+		}
+	}
+
+
+	private static List<Diagnostic<? extends JavaFileObject>> compile(Path outDir, String className, String source) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///gen/" + className + ".java"), JavaFileObject.Kind.SOURCE) {
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return source;
+			}
+		};
+		JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+				Arrays.asList("-d", outDir.toString(), "-s", outDir.toString(), "-classpath", System.getProperty("java.class.path"), "-implicit:class"),
+				null, Collections.singletonList(file));
+		task.setProcessors(Collections.singletonList(new ParamProcessor()));
+		task.call();
+		return diagnostics.getDiagnostics().stream().filter((d) -> d.getKind() == Diagnostic.Kind.ERROR).collect(Collectors.toList());
+	}
+
+
+	private static Object instantiate(Class<?> cls) throws ReflectiveOperationException {
+		Constructor<?> ctor = cls.getDeclaredConstructor();
+		ctor.setAccessible(true);
+		return ctor.newInstance();
+	}
+
+
+	private static Object field(Object obj, String name) throws ReflectiveOperationException {
+		Field field = obj.getClass().getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(obj);
+	}
+
+
+	private static void deleteAll(Path dir) throws IOException {
+		try(Stream<Path> paths = Files.walk(dir)) {
+			for(Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+				Files.delete(path);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,145 @@
+package twg2.cli.test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterCodecs;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterParserResult;
+import twg2.cli.ParameterType;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class ParameterCodecTest {
+
+	@Test
+	public void parseLongMatchesJdk() {
+		String[] inputs = { "0", "-0", "+7", "123456789", "-9223372036854775808", "9223372036854775807" };
+		for(String input : inputs) {
+			Assert.assertEquals(input, Long.parseLong(input), ParameterCodecs.parseLong(input, 0, input.length()));
+		}
+		Assert.assertEquals(42, ParameterCodecs.parseLong("x=42;", 2, 4));
+
+		String[] invalid = { "", "-", "+", "1a", "9223372036854775808", "-9223372036854775809", " 1" };
+		for(String input : invalid) {
+			try {
+				ParameterCodecs.parseLong(input, 0, input.length());
+				Assert.fail("expected '" + input + "' to fail");
+			} catch(NumberFormatException nfe) {
+				// expected
+			}
+		}
+	}
+
+
+	@Test
+	public void parseDoubleMatchesJdk() {
+		String[] inputs = { "0", "-0.0", "1.5", "3.14159", "1e10", "-2.5E-3", "123456789012345678901234567890", "4.9e-324",
+				"1.7976931348623157e308", "0.1", ".5", "5.", "NaN", "-Infinity", "0x1p3", "2.5d", "1f" };
+		for(String input : inputs) {
+			Assert.assertEquals(input, Double.parseDouble(input), ParameterCodecs.parseDouble(input, 0, input.length()), 0.0);
+		}
+
+		Random rand = new Random(20261017);
+		for(int i = 0; i < 20000; i++) {
+			String input = rand.nextBoolean() ? Double.toString(rand.nextDouble() * Math.pow(10, rand.nextInt(40) - 20)) :
+					(rand.nextInt(2000000) - 1000000) + "." + rand.nextInt(100000) + (rand.nextBoolean() ? "e" + (rand.nextInt(50) - 25) : "");
+			Assert.assertEquals(input, Double.doubleToLongBits(Double.parseDouble(input)),
+					Double.doubleToLongBits(ParameterCodecs.parseDouble(input, 0, input.length())));
+		}
+	}
+
+
+	@Test
+	public void parseByteSize() {
+		Assert.assertEquals(512, parseBytes("512"));
+		Assert.assertEquals(512, parseBytes("512B"));
+		Assert.assertEquals(64 * 1024, parseBytes("64k"));
+		Assert.assertEquals(64 * 1024, parseBytes("64KiB"));
+		Assert.assertEquals(64 * 1000, parseBytes("64KB"));
+		Assert.assertEquals(3L * 1024 * 1024 * 1024 / 2, parseBytes("1.5 GiB"));
+		Assert.assertEquals(1500000000L, parseBytes("1.5gb"));
+		Assert.assertEquals(1, parseBytes("1.9"));
+
+		String[] invalid = { "", "KB", "12XB", "1.5 KiBs", "16E", "99999999999999999999" };
+		for(String input : invalid) {
+			try {
+				parseBytes(input);
+				Assert.fail("expected '" + input + "' to fail");
+			} catch(IllegalArgumentException iae) {
+				// expected
+			}
+		}
+	}
+
+
+	@Test
+	public void parseDuration() {
+		Assert.assertEquals(Duration.ofMinutes(90), parseDuration("1h30m"));
+		Assert.assertEquals(Duration.ofMillis(250), parseDuration("250ms"));
+		Assert.assertEquals(Duration.ofNanos(1500), parseDuration("1us500ns"));
+		Assert.assertEquals(Duration.ofDays(2), parseDuration("2d"));
+		Assert.assertEquals(Duration.ofSeconds(45), parseDuration("PT45S"));
+
+		String[] invalid = { "", "10", "5x", "h" };
+		for(String input : invalid) {
+			try {
+				parseDuration(input);
+				Assert.fail("expected '" + input + "' to fail");
+			} catch(IllegalArgumentException iae) {
+				// expected
+			}
+		}
+	}
+
+
+	@Test
+	public void customParameters() {
+		AtomicReference<Object> dst = new AtomicReference<>();
+		ParameterData<String, Long> sizeParam = ParameterBuilder.newByteSize()
+				.setNameAndAliases("-size")
+				.setSetter(dst::set)
+				.setValidator((v) -> v > 0)
+				.build();
+
+		Assert.assertEquals(ParameterType.CUSTOM, sizeParam.getParameterType());
+		Assert.assertEquals(ParameterCodecs.BYTE_SIZE, sizeParam.getCodec());
+
+		ParameterParserResult res = sizeParam.parse(new String[] { "-size", "2MiB" });
+		Assert.assertFalse(res.isError());
+		Assert.assertEquals(2L * 1024 * 1024, res.getParseResult());
+		Assert.assertEquals(2L * 1024 * 1024, dst.get());
+
+		res = sizeParam.parse(new String[] { "-size", "2 furlongs" });
+		Assert.assertTrue(res.isError());
+		Assert.assertTrue(res.getParseError().getMessage(), res.getParseError().getMessage().contains("bytes"));
+		Assert.assertTrue(sizeParam.parse(new String[] { "-size", "0" }).isError());
+
+		ParameterData<String, URI[]> urisParam = ParameterBuilder.newCodecArray(ParameterCodecs.URI)
+				.setNameAndAliases("-uris")
+				.setSetter(dst::set)
+				.build();
+		res = urisParam.parse(new String[] { "-uris", "http://a.example/", "file:///tmp/b" });
+		Assert.assertArrayEquals(new URI[] { URI.create("http://a.example/"), URI.create("file:///tmp/b") }, (URI[])res.getParseResult());
+		Assert.assertTrue(dst.get() instanceof URI[]);
+	}
+
+
+	private static long parseBytes(String str) {
+		return ParameterCodecs.parseByteSize(str, 0, str.length());
+	}
+
+
+	private static Duration parseDuration(String str) {
+		return ParameterCodecs.parseDuration(str, 0, str.length());
+	}
+
+}
@@ -0,0 +1,86 @@
+package twg2.cli.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+
+/** Parses with a single shared {@link ParameterSet} from many threads and checks that
+ * each thread's help output and parsed values are never mixed with another thread's
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class ParameterSetConcurrencyTest {
+	private static final int THREADS = 8;
+	private static final int ITERATIONS = 5000;
+
+	/** each thread's parsed values, the setters of a shared parameter set must be thread safe themselves */
+	private static final ThreadLocal<long[]> parsed = ThreadLocal.withInitial(() -> new long[2]);
+
+
+	@Test
+	public void sharedParameterSet() throws Exception {
+		ParameterData<String, Integer> idParam = ParameterBuilder.newInteger()
+				.setNameAndAliases("-id")
+				.setSetter((v) -> parsed.get()[0] = v)
+				.setHelpMessage("the request ID")
+				.build();
+		ParameterData<String, String> nameParam = ParameterBuilder.newText()
+				.setNameAndAliases("-name")
+				.setSetter((v) -> parsed.get()[1] = Long.parseLong(v.substring(1)))
+				.setHelpMessage("the request name")
+				.build();
+
+		ParameterSet<String> paramSet = ParameterSet.newParameterSet(Arrays.asList(idParam, nameParam), true, "-help");
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<String>> results = new ArrayList<>();
+		for(int t = 0; t < THREADS; t++) {
+			int threadIdx = t;
+			results.add(executor.submit(() -> {
+				start.await();
+				for(int i = 0; i < ITERATIONS; i++) {
+					int id = threadIdx * ITERATIONS + i;
+					boolean help = (id % 3) == 0;
+					StringBuilder out = new StringBuilder();
+					String[] args = help ? new String[] { "-id", Integer.toString(id), "-help", "-name", "n" + id } :
+							new String[] { "-id", Integer.toString(id), "-name", "n" + id };
+
+					paramSet.parse(args, 0, out);
+
+					long[] vals = parsed.get();
+					if(vals[0] != id || vals[1] != id) {
+						return "thread " + threadIdx + " parsed " + Arrays.toString(vals) + ", expected " + id;
+					}
+					if(help != (out.length() > 0) || (help && out.indexOf("'-help'") < 0 || out.indexOf("'-help'") != out.lastIndexOf("'-help'"))) {
+						return "thread " + threadIdx + " input " + Arrays.toString(args) + " printed help '" + out + "'";
+					}
+				}
+				return null;
+			}));
+		}
+
+		start.countDown();
+		try {
+			for(Future<String> res : results) {
+				String error = res.get(60, TimeUnit.SECONDS);
+				Assert.assertTrue(error, error == null);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
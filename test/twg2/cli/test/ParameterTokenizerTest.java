@@ -0,0 +1,179 @@
+package twg2.cli.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ParameterParser;
+import twg2.cli.ParameterTokenizer;
+import twg2.text.stringUtils.StringReplace;
+import twg2.text.stringUtils.StringTrim;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class ParameterTokenizerTest {
+	private static final char[] fuzzChars = { 'a', 'b', ' ', ' ', '\t', '"', '"', '\'', '\\' };
+
+
+	@Test
+	public void tokenizeSpans() {
+		ParameterTokenizer tokenizer = new ParameterTokenizer();
+		String src = "  -name \"a \\\"b\\\"\" plain";
+		Assert.assertEquals(3, tokenizer.tokenize(src));
+
+		Assert.assertEquals("-name", tokenizer.getToken(0));
+		Assert.assertFalse(tokenizer.isEscaped(0));
+		Assert.assertEquals(2, tokenizer.getStart(0));
+		Assert.assertEquals(7, tokenizer.getEnd(0));
+
+		Assert.assertEquals("a \"b\"", tokenizer.getToken(1));
+		Assert.assertTrue(tokenizer.isEscaped(1));
+
+		Assert.assertEquals("plain", tokenizer.getToken(2));
+		Assert.assertEquals("plain", tokenizer.appendToken(2, new StringBuilder()).toString());
+		Assert.assertFalse(tokenizer.isEscaped(2));
+
+		// reuse the same tokenizer
+		Assert.assertEquals(0, tokenizer.tokenize("   "));
+		Assert.assertEquals(1, tokenizer.tokenize("x".toCharArray(), 0, 1));
+		Assert.assertEquals("x", tokenizer.getToken(0));
+	}
+
+
+	/** Compare the tokenizer against the original {@code parseParameters()} implementation
+	 */
+	@Test
+	public void differentialFixtures() {
+		List<String> inputs = Arrays.asList(
+				"1 w 3 \"arg 4\" \"or \\\' quote\"",
+				"\"a b\" c\"",
+				"\"vla\", \"wa\"",
+				" abc\"de\"",
+				"\"alpha beta\"",
+				"\"a=\\\"A\\\"\"",
+				"\"\"",
+				"a  b",
+				"\"a\"\"b\"",
+				"\"a\"x\"b\" c",
+				"\"unclosed quote",
+				"ends with escape\\\"",
+				"\"quoted\\\"\"",
+				"-name \"args test 1\" -searchPath \"E:/stuff/project\" -loops 3 -regex -recentPaths \"Java\\projects\\IoUtility\" E:\\stuff\\example",
+				"\"quoted param one\" second_param third forth's fifth\"with quote\" \"next quote\"with_extra",
+				"'quoted parameter one' second_param third forth\"s fifth'with quote' 'next quote'with_extra"
+		);
+		for(String input : inputs) {
+			assertSameTokens(input, '"', true, '\\');
+			assertSameTokens(input, '\'', true, '\\');
+			assertSameTokens(input, '"', false, '\\');
+		}
+	}
+
+
+	@Test
+	public void differentialRandom() {
+		Random rand = new Random(20261017);
+		StringBuilder sb = new StringBuilder();
+		for(int n = 0; n < 20000; n++) {
+			sb.setLength(0);
+			int len = 1 + rand.nextInt(24);
+			for(int i = 0; i < len; i++) {
+				sb.append(fuzzChars[rand.nextInt(fuzzChars.length)]);
+			}
+			String input = sb.toString();
+			if(input.trim().isEmpty()) {
+				continue;
+			}
+			assertSameTokens(input, '"', true, '\\');
+			assertSameTokens(input, '\'', true, '\\');
+			assertSameTokens(input, '"', false, '\\');
+		}
+	}
+
+
+	private static void assertSameTokens(String input, char quote, boolean parseEscapeChars, char escapeChar) {
+		List<String> expect = legacyParseParameters(input, quote, parseEscapeChars, escapeChar, new ArrayList<>());
+		String msg = "input: [" + input + "] quote: " + quote + " escapes: " + parseEscapeChars;
+
+		Assert.assertEquals(msg, expect, ParameterParser.parseParameters(input, quote, parseEscapeChars, escapeChar, new ArrayList<>()));
+
+		// char[] and CharSequence sub-ranges
+		ParameterTokenizer tokenizer = new ParameterTokenizer(quote, parseEscapeChars, escapeChar);
+		char[] chars = ("##" + input + "#").toCharArray();
+		tokenizer.tokenize(chars, 2, input.length());
+		Assert.assertEquals(msg, expect, tokenizer.toList(new ArrayList<>()));
+
+		tokenizer.tokenize(new StringBuilder("#").append(input), 1, input.length());
+		List<String> appended = new ArrayList<>();
+		for(int i = 0, size = tokenizer.size(); i < size; i++) {
+			appended.add(tokenizer.appendToken(i, new StringBuilder()).toString());
+		}
+		Assert.assertEquals(msg, expect, appended);
+	}
+
+
+	/** The original {@link ParameterParser#parseParameters(String, char, boolean, char, List)} implementation
+	 */
+	private static final List<String> legacyParseParameters(String param, final char quote,
+			final boolean parseEscapeChars, final char escapeChar, List<String> dst) {
+		param = param.trim();
+		boolean lookingForQuote = false;
+		boolean lookingForWhitespace = false;
+		boolean finishedQuotes = false;
+		int subsequenceStartIndex = -1;
+		if(param.charAt(0) == quote) {
+			lookingForQuote = true;
+			subsequenceStartIndex = 0;
+		}
+		else {
+			lookingForWhitespace = true;
+			subsequenceStartIndex = 0;
+		}
+
+		for(int i = 0, size = param.length(); i < size; i++) {
+			char c = param.charAt(i);
+			if(i != 0 && lookingForQuote && c == quote && (!parseEscapeChars || param.charAt(i - 1) != escapeChar)) {
+				lookingForQuote = false;
+				finishedQuotes = true;
+				continue;
+			}
+			if(!lookingForQuote && c == quote) {
+				lookingForQuote = true;
+				if(lookingForWhitespace) {
+					lookingForWhitespace = false;
+				}
+				else {
+					subsequenceStartIndex = i;
+				}
+			}
+			if(!lookingForQuote && lookingForWhitespace && Character.isWhitespace(c)) {
+				String paramStr = param.substring(subsequenceStartIndex, i);
+				dst.add(parseEscapeChars ? StringReplace.replace(paramStr, "\\\"", "\"") : paramStr);
+				lookingForWhitespace = false;
+				subsequenceStartIndex = -1;
+			}
+			if(!lookingForQuote && Character.isWhitespace(c)) {
+				lookingForWhitespace = true;
+				if(finishedQuotes) {
+					finishedQuotes = false;
+					String paramStr = StringTrim.trimQuotes(param.substring(subsequenceStartIndex, i));
+					dst.add(parseEscapeChars ? StringReplace.replace(paramStr, "\\\"", "\"") : paramStr);
+				}
+				subsequenceStartIndex = i+1;
+			}
+		}
+
+		if(subsequenceStartIndex != -1) {
+			String paramStr = StringTrim.trimQuotes(param.substring(subsequenceStartIndex, param.length()));
+			dst.add(parseEscapeChars ? StringReplace.replace(paramStr, "\\\"", "\"") : paramStr);
+		}
+		return dst;
+	}
+
+}
@@ -0,0 +1,98 @@
+package twg2.cli.test;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterParserException;
+import twg2.cli.ParameterParserExceptionType;
+import twg2.cli.ParameterParserResult;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseOutcome;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class ParseErrorTest {
+
+	@Test
+	public void errorCodes() {
+		ParameterData<String, Integer[]> nums = ParameterBuilder.newIntegerArray().setNameAndAliases("-n").build();
+		ParameterData<String, Integer> count = ParameterBuilder.newInteger().setNameAndAliases("-i").setIntValidator((v) -> v >= 0).build();
+		ParameterData<String, String> text = ParameterBuilder.newText().setNameAndAliases("-t").setSetter((v) -> { }).build();
+		ParameterSet<String> paramSet = new ParameterSet<>(Arrays.asList(nums, count, text));
+		int numsOrd = paramSet.getOrdinal(nums);
+		int countOrd = paramSet.getOrdinal(count);
+		int textOrd = paramSet.getOrdinal(text);
+
+		ParseOutcome<String> outcome = paramSet.parse(new String[] { "-t", "a", "-n", "1", "2", "x", "-i", "-5" }, 0, null, null);
+		Assert.assertEquals(2, outcome.getErrorCount());
+		Assert.assertEquals(null, outcome.getErrorType(textOrd));
+		Assert.assertEquals(-1, outcome.getErrorInputIndex(textOrd));
+		Assert.assertEquals(ParameterParserExceptionType.INPUT_PARSING_EXCEPTION, outcome.getErrorType(numsOrd));
+		Assert.assertEquals(5, outcome.getErrorInputIndex(numsOrd));
+		Assert.assertEquals(ParameterParserExceptionType.INVALID_PARSED_INPUT, outcome.getErrorType(countOrd));
+		Assert.assertEquals(7, outcome.getErrorInputIndex(countOrd));
+
+		// errors which are not caused by a single input point at the parameter's name
+		ParameterData<String, String> failing = ParameterBuilder.newText().setNameAndAliases("-f").setSetter((v) -> { throw new IllegalStateException(v); }).build();
+		paramSet = new ParameterSet<>(Arrays.asList(text, failing));
+		outcome = paramSet.parse(new String[] { "-t", "a", "-f", "b" }, 0, null, null);
+		Assert.assertEquals(1, outcome.getErrorCount());
+		Assert.assertEquals(ParameterParserExceptionType.SETTER_EXCEPTION, outcome.getErrorType(paramSet.getOrdinal(failing)));
+		Assert.assertEquals(2, outcome.getErrorInputIndex(paramSet.getOrdinal(failing)));
+	}
+
+
+	@Test
+	public void lazyMessages() {
+		ParameterData<String, Integer[]> nums = ParameterBuilder.newIntegerArray().setNameAndAliases("-n").build();
+		ParameterParserResult res = nums.parse(new String[] { "-n", "3", "4x" });
+		ParameterParserException err = res.getParseError();
+		Assert.assertEquals(ParameterParserExceptionType.INPUT_PARSING_EXCEPTION, err.getParseErrorType());
+		Assert.assertEquals(2, err.getInputOffset());
+		String msg = err.getMessage();
+		Assert.assertTrue(msg, msg.contains("'4x'"));
+		Assert.assertSame(msg, err.getMessage());
+		Assert.assertTrue(err.getCause().getCause() instanceof NumberFormatException);
+		Assert.assertSame(err.getCause(), err.getCause());
+
+		// errors created by callers keep their message and have no input offset
+		ParameterParserException given = new ParameterParserException(ParameterParserExceptionType.SETTER_EXCEPTION, "msg", null);
+		Assert.assertEquals("msg", given.getMessage());
+		Assert.assertEquals(null, given.getCause());
+		Assert.assertEquals(-1, given.getInputOffset());
+	}
+
+
+	@Test
+	public void integerParsing() {
+		Integer[] value = { null };
+		ParameterData<String, Integer> param = ParameterBuilder.newInteger().setNameAndAliases("-i").setSetter((v) -> value[0] = v).build();
+		String[] inputs = { "0", "-0", "+7", "0012", "2147483647", "-2147483648", "\u0661\u0662",
+				"", "+", "-", "2147483648", "-2147483649", "1.5", " 1", "1_000", "99999999999" };
+		for(String input : inputs) {
+			Integer expect;
+			try {
+				expect = Integer.parseInt(input);
+			} catch(NumberFormatException e) {
+				expect = null;
+			}
+			ParameterParserResult res = param.parse(new String[] { "-i", input });
+			if(expect != null) {
+				Assert.assertFalse(input, res.isError());
+				Assert.assertEquals(input, expect, value[0]);
+			}
+			else {
+				Assert.assertTrue(input, res.isError());
+				Assert.assertEquals(input, ParameterParserExceptionType.INPUT_PARSING_EXCEPTION, res.getParseError().getParseErrorType());
+				Assert.assertEquals(1, res.getParseError().getInputOffset());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,89 @@
+package twg2.cli.test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.LatencyHistogram;
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterParserExceptionType;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseListeners;
+import twg2.cli.ParseMetrics;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class ParseMetricsTest {
+
+	@Test
+	public void parseMetrics() {
+		List<Integer> counts = new ArrayList<>();
+		ParameterData<String, Integer> count = ParameterBuilder.newInteger().setNameAndAliases("-count").setRequired(true)
+				.setIntValidator((v) -> v >= 0).setIntSetter(counts::add).build();
+		ParameterData<String, String> name = ParameterBuilder.newText().setNameAndAliases("-name").setSetter((v) -> { }).build();
+		ParameterSet<String> paramSet = new ParameterSet<>(Arrays.asList(count, name));
+
+		ParseMetrics metrics = new ParseMetrics();
+		ParseListeners.install(metrics);
+		try {
+			paramSet.parse(new String[] { "-count", "3", "-name", "a" }, 0, null, null);
+			paramSet.parse(new String[] { "-count", "-1" }, 0, null, null);
+			paramSet.parse(new String[] { "-count", "x" }, 0, null, null);
+			Assert.assertEquals(Arrays.asList(3), counts);
+
+			ParseMetrics.ParameterMetrics countMetrics = metrics.get(count);
+			Assert.assertEquals(3, countMetrics.getParseCount());
+			Assert.assertEquals(3, countMetrics.getValidateNanos().getCount());
+			Assert.assertEquals(1, countMetrics.getErrorCount(ParameterParserExceptionType.INVALID_PARSED_INPUT));
+			Assert.assertEquals(1, countMetrics.getErrorCount(ParameterParserExceptionType.INPUT_PARSING_EXCEPTION));
+			Assert.assertEquals(1, metrics.get(name).getParseCount());
+			Assert.assertEquals(0, metrics.get(name).getErrorCount(ParameterParserExceptionType.INPUT_PARSING_EXCEPTION));
+
+			// interactive retries are counted along with the errors that caused them
+			StringBuilder out = new StringBuilder();
+			paramSet.parseInteractive(new String[0], 0, new BufferedReader(new StringReader("-2\n-3\n4\n")), out, "-help");
+			Assert.assertEquals(Arrays.asList(3, 4), counts);
+			Assert.assertEquals(2, countMetrics.getRetryCount());
+			Assert.assertEquals(2, metrics.getRetryCount());
+			Assert.assertEquals(3, metrics.getErrorCount(ParameterParserExceptionType.INVALID_PARSED_INPUT));
+		} finally {
+			ParseListeners.install(null);
+		}
+
+		// nothing is recorded once the listener is removed
+		paramSet.parse(new String[] { "-count", "5" }, 0, null, null);
+		Assert.assertEquals(Arrays.asList(3, 4, 5), counts);
+		Assert.assertEquals(6, metrics.get(count).getParseCount());
+	}
+
+
+	@Test
+	public void latencyHistogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		Assert.assertEquals(0, histogram.getValueAtPercentile(50));
+		for(int i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000L);
+		}
+		Assert.assertEquals(1000, histogram.getCount());
+		Assert.assertEquals(1_000_000, histogram.getMax());
+		Assert.assertEquals(500_500, histogram.getMean(), 0.001);
+		assertWithin(500_000, histogram.getValueAtPercentile(50), 0.125);
+		assertWithin(990_000, histogram.getValueAtPercentile(99), 0.125);
+		Assert.assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+		Assert.assertEquals(1000, histogram.getValueAtPercentile(0), 0.125 * 1000);
+	}
+
+
+	private static void assertWithin(long expected, long actual, double relativeError) {
+		Assert.assertTrue("expected " + expected + " but was " + actual, Math.abs(actual - expected) <= expected * relativeError);
+	}
+
+}
@@ -0,0 +1,96 @@
+package twg2.cli.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseOutcome;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class ParseOutcomeTest {
+
+	@Test
+	public void spansAndResults() {
+		List<Object> dst = new ArrayList<>();
+		ParameterData<String, Integer> countParam = ParameterBuilder.newInteger().setNameAndAliases("-count", "-c").setSetter(dst::add).build();
+		ParameterData<String, Integer[]> idsParam = ParameterBuilder.newIntegerArray().setNameAndAliases("-ids").setIntArraySetter(dst::add).build();
+		ParameterData<String, Boolean> verboseParam = ParameterBuilder.newFlag().setNameAndAliases("-verbose").setSetter(dst::add).build();
+		ParameterSet<String> paramSet = ParameterSet.newParameterSet(Arrays.asList(countParam, idsParam, verboseParam), false, null);
+
+		Assert.assertEquals(0, paramSet.getOrdinal(countParam));
+		Assert.assertEquals(2, paramSet.getOrdinal(verboseParam));
+
+		String[] args = { "ignored", "-ids", "7", "8", "-c", "3", "-verbose" };
+		ParseOutcome<String> outcome = paramSet.parse(args, 0, null, null);
+
+		Assert.assertEquals(3, outcome.getSeenCount());
+		Assert.assertEquals(1, outcome.getSeenOrdinal(0));
+		Assert.assertEquals(0, outcome.getSeenOrdinal(1));
+		Assert.assertEquals(2, outcome.getSeenOrdinal(2));
+		Assert.assertEquals(1, outcome.getSpanOffset(1));
+		Assert.assertEquals(3, outcome.getSpanLength(1));
+		Assert.assertEquals(4, outcome.getSpanOffset(0));
+		Assert.assertEquals(2, outcome.getSpanLength(0));
+		// a trailing parameter name is parsed and recorded
+		Assert.assertEquals(6, outcome.getSpanOffset(2));
+		Assert.assertTrue(outcome.getResult(2).getFlag());
+		Assert.assertEquals(3, outcome.getResult(0).getInt());
+		Assert.assertEquals(3, dst.size());
+
+		// a repeated parameter is recorded once with its last span
+		outcome = paramSet.parse(new String[] { "-count", "1", "-count", "2" }, 0, null, outcome);
+		Assert.assertEquals(1, outcome.getSeenCount());
+		Assert.assertEquals(2, outcome.getSpanOffset(0));
+		Assert.assertEquals(2, outcome.getResult(0).getInt());
+		Assert.assertFalse(outcome.isSeen(idsParam));
+		Assert.assertEquals(-1, outcome.getSpanOffset(1));
+		Assert.assertNull(outcome.getResult(2));
+	}
+
+
+	@Test
+	public void compatibilityMap() {
+		ParameterData<String, Integer> aParam = ParameterBuilder.newInteger().setNameAndAliases("-a").setSetter((v) -> { }).build();
+		ParameterData<String, Integer> bParam = ParameterBuilder.newInteger().setNameAndAliases("-b").setSetter((v) -> { }).build();
+		ParameterSet<String> paramSet = ParameterSet.newParameterSet(Arrays.asList(aParam, bParam), true, "-help");
+
+		StringBuilder out = new StringBuilder();
+		Map<ParameterData<String, Object>, Boolean> res = paramSet.parse(new String[] { "-b", "2" }, 0, out);
+
+		Assert.assertEquals(3, res.size());
+		Assert.assertEquals(Boolean.FALSE, res.get(aParam));
+		Assert.assertEquals(Boolean.TRUE, res.get(bParam));
+		Assert.assertNull(res.get("-b"));
+		Assert.assertEquals(Arrays.asList(aParam, bParam, paramSet.getParameter(2)), new ArrayList<>(res.keySet()));
+		Assert.assertEquals(0, out.length());
+
+		res = paramSet.parse(new String[] { "-help" }, 0, out);
+		Assert.assertEquals(Boolean.TRUE, res.get(paramSet.getParameter(2)));
+		Assert.assertTrue(out.length() > 0);
+	}
+
+
+	@Test
+	public void outcomeFromOtherParameterSet() {
+		ParameterData<String, Integer> aParam = ParameterBuilder.newInteger().setNameAndAliases("-a").setSetter((v) -> { }).build();
+		ParameterSet<String> paramSet1 = new ParameterSet<>(Arrays.asList(aParam));
+		ParameterSet<String> paramSet2 = new ParameterSet<>(Arrays.asList(aParam));
+		try {
+			paramSet1.parse(new String[] { "-a", "1" }, 0, null, paramSet2.newOutcome());
+			Assert.fail("expected an outcome from a different parameter set to be rejected");
+		} catch(IllegalArgumentException iae) {
+			// expected
+		}
+	}
+
+}
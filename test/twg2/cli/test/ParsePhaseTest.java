@@ -0,0 +1,123 @@
+package twg2.cli.test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.MatchResult;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterParser;
+import twg2.cli.ParameterParserExceptionType;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParameterType;
+import twg2.cli.ParseListener;
+import twg2.cli.ParseListeners;
+import twg2.cli.ParsePhase;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class ParsePhaseTest {
+
+	@Test
+	public void parsePhases() {
+		ParameterData<String, Integer> count = ParameterBuilder.newInteger().setNameAndAliases("-count").setRequired(true)
+				.setIntValidator((v) -> v >= 0).setIntSetter((v) -> { }).build();
+		ParameterData<String, String[]> names = ParameterBuilder.newTextArray().setNameAndAliases("-names").setSetter((v) -> { }).build();
+		ParameterSet<String> paramSet = new ParameterSet<>(Arrays.asList(count, names));
+		ParameterParser<List<String>> parser = new ParameterParser<>();
+		parser.addRegexParameter("^-D(\\w+)", (Supplier<String> remaining, MatchResult match, List<String> dst) -> dst.add(match.group(1)));
+
+		PhaseRecorder recorder = new PhaseRecorder();
+		ParseListeners.install(recorder);
+		try {
+			paramSet.parse(new String[] { "-names", "a", "b", "-count", "-1" }, 0, null, null);
+			Assert.assertEquals(Arrays.asList(
+					"NAME_LOOKUP -names null 1 true",
+					"NAME_LOOKUP a null 1 false",
+					"NAME_LOOKUP b null 1 false",
+					"NAME_LOOKUP -count null 1 true",
+					"SET_VALUE -names TEXT 1 true",
+					"PARSE_PARAMETER -names TEXT 2 true",
+					"NAME_LOOKUP -1 null 1 false",
+					"PARSE_PARAMETER -count INTEGER 1 false"
+			), recorder.phases);
+
+			recorder.phases.clear();
+			List<String> tokens = ParameterParser.parseParameters("-Dabc \"x y\"");
+			List<String> found = new ArrayList<>();
+			Iterator<String> args = Arrays.asList("-Dabc", "-E").iterator();
+			parser.callParameters(() -> args.hasNext() ? args.next() : null, found);
+			Assert.assertEquals(Arrays.asList("-Dabc", "x y"), tokens);
+			Assert.assertEquals(Arrays.asList("abc"), found);
+			Assert.assertEquals(Arrays.asList(
+					"TOKENIZE null null 2 true",
+					"REGEX_DISPATCH -Dabc null 1 true",
+					"REGEX_DISPATCH -E null 1 false"
+			), recorder.phases);
+
+			recorder.phases.clear();
+			paramSet.parseInteractive(new String[0], 0, new BufferedReader(new StringReader("-2\n4\n")), new StringBuilder(), "-help");
+			Assert.assertEquals(Arrays.asList(
+					"INTERACTIVE_PROMPT -count INTEGER 1 true",
+					"INTERACTIVE_PROMPT -count INTEGER 1 true",
+					"SET_VALUE -count INTEGER 1 true"
+			), recorder.phases);
+		} finally {
+			ParseListeners.install(null);
+		}
+
+		// no phases are reported once the listener is removed
+		recorder.phases.clear();
+		paramSet.parse(new String[] { "-count", "5" }, 0, null, null);
+		Assert.assertEquals(Arrays.asList(), recorder.phases);
+	}
+
+
+
+
+	/** Records the end of each phase as a string
+	 */
+	private static class PhaseRecorder implements ParseListener {
+		final List<String> phases = new ArrayList<>();
+
+
+		@Override
+		public void parsed(ParameterData<?, ?> param, long decodeNanos, long validateNanos, long setNanos) {
+		}
+
+
+		@Override
+		public void parseError(ParameterData<?, ?> param, ParameterParserExceptionType errorType) {
+		}
+
+
+		@Override
+		public void interactiveRetry(ParameterData<?, ?> param, int attempt) {
+		}
+
+
+		@Override
+		public Object phaseStarted(ParsePhase phase) {
+			return phase;
+		}
+
+
+		@Override
+		public void phaseEnded(Object token, ParsePhase phase, CharSequence name, ParameterType type, int argCount, boolean success) {
+			Assert.assertEquals(phase, token);
+			phases.add(phase + " " + name + " " + type + " " + argCount + " " + success);
+		}
+
+	}
+
+}
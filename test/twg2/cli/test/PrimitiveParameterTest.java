@@ -0,0 +1,137 @@
+package twg2.cli.test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterParserResult;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class PrimitiveParameterTest {
+
+	@Test
+	public void intSetterAndValidator() {
+		int[] dst = { 0 };
+		ParameterData<String, Integer> param = ParameterBuilder.newInteger()
+				.setNameAndAliases("-count")
+				.setIntSetter((v) -> dst[0] = v)
+				.setIntValidator((v) -> v > 0)
+				.setValidatorMessageGenerator((v) -> "count must be positive, was " + v)
+				.build();
+
+		ParameterParserResult res = param.parse(new String[] { "-count", "42" });
+		Assert.assertFalse(res.isError());
+		Assert.assertEquals(42, res.getInt());
+		Assert.assertEquals(42, res.getParseResult());
+		Assert.assertEquals(42, dst[0]);
+
+		res = param.parse(new String[] { "-count", "-3" });
+		Assert.assertTrue(res.isError());
+		Assert.assertEquals("count must be positive, was -3", res.getParseError().getMessage());
+		Assert.assertEquals(42, dst[0]);
+	}
+
+
+	@Test
+	public void primitiveArrays() {
+		AtomicReference<Object> dst = new AtomicReference<>();
+		ParameterData<String, Integer[]> intsParam = ParameterBuilder.newIntegerArray()
+				.setNameAndAliases("-ints")
+				.setIntArraySetter(dst::set)
+				.setIntValidator((v) -> v < 100)
+				.build();
+
+		ParameterParserResult res = intsParam.parse(new String[] { "-ints", "1", "2", "3" });
+		Assert.assertArrayEquals(new int[] { 1, 2, 3 }, res.getIntArray());
+		Assert.assertArrayEquals(new int[] { 1, 2, 3 }, (int[])dst.get());
+		Assert.assertTrue(intsParam.parse(new String[] { "-ints", "1", "200" }).isError());
+
+		ParameterData<String, Float[]> floatsParam = ParameterBuilder.newFloatArray()
+				.setNameAndAliases("-floats")
+				.setFloatArraySetter(dst::set)
+				.build();
+
+		res = floatsParam.parse(new String[] { "-floats", "1.5", "-2" });
+		Assert.assertArrayEquals(new float[] { 1.5f, -2f }, res.getFloatArray(), 0f);
+		Assert.assertArrayEquals(new float[] { 1.5f, -2f }, (float[])dst.get(), 0f);
+	}
+
+
+	@Test
+	public void floatAndFlag() {
+		double[] floatDst = { 0 };
+		boolean[] flagDst = { false };
+		ParameterData<String, Float> floatParam = ParameterBuilder.newFloat()
+				.setNameAndAliases("-ratio")
+				.setFloatSetter((v) -> floatDst[0] = v)
+				.setFloatValidator((v) -> v <= 1.0)
+				.build();
+		ParameterData<String, Boolean> flagParam = ParameterBuilder.newFlag()
+				.setNameAndAliases("-verbose")
+				.setFlagSetter((v) -> flagDst[0] = v)
+				.build();
+
+		Assert.assertEquals(0.25f, floatParam.parse(new String[] { "-ratio", "0.25" }).getFloat(), 0f);
+		Assert.assertEquals(0.25, floatDst[0], 0);
+		Assert.assertTrue(floatParam.parse(new String[] { "-ratio", "1.5" }).isError());
+
+		// a flag name without a value is true
+		Assert.assertTrue(flagParam.parse(new String[] { "-verbose" }).getFlag());
+		Assert.assertTrue(flagDst[0]);
+		Assert.assertFalse(flagParam.parse(new String[] { "-verbose", "false" }).getFlag());
+		Assert.assertFalse(flagDst[0]);
+	}
+
+
+	@Test
+	public void mismatchedPrimitiveType() {
+		try {
+			ParameterBuilder.newText().setNameAndAliases("-name").setIntSetter((v) -> { }).build();
+			Assert.fail("expected build() to reject an int setter on a text parameter");
+		} catch(IllegalArgumentException iae) {
+			// expected
+		}
+	}
+
+
+	@Test
+	public void mismatchedArraySetter() {
+		String[] failures = new String[4];
+		try {
+			ParameterBuilder.newIntegerArray().setNameAndAliases("-n").setIntSetter((v) -> { }).build();
+		} catch(IllegalArgumentException iae) {
+			failures[0] = iae.getMessage();
+		}
+		try {
+			ParameterBuilder.newInteger().setNameAndAliases("-n").setIntArraySetter((v) -> { }).build();
+		} catch(IllegalArgumentException iae) {
+			failures[1] = iae.getMessage();
+		}
+		try {
+			ParameterBuilder.newFloatArray().setNameAndAliases("-f").setFloatSetter((v) -> { }).build();
+		} catch(IllegalArgumentException iae) {
+			failures[2] = iae.getMessage();
+		}
+		try {
+			ParameterBuilder.newFlag().setNameAndAliases("-b").setFlagArraySetter((v) -> { }).build();
+		} catch(IllegalArgumentException iae) {
+			failures[3] = iae.getMessage();
+		}
+		for(String failure : failures) {
+			Assert.assertTrue(Arrays.toString(failures), failure != null);
+		}
+
+		// primitive validators are called with each element of an array
+		ParameterData<String, Integer[]> param = ParameterBuilder.newIntegerArray().setNameAndAliases("-n").setIntValidator((v) -> v > 0).setIntArraySetter((v) -> { }).build();
+		Assert.assertFalse(param.parse(new String[] { "-n", "1", "2" }).isError());
+		Assert.assertTrue(param.parse(new String[] { "-n", "1", "0" }).isError());
+	}
+
+}
@@ -0,0 +1,100 @@
+package twg2.cli.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.regex.MatchResult;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ParameterParser;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class RegexDispatchTest {
+	private static final List<String> regexes = Arrays.asList(
+			"^--define-(\\w+)=(.*)$",
+			"^-D(\\w+)",
+			"\\.txt$",
+			"^--size=(\\d+)(k|m)?$",
+			"(a)(b)?\\1", // back reference, not combinable
+			"(?<key>x+)=(?<val>y+)", // named groups, not combinable
+			"(?i)^--verbose", // inline flags, not combinable
+			"^abc?d",
+			"opt|alt",
+			"\\Q--lit*\\E",
+			"^\\A?z",
+			"b+$"
+	);
+
+
+	@Test
+	public void compiledDispatchMatchesSequential() {
+		List<String> names = new ArrayList<>(Arrays.asList(
+				"--define-a=1", "-Dfoo", "file.txt", "--size=10k", "--size=10g", "aba", "xx=yy", "--VERBOSE", "abd", "abcd",
+				"acd", "alt", "prefix-opt", "--lit*", "z", "abbb", "unknown", "", "-D", "--define-=x"
+		));
+		Random rand = new Random(20261017);
+		String chars = "abcdxyz-=.tD0k";
+		for(int i = 0; i < 5000; i++) {
+			StringBuilder sb = new StringBuilder();
+			for(int j = 0, len = rand.nextInt(10); j < len; j++) {
+				sb.append(chars.charAt(rand.nextInt(chars.length())));
+			}
+			names.add(sb.toString());
+		}
+
+		List<String> sequential = new ArrayList<>();
+		List<String> compiled = new ArrayList<>();
+		ParameterParser<List<String>> sequentialParser = newParser(false);
+		ParameterParser<List<String>> compiledParser = newParser(true);
+
+		for(String name : names) {
+			sequential.clear();
+			compiled.clear();
+			int seqCalls = sequentialParser.callParameters(supplier(name), sequential);
+			int compCalls = compiledParser.callParameters(supplier(name), compiled);
+			Assert.assertEquals("name: " + name, seqCalls, compCalls);
+			Assert.assertEquals("name: " + name, sequential, compiled);
+		}
+	}
+
+
+	private static ParameterParser<List<String>> newParser(boolean compiled) {
+		ParameterParser<List<String>> parser = new ParameterParser<>();
+		parser.setCompiledRegexDispatch(compiled);
+		for(int i = 0; i < regexes.size(); i++) {
+			int idx = i;
+			parser.addRegexParameter(regexes.get(i), (Supplier<String> remaining, MatchResult match, List<String> dst) -> {
+				dst.add(idx + ":" + describe(match));
+			});
+		}
+		return parser;
+	}
+
+
+	private static String describe(MatchResult match) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(match.start()).append('-').append(match.end()).append('[').append(match.group()).append(']');
+		for(int i = 1, count = match.groupCount(); i <= count; i++) {
+			sb.append(' ').append(match.group(i)).append('@').append(match.start(i));
+		}
+		return sb.toString();
+	}
+
+
+	private static Supplier<String> supplier(String name) {
+		String[] remaining = { name };
+		return () -> {
+			String next = remaining[0];
+			remaining[0] = null;
+			return next;
+		};
+	}
+
+}
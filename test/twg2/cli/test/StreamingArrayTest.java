@@ -0,0 +1,124 @@
+package twg2.cli.test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.cli.ArgumentSource;
+import twg2.cli.ParameterBuilder;
+import twg2.cli.ParameterData;
+import twg2.cli.ParameterParserResult;
+import twg2.cli.ParameterSet;
+import twg2.cli.ParseOutcome;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-17
+ */
+public class StreamingArrayTest {
+
+	@Test
+	public void elementSink() {
+		List<Path> paths = new ArrayList<>();
+		ParameterData<String, Path[]> param = ParameterBuilder.newPathArray().setNameAndAliases("-paths")
+				.setElementSink(Path.class, paths::add).build();
+		Assert.assertTrue(param.isStreamingArray());
+
+		ParameterParserResult res = param.parse(new String[] { "-paths", "a/b", "c" });
+		Assert.assertFalse(res.isError());
+		Assert.assertEquals(Arrays.asList(Paths.get("a/b"), Paths.get("c")), paths);
+
+		// elements before an invalid element are delivered, the rest are ignored
+		List<Integer> ints = new ArrayList<>();
+		ParameterData<String, Integer[]> intParam = ParameterBuilder.newIntegerArray().setNameAndAliases("-n")
+				.setIntValidator((v) -> v > 0).setElementSink(Integer.class, ints::add).build();
+		res = intParam.parse(new String[] { "-n", "3", "1", "-2", "5" });
+		Assert.assertTrue(res.isError());
+		Assert.assertEquals(Arrays.asList(3, 1), ints);
+
+		res = intParam.parse(new String[] { "-n", "4", "x" });
+		Assert.assertTrue(res.getParseError().getMessage().contains("'x'"));
+		Assert.assertEquals(Arrays.asList(3, 1, 4), ints);
+	}
+
+
+	@Test
+	public void batchSink() {
+		List<List<String>> batches = new ArrayList<>();
+		ParameterData<String, Path[]> param = ParameterBuilder.newPathArray().setNameAndAliases("-paths")
+				.setElementBatchSink(Object.class, 2, (batch) -> {
+					List<String> strs = new ArrayList<>();
+					batch.forEach((p) -> strs.add(p.toString()));
+					batches.add(strs);
+				}).build();
+
+		param.parse(new String[] { "-paths", "a", "b", "c", "d", "e" });
+		Assert.assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c", "d"), Arrays.asList("e")), batches);
+	}
+
+
+	@Test
+	public void invalidSinks() {
+		try {
+			ParameterBuilder.newPathArray().setNameAndAliases("-p").setElementSink(String.class, (s) -> { }).build();
+			Assert.fail("expected an element type which is not assignable from Path to be rejected");
+		} catch(IllegalArgumentException iae) {
+			// expected
+		}
+		try {
+			ParameterBuilder.newPath().setNameAndAliases("-p").setElementSink(Path.class, (p) -> { }).build();
+			Assert.fail("expected an element sink on a non-array parameter to be rejected");
+		} catch(IllegalArgumentException iae) {
+			// expected
+		}
+		try {
+			ParameterBuilder.newPathArray().setNameAndAliases("-p").setSetter((p) -> { }).setElementSink(Path.class, (p) -> { }).build();
+			Assert.fail("expected a streaming parameter with a setter to be rejected");
+		} catch(IllegalArgumentException iae) {
+			// expected
+		}
+	}
+
+
+	@Test
+	public void streamArgumentSource() throws IOException {
+		int count = 200000;
+		long[] sum = { 0 };
+		int[] seen = { 0 };
+		ParameterData<String, Integer[]> numsParam = ParameterBuilder.newIntegerArray().setNameAndAliases("-nums")
+				.setElementSink(Integer.class, (v) -> { sum[0] += v; seen[0]++; }).build();
+		ParameterData<String, Boolean> flagParam = ParameterBuilder.newFlag().setNameAndAliases("-f").setSetter((v) -> { }).build();
+		ParameterSet<String> paramSet = new ParameterSet<>(Arrays.asList(numsParam, flagParam));
+
+		// a source which reuses one buffer for every argument, so any argument retained by the parser would be overwritten
+		StringBuilder buf = new StringBuilder();
+		int[] idx = { -1 };
+		ArgumentSource src = new ArgumentSource() {
+			@Override public CharSequence next() {
+				int i = idx[0]++;
+				buf.setLength(0);
+				if(i > count) {
+					return null;
+				}
+				return i == -1 ? buf.append("-nums") : (i == count ? buf.append("-f") : buf.append(i));
+			}
+
+			@Override public void close() { }
+		};
+
+		ParseOutcome<String> outcome = paramSet.parse(src, null, null);
+		Assert.assertEquals(2, outcome.getSeenCount());
+		Assert.assertFalse(outcome.getResult(0).isError());
+		Assert.assertEquals(count + 1, outcome.getSpanLength(0));
+		Assert.assertEquals(count + 1, outcome.getSpanOffset(1));
+		Assert.assertEquals(count, seen[0]);
+		Assert.assertEquals((long)count * (count - 1) / 2, sum[0]);
+	}
+
+}